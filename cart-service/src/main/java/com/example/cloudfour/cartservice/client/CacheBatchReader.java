@@ -0,0 +1,68 @@
+package com.example.cloudfour.cartservice.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 배치 조회용 캐시 도우미, @Cacheable 이 만든 "cacheName::id" 항목을 MGET 한 번으로 읽는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheBatchReader {
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public <T> Map<UUID, T> readAll(String cacheName, List<UUID> ids, Class<T> type) {
+        try {
+            List<Object> cached = cacheRedisTemplate.opsForValue().multiGet(
+                    ids.stream().map(id -> cacheName + "::" + id).toList());
+            Map<UUID, T> hits = new HashMap<>();
+            for (int i = 0; cached != null && i < cached.size(); i++) {
+                T value = convert(cacheName, cached.get(i), type);
+                if (value != null) {
+                    hits.put(ids.get(i), value);
+                }
+            }
+            return hits;
+        } catch (Exception e) {
+            log.warn("{} 캐시 일괄 조회 실패, 전부 원격 조회: {}", cacheName, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    // 캐시 직렬화기는 타입 정보를 쓰지 않으므로 MGET 결과는 LinkedHashMap 으로 돌아온다, 대상 타입으로 바꿔 준다.
+    // 바꿀 수 없는 항목(이전 형식 등)은 캐시 미스로 보고 원격 조회에 맡긴다.
+    private <T> T convert(String cacheName, Object value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        try {
+            return objectMapper.convertValue(value, type);
+        } catch (IllegalArgumentException e) {
+            log.warn("{} 캐시 항목 변환 실패, 원격 조회: {}", cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    public void putAll(String cacheName, Map<UUID, ?> values) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        values.forEach(cache::put);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.cloudfour.cartservice.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentClient {
+
+    private final RestTemplate rt;
+
+    private static final String BASE = "http://payment-service/internal";
+
+    // 이미 취소된 결제면 결제 서비스가 그대로 성공으로 응답하므로 같은 주문으로 다시 불러도 된다.
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public void refundPayment(UUID orderId, String reason) {
+        try {
+            rt.postForObject(BASE + "/payments/{orderId}/refund?reason={reason}", null, String.class, orderId, reason);
+            log.info("결제 환불 완료: orderId={}, reason={}", orderId, reason);
+        } catch (Exception e) {
+            log.error("결제 환불 실패: orderId={}, reason={}", orderId, reason, e);
+            throw e;
+        }
+    }
+}
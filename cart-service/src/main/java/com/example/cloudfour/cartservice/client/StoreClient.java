@@ -3,18 +3,34 @@ package com.example.cloudfour.cartservice.client;
 import com.example.cloudfour.cartservice.commondto.MenuOptionResponseDTO;
 import com.example.cloudfour.cartservice.commondto.MenuQuantityResponseDTO;
 import com.example.cloudfour.cartservice.commondto.MenuResponseDTO;
+import com.example.cloudfour.cartservice.commondto.MenuSnapshotResponseDTO;
+import com.example.cloudfour.cartservice.commondto.StockReserveRequestDTO;
 import com.example.cloudfour.cartservice.commondto.StoreResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -22,8 +38,15 @@ import java.util.UUID;
 public class StoreClient {
     
     private final RestTemplate rt;
+    private final CacheManager cacheManager;
+    private final CacheBatchReader cacheBatchReader;
+    private final StoreIdFilter storeIdFilter;
 
     private static final String BASE = "http://store-service/internal";
+    private static final String STORE_CACHE = "stores";
+    private static final String MENU_OPTION_CACHE = "menuOptions";
+    public static final String STORE_EXISTS_CACHE = "storeExists";
+    public static final String MENU_EXISTS_CACHE = "menuExists";
 
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public Boolean existStore(UUID storeId) {
@@ -32,6 +55,36 @@ public class StoreClient {
             return false;
         }
 
+        if (!storeIdFilter.mightContainStore(storeId)) {
+            return recheckMiss("스토어", storeId, () -> headStore(storeId), storeIdFilter::addStore);
+        }
+        return cachedExists(STORE_EXISTS_CACHE, storeId, () -> headStore(storeId));
+    }
+
+    @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public Boolean existMenu(UUID menuId) {
+        if (menuId == null) {
+            log.warn("Menu ID가 null입니다");
+            return false;
+        }
+
+        if (!storeIdFilter.mightContainMenu(menuId)) {
+            return recheckMiss("메뉴", menuId, () -> headMenu(menuId), storeIdFilter::addMenu);
+        }
+        return cachedExists(MENU_EXISTS_CACHE, menuId, () -> headMenu(menuId));
+    }
+
+    public List<UUID> liveStoreIds() {
+        UUID[] ids = rt.getForObject(BASE + "/stores/ids", UUID[].class);
+        return ids == null ? List.of() : Arrays.asList(ids);
+    }
+
+    public List<UUID> liveMenuIds() {
+        UUID[] ids = rt.getForObject(BASE + "/menus/ids", UUID[].class);
+        return ids == null ? List.of() : Arrays.asList(ids);
+    }
+
+    private boolean headStore(UUID storeId) {
         try {
             rt.headForHeaders(BASE + "/stores/exists?storeId=" + storeId);
             log.info("스토어 존재 확인 완료: {}", storeId);
@@ -45,13 +98,7 @@ public class StoreClient {
         }
     }
 
-    @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
-    public Boolean existMenu(UUID menuId) {
-        if (menuId == null) {
-            log.warn("Menu ID가 null입니다");
-            return false;
-        }
-
+    private boolean headMenu(UUID menuId) {
         try {
             rt.headForHeaders(BASE + "/menus/exists?menuId=" + menuId);
             log.info("메뉴 존재 확인 완료: {}", menuId);
@@ -65,7 +112,35 @@ public class StoreClient {
         }
     }
 
-    @Cacheable(value = "stores", key = "#storeId")
+    // 필터에 없는 ID 는 원격 호출 없이 거절한다.
+    // 생성 delta 를 놓친 경우만 구제하려고 초당 정해진 수만 직접 확인하며, 부재 결과는 캐시에 남기지 않는다.
+    private boolean recheckMiss(String kind, UUID id, BooleanSupplier head, Consumer<UUID> addToFilter) {
+        if (!storeIdFilter.tryAcquireMissCheck()) {
+            log.debug("ID 필터에 없는 {} ID, 조회 없이 거절: {}", kind, id);
+            return false;
+        }
+        boolean exists = head.getAsBoolean();
+        if (exists) {
+            log.info("ID 필터에 없던 {}, 필터에 추가: {}", kind, id);
+            addToFilter.accept(id);
+        }
+        return exists;
+    }
+
+    // 존재/부재 결과를 모두 캐시한다. TTL 은 RedisConfig 에서 결과별로 다르게 준다.
+    private Boolean cachedExists(String cacheName, UUID id, Callable<Boolean> loader) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        try {
+            return cache.get(id, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Cacheable(value = "stores", key = "#storeId", sync = true)
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public StoreResponseDTO storeById(UUID storeId) {
         if (storeId == null) {
@@ -82,7 +157,7 @@ public class StoreClient {
             throw e;
         }
     }
-    @Cacheable(value = "menus", key = "#menuId")
+    @Cacheable(value = "menus", key = "#menuId", sync = true)
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public MenuResponseDTO menuById(UUID menuId) {
         if (menuId == null) {
@@ -100,7 +175,7 @@ public class StoreClient {
         }
     }
 
-    @Cacheable(value = "menuOptions", key = "#menuOptionId")
+    @Cacheable(value = "menuOptions", key = "#menuOptionId", sync = true)
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public MenuOptionResponseDTO menuOptionById(UUID menuOptionId) {
         if (menuOptionId == null) {
@@ -122,6 +197,39 @@ public class StoreClient {
         }
     }
 
+    // 장바구니 담기용 메뉴 스냅샷(메뉴, 옵션, 품절 여부), 없는 메뉴면 null
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public MenuSnapshotResponseDTO menuSnapshot(UUID menuId) {
+        if (menuId == null) {
+            log.warn("Menu ID가 null입니다");
+            return null;
+        }
+
+        // 필터에 없는 ID 는 스냅샷을 조회하지 않는다, 재확인 한도 안에서 실제로 있는 메뉴면 필터에 넣고 이어서 조회한다.
+        if (!storeIdFilter.mightContainMenu(menuId)
+                && !recheckMiss("메뉴", menuId, () -> headMenu(menuId), storeIdFilter::addMenu)) {
+            log.info("등록되지 않은 메뉴 ID, 조회 생략: {}", menuId);
+            return null;
+        }
+
+        try {
+            MenuSnapshotResponseDTO snapshot = rt.getForObject(
+                    BASE + "/menus/{menuId}/snapshot", MenuSnapshotResponseDTO.class, menuId);
+            log.info("메뉴 스냅샷 조회 완료: {}", menuId);
+            return snapshot;
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == 404) {
+                log.info("메뉴가 존재하지 않음: {}", menuId);
+                return null;
+            }
+            log.error("메뉴 스냅샷 조회 실패: {}", menuId, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("메뉴 스냅샷 조회 실패: {}", menuId, e);
+            throw e;
+        }
+    }
+
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public MenuQuantityResponseDTO getMenuStock(UUID menuId) {
         if (menuId == null) {
@@ -166,15 +274,44 @@ public class StoreClient {
         }
     }
 
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public List<MenuQuantityResponseDTO> reserveStocks(Map<UUID, Long> quantityByMenuId, UUID orderId) {
+        if (quantityByMenuId == null || quantityByMenuId.isEmpty()) {
+            log.warn("재고 일괄 차감 요청이 비어있습니다");
+            return List.of();
+        }
+
+        List<StockReserveRequestDTO.Item> items = quantityByMenuId.entrySet().stream()
+                .map(e -> StockReserveRequestDTO.Item.builder()
+                        .menuId(e.getKey())
+                        .quantity(e.getValue())
+                        .build())
+                .toList();
+
+        try {
+            MenuQuantityResponseDTO[] response = rt.postForObject(
+                    BASE + "/menus/stock/reserve",
+                    StockReserveRequestDTO.builder().items(items).orderId(orderId).build(),
+                    MenuQuantityResponseDTO[].class
+            );
+            log.info("재고 일괄 차감 완료: orderId={}, {} 개 메뉴", orderId, items.size());
+            return response == null ? List.of() : Arrays.asList(response);
+        } catch (Exception e) {
+            log.error("재고 일괄 차감 실패: {} 개 메뉴", items.size(), e);
+            throw e;
+        }
+    }
+
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
-    public boolean increaseStock(UUID stockId, Long quantity) {
+    public boolean increaseStock(UUID stockId, Long quantity, UUID orderId) {
         if (stockId == null || quantity == null || quantity <= 0) {
             log.warn("잘못된 재고 증가 요청: stockId={}, quantity={}", stockId, quantity);
             return false;
         }
 
         try {
-            String url = BASE + "/menus/stock/" + stockId + "/increase?quantity=" + quantity;
+            String url = BASE + "/menus/stock/" + stockId + "/increase?quantity=" + quantity
+                    + (orderId != null ? "&orderId=" + orderId : "");
             rt.postForObject(url, null, String.class);
             log.info("재고 증가 완료: stockId={}, quantity={}", stockId, quantity);
             return true;
@@ -184,28 +321,116 @@ public class StoreClient {
         }
     }
 
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public boolean confirmStockHold(UUID orderId) {
+        try {
+            rt.postForObject(BASE + "/menus/stock/holds/{orderId}/confirm", null, String.class, orderId);
+            log.info("재고 예약 확정 완료: orderId={}", orderId);
+            return true;
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == 404) {
+                log.info("확정할 재고 예약 없음: orderId={}", orderId);
+                return false;
+            }
+            log.error("재고 예약 확정 실패: orderId={}", orderId, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("재고 예약 확정 실패: orderId={}", orderId, e);
+            throw e;
+        }
+    }
+
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public boolean releaseStockHold(UUID orderId) {
+        try {
+            rt.postForObject(BASE + "/menus/stock/holds/{orderId}/release", null, String.class, orderId);
+            log.info("재고 예약 반납 완료: orderId={}", orderId);
+            return true;
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == 404) {
+                log.info("재고 예약 없음: orderId={}", orderId);
+                return false;
+            }
+            log.error("재고 예약 반납 실패: orderId={}", orderId, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("재고 예약 반납 실패: orderId={}", orderId, e);
+            throw e;
+        }
+    }
+
     public List<MenuOptionResponseDTO> menuOptionsByIds(List<UUID> menuOptionIds) {
         if (menuOptionIds == null || menuOptionIds.isEmpty()) {
             return List.of();
         }
 
-        log.debug("메뉴 옵션 배치 조회 시작: {} 개", menuOptionIds.size());
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(menuOptionIds));
+        Map<UUID, MenuOptionResponseDTO> optionsById =
+                new HashMap<>(cacheBatchReader.readAll(MENU_OPTION_CACHE, distinctIds, MenuOptionResponseDTO.class));
+
+        List<UUID> missingIds = distinctIds.stream().filter(id -> !optionsById.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            Map<UUID, MenuOptionResponseDTO> fetched = fetchMenuOptions(missingIds).stream()
+                    .collect(Collectors.toMap(MenuOptionResponseDTO::getMenuOptionId, option -> option, (a, b) -> a));
+            optionsById.putAll(fetched);
+            cacheBatchReader.putAll(MENU_OPTION_CACHE, fetched);
+        }
 
-        List<MenuOptionResponseDTO> results = menuOptionIds.stream()
-                .map(this::safeGetMenuOption)
-                .filter(option -> option != null)
+        log.debug("메뉴 옵션 배치 조회 완료: {}/{} 개 성공 (캐시 적중 {} 개)",
+                optionsById.size(), distinctIds.size(), distinctIds.size() - missingIds.size());
+        return menuOptionIds.stream()
+                .map(optionsById::get)
+                .filter(Objects::nonNull)
                 .toList();
+    }
+
+    // 주문 목록 한 페이지의 가게 정보를 캐시 MGET 한 번과 원격 호출 한 번으로 가져온다.
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public Map<UUID, StoreResponseDTO> storesByIds(Collection<UUID> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(storeIds));
+        Map<UUID, StoreResponseDTO> storesById =
+                new HashMap<>(cacheBatchReader.readAll(STORE_CACHE, distinctIds, StoreResponseDTO.class));
+
+        List<UUID> missingIds = distinctIds.stream().filter(id -> !storesById.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            Map<UUID, StoreResponseDTO> fetched = fetchStores(missingIds).stream()
+                    .collect(Collectors.toMap(StoreResponseDTO::getStoreId, store -> store, (a, b) -> a));
+            storesById.putAll(fetched);
+            cacheBatchReader.putAll(STORE_CACHE, fetched);
+        }
 
-        log.debug("메뉴 옵션 배치 조회 완료: {}/{} 개 성공", results.size(), menuOptionIds.size());
-        return results;
+        log.debug("스토어 배치 조회 완료: {}/{} 개 성공 (캐시 적중 {} 개)",
+                storesById.size(), distinctIds.size(), distinctIds.size() - missingIds.size());
+        return storesById;
     }
 
-    private MenuOptionResponseDTO safeGetMenuOption(UUID menuOptionId) {
+    private List<StoreResponseDTO> fetchStores(List<UUID> storeIds) {
+        String ids = storeIds.stream().map(UUID::toString).collect(Collectors.joining(","));
         try {
-            return menuOptionById(menuOptionId);
+            StoreResponseDTO[] response = rt.getForObject(
+                    BASE + "/stores/summaries?storeIds={ids}", StoreResponseDTO[].class, ids);
+            log.info("스토어 일괄 조회 완료: {} 개 요청", storeIds.size());
+            return response == null ? List.of() : Arrays.asList(response);
         } catch (Exception e) {
-            log.warn("메뉴 옵션 조회 실패: {}, 오류: {}", menuOptionId, e.getMessage());
-            return null;
+            log.error("스토어 일괄 조회 실패: {} 개", storeIds.size(), e);
+            throw e;
+        }
+    }
+
+    private List<MenuOptionResponseDTO> fetchMenuOptions(List<UUID> menuOptionIds) {
+        String ids = menuOptionIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        try {
+            MenuOptionResponseDTO[] response = rt.getForObject(
+                    BASE + "/menus/options/details?optionIds={ids}", MenuOptionResponseDTO[].class, ids);
+            log.info("메뉴 옵션 일괄 조회 완료: {} 개 요청", menuOptionIds.size());
+            return response == null ? List.of() : Arrays.asList(response);
+        } catch (Exception e) {
+            log.warn("메뉴 옵션 일괄 조회 실패: {} 개, 오류: {}", menuOptionIds.size(), e.getMessage());
+            return List.of();
         }
     }
 }
@@ -0,0 +1,131 @@
+package com.example.cloudfour.cartservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// store-service 의 살아있는 가게/메뉴 ID 를 로컬에 복제한 Bloom 필터
+// 주기적으로 스냅샷으로 재구성하고, 그 사이에 생성된 ID 는 delta 로 추가한다.
+// 스냅샷을 한 번도 받지 못했으면 모든 ID 를 통과시킨다.
+// 필터에 없는 ID 는 원격 호출 없이 거절하고, delta 를 놓친 경우를 위한 재확인은 초당 정해진 횟수만 허용한다.
+@Slf4j
+@Component
+public class StoreIdFilter {
+
+    private final long expectedIds;
+    private final double falsePositiveRate;
+    private final int missChecksPerSecond;
+
+    private final IdSet stores = new IdSet("스토어");
+    private final IdSet menus = new IdSet("메뉴");
+
+    private final AtomicLong missCheckSecond = new AtomicLong();
+    private final AtomicInteger missChecksInSecond = new AtomicInteger();
+
+    public StoreIdFilter(@Value("${store.id-filter.expected-ids:100000}") long expectedIds,
+                         @Value("${store.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${store.id-filter.miss-checks-per-second:10}") int missChecksPerSecond) {
+        this.expectedIds = expectedIds;
+        this.falsePositiveRate = falsePositiveRate;
+        this.missChecksPerSecond = missChecksPerSecond;
+    }
+
+    public boolean mightContainStore(UUID storeId) {
+        return stores.mightContain(storeId);
+    }
+
+    public boolean mightContainMenu(UUID menuId) {
+        return menus.mightContain(menuId);
+    }
+
+    public void addStore(UUID storeId) {
+        stores.add(storeId);
+    }
+
+    public void addMenu(UUID menuId) {
+        menus.add(menuId);
+    }
+
+    // 필터에 없는 ID 를 원격으로 다시 확인해도 되는지, 초 단위 고정 창으로 세므로 임의 ID 를 쏟아내도 호출 수는 늘지 않는다.
+    public boolean tryAcquireMissCheck() {
+        long second = System.currentTimeMillis() / 1000;
+        long window = missCheckSecond.get();
+        if (window != second && missCheckSecond.compareAndSet(window, second)) {
+            missChecksInSecond.set(0);
+        }
+        return missChecksInSecond.incrementAndGet() <= missChecksPerSecond;
+    }
+
+    // 스냅샷 조회 전부터 들어오는 delta 를 모아야 하므로 조회 자체를 넘겨받는다.
+    public void rebuildStores(Supplier<? extends Collection<UUID>> snapshot) {
+        stores.rebuild(snapshot);
+    }
+
+    public void rebuildMenus(Supplier<? extends Collection<UUID>> snapshot) {
+        menus.rebuild(snapshot);
+    }
+
+    // 필터 하나와 재구성 중에 들어온 delta 를 함께 관리한다, 재구성은 스케줄러 한 곳에서만 돌린다.
+    private class IdSet {
+
+        private final String name;
+
+        private volatile IdBloomFilter current;
+        // 새 필터를 채우는 동안 들어온 ID 는 기존 필터와 새 필터 모두에 넣는다.
+        private volatile IdBloomFilter rebuilding;
+        // 새 필터를 만들기 전(스냅샷 조회 중)에 들어온 ID 는 모아 뒀다가 새 필터에 옮긴다.
+        private volatile Set<UUID> arrivedDuringFetch;
+
+        private IdSet(String name) {
+            this.name = name;
+        }
+
+        private boolean mightContain(UUID id) {
+            IdBloomFilter filter = current;
+            return filter == null || filter.mightContain(id);
+        }
+
+        // rebuild 가 채우는 순서의 역순으로 읽어야 재구성 도중에 들어온 ID 가 새 필터에서 빠지지 않는다.
+        private void add(UUID id) {
+            Set<UUID> arrived = arrivedDuringFetch;
+            if (arrived != null) {
+                arrived.add(id);
+            }
+            IdBloomFilter next = rebuilding;
+            if (next != null) {
+                next.add(id);
+            }
+            IdBloomFilter filter = current;
+            if (filter != null) {
+                filter.add(id);
+            }
+        }
+
+        private void rebuild(Supplier<? extends Collection<UUID>> snapshot) {
+            Set<UUID> arrived = ConcurrentHashMap.newKeySet();
+            arrivedDuringFetch = arrived;
+            try {
+                Collection<UUID> ids = snapshot.get();
+                IdBloomFilter fresh = IdBloomFilter.create(Math.max(expectedIds, ids.size()), falsePositiveRate);
+                ids.forEach(fresh::add);
+                // 이 시점 이후의 delta 는 add 가 fresh 에 바로 넣고, 그 전의 delta 는 arrived 에서 옮긴다.
+                rebuilding = fresh;
+                arrived.forEach(fresh::add);
+                current = fresh;
+                log.info("{} ID 필터 재구성 완료: {} 건", name, ids.size());
+            } finally {
+                // 실패하면 기존 필터를 그대로 쓴다.
+                arrivedDuringFetch = null;
+                rebuilding = null;
+            }
+        }
+    }
+}
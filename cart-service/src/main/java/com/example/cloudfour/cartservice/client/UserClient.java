@@ -1,6 +1,7 @@
 package com.example.cloudfour.cartservice.client;
 
 import com.example.cloudfour.cartservice.commondto.UserAddressResponseDTO;
+import com.example.cloudfour.cartservice.commondto.UserProfileResponseDTO;
 import com.example.cloudfour.cartservice.commondto.UserResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,17 +10,28 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserClient {
     private final RestTemplate rt;
+    private final CacheBatchReader cacheBatchReader;
 
     private static final String BASE = "http://user-service/internal/users";
+    public static final String USER_PROFILE_CACHE = "userProfiles";
 
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public UserAddressResponseDTO addressById(UUID userId) {
@@ -96,4 +108,41 @@ public class UserClient {
             throw e;
         }
     }
+
+    // 가게 주문 목록 한 페이지의 사용자 닉네임을 userProfiles 캐시 MGET 한 번과 원격 호출 한 번으로 가져온다.
+    // users 캐시(userById 의 전체 정보)와 섞이지 않도록 요약은 별도 캐시에 둔다.
+    @Retryable(value = {HttpServerErrorException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    public Map<UUID, UserProfileResponseDTO> usersByIds(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<UUID, UserProfileResponseDTO> usersById =
+                new HashMap<>(cacheBatchReader.readAll(USER_PROFILE_CACHE, distinctIds, UserProfileResponseDTO.class));
+
+        List<UUID> missingIds = distinctIds.stream().filter(id -> !usersById.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            Map<UUID, UserProfileResponseDTO> fetched = fetchUsers(missingIds).stream()
+                    .collect(Collectors.toMap(UserProfileResponseDTO::getUserId, user -> user, (a, b) -> a));
+            usersById.putAll(fetched);
+            cacheBatchReader.putAll(USER_PROFILE_CACHE, fetched);
+        }
+
+        log.debug("사용자 배치 조회 완료: {}/{} 개 성공 (캐시 적중 {} 개)",
+                usersById.size(), distinctIds.size(), distinctIds.size() - missingIds.size());
+        return usersById;
+    }
+
+    private List<UserProfileResponseDTO> fetchUsers(List<UUID> userIds) {
+        String ids = userIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        try {
+            UserProfileResponseDTO[] response = rt.getForObject(BASE + "/profiles?ids={ids}", UserProfileResponseDTO[].class, ids);
+            log.info("사용자 일괄 조회 완료: {} 개 요청", userIds.size());
+            return response == null ? List.of() : Arrays.asList(response);
+        } catch (Exception e) {
+            log.error("사용자 일괄 조회 실패: {} 개", userIds.size(), e);
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.cloudfour.cartservice.commondto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuSnapshotResponseDTO {
+    private UUID menuId;
+    private UUID storeId;
+    private String menuName;
+    private Integer price;
+    private boolean soldOut;
+    private List<MenuOptionResponseDTO> options;
+}
@@ -0,0 +1,27 @@
+package com.example.cloudfour.cartservice.commondto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReserveRequestDTO {
+    private List<Item> items;
+    private UUID orderId;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private UUID menuId;
+        private Long quantity;
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.cloudfour.cartservice.commondto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class StoreResponseDTO {
     private UUID storeId;
     private UUID userId;
@@ -0,0 +1,18 @@
+package com.example.cloudfour.cartservice.commondto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+// 주문 목록 배치 조회용 사용자 요약, 닉네임만 담는다.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileResponseDTO {
+    UUID userId;
+    String nickname;
+}
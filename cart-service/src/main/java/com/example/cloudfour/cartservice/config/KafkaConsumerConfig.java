@@ -1,17 +1,20 @@
 package com.example.cloudfour.cartservice.config;
 
+import com.example.cloudfour.modulecommon.kafka.KeyOrderedProcessor;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,33 +31,95 @@ public class KafkaConsumerConfig {
     @Value("${kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${kafka.consumer.dedupe.ttl-hours:24}")
+    private long dedupeTtlHours;
+
+    @Value("${kafka.consumer.dedupe.expected-insertions:1000000}")
+    private long dedupeExpectedInsertions;
+
+    @Value("${kafka.consumer.dedupe.false-positive-rate:0.001}")
+    private double dedupeFalsePositiveRate;
+
+    @Value("${kafka.consumer.batch-max-poll-records:500}")
+    private int batchMaxPollRecords;
+
+    // payment-events 파티션 수에 맞춰 파티션마다 컨슈머 스레드 하나가 돌도록 한다.
+    @Value("${kafka.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${kafka.consumer.parallel.max-concurrency:64}")
+    private int parallelMaxConcurrency;
+
+    // 값은 문자열로 받고, 리스너가 eventType 헤더를 보고 맞는 클래스로 한 번만 역직렬화한다.
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 수동 커밋 모드
 
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.example.cloudfour.paymentservice.domain.payment.event,com.example.cloudfour.cartservice.event");
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.cloudfour.cartservice.event.PaymentApprovedEvent");
-        
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(ProcessedEventFilter processedEventFilter) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(concurrency);
 
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
 
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventFilter.rebalanceListener());
         
         return factory;
     }
+
+    // 배치/병렬 리스너용, 한 번의 poll 에서 가져올 레코드 수만 다르다.
+    @Bean
+    public ConsumerFactory<String, String> batchConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory(ProcessedEventFilter processedEventFilter) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+
+        // 배치 단위로 커밋하고, BatchListenerFailedException 이면 실패한 레코드 앞까지만 커밋한 뒤 그 레코드부터 재시도한다.
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventFilter.rebalanceListener());
+
+        return factory;
+    }
+
+    // 컨슈머 그룹마다 따로 기록해야 같은 이벤트를 다른 서비스가 처리하는 것을 막지 않는다.
+    @Bean
+    public ProcessedEventFilter processedEventFilter(StringRedisTemplate redisTemplate) {
+        return new ProcessedEventFilter(redisTemplate, "kafka:processed:" + groupId,
+            Duration.ofHours(dedupeTtlHours), dedupeExpectedInsertions, dedupeFalsePositiveRate);
+    }
+
+    // 컨테이너 스레드 전체에서 동시에 처리 중인 주문 키 수의 상한
+    @Bean
+    public KeyOrderedProcessor keyOrderedProcessor() {
+        return new KeyOrderedProcessor(parallelMaxConcurrency);
+    }
 }
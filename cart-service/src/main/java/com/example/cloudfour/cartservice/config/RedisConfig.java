@@ -1,14 +1,23 @@
 package com.example.cloudfour.cartservice.config;
 
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.client.StoreIdFilter;
+import com.example.cloudfour.cartservice.client.UserClient;
+import com.example.cloudfour.cartservice.config.cache.CacheInvalidationListener;
+import com.example.cloudfour.cartservice.config.cache.TwoLevelCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -19,26 +28,72 @@ import java.time.Duration;
 public class RedisConfig {
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
-                                     ObjectMapper bootMapper
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             ObjectMapper bootMapper,
+                                             @Value("${cache.local.maximum-size:10000}") long maximumSize,
+                                             @Value("${cache.local.fresh-seconds:30}") long freshSeconds,
+                                             @Value("${cache.local.stale-minutes:30}") long staleMinutes
     ) {
-        ObjectMapper redisMapper = bootMapper.copy()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                        new GenericJackson2JsonRedisSerializer(redisMapper)));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer(bootMapper)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
                 .withCacheConfiguration("stores", config.entryTtl(Duration.ofHours(1)))
                 .withCacheConfiguration("menus", config.entryTtl(Duration.ofMinutes(30)))
                 .withCacheConfiguration("menuOptions", config.entryTtl(Duration.ofMinutes(30)))
                 .withCacheConfiguration("users", config.entryTtl(Duration.ofMinutes(15)))
+                .withCacheConfiguration(UserClient.USER_PROFILE_CACHE, config.entryTtl(Duration.ofMinutes(15)))
+                .withCacheConfiguration(StoreClient.STORE_EXISTS_CACHE, existenceConfig(config))
+                .withCacheConfiguration(StoreClient.MENU_EXISTS_CACHE, existenceConfig(config))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 프로세스 내부 L1 은 fresh 기간 동안 Redis 왕복 없이 응답하고, store-service 장애 시 stale 기간까지 대체 응답한다.
+        return new TwoLevelCacheManager(redisCacheManager, maximumSize,
+                Duration.ofSeconds(freshSeconds), Duration.ofMinutes(staleMinutes));
+    }
+
+    // store-service 의 변경 이벤트를 구독해 L1 을 수 초 내로 무효화한다.
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            StoreIdFilter storeIdFilter
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager, storeIdFilter);
+        container.addMessageListener(listener, new ChannelTopic(CacheInvalidationListener.CHANNEL));
+        container.addMessageListener(listener, new ChannelTopic(CacheInvalidationListener.ID_REGISTRY_CHANNEL));
+        return container;
+    }
+
+    // 캐시 항목을 MGET 으로 한 번에 읽기 위한 템플릿, 캐시 매니저와 같은 직렬화 방식을 사용한다.
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                            ObjectMapper bootMapper
+    ) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(cacheValueSerializer(bootMapper));
+        return template;
+    }
+
+    // 존재 확인 결과는 짧게, 부재 결과는 더 짧게 캐시한다.
+    private RedisCacheConfiguration existenceConfig(RedisCacheConfiguration config) {
+        return config.entryTtl((key, value) -> Boolean.TRUE.equals(value)
+                ? Duration.ofMinutes(5)
+                : Duration.ofSeconds(30));
+    }
+
+    private GenericJackson2JsonRedisSerializer cacheValueSerializer(ObjectMapper bootMapper) {
+        ObjectMapper redisMapper = bootMapper.copy()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new GenericJackson2JsonRedisSerializer(redisMapper);
     }
 }
 
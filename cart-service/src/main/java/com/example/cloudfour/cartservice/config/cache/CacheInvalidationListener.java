@@ -0,0 +1,82 @@
+package com.example.cloudfour.cartservice.config.cache;
+
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.client.StoreIdFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// store-service 가 발행하는 "cacheName:id" 형식의 메시지를 처리한다.
+// 변경 채널은 L1/L2 캐시를 비우고, 생성 채널은 ID 필터에 추가한 뒤 부재 캐시를 비운다.
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    public static final String CHANNEL = "store:cache-invalidation";
+    public static final String ID_REGISTRY_CHANNEL = "store:id-registry";
+
+    // 가게/메뉴가 바뀌면 존재 여부 캐시도 함께 비운다.
+    private static final Map<String, List<String>> DEPENDENT_CACHES = Map.of(
+            "stores", List.of(StoreClient.STORE_EXISTS_CACHE),
+            "menus", List.of(StoreClient.MENU_EXISTS_CACHE)
+    );
+
+    private final TwoLevelCacheManager cacheManager;
+    private final StoreIdFilter storeIdFilter;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(':');
+        if (idx <= 0) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        String cacheName = body.substring(0, idx);
+        UUID id;
+        try {
+            id = UUID.fromString(body.substring(idx + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        if (ID_REGISTRY_CHANNEL.equals(channel)) {
+            register(cacheName, id);
+        } else {
+            evict(cacheName, id);
+        }
+        DEPENDENT_CACHES.getOrDefault(cacheName, List.of()).forEach(name -> evict(name, id));
+        log.debug("캐시 무효화 처리: channel={}, {}", channel, body);
+    }
+
+    private void register(String cacheName, UUID id) {
+        if ("stores".equals(cacheName)) {
+            storeIdFilter.addStore(id);
+        } else if ("menus".equals(cacheName)) {
+            storeIdFilter.addMenu(id);
+        }
+    }
+
+    private void evict(String cacheName, UUID id) {
+        TwoLevelCache cache = cacheManager.findCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(id);
+        } catch (RuntimeException e) {
+            // L2 가 응답하지 않아도 L1 은 반드시 비운다.
+            cache.evictLocal(id);
+            log.warn("L2 캐시 무효화 실패, L1 만 무효화: {}:{}, error={}", cacheName, id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.cloudfour.cartservice.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 프로세스 내부 Caffeine(L1) 과 Redis(L2) 를 묶은 캐시
+// L1 항목은 fresh 기간 동안만 그대로 사용하고, 그 이후에는 L2/원본을 다시 확인한다.
+// 원본 조회가 실패하면 만료되지 않은 L1 항목을 stale 값으로 돌려준다.
+// 같은 키의 원본 조회는 인스턴스 안에서 한 번만 돌고 나머지 호출은 그 결과를 기다린다(@Cacheable(sync = true) 계약).
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LocalEntry> local;
+    private final Cache remote;
+    private final long freshMillis;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, LocalEntry> local,
+                         Cache remote,
+                         long freshMillis) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.freshMillis = freshMillis;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        LocalEntry entry = local.getIfPresent(key);
+        if (entry != null && entry.isFresh(freshMillis)) {
+            return new SimpleValueWrapper(entry.value());
+        }
+
+        ValueWrapper wrapper;
+        try {
+            wrapper = remote.get(key);
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                log.warn("L2 캐시 조회 실패, L1 stale 값 사용: cache={}, key={}", name, key);
+                return new SimpleValueWrapper(entry.value());
+            }
+            throw e;
+        }
+
+        if (wrapper != null) {
+            local.put(key, LocalEntry.of(wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+        try {
+            Object value = load(key, valueLoader);
+            load.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            // 기다리던 호출도 같은 예외를 받도록 넘긴 뒤 다시 던진다.
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        // 앞선 조회가 끝나 L1 에 넣은 직후일 수 있으므로 한 번 더 확인한다.
+        LocalEntry entry = local.getIfPresent(key);
+        if (entry != null && entry.isFresh(freshMillis)) {
+            return entry.value();
+        }
+
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            LocalEntry stale = local.getIfPresent(key);
+            if (stale != null) {
+                log.warn("원본 조회 실패, L1 stale 값 사용: cache={}, key={}, error={}", name, key, e.getMessage());
+                return stale.value();
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, LocalEntry.of(value));
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 저장 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        remote.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        remote.clear();
+    }
+
+    // 다른 인스턴스가 이미 L2 를 정리한 경우 L1 만 비운다.
+    public void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    public record LocalEntry(Object value, long storedAt) {
+        static LocalEntry of(Object value) {
+            return new LocalEntry(value, System.currentTimeMillis());
+        }
+
+        boolean isFresh(long freshMillis) {
+            return System.currentTimeMillis() - storedAt < freshMillis;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.cloudfour.cartservice.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// RedisCacheManager 앞에 캐시 이름별 Caffeine L1 을 붙인다.
+// Caffeine 의 크기 제한 축출은 W-TinyLFU 로 동작한다.
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final long maximumSize;
+    private final Duration freshFor;
+    private final Duration staleFor;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote, long maximumSize, Duration freshFor, Duration staleFor) {
+        this.remote = remote;
+        this.maximumSize = maximumSize;
+        this.freshFor = freshFor;
+        this.staleFor = staleFor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    // 무효화 이벤트 처리 시 아직 생성되지 않은 캐시는 만들지 않는다.
+    public TwoLevelCache findCache(String name) {
+        return caches.get(name);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("L2 캐시를 찾을 수 없습니다: " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, TwoLevelCache.LocalEntry> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(staleFor)
+                .build();
+        return new TwoLevelCache(name, local, remoteCache, freshFor.toMillis());
+    }
+}
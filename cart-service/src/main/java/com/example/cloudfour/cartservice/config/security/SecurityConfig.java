@@ -25,7 +25,7 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/internal/**", "/actuator/**", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
-                        .requestMatchers("/carts/**","/cartItems/**","/orders/**","/profile/**").authenticated()
+                        .requestMatchers("/carts/**","/cartItems/**","/orders/**","/waiting-room/**","/profile/**").authenticated()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(new JwtClaimsAuthFilter(), UsernamePasswordAuthenticationFilter.class)
@@ -120,6 +120,11 @@ public class Cart {
         this.cartItems.addAll(cartItems);
     }
 
+    // JPA 밖(Redis)에 보관한 장바구니를 엔티티 모양으로 되살린다, 영속 상태가 아니다.
+    public static Cart restore(UUID id, UUID user, UUID store, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Cart(id, createdAt, updatedAt, user, false, false, store, new ArrayList<>());
+    }
+
     public static class CartBuilder {
         private CartBuilder id(UUID id) {
             throw new CartException(CartErrorCode.CREATE_FAILED);
@@ -7,7 +7,7 @@ import com.example.cloudfour.cartservice.domain.cart.dto.CartResponseDTO;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.converter.CartItemConverter;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemRequestDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemResponseDTO;
@@ -28,7 +28,7 @@ import java.util.UUID;
 @Transactional
 public class CartCommandService {
 
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final CartItemCommandService cartItemCommandService;
     private final StoreClient storeClient;
 
@@ -40,8 +40,7 @@ public class CartCommandService {
         validateStoreExists(req.getStoreId());
         validateNoDuplicateCart(user.id(), req.getStoreId());
 
-        Cart cart = createCartEntity(user.id(), req.getStoreId());
-        Cart savedCart = cartRepository.save(cart);
+        Cart savedCart = cartStore.createCart(user.id(), req.getStoreId());
 
         MenuResponseDTO menu = storeClient.menuById(req.getMenuId());
         CartItemRequestDTO.CartItemAddRequestDTO cartItemReq = 
@@ -63,7 +62,7 @@ public class CartCommandService {
     public void deleteCart(UUID cartId, CurrentUser user) {
         validateUser(user);
         
-        Cart cart = cartRepository.findById(cartId)
+        Cart cart = cartStore.findCartById(cartId)
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 장바구니: {}", cartId);
                     return new CartException(CartErrorCode.NOT_FOUND);
@@ -71,7 +70,7 @@ public class CartCommandService {
 
         validateCartOwnership(cart, user.id());
         
-        cartRepository.delete(cart);
+        cartStore.deleteCart(cart);
         log.info("장바구니 삭제 완료 (cartId={})", cartId);
     }
 
@@ -95,19 +94,12 @@ public class CartCommandService {
     }
 
     private void validateNoDuplicateCart(UUID userId, UUID storeId) {
-        if (cartRepository.existsByUserAndStore(userId, storeId)) {
+        if (cartStore.existsCart(userId, storeId)) {
             log.warn("이미 존재하는 장바구니 (userId={}, storeId={})", userId, storeId);
             throw new CartException(CartErrorCode.ALREADY_ADD);
         }
     }
 
-    private Cart createCartEntity(UUID userId, UUID storeId) {
-        Cart cart = Cart.builder().build();
-        cart.setUser(userId);
-        cart.setStore(storeId);
-        return cart;
-    }
-
     private void validateCartOwnership(Cart cart, UUID userId) {
         if (!userId.equals(cart.getUser())) {
             log.warn("장바구니 접근 권한 없음 (cartId={}, userId={}, ownerId={})", 
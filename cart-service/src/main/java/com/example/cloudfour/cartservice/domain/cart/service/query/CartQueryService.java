@@ -5,16 +5,13 @@ import com.example.cloudfour.cartservice.domain.cart.dto.CartResponseDTO;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
-import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
-import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -23,19 +20,15 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class CartQueryService {
 
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
 
     public CartResponseDTO.CartDetailResponseDTO getCartListById(UUID cartId, CurrentUser user) {
         validateUser(user);
         validateCartId(cartId);
 
         Cart cart = findCartWithOwnershipValidation(cartId, user.id());
-        List<CartItem> cartItemsWithOptions = loadCartItemsWithOptions(cartId);
 
-        replaceCartItems(cart, cartItemsWithOptions);
-        
-        log.info("장바구니 조회 완료 (cartId={}, itemCount={})", cartId, cartItemsWithOptions.size());
+        log.info("장바구니 조회 완료 (cartId={}, itemCount={})", cartId, cart.getItemCount());
         return CartConverter.toCartDetailResponseDTO(cart);
     }
 
@@ -55,23 +48,10 @@ public class CartQueryService {
     }
 
     private Cart findCartWithOwnershipValidation(UUID cartId, UUID userId) {
-        return cartRepository.findByIdAndUserWithCartItems(cartId, userId)
+        return cartStore.findCartWithItems(cartId, userId)
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 장바구니 또는 접근 권한 없음 (cartId={}, userId={})", cartId, userId);
                     return new CartException(CartErrorCode.NOT_FOUND);
                 });
     }
-
-    private List<CartItem> loadCartItemsWithOptions(UUID cartId) {
-        List<CartItem> cartItems = cartItemRepository.findAllByCartIdWithOptions(cartId);
-        log.debug("CartItem 옵션과 함께 로드 완료 (cartId={}, itemCount={})", cartId, cartItems.size());
-        return cartItems;
-    }
-
-    private void replaceCartItems(Cart cart, List<CartItem> newCartItems) {
-        cart.getCartItems().clear();
-        if (!newCartItems.isEmpty()) {
-            cart.getCartItems().addAll(newCartItems);
-        }
-    }
 }
@@ -0,0 +1,44 @@
+package com.example.cloudfour.cartservice.domain.cart.store;
+
+import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// 장바구니 저장소, cart.store=db 이면 Postgres(JPA), redis 이면 TTL 이 걸린 Redis 해시에 보관한다.
+// 어느 쪽이든 Cart/CartItem 엔티티 모양으로 돌려주므로 서비스와 컨버터는 저장 방식을 모른다.
+public interface CartStore {
+
+    Cart createCart(UUID userId, UUID storeId);
+
+    Optional<Cart> findCart(UUID cartId, UUID userId);
+
+    // 아이템과 옵션까지 모두 채운 장바구니
+    Optional<Cart> findCartWithItems(UUID cartId, UUID userId);
+
+    Optional<Cart> findCartById(UUID cartId);
+
+    boolean existsCart(UUID userId, UUID storeId);
+
+    void deleteCart(Cart cart);
+
+    // 같은 (메뉴, 옵션 조합) 줄이 있으면 수량을 더하고, 없으면 newItemId 로 새 줄과 옵션을 넣는다.
+    CartItemUpsertResult addItem(UUID newItemId, UUID cartId, UUID menuId, String optionHash,
+                                 int quantity, int unitPrice, List<CartItemOption> options);
+
+    // 옵션과 소속 장바구니까지 채운 아이템
+    Optional<CartItem> findItem(UUID cartItemId);
+
+    boolean isItemOwner(UUID cartItemId, UUID userId);
+
+    boolean existsOtherLine(UUID cartId, UUID menuId, String optionHash, UUID cartItemId);
+
+    CartItem saveItem(CartItem cartItem);
+
+    // 마지막 아이템이었다면 장바구니도 함께 지운다.
+    void deleteItem(CartItem cartItem);
+}
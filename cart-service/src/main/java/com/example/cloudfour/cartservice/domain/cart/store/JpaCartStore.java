@@ -0,0 +1,116 @@
+package com.example.cloudfour.cartservice.domain.cart.store;
+
+import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
+import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
+import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
+import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemOptionRepository;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "db", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartItemOptionRepository cartItemOptionRepository;
+
+    @Override
+    public Cart createCart(UUID userId, UUID storeId) {
+        Cart cart = Cart.builder().build();
+        cart.setUser(userId);
+        cart.setStore(storeId);
+        return cartRepository.save(cart);
+    }
+
+    @Override
+    public Optional<Cart> findCart(UUID cartId, UUID userId) {
+        return cartRepository.findByIdAndUser(cartId, userId);
+    }
+
+    @Override
+    public Optional<Cart> findCartWithItems(UUID cartId, UUID userId) {
+        Optional<Cart> cart = cartRepository.findByIdAndUserWithCartItems(cartId, userId);
+        // 같은 영속성 컨텍스트에서 아이템의 옵션 컬렉션을 한 번에 초기화한다.
+        cart.ifPresent(c -> cartItemRepository.findAllByCartIdWithOptions(cartId));
+        return cart;
+    }
+
+    @Override
+    public Optional<Cart> findCartById(UUID cartId) {
+        return cartRepository.findById(cartId);
+    }
+
+    @Override
+    public boolean existsCart(UUID userId, UUID storeId) {
+        return cartRepository.existsByUserAndStore(userId, storeId);
+    }
+
+    @Override
+    public void deleteCart(Cart cart) {
+        cartRepository.delete(cart);
+    }
+
+    @Override
+    public CartItemUpsertResult addItem(UUID newItemId, UUID cartId, UUID menuId, String optionHash,
+                                        int quantity, int unitPrice, List<CartItemOption> options) {
+        CartItemUpsertResult result = cartItemRepository.upsertQuantity(
+                newItemId, cartId, menuId, optionHash, quantity, unitPrice);
+
+        // 새 줄일 때만 옵션을 넣는다, 병합된 줄은 같은 옵션 조합을 이미 갖고 있다.
+        if (newItemId.equals(result.getId()) && options != null && !options.isEmpty()) {
+            CartItem item = cartItemRepository.getReferenceById(newItemId);
+            options.forEach(option -> option.setCartItem(item));
+            cartItemOptionRepository.saveAll(options);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<CartItem> findItem(UUID cartItemId) {
+        return cartItemRepository.findByIdWithOptions(cartItemId);
+    }
+
+    @Override
+    public boolean isItemOwner(UUID cartItemId, UUID userId) {
+        return cartItemRepository.existsByCartItemAndUser(cartItemId, userId);
+    }
+
+    @Override
+    public boolean existsOtherLine(UUID cartId, UUID menuId, String optionHash, UUID cartItemId) {
+        return cartItemRepository.existsOtherLine(cartId, menuId, optionHash, cartItemId);
+    }
+
+    @Override
+    public CartItem saveItem(CartItem cartItem) {
+        cartItemRepository.save(cartItem);
+        return cartItemRepository.findByIdWithOptions(cartItem.getId())
+                .orElseThrow(() -> new CartItemException(CartItemErrorCode.NOT_FOUND));
+    }
+
+    @Override
+    public void deleteItem(CartItem cartItem) {
+        Cart cart = cartItem.getCart();
+        cart.removeCartItem(cartItem.getId());
+        cartItemRepository.delete(cartItem);
+        cartItemRepository.flush();
+
+        if (cart.isEmpty()) {
+            cartRepository.delete(cart);
+            log.debug("마지막 아이템 삭제로 장바구니도 삭제 (cartId={})", cart.getId());
+        }
+    }
+}
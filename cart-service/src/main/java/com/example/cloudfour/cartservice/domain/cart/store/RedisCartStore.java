@@ -0,0 +1,413 @@
+package com.example.cloudfour.cartservice.domain.cart.store;
+
+import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
+import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
+import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
+import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
+import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// 장바구니 하나를 Redis 해시 하나(cart:{cartId})에 보관한다. 마지막 변경 후 TTL 이 지나면 키째 사라지므로
+// 버려진 장바구니 정리가 따로 필요 없고, Postgres 로는 주문 생성 시점에 Order/OrderItem 으로만 옮겨진다.
+//   meta                    -> {id, user, store, createdAt}
+//   item:{itemId}           -> {id, menu, optionHash, quantity, price}
+//   opts:{itemId}           -> [{menuOptionId, additionalPrice, optionName}]
+//   line:{menuId}:{hash}    -> itemId (같은 메뉴, 같은 옵션 조합 병합용)
+// cart:owner:{userId}:{storeId} -> cartId 는 사용자-가게당 장바구니 하나를 보장하는 색인,
+// cart:item:{itemId} -> cartId 는 아이템 ID 만으로 장바구니를 찾기 위한 색인이다.
+// 스크립트는 키 이름을 스스로 만들지 않고 건드리는 키를 모두 KEYS 로 받는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+public class RedisCartStore implements CartStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String CART_PREFIX = "cart:";
+    private static final String OWNER_PREFIX = "cart:owner:";
+    private static final String ITEM_PREFIX = "cart:item:";
+
+    private static final String META_FIELD = "meta";
+    private static final String ITEM_FIELD = "item:";
+    private static final String OPTIONS_FIELD = "opts:";
+    private static final String LINE_FIELD = "line:";
+
+    // 쓰기마다 KEYS 로 받은 장바구니 해시, 소유자 색인, 아이템 색인의 TTL 을 함께 연장한다. ARGV[1] = TTL(ms)
+    private static final String TOUCH_FUNCTION = """
+            local function touch(ttl)
+              for _, key in ipairs(KEYS) do
+                redis.call('PEXPIRE', key, ttl)
+              end
+            end
+            """;
+
+    // KEYS[1] = 장바구니, KEYS[2] = 소유자 색인, ARGV[2] = cartId, ARGV[3] = meta
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[2], ARGV[2], 'NX', 'PX', ARGV[1]) then return 0 end
+            redis.call('HSET', KEYS[1], 'meta', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 아래 세 스크립트의 KEYS 는 scriptKeys() 순서를 따른다.
+    // KEYS[1] = 장바구니, KEYS[2] = 소유자 색인, KEYS[3] = 대상 아이템 색인, KEYS[4..] = 나머지 아이템 색인
+
+    // ARGV[2] = line 필드, ARGV[3] = 새 itemId, ARGV[4] = 새 줄, ARGV[5] = 새 옵션, ARGV[6] = 수량, ARGV[7] = 단가, ARGV[8] = cartId
+    private static final RedisScript<List> UPSERT_SCRIPT = new DefaultRedisScript<>(TOUCH_FUNCTION + """
+            if redis.call('HEXISTS', KEYS[1], 'meta') == 0 then return false end
+            local id = redis.call('HGET', KEYS[1], ARGV[2])
+            local line
+            if id then
+              line = cjson.decode(redis.call('HGET', KEYS[1], 'item:' .. id))
+              line.quantity = line.quantity + tonumber(ARGV[6])
+              line.price = line.quantity * tonumber(ARGV[7])
+            else
+              id = ARGV[3]
+              line = cjson.decode(ARGV[4])
+              redis.call('HSET', KEYS[1], ARGV[2], id, 'opts:' .. id, ARGV[5])
+              redis.call('SET', KEYS[3], ARGV[8])
+            end
+            redis.call('HSET', KEYS[1], 'item:' .. id, cjson.encode(line))
+            touch(ARGV[1])
+            return {id, tostring(line.quantity), tostring(line.price)}
+            """, List.class);
+
+    // ARGV[2] = itemId, ARGV[3] = 줄, ARGV[4] = 옵션
+    // -1 = 아이템 없음, 0 = 같은 옵션 조합의 다른 줄이 있음, 1 = 저장
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(TOUCH_FUNCTION + """
+            local raw = redis.call('HGET', KEYS[1], 'item:' .. ARGV[2])
+            if not raw then return -1 end
+            local old = cjson.decode(raw)
+            local new = cjson.decode(ARGV[3])
+            local field = 'line:' .. new.menu .. ':' .. new.optionHash
+            local holder = redis.call('HGET', KEYS[1], field)
+            if holder and holder ~= ARGV[2] then return 0 end
+            redis.call('HDEL', KEYS[1], 'line:' .. old.menu .. ':' .. old.optionHash)
+            redis.call('HSET', KEYS[1], field, ARGV[2], 'item:' .. ARGV[2], ARGV[3], 'opts:' .. ARGV[2], ARGV[4])
+            touch(ARGV[1])
+            return 1
+            """, Long.class);
+
+    // ARGV[2] = itemId
+    // -1 = 아이템 없음, 0 = 아이템만 삭제, 1 = 마지막 아이템이라 장바구니까지 삭제
+    private static final RedisScript<Long> DELETE_ITEM_SCRIPT = new DefaultRedisScript<>(TOUCH_FUNCTION + """
+            local raw = redis.call('HGET', KEYS[1], 'item:' .. ARGV[2])
+            if not raw then return -1 end
+            local line = cjson.decode(raw)
+            redis.call('HDEL', KEYS[1], 'item:' .. ARGV[2], 'opts:' .. ARGV[2], 'line:' .. line.menu .. ':' .. line.optionHash)
+            redis.call('DEL', KEYS[3])
+            for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+              if string.sub(field, 1, 5) == 'item:' then
+                touch(ARGV[1])
+                return 0
+              end
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
+    @Value("${cart.redis.ttl-hours:24}")
+    private long ttlHours = 24;
+
+    private record CartMeta(UUID id, UUID user, UUID store, LocalDateTime createdAt) {}
+
+    private record Line(UUID id, UUID menu, String optionHash, Integer quantity, Integer price) {}
+
+    private record LineOption(UUID menuOptionId, Integer additionalPrice, String optionName) {}
+
+    private record UpsertResult(UUID id, Integer quantity, Integer price) implements CartItemUpsertResult {
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public Integer getPrice() {
+            return price;
+        }
+    }
+
+    @Override
+    public Cart createCart(UUID userId, UUID storeId) {
+        UUID cartId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        Long created = redisTemplate.execute(CREATE_SCRIPT, List.of(cartKey(cartId), ownerKey(userId, storeId)),
+                ttlMillis(), cartId.toString(), write(new CartMeta(cartId, userId, storeId, now)));
+        if (created == null || created == 0L) {
+            log.warn("이미 존재하는 장바구니 (userId={}, storeId={})", userId, storeId);
+            throw new CartException(CartErrorCode.ALREADY_ADD);
+        }
+
+        // 첫 아이템 추가가 실패해 트랜잭션이 롤백되면 빈 장바구니가 사용자-가게 자리를 차지하지 않게 지운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        redisTemplate.delete(List.of(cartKey(cartId), ownerKey(userId, storeId)));
+                    }
+                }
+            });
+        }
+        return Cart.restore(cartId, userId, storeId, now, now);
+    }
+
+    @Override
+    public Optional<Cart> findCart(UUID cartId, UUID userId) {
+        Object meta = redisTemplate.opsForHash().get(cartKey(cartId), META_FIELD);
+        if (meta == null) {
+            return Optional.empty();
+        }
+        Cart cart = toCart(read(meta, CartMeta.class));
+        return userId.equals(cart.getUser()) ? Optional.of(cart) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Cart> findCartWithItems(UUID cartId, UUID userId) {
+        return loadCart(cartId).filter(cart -> userId.equals(cart.getUser()));
+    }
+
+    @Override
+    public Optional<Cart> findCartById(UUID cartId) {
+        return loadCart(cartId);
+    }
+
+    @Override
+    public boolean existsCart(UUID userId, UUID storeId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(ownerKey(userId, storeId)));
+    }
+
+    @Override
+    public void deleteCart(Cart cart) {
+        List<String> keys = new ArrayList<>();
+        keys.add(cartKey(cart.getId()));
+        keys.add(ownerKey(cart.getUser(), cart.getStore()));
+        cart.getCartItems().forEach(item -> keys.add(itemKey(item.getId())));
+
+        // 주문 생성 트랜잭션이 커밋된 뒤에만 장바구니를 비운다, 롤백되면 장바구니는 그대로 남는다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.delete(keys);
+                }
+            });
+            return;
+        }
+        redisTemplate.delete(keys);
+    }
+
+    @Override
+    public CartItemUpsertResult addItem(UUID newItemId, UUID cartId, UUID menuId, String optionHash,
+                                        int quantity, int unitPrice, List<CartItemOption> options) {
+        // TTL 을 연장할 소유자 색인과 아이템 색인 이름을 알아야 하므로 장바구니를 먼저 읽는다.
+        Cart cart = loadCart(cartId).orElseThrow(() -> cartNotFound(cartId));
+        Line line = new Line(newItemId, menuId, optionHash, quantity, quantity * unitPrice);
+        List<?> result = redisTemplate.execute(UPSERT_SCRIPT, scriptKeys(cart, newItemId),
+                ttlMillis(), lineField(menuId, optionHash), newItemId.toString(),
+                write(line), write(toLineOptions(options)), String.valueOf(quantity), String.valueOf(unitPrice),
+                cartId.toString());
+        if (result == null || result.size() < 3) {
+            throw cartNotFound(cartId);
+        }
+        return new UpsertResult(UUID.fromString(result.get(0).toString()),
+                Integer.valueOf(result.get(1).toString()), Integer.valueOf(result.get(2).toString()));
+    }
+
+    @Override
+    public Optional<CartItem> findItem(UUID cartItemId) {
+        String cartId = redisTemplate.opsForValue().get(itemKey(cartItemId));
+        if (cartId == null) {
+            return Optional.empty();
+        }
+        return loadCart(UUID.fromString(cartId))
+                .flatMap(cart -> cart.getCartItems().stream()
+                        .filter(item -> cartItemId.equals(item.getId()))
+                        .findFirst());
+    }
+
+    @Override
+    public boolean isItemOwner(UUID cartItemId, UUID userId) {
+        // 소유자만 보면 되므로 장바구니 전체(HGETALL) 대신 아이템 색인과 meta 필드만 읽는다.
+        String cartId = redisTemplate.opsForValue().get(itemKey(cartItemId));
+        if (cartId == null) {
+            return false;
+        }
+        return findCart(UUID.fromString(cartId), userId).isPresent();
+    }
+
+    @Override
+    public boolean existsOtherLine(UUID cartId, UUID menuId, String optionHash, UUID cartItemId) {
+        Object holder = redisTemplate.opsForHash().get(cartKey(cartId), lineField(menuId, optionHash));
+        return holder != null && !cartItemId.toString().equals(holder.toString());
+    }
+
+    @Override
+    public CartItem saveItem(CartItem cartItem) {
+        Line line = new Line(cartItem.getId(), cartItem.getMenu(), cartItem.getOptionHash(),
+                cartItem.getQuantity(), cartItem.getPrice());
+        Long saved = redisTemplate.execute(UPDATE_SCRIPT, scriptKeys(cartItem.getCart(), cartItem.getId()),
+                ttlMillis(), cartItem.getId().toString(), write(line), write(toLineOptions(cartItem.getOptions())));
+        if (saved == null || saved < 0) {
+            throw new CartItemException(CartItemErrorCode.NOT_FOUND);
+        }
+        if (saved == 0L) {
+            log.warn("같은 옵션 조합의 장바구니 아이템이 이미 존재: cartItemId={}", cartItem.getId());
+            throw new CartItemException(CartItemErrorCode.ALREADY_ADD);
+        }
+        return cartItem;
+    }
+
+    @Override
+    public void deleteItem(CartItem cartItem) {
+        Long deleted = redisTemplate.execute(DELETE_ITEM_SCRIPT, scriptKeys(cartItem.getCart(), cartItem.getId()),
+                ttlMillis(), cartItem.getId().toString());
+        if (deleted == null || deleted < 0) {
+            throw new CartItemException(CartItemErrorCode.NOT_FOUND);
+        }
+        if (deleted == 1L) {
+            log.debug("마지막 아이템 삭제로 장바구니도 삭제 (cartId={})", cartItem.getCart().getId());
+        }
+    }
+
+    // 해시 한 번(HGETALL)으로 장바구니, 아이템, 옵션을 모두 복원한다.
+    private Optional<Cart> loadCart(UUID cartId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(cartKey(cartId));
+        Object meta = fields.get(META_FIELD);
+        if (meta == null) {
+            return Optional.empty();
+        }
+
+        Cart cart = toCart(read(meta, CartMeta.class));
+        List<CartItem> items = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            String name = field.toString();
+            if (!name.startsWith(ITEM_FIELD)) {
+                return;
+            }
+            Line line = read(value, Line.class);
+            CartItem item = CartItem.restore(line.id(), line.menu(), line.optionHash(), line.quantity(), line.price());
+            Object options = fields.get(OPTIONS_FIELD + line.id());
+            if (options != null) {
+                readOptions(options).forEach(o -> item.addOption(CartItemOption.builder()
+                        .menuOptionId(o.menuOptionId())
+                        .additionalPrice(o.additionalPrice())
+                        .optionName(o.optionName())
+                        .build()));
+            }
+            items.add(item);
+        });
+
+        // 해시 필드 순서는 보장되지 않으므로 아이템 ID 순으로 고정해 응답 순서를 일정하게 한다.
+        items.sort(Comparator.comparing(CartItem::getId));
+        items.forEach(cart::addCartItem);
+        return Optional.of(cart);
+    }
+
+    // 장바구니, 소유자 색인, 대상 아이템 색인, 나머지 아이템 색인 순서
+    private List<String> scriptKeys(Cart cart, UUID targetItemId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(cartKey(cart.getId()));
+        keys.add(ownerKey(cart.getUser(), cart.getStore()));
+        keys.add(itemKey(targetItemId));
+        cart.getCartItems().stream()
+                .map(CartItem::getId)
+                .filter(itemId -> !targetItemId.equals(itemId))
+                .forEach(itemId -> keys.add(itemKey(itemId)));
+        return keys;
+    }
+
+    private CartException cartNotFound(UUID cartId) {
+        log.warn("존재하지 않는 장바구니 (cartId={})", cartId);
+        return new CartException(CartErrorCode.NOT_FOUND);
+    }
+
+    private Cart toCart(CartMeta meta) {
+        return Cart.restore(meta.id(), meta.user(), meta.store(), meta.createdAt(), meta.createdAt());
+    }
+
+    private List<LineOption> toLineOptions(List<CartItemOption> options) {
+        if (options == null || options.isEmpty()) return List.of();
+        return options.stream()
+                .map(o -> new LineOption(o.getMenuOptionId(), o.getAdditionalPrice(), o.getOptionName()))
+                .toList();
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("장바구니 직렬화 실패", e);
+            throw new CartException(CartErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private <T> T read(Object raw, Class<T> type) {
+        try {
+            return objectMapper.readValue(raw.toString(), type);
+        } catch (JsonProcessingException e) {
+            log.error("장바구니 역직렬화 실패: {}", raw, e);
+            throw new CartException(CartErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private List<LineOption> readOptions(Object raw) {
+        try {
+            return objectMapper.readValue(raw.toString(), new TypeReference<List<LineOption>>() {});
+        } catch (JsonProcessingException e) {
+            log.error("장바구니 옵션 역직렬화 실패: {}", raw, e);
+            throw new CartException(CartErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private String ttlMillis() {
+        return String.valueOf(Duration.ofHours(ttlHours).toMillis());
+    }
+
+    private String cartKey(UUID cartId) {
+        return CART_PREFIX + cartId;
+    }
+
+    private String ownerKey(UUID userId, UUID storeId) {
+        return OWNER_PREFIX + userId + ":" + storeId;
+    }
+
+    private String itemKey(UUID itemId) {
+        return ITEM_PREFIX + itemId;
+    }
+
+    private String lineField(UUID menuId, String optionHash) {
+        return LINE_FIELD + menuId + ":" + optionHash;
+    }
+}
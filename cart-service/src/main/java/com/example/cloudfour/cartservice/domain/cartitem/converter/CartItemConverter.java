@@ -6,6 +6,7 @@ import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemRequestDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemResponseDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
 
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +28,22 @@ public final class CartItemConverter {
                 .build();
     }
 
+    // upsert 결과와 요청한 옵션으로 응답을 만든다, 같은 줄이면 옵션 조합도 같다.
+    public static CartItemResponseDTO.CartItemAddResponseDTO toCartItemAddResponseDTO(
+            CartItemUpsertResult result, UUID cartId, UUID menuId, List<CartItemOption> options
+    ) {
+        return CartItemResponseDTO.CartItemAddResponseDTO.builder()
+                .menuId(menuId)
+                .cartItemCommonResponseDTO(CartItemCommonResponseDTO.builder()
+                        .cartItemId(result.getId())
+                        .cartId(cartId)
+                        .menuOptions(convertOptionsToDto(options))
+                        .quantity(result.getQuantity())
+                        .price(result.getPrice())
+                        .build())
+                .build();
+    }
+
     public static CartItemResponseDTO.CartItemUpdateResponseDTO toCartItemUpdateResponseDTO(CartItem cartItem) {
         validateCartItemNotNull(cartItem, "toCartItemUpdateResponseDTO");
 
@@ -14,6 +14,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,16 +22,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-@Table(name = "p_cartitem")
+@Table(name = "p_cartitem", uniqueConstraints = @UniqueConstraint(
+        name = "uk_cartitem_cart_menu_option", columnNames = {"cartId", "menuId", "option_hash"}))
 public class CartItem {
     
     @Id
@@ -50,6 +59,10 @@ public class CartItem {
     @Column(name = "menuId", nullable = false)
     private UUID menu;
 
+    // 정렬한 옵션 ID 집합의 SHA-256, 같은 메뉴의 같은 옵션 조합이면 같은 값이다.
+    @Column(name = "option_hash", length = 64)
+    private String optionHash;
+
     @OneToMany(mappedBy = "cartItem", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<CartItemOption> options = new ArrayList<>();
@@ -94,6 +107,25 @@ public class CartItem {
         this.options.clear();
     }
 
+    public void updateOptionHash(String optionHash) {
+        this.optionHash = optionHash;
+    }
+
+    public static String optionHashOf(Collection<UUID> menuOptionIds) {
+        String canonical = menuOptionIds == null ? "" : menuOptionIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .map(UUID::toString)
+                .collect(Collectors.joining(","));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public int getOptionCount() {
         return this.options.size();
     }
@@ -121,6 +153,11 @@ public class CartItem {
         this.menu = menu;
     }
 
+    // JPA 밖(Redis)에 보관한 장바구니 아이템을 엔티티 모양으로 되살린다, 영속 상태가 아니다.
+    public static CartItem restore(UUID id, UUID menu, String optionHash, Integer quantity, Integer price) {
+        return new CartItem(id, quantity, price, null, menu, optionHash, new ArrayList<>());
+    }
+
     public static class CartItemBuilder {
         private CartItemBuilder id(UUID id) {
             throw new CartItemException(CartItemErrorCode.CREATE_FAILED);
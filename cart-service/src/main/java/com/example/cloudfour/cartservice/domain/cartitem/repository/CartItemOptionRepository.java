@@ -0,0 +1,9 @@
+package com.example.cloudfour.cartservice.domain.cartitem.repository;
+
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface CartItemOptionRepository extends JpaRepository<CartItemOption, UUID> {
+}
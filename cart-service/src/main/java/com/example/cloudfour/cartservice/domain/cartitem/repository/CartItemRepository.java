@@ -21,4 +21,19 @@ public interface CartItemRepository extends JpaRepository<CartItem, UUID> {
     
     @Query("select ci from CartItem ci left join fetch ci.options where ci.id = :cartItemId")
     Optional<CartItem> findByIdWithOptions(@Param("cartItemId") UUID cartItemId);
+
+    @Query("select count(ci) > 0 from CartItem ci where ci.cart.id = :cartId and ci.menu = :menuId and ci.optionHash = :optionHash and ci.id <> :cartItemId")
+    boolean existsOtherLine(@Param("cartId") UUID cartId, @Param("menuId") UUID menuId,
+                            @Param("optionHash") String optionHash, @Param("cartItemId") UUID cartItemId);
+
+    // 같은 (장바구니, 메뉴, 옵션 조합) 줄이 있으면 수량을 더하고, 없으면 새 줄을 넣는다.
+    @Query(value = "insert into p_cartitem (id, cart_id, menu_id, option_hash, quantity, price) " +
+            "values (:id, :cartId, :menuId, :optionHash, :quantity, :quantity * :unitPrice) " +
+            "on conflict (cart_id, menu_id, option_hash) do update " +
+            "set quantity = p_cartitem.quantity + excluded.quantity, " +
+            "price = (p_cartitem.quantity + excluded.quantity) * :unitPrice " +
+            "returning id, quantity, price", nativeQuery = true)
+    CartItemUpsertResult upsertQuantity(@Param("id") UUID id, @Param("cartId") UUID cartId,
+                                        @Param("menuId") UUID menuId, @Param("optionHash") String optionHash,
+                                        @Param("quantity") int quantity, @Param("unitPrice") int unitPrice);
 }
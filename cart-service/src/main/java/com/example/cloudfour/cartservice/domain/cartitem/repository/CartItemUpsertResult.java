@@ -0,0 +1,10 @@
+package com.example.cloudfour.cartservice.domain.cartitem.repository;
+
+import java.util.UUID;
+
+// 장바구니 아이템 upsert 결과, 새로 추가된 줄이면 id 가 요청한 id 와 같다.
+public interface CartItemUpsertResult {
+    UUID getId();
+    Integer getQuantity();
+    Integer getPrice();
+}
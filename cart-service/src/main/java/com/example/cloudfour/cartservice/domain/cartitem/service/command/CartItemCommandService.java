@@ -4,7 +4,7 @@ import com.example.cloudfour.cartservice.client.StoreClient;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.converter.CartItemConverter;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemRequestDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemResponseDTO;
@@ -12,9 +12,10 @@ import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
-import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
 import com.example.cloudfour.cartservice.commondto.MenuOptionResponseDTO;
 import com.example.cloudfour.cartservice.commondto.MenuResponseDTO;
+import com.example.cloudfour.cartservice.commondto.MenuSnapshotResponseDTO;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -23,10 +24,11 @@ import org.springframework.stereotype.Service;
 
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -34,8 +36,7 @@ import java.util.UUID;
 @Transactional
 public class CartItemCommandService {
 
-    private final CartItemRepository cartItemRepository;
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final StoreClient storeClient;
 
     public CartItemResponseDTO.CartItemAddResponseDTO CreateCartItem(
@@ -48,53 +49,13 @@ public class CartItemCommandService {
             throw new CartItemException(CartItemErrorCode.UNAUTHORIZED_ACCESS);
         }
 
-        Cart cart = cartRepository.findByIdAndUser(cartId, user.id())
+        Cart cart = cartStore.findCart(cartId, user.id())
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 장바구니");
                     return new CartException(CartErrorCode.NOT_FOUND);
                 });
 
-        if (!storeClient.existMenu(req.getMenuId())) {
-            throw new CartException(CartErrorCode.MENU_NOT_FOUND);
-        }
-
-        MenuResponseDTO menu = storeClient.menuById(req.getMenuId());
-
-        List<UUID> selectedOptionIds = dedup(req.getMenuOptionIds());
-        List<MenuOptionResponseDTO> options = fetchOptionsOnce(selectedOptionIds);
-
-        validateOptionsBelongToMenu(options, menu.getMenuId());
-
-        int unitPrice = calcUnitPrice(menu.getPrice(), options);
-        int quantity = 1;
-        int totalPrice = unitPrice * quantity;
-
-        List<CartItem> existing = cartItemRepository.findByCartIdAndMenuId(cartId, menu.getMenuId());
-        for (CartItem e : existing) {
-            if (isSameOptions(e.getOptions(), options)) {
-                int newQty = e.getQuantity() + quantity;
-                int newTotal = unitPrice * newQty;
-                e.update(newQty, newTotal);
-                cartItemRepository.save(e);
-                log.info("기존 장바구니 아이템 수량 증가 (cartItemId={}, {} -> {})", e.getId(), newQty - quantity, newQty);
-                return CartItemConverter.toCartItemAddResponseDTO(e);
-            }
-        }
-
-        CartItem item = CartItem.builder()
-                .quantity(quantity)
-                .price(totalPrice)
-                .build();
-        item.setCart(cart);
-        item.setMenu(menu.getMenuId());
-        attachOptions(item, options);
-
-        cartItemRepository.save(item);
-        log.info("새로운 장바구니 아이템 추가 (cartId={}, itemId={})", cart.getId(), item.getId());
-
-        return cartItemRepository.findByIdWithOptions(item.getId())
-                .map(CartItemConverter::toCartItemAddResponseDTO)
-                .orElseGet(() -> CartItemConverter.toCartItemAddResponseDTO(item));
+        return addItem(cart, req);
     }
 
     public CartItemResponseDTO.CartItemAddResponseDTO AddCartItem(
@@ -107,55 +68,44 @@ public class CartItemCommandService {
             throw new CartItemException(CartItemErrorCode.UNAUTHORIZED_ACCESS);
         }
 
-        Cart cart = cartRepository.findByIdAndUser(cartId, user.id())
+        Cart cart = cartStore.findCart(cartId, user.id())
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 장바구니");
                     return new CartException(CartErrorCode.NOT_FOUND);
                 });
 
-        MenuResponseDTO menu = storeClient.menuById(req.getMenuId());
-        log.info("메뉴 데이터: {}", menu.getMenuId());
-
-        List<UUID> selectedOptionIds = dedup(req.getMenuOptionIds());
-        List<MenuOptionResponseDTO> options = fetchOptionsOnce(selectedOptionIds);
-
-        validateOptionsBelongToMenu(options, menu.getMenuId());
+        return addItem(cart, req);
+    }
 
-        int quantity = 1;
-        if (quantity <= 0) {
-            log.warn("수량이 0 이하: {}", quantity);
-            throw new CartItemException(CartItemErrorCode.INVALID_QUANTITY);
+    // 메뉴, 옵션, 품절 여부를 원격 호출 한 번으로 받아 담고, 저장한 엔티티로 바로 응답한다.
+    private CartItemResponseDTO.CartItemAddResponseDTO addItem(Cart cart, CartItemRequestDTO.CartItemAddRequestDTO req) {
+        MenuSnapshotResponseDTO menu = storeClient.menuSnapshot(req.getMenuId());
+        if (menu == null) {
+            throw new CartException(CartErrorCode.MENU_NOT_FOUND);
         }
-
-        int unitPrice = calcUnitPrice(menu.getPrice(), options);
-        int totalPrice = unitPrice * quantity;
-
-        List<CartItem> existing = cartItemRepository.findByCartIdAndMenuId(cartId, menu.getMenuId());
-        for (CartItem e : existing) {
-            if (isSameOptions(e.getOptions(), options)) {
-                int newQty = e.getQuantity() + quantity;
-                int newTotal = unitPrice * newQty;
-                e.update(newQty, newTotal);
-                cartItemRepository.save(e);
-                log.info("기존 장바구니 아이템 수량 증가 (cartItemId={}, {} -> {})", e.getId(), newQty - quantity, newQty);
-                return CartItemConverter.toCartItemAddResponseDTO(e);
-            }
+        if (menu.isSoldOut()) {
+            log.warn("품절된 메뉴: {}", menu.getMenuId());
+            throw new CartItemException(CartItemErrorCode.MENU_SOLD_OUT);
         }
 
-        CartItem item = CartItem.builder()
-                .quantity(quantity)
-                .price(totalPrice)
-                .build();
-        item.setCart(cart);
-        item.setMenu(menu.getMenuId());
-        attachOptions(item, options);
+        List<MenuOptionResponseDTO> options = selectOptions(menu, dedup(req.getMenuOptionIds()));
 
-        cartItemRepository.save(item);
-        log.info("새로운 장바구니 아이템 생성 완료 (cartId={}, itemId={})", cart.getId(), item.getId());
+        int unitPrice = calcUnitPrice(menu.getPrice(), options);
+        int quantity = 1;
 
-        return cartItemRepository.findByIdWithOptions(item.getId())
-                .map(CartItemConverter::toCartItemAddResponseDTO)
-                .orElseGet(() -> CartItemConverter.toCartItemAddResponseDTO(item));
+        // 저장소의 (장바구니, 메뉴, 옵션 조합) upsert 한 번으로 병합과 동시 추가 경합을 처리한다.
+        String optionHash = CartItem.optionHashOf(options.stream().map(MenuOptionResponseDTO::getMenuOptionId).toList());
+        UUID newItemId = UUID.randomUUID();
+        List<CartItemOption> itemOptions = toItemOptions(options);
+        CartItemUpsertResult result = cartStore.addItem(
+                newItemId, cart.getId(), menu.getMenuId(), optionHash, quantity, unitPrice, itemOptions);
+
+        if (newItemId.equals(result.getId())) {
+            log.info("새로운 장바구니 아이템 추가 (cartId={}, itemId={})", cart.getId(), newItemId);
+        } else {
+            log.info("기존 장바구니 아이템 수량 증가 (cartItemId={}, 수량={})", result.getId(), result.getQuantity());
+        }
+        return CartItemConverter.toCartItemAddResponseDTO(result, cart.getId(), menu.getMenuId(), itemOptions);
     }
 
     public CartItemResponseDTO.CartItemUpdateResponseDTO updateCartItem(
@@ -163,12 +113,12 @@ public class CartItemCommandService {
             UUID cartItemId,
             CurrentUser user
     ) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId).orElseThrow(() -> {
+        CartItem cartItem = cartStore.findItem(cartItemId).orElseThrow(() -> {
             log.warn("존재하지 않는 장바구니 아이템");
             return new CartItemException(CartItemErrorCode.NOT_FOUND);
         });
 
-        if (user == null || !cartItemRepository.existsByCartItemAndUser(cartItemId, user.id())) {
+        if (user == null || !cartStore.isItemOwner(cartItemId, user.id())) {
             log.warn("장바구니 아이템 수정 권한 없음");
             throw new CartItemException(CartItemErrorCode.UNAUTHORIZED_ACCESS);
         }
@@ -191,42 +141,36 @@ public class CartItemCommandService {
         int unitPrice = calcUnitPrice(menu.getPrice(), options);
         int totalPrice = unitPrice * quantity;
 
+        String optionHash = CartItem.optionHashOf(options.stream().map(MenuOptionResponseDTO::getMenuOptionId).toList());
+        if (cartStore.existsOtherLine(cartItem.getCart().getId(), cartItem.getMenu(), optionHash, cartItemId)) {
+            log.warn("같은 옵션 조합의 장바구니 아이템이 이미 존재: cartItemId={}", cartItemId);
+            throw new CartItemException(CartItemErrorCode.ALREADY_ADD);
+        }
+
         cartItem.update(quantity, totalPrice);
+        cartItem.updateOptionHash(optionHash);
 
         int before = cartItem.getOptions().size();
         cartItem.getOptions().clear();
         attachOptions(cartItem, options);
         log.info("옵션 교체: {} -> {}", before, cartItem.getOptions().size());
 
-        cartItemRepository.save(cartItem);
-
-        CartItem loaded = cartItemRepository.findByIdWithOptions(cartItemId)
-                .orElseThrow(() -> new CartItemException(CartItemErrorCode.NOT_FOUND));
+        CartItem loaded = cartStore.saveItem(cartItem);
         return CartItemConverter.toCartItemUpdateResponseDTO(loaded);
     }
 
     public void deleteCartItem(UUID cartItemId, CurrentUser user) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId).orElseThrow(() -> {
+        CartItem cartItem = cartStore.findItem(cartItemId).orElseThrow(() -> {
             log.warn("존재하지 않는 장바구니 아이템");
             return new CartItemException(CartItemErrorCode.NOT_FOUND);
         });
 
-        Cart cart = cartRepository.findById(cartItem.getCart().getId()).orElseThrow(() -> {
-            log.warn("존재하지 않는 장바구니");
-            return new CartException(CartErrorCode.NOT_FOUND);
-        });
-
-        if (user == null || !cartItemRepository.existsByCartItemAndUser(cartItemId, user.id())) {
+        if (user == null || !cartStore.isItemOwner(cartItemId, user.id())) {
             log.warn("장바구니 아이템 삭제 권한 없음");
             throw new CartItemException(CartItemErrorCode.UNAUTHORIZED_ACCESS);
         }
 
-        cartItemRepository.delete(cartItem);
-        cartItemRepository.flush();
-
-        if (cart.getCartItems().isEmpty()) {
-            cartRepository.delete(cart);
-        }
+        cartStore.deleteItem(cartItem);
         log.info("장바구니 아이템 삭제 완료");
     }
 
@@ -241,6 +185,23 @@ public class CartItemCommandService {
         return storeClient.menuOptionsByIds(optionIds);
     }
 
+    // 스냅샷에 없는 옵션(다른 메뉴의 옵션, 삭제된 옵션)이 섞여 있으면 거절한다.
+    private List<MenuOptionResponseDTO> selectOptions(MenuSnapshotResponseDTO menu, List<UUID> selectedOptionIds) {
+        if (selectedOptionIds.isEmpty()) return List.of();
+        Map<UUID, MenuOptionResponseDTO> optionsById = menu.getOptions() == null ? Map.of()
+                : menu.getOptions().stream().collect(Collectors.toMap(MenuOptionResponseDTO::getMenuOptionId, o -> o, (a, b) -> a));
+        List<MenuOptionResponseDTO> selected = new ArrayList<>();
+        for (UUID optionId : selectedOptionIds) {
+            MenuOptionResponseDTO option = optionsById.get(optionId);
+            if (option == null) {
+                log.warn("요청한 옵션이 메뉴에 없음: menuId={}, optionId={}", menu.getMenuId(), optionId);
+                throw new CartItemException(CartItemErrorCode.INVALID_OPTION);
+            }
+            selected.add(option);
+        }
+        return selected;
+    }
+
     private void validateOptionsBelongToMenu(List<MenuOptionResponseDTO> options, UUID menuId) {
         boolean invalid = options.stream().anyMatch(o -> !menuId.equals(o.getMenuId()));
         if (invalid) {
@@ -255,32 +216,19 @@ public class CartItemCommandService {
     }
 
     private void attachOptions(CartItem item, List<MenuOptionResponseDTO> options) {
-        if (options == null || options.isEmpty()) return;
+        toItemOptions(options).forEach(item::addOption);
+    }
+
+    private List<CartItemOption> toItemOptions(List<MenuOptionResponseDTO> options) {
+        if (options == null || options.isEmpty()) return new ArrayList<>();
+        List<CartItemOption> itemOptions = new ArrayList<>();
         for (MenuOptionResponseDTO o : options) {
-            CartItemOption opt = CartItemOption.builder()
+            itemOptions.add(CartItemOption.builder()
                     .menuOptionId(o.getMenuOptionId())
                     .additionalPrice(o.getAdditionalPrice())
                     .optionName(o.getOptionName())
-                    .build();
-            item.addOption(opt);
+                    .build());
         }
-    }
-
-    private boolean isSameOptions(List<CartItemOption> existingOptions, List<MenuOptionResponseDTO> newOptions) {
-        if (existingOptions == null) return newOptions == null || newOptions.isEmpty();
-        if (newOptions == null) return existingOptions.isEmpty();
-        if (existingOptions.size() != newOptions.size()) return false;
-
-        List<UUID> a = existingOptions.stream()
-                .map(CartItemOption::getMenuOptionId)
-                .sorted(Comparator.nullsLast(Comparator.naturalOrder()))
-                .toList();
-
-        List<UUID> b = newOptions.stream()
-                .map(MenuOptionResponseDTO::getMenuOptionId)
-                .sorted(Comparator.nullsLast(Comparator.naturalOrder()))
-                .toList();
-
-        return a.equals(b);
+        return itemOptions;
     }
 }
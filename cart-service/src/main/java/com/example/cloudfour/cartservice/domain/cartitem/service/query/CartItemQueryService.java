@@ -1,11 +1,11 @@
 package com.example.cloudfour.cartservice.domain.cartitem.service.query;
 
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.converter.CartItemConverter;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemResponseDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
-import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +20,7 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class CartItemQueryService {
 
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
 
     public CartItemResponseDTO.CartItemListResponseDTO getCartItemById(UUID cartItemId, CurrentUser user) {
         validateUser(user);
@@ -48,14 +48,14 @@ public class CartItemQueryService {
     }
 
     private void validateCartItemOwnership(UUID cartItemId, UUID userId) {
-        if (!cartItemRepository.existsByCartItemAndUser(cartItemId, userId)) {
+        if (!cartStore.isItemOwner(cartItemId, userId)) {
             log.warn("장바구니 아이템 조회 권한 없음 (cartItemId={}, userId={})", cartItemId, userId);
             throw new CartItemException(CartItemErrorCode.UNAUTHORIZED_ACCESS);
         }
     }
 
     private CartItem findCartItemWithOptions(UUID cartItemId) {
-        return cartItemRepository.findByIdWithOptions(cartItemId)
+        return cartStore.findItem(cartItemId)
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 장바구니 아이템: {}", cartItemId);
                     return new CartItemException(CartItemErrorCode.NOT_FOUND);
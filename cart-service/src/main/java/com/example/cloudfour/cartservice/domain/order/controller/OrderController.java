@@ -4,6 +4,7 @@ import com.example.cloudfour.cartservice.domain.order.dto.OrderItemResponseDTO;
 import com.example.cloudfour.cartservice.domain.order.dto.OrderRequestDTO;
 import com.example.cloudfour.cartservice.domain.order.dto.OrderResponseDTO;
 import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderIdempotencyService;
 import com.example.cloudfour.cartservice.domain.order.service.query.OrderQueryService;
 import com.example.cloudfour.modulecommon.apiPayLoad.CustomResponse;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,9 +25,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestHeader;
 import jakarta.validation.Valid;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -35,17 +37,40 @@ import java.util.UUID;
 public class OrderController {
     private final OrderCommandService orderCommandService;
     private final OrderQueryService orderQueryService;
+    private final OrderIdempotencyService orderIdempotencyService;
+
+    @Value("${order.async.enabled:false}")
+    private boolean asyncEnabled = false;
 
     @PostMapping("/{cartId}")
     @PreAuthorize("hasRole('ROLE_USER') and authentication.principal.id == #user.id()")
     @Operation(summary = "주문 생성", description = "주문을 생성합니다. 주문 생성에 사용되는 API입니다.")
+    @Parameter(name = "Idempotency-Key", description = "같은 키로 재요청하면 주문을 다시 만들지 않고 처음 응답을 돌려줍니다.")
     public CustomResponse<OrderResponseDTO.OrderCreateResponseDTO> createOrder(
             @PathVariable("cartId") UUID cartId,
             @Valid @RequestBody OrderRequestDTO.OrderCreateRequestDTO orderCreateRequestDTO,
+            @AuthenticationPrincipal CurrentUser user,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
+    ){
+        // 비동기 모드에서는 주문대기로 접수만 하고 202 를 돌려준다, 결과는 /orders/{orderId}/status 로 확인한다.
+        HttpStatus status = asyncEnabled ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return CustomResponse.onSuccess(status, createOrAccept(orderCreateRequestDTO,cartId,user));
+        }
+        OrderResponseDTO.OrderCreateResponseDTO order = orderIdempotencyService.execute(user.id(), idempotencyKey, cartId,
+                orderCreateRequestDTO, () -> createOrAccept(orderCreateRequestDTO,cartId,user));
+        return CustomResponse.onSuccess(status, order);
+    }
+
+    @GetMapping("/{orderId}/status")
+    @PreAuthorize("hasRole('ROLE_USER') and authentication.principal.id == #user.id()")
+    @Operation(summary = "주문 처리 상태 조회", description = "주문 처리 상태를 조회합니다. 비동기 주문 접수 결과 확인에 사용되는 API입니다.")
+    public CustomResponse<OrderResponseDTO.OrderStatusResponseDTO> getOrderStatus(
+            @PathVariable("orderId") UUID orderId,
             @AuthenticationPrincipal CurrentUser user
     ){
-        OrderResponseDTO.OrderCreateResponseDTO order = orderCommandService.createOrder(orderCreateRequestDTO,cartId,user);
-        return CustomResponse.onSuccess(HttpStatus.CREATED, order);
+        OrderResponseDTO.OrderStatusResponseDTO status = orderQueryService.getOrderStatus(orderId,user);
+        return CustomResponse.onSuccess(HttpStatus.OK, status);
     }
 
     @GetMapping("/{orderId}")
@@ -73,11 +98,11 @@ public class OrderController {
     @GetMapping("/me")
     @PreAuthorize("hasRole('ROLE_USER') and authentication.principal.id == #user.id()")
     @Operation(summary = "내 주문 내역 조회", description = "내 주문 내역을 조회합니다. 내 주문 내역 조회에 사용되는 API입니다.")
-    @Parameter(name = "cursor", description = "데이터가 시작하는 부분을 표시합니다")
+    @Parameter(name = "cursor", description = "이전 응답의 cursor 값입니다. 없으면 첫 페이지를 가져옵니다.")
     @Parameter(name = "size", description = "size만큼 데이터를 가져옵니다.")
     public CustomResponse<OrderResponseDTO.OrderUserListResponseDTO> getMyOrder(
             @AuthenticationPrincipal CurrentUser user,
-            @RequestParam(name = "cursor", required = false) LocalDateTime cursor,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "size", defaultValue = "10") Integer size
     ){
         OrderResponseDTO.OrderUserListResponseDTO order = orderQueryService.getOrderListByUser(user,cursor,size);
@@ -87,12 +112,12 @@ public class OrderController {
     @GetMapping("/{storeId}/orders")
     @Secured("ROLE_OWNER")
     @Operation(summary = "가게 주문 조회", description = "가게 주문을 조회합니다. 가게 주문 조회에 사용되는 API입니다.")
-    @Parameter(name = "cursor", description = "데이터가 시작하는 부분을 표시합니다")
+    @Parameter(name = "cursor", description = "이전 응답의 cursor 값입니다. 없으면 첫 페이지를 가져옵니다.")
     @Parameter(name = "size", description = "size만큼 데이터를 가져옵니다.")
     public CustomResponse<OrderResponseDTO.OrderStoreListResponseDTO> getStoreOrder(
             @PathVariable("storeId") UUID storeId,
             @AuthenticationPrincipal CurrentUser user,
-            @RequestParam(name = "cursor", required = false) LocalDateTime cursor,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "size", defaultValue = "10") Integer size
     ){
         OrderResponseDTO.OrderStoreListResponseDTO order = orderQueryService.getOrderListByStore(storeId,cursor,size,user);
@@ -121,4 +146,15 @@ public class OrderController {
         orderCommandService.deleteOrder(orderId,user);
         return CustomResponse.onSuccess(HttpStatus.OK, "주문 취소 완료.");
     }
+
+    private OrderResponseDTO.OrderCreateResponseDTO createOrAccept(
+            OrderRequestDTO.OrderCreateRequestDTO orderCreateRequestDTO,
+            UUID cartId,
+            CurrentUser user
+    ){
+        if (asyncEnabled) {
+            return orderCommandService.acceptOrder(orderCreateRequestDTO,cartId,user);
+        }
+        return orderCommandService.createOrder(orderCreateRequestDTO,cartId,user);
+    }
 }
@@ -7,7 +7,6 @@ import com.example.cloudfour.cartservice.domain.order.dto.OrderResponseDTO;
 import com.example.cloudfour.cartservice.domain.order.entity.Order;
 import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public final class OrderConverter {
@@ -71,7 +70,7 @@ public final class OrderConverter {
                 .build();
     }
 
-    public static OrderResponseDTO.OrderUserListResponseDTO toOrderUserListResponseDTO(List<OrderResponseDTO.OrderUserResponseDTO> orders, Boolean hasNext, LocalDateTime cursor) {
+    public static OrderResponseDTO.OrderUserListResponseDTO toOrderUserListResponseDTO(List<OrderResponseDTO.OrderUserResponseDTO> orders, Boolean hasNext, String cursor) {
         return OrderResponseDTO.OrderUserListResponseDTO.builder()
                 .orderUsers(orders)
                 .hasNext(hasNext)
@@ -88,7 +87,7 @@ public final class OrderConverter {
                 .build();
     }
 
-    public static OrderResponseDTO.OrderStoreListResponseDTO toOrderStoreListResponseDTO(List<OrderResponseDTO.OrderStoreResponseDTO> orders, Boolean hasNext, LocalDateTime cursor) {
+    public static OrderResponseDTO.OrderStoreListResponseDTO toOrderStoreListResponseDTO(List<OrderResponseDTO.OrderStoreResponseDTO> orders, Boolean hasNext, String cursor) {
         return OrderResponseDTO.OrderStoreListResponseDTO.builder()
                 .orderStores(orders)
                 .hasNext(hasNext)
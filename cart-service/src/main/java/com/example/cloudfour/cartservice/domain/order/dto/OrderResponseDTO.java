@@ -46,7 +46,7 @@ public class OrderResponseDTO {
     public static class OrderUserListResponseDTO {
         List<OrderUserResponseDTO>  orderUsers;
         private boolean hasNext;
-        private LocalDateTime cursor;
+        private String cursor;
     }
 
     @Getter
@@ -64,7 +64,7 @@ public class OrderResponseDTO {
     public static class OrderStoreListResponseDTO {
         List<OrderStoreResponseDTO> orderStores;
         private boolean hasNext;
-        private LocalDateTime cursor;
+        private String cursor;
     }
 
     @Getter
@@ -4,8 +4,10 @@ import com.example.cloudfour.cartservice.domain.order.exception.OrderItemErrorCo
 import com.example.cloudfour.cartservice.domain.order.exception.OrderItemException;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -19,6 +21,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -38,10 +41,15 @@ public class OrderItem {
 
     private Integer price;
 
+    // p_order 는 생성 월로 파티셔닝되어 id 단독 유니크 키가 없으므로 FK 는 두지 않는다.
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "orderId", nullable = false)
+    @JoinColumn(name = "orderId", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Order order;
 
+    // 파티션 키, 주문과 같은 월 파티션에 놓이도록 주문 생성 시각을 복사해 둔다.
+    @Column(name = "order_created_at")
+    private LocalDateTime orderCreatedAt;
+
     @Column(name = "menuId", nullable = false)
     private UUID menu;
 
@@ -60,6 +68,8 @@ public class OrderItem {
 
     public void setOrder(Order order){
         this.order = order;
+        this.orderCreatedAt = order.getCreatedAt();
+        this.options.forEach(option -> option.setOrderItem(this));
         order.getOrderItems().add(this);
     }
 
@@ -2,8 +2,10 @@ package com.example.cloudfour.cartservice.domain.order.entity;
 
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -14,6 +16,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -29,9 +32,13 @@ public class OrderItemOption {
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "orderitem_id", nullable = false)
+    @JoinColumn(name = "orderitem_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private OrderItem orderItem;
 
+    // 파티션 키, 주문 생성 시각
+    @Column(name = "order_created_at")
+    private LocalDateTime orderCreatedAt;
+
     @Column(name = "menuoption_id", nullable = false, columnDefinition = "uuid")
     private UUID menuOptionId;
 
@@ -43,5 +50,6 @@ public class OrderItemOption {
 
     void setOrderItem(OrderItem orderItem) {
         this.orderItem = orderItem;
+        this.orderCreatedAt = orderItem.getOrderCreatedAt();
     }
 }
@@ -1,5 +1,5 @@
 package com.example.cloudfour.cartservice.domain.order.enums;
 
 public enum OrderStatus {
-    결제전, 주문완료, 주문접수, 조리중, 배달원배정, 배달중, 배달완료, 주문취소
+    주문대기, 결제전, 주문완료, 주문접수, 조리중, 배달원배정, 배달중, 배달완료, 주문취소
 }
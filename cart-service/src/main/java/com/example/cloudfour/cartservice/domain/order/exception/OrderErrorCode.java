@@ -12,10 +12,15 @@ public enum OrderErrorCode implements BaseErrorCode {
     CREATE_FAILED(HttpStatus.BAD_REQUEST, "ORDER400_1", "주문 정보를 생성할 수 없습니다."),
     UPDATE_FAILED(HttpStatus.BAD_REQUEST, "ORDER400_2", "주문 정보를 수정할 수 없습니다."),
     DELETE_FAILED(HttpStatus.BAD_REQUEST, "ORDER400_3", "주문 정보를 삭제할 수 없습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "ORDER400_4", "Idempotency-Key 형식이 올바르지 않습니다."),
     UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "ORDER401", "주문에 접근할 수 있는 권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER404", "주문을 찾을 수 없습니다."),
     ALREADY_ADD(HttpStatus.CONFLICT, "ORDER409", "이미 등록된 주문입니다."),
-    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "ORDER500", "주문 처리 중 서버 오류가 발생했습니다.");
+    IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT, "ORDER409_1", "같은 Idempotency-Key 의 주문이 처리 중입니다."),
+    STOCK_CONFIRM_FAILED(HttpStatus.CONFLICT, "ORDER409_2", "재고 예약을 확정하지 못해 결제를 환불했습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "ORDER422", "Idempotency-Key 가 다른 주문 요청에 이미 사용되었습니다."),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "ORDER500", "주문 처리 중 서버 오류가 발생했습니다."),
+    PRECHECK_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "ORDER504", "주문 사전 확인이 제한 시간 내에 완료되지 않았습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,98 @@
+package com.example.cloudfour.cartservice.domain.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// p_order, p_order_item, p_orderitem_option 의 일별 파티션을 관리한다. 테이블 정의는 db/order-partition-schema.sql
+// 예전에 만든 월별 파티션(_yyyy_MM)은 만료될 때까지 그대로 두고 읽기/만료만 지원한다.
+@Repository
+@RequiredArgsConstructor
+public class OrderPartitionRepository {
+
+    // 하위 테이블부터 지우도록 자식 -> 부모 순서
+    public static final List<String> TABLES = List.of("p_orderitem_option", "p_order_item", "p_order");
+
+    private static final Pattern DAY_SUFFIX = Pattern.compile("_(\\d{4})_(\\d{2})_(\\d{2})$");
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("_(\\d{4})_(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from pg_partitioned_table p join pg_class c on c.oid = p.partrelid where c.relname = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    public void createDayPartition(String table, LocalDate day) {
+        jdbcTemplate.execute("create table if not exists " + partitionName(table, day)
+                + " partition of " + table
+                + " for values from ('" + day + "') to ('" + day.plusDays(1) + "')");
+    }
+
+    // 파티션 생성이 늦어져도 insert 가 실패하지 않게 받아 두는 곳, 평소에는 비어 있어야 한다.
+    public void createDefaultPartition(String table) {
+        jdbcTemplate.execute("create table if not exists " + table + "_default partition of " + table + " default");
+    }
+
+    public List<String> findPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i " +
+                        "join pg_class c on c.oid = i.inhrelid " +
+                        "join pg_class p on p.oid = i.inhparent " +
+                        "where p.relname = ?",
+                String.class, table);
+    }
+
+    public void detachPartition(String table, String partition) {
+        jdbcTemplate.execute("alter table " + table + " detach partition " + partition);
+    }
+
+    public void dropPartition(String partition) {
+        jdbcTemplate.execute("drop table if exists " + partition);
+    }
+
+    // 파티셔닝 전 테이블용, 행을 엔티티로 읽지 않고 집합 단위로 지운다.
+    // 하위 테이블만 지워지고 주문이 남는 일이 없도록 세 DELETE 를 한 트랜잭션으로 묶는다.
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        jdbcTemplate.update("delete from p_orderitem_option where orderitem_id in (" +
+                "select i.id from p_order_item i join p_order o on o.id = i.order_id where o.created_at < ?)", cutoff);
+        jdbcTemplate.update("delete from p_order_item where order_id in (" +
+                "select o.id from p_order o where o.created_at < ?)", cutoff);
+        return jdbcTemplate.update("delete from p_order where created_at < ?", cutoff);
+    }
+
+    public static String partitionName(String table, LocalDate day) {
+        return String.format("%s_%04d_%02d_%02d", table, day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+    }
+
+    public static String partitionName(String table, YearMonth month) {
+        return String.format("%s_%04d_%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    // 파티션이 담는 범위의 끝(미포함), 일별이면 다음 날, 예전 월별이면 다음 달 1일이다. DEFAULT 파티션은 비어 있다.
+    public static Optional<LocalDate> upperBoundOf(String partition) {
+        Matcher day = DAY_SUFFIX.matcher(partition);
+        if (day.find()) {
+            return Optional.of(LocalDate.of(Integer.parseInt(day.group(1)), Integer.parseInt(day.group(2)),
+                    Integer.parseInt(day.group(3))).plusDays(1));
+        }
+        Matcher month = MONTH_SUFFIX.matcher(partition);
+        if (month.find()) {
+            return Optional.of(YearMonth.of(Integer.parseInt(month.group(1)), Integer.parseInt(month.group(2)))
+                    .plusMonths(1).atDay(1));
+        }
+        return Optional.empty();
+    }
+}
@@ -5,10 +5,12 @@ import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,16 +21,27 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     @Query("select o from Order o where o.id = :orderId and o.isDeleted = false")
     Optional<Order> findById(@Param("orderId") UUID orderId);
 
-    @Query("select o from Order o where o.user = :userId and o.userIsDeleted = false and o.isDeleted = false and o.createdAt < :cursor order by o.createdAt desc")
-    Slice<Order> findAllByUserId(@Param("userId") UUID userId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    // (createdAt, id) 키셋 커서, idx_order_user_created_id 를 커서 위치부터 읽는다.
+    @Query("select o from Order o where o.user = :userId and o.userIsDeleted = false and o.isDeleted = false" +
+            " and o.createdAt <= :cursorAt and (o.createdAt < :cursorAt or o.id < :cursorId)" +
+            " order by o.createdAt desc, o.id desc")
+    Slice<Order> findAllByUserId(@Param("userId") UUID userId, @Param("cursorAt") LocalDateTime cursorAt,
+                                 @Param("cursorId") UUID cursorId, Pageable pageable);
 
-    @Query("select o from Order o where o.store = :storeId and o.userIsDeleted = false and o.isDeleted = false and o.createdAt < :cursor order by o.createdAt desc")
-    Slice<Order> findAllByStoreId(@Param("storeId") UUID storeId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    @Query("select o from Order o where o.store = :storeId and o.userIsDeleted = false and o.isDeleted = false" +
+            " and o.createdAt <= :cursorAt and (o.createdAt < :cursorAt or o.id < :cursorId)" +
+            " order by o.createdAt desc, o.id desc")
+    Slice<Order> findAllByStoreId(@Param("storeId") UUID storeId, @Param("cursorAt") LocalDateTime cursorAt,
+                                  @Param("cursorId") UUID cursorId, Pageable pageable);
 
     @Query("select count(o) > 0 from Order o where o.id = :orderId and o.user = :userId and o.userIsDeleted = false and o.isDeleted = false")
     boolean existsByOrderIdAndUserId(@Param("orderId") UUID orderId, @Param("userId") UUID userId);
 
-    void deleteAllByCreatedAtBefore(LocalDateTime createdAtBefore);
+    // 이미 같은 상태인 주문은 건드리지 않으므로 재전송된 이벤트에도 안전하다.
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :status, o.updatedAt = :now where o.id in :orderIds and o.status <> :status and o.isDeleted = false")
+    int bulkUpdateStatus(@Param("orderIds") Collection<UUID> orderIds, @Param("status") OrderStatus status,
+                         @Param("now") LocalDateTime now);
 
     @Query("select count(o) from Order o where o.status = :status and o.isDeleted = false")
     long countByStatus(@Param("status") OrderStatus status);
@@ -1,12 +1,13 @@
 package com.example.cloudfour.cartservice.domain.order.service.command;
 
+import com.example.cloudfour.cartservice.client.PaymentClient;
 import com.example.cloudfour.cartservice.client.StoreClient;
 import com.example.cloudfour.cartservice.client.UserClient;
 import com.example.cloudfour.cartservice.commondto.MenuQuantityResponseDTO;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
@@ -25,29 +26,53 @@ import com.example.cloudfour.cartservice.domain.order.exception.StockException;
 import com.example.cloudfour.cartservice.domain.order.repository.OrderItemOptionRepository;
 import com.example.cloudfour.cartservice.domain.order.repository.OrderItemRepository;
 import com.example.cloudfour.cartservice.domain.order.repository.OrderRepository;
+import com.example.cloudfour.cartservice.domain.waitingroom.service.WaitingRoomService;
 import com.example.cloudfour.cartservice.service.OrderEventPublishService;
+import com.example.cloudfour.modulecommon.concurrent.ParallelCalls;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class OrderCommandService {
+    private static final String STOCK_CONFIRM_FAILED_REASON = "재고 예약 확정 실패";
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderItemOptionRepository orderItemOptionRepository;
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final StoreClient storeClient;
+    private final PaymentClient paymentClient;
     private final UserClient userClient;
     private final OrderEventPublishService orderEventPublishService;
+    private final WaitingRoomService waitingRoomService;
+
+    @Value("${order.precheck.user-timeout-ms:5000}")
+    private long userTimeoutMs = 5000;
+
+    @Value("${order.precheck.store-timeout-ms:5000}")
+    private long storeTimeoutMs = 5000;
 
 
     public OrderResponseDTO.OrderCreateResponseDTO createOrder(
@@ -59,16 +84,29 @@ public class OrderCommandService {
         validateCartId(cartId);
 
         Cart cart = findCartWithOwnershipValidation(cartId, user.id());
-        UserAddressResponseDTO userAddress = fetchUserAddress(user.id());
-        validateStoreExists(cart.getStore());
         validateCartItemsNotEmpty(cart.getCartItems());
-
-        validateAndDecreaseStock(cart.getCartItems());
+        waitingRoomService.requireAdmission(cart.getStore(), user.id());
+
+        UserAddressResponseDTO userAddress;
+        try (ParallelCalls calls = ParallelCalls.open()) {
+            Future<UserAddressResponseDTO> addressFuture = calls.fork(() -> fetchUserAddress(user.id()),
+                    Duration.ofMillis(userTimeoutMs), () -> new OrderException(OrderErrorCode.PRECHECK_TIMEOUT));
+            calls.fork(() -> {
+                validateStoreExists(cart.getStore());
+                return null;
+            }, Duration.ofMillis(storeTimeoutMs), () -> new OrderException(OrderErrorCode.PRECHECK_TIMEOUT));
+            calls.join();
+            userAddress = addressFuture.resultNow();
+        }
 
         int totalPrice = calculateTotalPrice(cart.getCartItems());
         
         Order order = createOrderEntity(req, totalPrice, userAddress.getAddress(), cart.getStore(), user.id());
         orderRepository.save(order);
+
+        // 예약 응답을 받지 못한 경우(타임아웃)도 반납되도록 예약 호출 전에 걸어 둔다.
+        releaseStockHoldOnRollback(order.getId());
+        validateAndDecreaseStock(cart.getCartItems(), order.getId());
         
         List<OrderItem> orderItems = createOrderItems(cart.getCartItems(), order);
         orderItemRepository.saveAll(orderItems);
@@ -78,11 +116,92 @@ public class OrderCommandService {
         deleteCart(cart);
 
         publishOrderCreatedEvent(order, totalPrice, userAddress.getAddress());
+        completeAdmissionAfterCommit(cart.getStore(), user.id());
 
         log.info("주문 생성 완료 (orderId={}, totalPrice={})", order.getId(), totalPrice);
         return OrderConverter.toOrderCreateResponseDTO(order);
     }
 
+    // 비동기 접수 모드, 검증과 주문 저장까지만 하고 재고 예약과 결제 연계는 order-pipeline 단계에서 처리한다.
+    public OrderResponseDTO.OrderCreateResponseDTO acceptOrder(
+            OrderRequestDTO.OrderCreateRequestDTO req,
+            UUID cartId,
+            CurrentUser user
+    ) {
+        validateUser(user);
+        validateCartId(cartId);
+
+        Cart cart = findCartWithOwnershipValidation(cartId, user.id());
+        validateCartItemsNotEmpty(cart.getCartItems());
+        waitingRoomService.requireAdmission(cart.getStore(), user.id());
+
+        // 배송지는 주문의 필수 컬럼이므로 접수 시점에 함께 조회한다, 가게 확인은 예약 단계로 넘긴다.
+        UserAddressResponseDTO userAddress;
+        try (ParallelCalls calls = ParallelCalls.open()) {
+            Future<UserAddressResponseDTO> addressFuture = calls.fork(() -> fetchUserAddress(user.id()),
+                    Duration.ofMillis(userTimeoutMs), () -> new OrderException(OrderErrorCode.PRECHECK_TIMEOUT));
+            calls.join();
+            userAddress = addressFuture.resultNow();
+        }
+
+        int totalPrice = calculateTotalPrice(cart.getCartItems());
+
+        Order order = createOrderEntity(req, totalPrice, userAddress.getAddress(), cart.getStore(), user.id());
+        order.updateOrderStatus(OrderStatus.주문대기);
+        orderRepository.save(order);
+
+        List<OrderItem> orderItems = createOrderItems(cart.getCartItems(), order);
+        orderItemRepository.saveAll(orderItems);
+
+        saveOrderItemOptions(orderItems);
+
+        deleteCart(cart);
+
+        orderEventPublishService.publishOrderAcceptedEvent(order.getId(), order.getUser(), order.getStore());
+        completeAdmissionAfterCommit(cart.getStore(), user.id());
+
+        log.info("주문 접수 완료 (orderId={}, totalPrice={})", order.getId(), totalPrice);
+        return OrderConverter.toOrderCreateResponseDTO(order);
+    }
+
+    // order-pipeline 의 재고 예약 단계, 주문대기 주문만 처리하므로 같은 이벤트가 다시 와도 한 번만 반영된다.
+    // 재고 부족/가게 없음은 다시 해도 같은 결과이므로 주문을 취소하고 끝내고, 그 밖의 실패는 던져서 재시도하게 한다.
+    public void reserveAcceptedOrder(UUID orderId) {
+        validateOrderId(orderId);
+        Order order = findOrderById(orderId);
+
+        if (order.getStatus() != OrderStatus.주문대기) {
+            log.info("이미 처리된 접수 주문 (orderId={}, status={})", orderId, order.getStatus());
+            return;
+        }
+
+        List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
+        Map<UUID, Long> quantityByMenuId = orderItems.stream()
+                .collect(Collectors.groupingBy(OrderItem::getMenu, LinkedHashMap::new,
+                        Collectors.summingLong(OrderItem::getQuantity)));
+
+        releaseStockHoldOnRollback(orderId);
+        try {
+            validateStoreExists(order.getStore());
+            reserveStocks(quantityByMenuId, orderId);
+        } catch (CartException e) {
+            rejectAcceptedOrder(order, e);
+            return;
+        } catch (StockException e) {
+            if (e.getCode() == StockErrorCode.STOCK_UPDATE_FAILED) {
+                throw e;
+            }
+            rejectAcceptedOrder(order, e);
+            return;
+        }
+
+        order.updateOrderStatus(OrderStatus.결제전);
+
+        publishOrderCreatedEvent(order, order.getTotalPrice(), order.getAddress());
+
+        log.info("접수 주문 재고 예약 완료 (orderId={}, status: {} -> {})", orderId, OrderStatus.주문대기, order.getStatus());
+    }
+
     public OrderResponseDTO.OrderUpdateResponseDTO updateOrder(
             OrderRequestDTO.OrderUpdateRequestDTO req, 
             UUID orderId, 
@@ -168,6 +287,18 @@ public class OrderCommandService {
             orderId, prevStatus, newOrderStatus);
     }
 
+    // 결제 이벤트 배치의 상태 반영, 상태마다 UPDATE ... WHERE id IN (...) 한 번으로 처리한다.
+    public int bulkUpdateOrderStatusByPaymentEvents(OrderStatus newStatus, Collection<UUID> orderIds) {
+        if (newStatus == null || orderIds == null || orderIds.isEmpty()) {
+            return 0;
+        }
+
+        int updated = orderRepository.bulkUpdateStatus(orderIds, newStatus, LocalDateTime.now());
+        log.info("PaymentEvent 배치 주문 상태 업데이트 완료 (status={}, 대상={}건, 변경={}건)",
+            newStatus, orderIds.size(), updated);
+        return updated;
+    }
+
     private void validateUser(CurrentUser user) {
         if (user == null || user.id() == null) {
             log.warn("유효하지 않은 사용자");
@@ -205,18 +336,12 @@ public class OrderCommandService {
     }
 
     private Cart findCartWithOwnershipValidation(UUID cartId, UUID userId) {
-        Cart cart = cartRepository.findByIdAndUserWithCartItems(cartId, userId)
+        // 소유자 조건으로 찾으므로 남의 장바구니는 존재하지 않는 것으로 보인다.
+        return cartStore.findCartWithItems(cartId, userId)
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 장바구니 또는 접근 권한 없음 (cartId={}, userId={})", cartId, userId);
                     return new CartException(CartErrorCode.NOT_FOUND);
                 });
-
-        if (!cartRepository.existsByUserAndCart(userId, cartId)) {
-            log.warn("주문 생성 권한 없음 (cartId={}, userId={})", cartId, userId);
-            throw new OrderException(OrderErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        return cart;
     }
 
     private UserAddressResponseDTO fetchUserAddress(UUID userId) {
@@ -280,51 +405,115 @@ public class OrderCommandService {
 
     private void deleteCart(Cart cart) {
         try {
-            cartRepository.delete(cart);
+            cartStore.deleteCart(cart);
             log.debug("장바구니 삭제 완료 (cartId={})", cart.getId());
         } catch (Exception e) {
             log.error("장바구니 삭제 실패 (cartId={})", cart.getId(), e);
         }
     }
 
-    private void validateAndDecreaseStock(List<CartItem> cartItems) {
-        log.info("재고 확인 및 감소 시작 - {} 개 아이템", cartItems.size());
-        
-        for (CartItem cartItem : cartItems) {
-            UUID menuId = cartItem.getMenu();
-            Long orderQuantity = Long.valueOf(cartItem.getQuantity());
-            
-            log.debug("메뉴 재고 확인: menuId={}, 주문수량={}", menuId, orderQuantity);
+    private void validateAndDecreaseStock(List<CartItem> cartItems, UUID orderId) {
+        Map<UUID, Long> quantityByMenuId = cartItems.stream()
+                .collect(Collectors.groupingBy(CartItem::getMenu, LinkedHashMap::new,
+                        Collectors.summingLong(CartItem::getQuantity)));
 
-            MenuQuantityResponseDTO stockInfo = storeClient.getMenuStock(menuId);
-            if (stockInfo == null) {
-                log.error("재고 정보 조회 실패: menuId={}", menuId);
-                throw new StockException(StockErrorCode.STOCK_NOT_FOUND);
-            }
+        log.info("재고 일괄 확인 및 감소 시작 - {} 개 아이템, {} 개 메뉴", cartItems.size(), quantityByMenuId.size());
+        reserveStocks(quantityByMenuId, orderId);
+    }
 
-            if (stockInfo.getQuantity() < orderQuantity) {
-                log.error("재고 부족: menuId={}, 현재재고={}, 주문수량={}", 
-                    menuId, stockInfo.getQuantity(), orderQuantity);
+    private void reserveStocks(Map<UUID, Long> quantityByMenuId, UUID orderId) {
+        try {
+            storeClient.reserveStocks(quantityByMenuId, orderId);
+        } catch (HttpClientErrorException e) {
+            log.error("재고 일괄 감소 거절: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
+            if (e.getStatusCode().value() == HttpStatus.BAD_REQUEST.value()) {
                 throw new StockException(StockErrorCode.INSUFFICIENT_STOCK);
             }
+            throw new StockException(StockErrorCode.STOCK_NOT_FOUND);
+        } catch (Exception e) {
+            log.error("재고 일괄 감소 실패: menuIds={}", quantityByMenuId.keySet(), e);
+            throw new StockException(StockErrorCode.STOCK_UPDATE_FAILED);
+        }
+
+        log.info("모든 아이템의 재고 확인 및 감소 완료");
+    }
 
-            boolean success = storeClient.decreaseStock(stockInfo.getStockId(), orderQuantity);
-            if (!success) {
-                log.error("재고 감소 실패: stockId={}, quantity={}", stockInfo.getStockId(), orderQuantity);
-                throw new StockException(StockErrorCode.STOCK_UPDATE_FAILED);
+    private void rejectAcceptedOrder(Order order, RuntimeException cause) {
+        order.updateOrderStatus(OrderStatus.주문취소);
+        log.warn("접수 주문 재고 예약 거절로 주문 취소 (orderId={}, reason={})", order.getId(), cause.getMessage());
+    }
+
+    // 주문이 롤백되면 입장권을 그대로 두어 다시 줄 서지 않고 재시도할 수 있게 한다.
+    private void completeAdmissionAfterCommit(UUID storeId, UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            waitingRoomService.completeAdmission(storeId, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                waitingRoomService.completeAdmission(storeId, userId);
             }
-            
-            log.info("재고 감소 성공: menuId={}, stockId={}, quantity={}", 
-                menuId, stockInfo.getStockId(), orderQuantity);
+        });
+    }
+
+    // 예약은 했는데 주문 트랜잭션이 롤백되면 주문 없이 예약만 남으므로 반납한다.
+    // 동기 생성은 주문 ID 가 사라지고, 비동기 접수는 재시도 때 같은 주문으로 다시 예약하게 된다. 예약이 없으면 반납은 아무 일도 하지 않는다.
+    private void releaseStockHoldOnRollback(UUID orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    storeClient.releaseStockHold(orderId);
+                    log.info("롤백된 주문의 재고 예약 반납: orderId={}", orderId);
+                } catch (Exception e) {
+                    log.error("롤백된 주문의 재고 예약 반납 실패: orderId={}", orderId, e);
+                }
+            }
+        });
+    }
+
+    // 결제 승인 뒤 예약 확정이 거절되면(만료된 예약의 재차감 실패, 이미 반납된 예약 등) 남은 예약을 반납하고 결제를 환불한 뒤 STOCK_CONFIRM_FAILED 로 알린다.
+    // 호출한 쪽은 이 예외를 받으면 주문을 주문취소로 마무리한다. 반납/환불 호출이 실패하면 그 예외가 올라가 이벤트를 다시 받는다.
+    // 예약이 없는 주문(예약 없이 바로 차감한 주문 등)은 확정할 것이 없으므로 주문을 그대로 둔다.
+    public void confirmStock(UUID orderId) {
+        try {
+            if (!storeClient.confirmStockHold(orderId)) {
+                log.info("확정할 재고 예약 없음, 주문 유지: orderId={}", orderId);
+            }
+        } catch (HttpClientErrorException e) {
+            log.error("재고 예약 확정 거절, 결제 환불 진행: orderId={}, status={}, body={}", orderId, e.getStatusCode(), e.getResponseBodyAsString());
+            storeClient.releaseStockHold(orderId);
+            paymentClient.refundPayment(orderId, STOCK_CONFIRM_FAILED_REASON);
+            throw new OrderException(OrderErrorCode.STOCK_CONFIRM_FAILED);
         }
-        
-        log.info("모든 아이템의 재고 확인 및 감소 완료");
     }
 
     public void restoreStock(UUID orderId) {
         log.info("재고 복구 시작: orderId={}", orderId);
-        
+
         Order order = findOrderById(orderId);
+        // 비동기 접수 후 예약 단계를 거치지 않은 주문은 차감한 재고가 없으므로 반납도 개별 복구도 하지 않는다.
+        // 예약 단계와 엇갈려 예약이 남더라도 확정되지 않은 예약은 만료 스윕이 돌려준다.
+        if (order.getStatus() == OrderStatus.주문대기) {
+            log.info("재고 예약 전 주문, 재고 복구 생략: orderId={}", orderId);
+            return;
+        }
+
+        // 예약 반납은 멱등이므로 실패 시 개별 복구로 넘어가지 않고 예외를 전파해 재시도하게 한다.
+        if (storeClient.releaseStockHold(orderId)) {
+            log.info("재고 예약 반납으로 재고 복구 완료: orderId={}", orderId);
+            return;
+        }
+        // 예약 없이 재고를 직접 차감한 이전 주문만 여기로 온다.
+        log.info("재고 예약 없음, 개별 복구 진행: orderId={}", orderId);
+        
         List<OrderItem> orderItems = order.getOrderItems();
         
         for (OrderItem orderItem : orderItems) {
@@ -338,7 +527,7 @@ public class OrderCommandService {
                     continue;
                 }
 
-                boolean success = storeClient.increaseStock(stockInfo.getStockId(), quantity);
+                boolean success = storeClient.increaseStock(stockInfo.getStockId(), quantity, orderId);
                 if (success) {
                     log.info("재고 복구 성공: menuId={}, stockId={}, quantity={}", 
                         menuId, stockInfo.getStockId(), quantity);
@@ -355,19 +544,15 @@ public class OrderCommandService {
         log.info("재고 복구 완료: orderId={}", orderId);
     }
 
+    // 아웃박스 기록이 실패하면 주문도 함께 롤백되어야 이벤트 없는 주문이 남지 않는다.
     private void publishOrderCreatedEvent(Order order, int totalPrice, String deliveryAddress) {
-        try {
-            orderEventPublishService.publishOrderCreatedEvent(
-                order.getId(),
-                order.getUser(),
-                order.getStore(),
-                BigDecimal.valueOf(totalPrice),
-                order.getStatus().name(),
-                deliveryAddress
-            );
-            log.info("주문 생성 이벤트 발행 완료: orderId={}", order.getId());
-        } catch (Exception e) {
-            log.error("주문 생성 이벤트 발행 실패: orderId={}, error={}", order.getId(), e.getMessage(), e);
-        }
+        orderEventPublishService.publishOrderCreatedEvent(
+            order.getId(),
+            order.getUser(),
+            order.getStore(),
+            BigDecimal.valueOf(totalPrice),
+            order.getStatus().name(),
+            deliveryAddress
+        );
     }
 }
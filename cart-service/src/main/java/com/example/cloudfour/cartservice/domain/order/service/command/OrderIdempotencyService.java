@@ -0,0 +1,200 @@
+package com.example.cloudfour.cartservice.domain.order.service.command;
+
+import com.example.cloudfour.cartservice.domain.order.controller.OrderCommonResponseDTO;
+import com.example.cloudfour.cartservice.domain.order.dto.OrderRequestDTO;
+import com.example.cloudfour.cartservice.domain.order.dto.OrderResponseDTO;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+// 주문 생성의 Idempotency-Key 처리.
+// 처음 요청이 SETNX 로 처리 중 표시를 잡고 주문을 만든 뒤 응답을 TTL 동안 저장하며,
+// 같은 키의 재요청은 재고/DB 를 건드리지 않고 저장된 응답을 그대로 받는다.
+// 처리 중에 들어온 중복 요청은 잠시 기다렸다가 결과를 받고, 끝나지 않으면 409 로 돌려보낸다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_.:-]{1,100}");
+    private static final String PENDING_PREFIX = "PENDING|";
+
+    // 처리 중 표시가 내 것일 때만 지운다, 만료 후 다른 요청이 잡은 표시를 지우지 않기 위해서다.
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 주문 생성이 이 시간보다 오래 걸리면 처리 중 표시가 풀려 중복 요청이 다시 실행될 수 있다.
+    @Value("${order.idempotency.lock-ttl-seconds:30}")
+    private long lockTtlSeconds = 30;
+
+    @Value("${order.idempotency.result-ttl-hours:24}")
+    private long resultTtlHours = 24;
+
+    // 처리 중인 같은 키의 요청을 기다리는 최대 시간
+    @Value("${order.idempotency.wait-ms:3000}")
+    private long waitMs = 3000;
+
+    @Value("${order.idempotency.poll-interval-ms:100}")
+    private long pollIntervalMs = 100;
+
+    private record StoredResponse(String fingerprint, UUID orderId, OrderStatus orderStatus,
+                                  Integer totalPrice, LocalDateTime createdAt) {
+    }
+
+    public OrderResponseDTO.OrderCreateResponseDTO execute(
+            UUID userId,
+            String idempotencyKey,
+            UUID cartId,
+            OrderRequestDTO.OrderCreateRequestDTO req,
+            Supplier<OrderResponseDTO.OrderCreateResponseDTO> createOrder
+    ) {
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            log.warn("유효하지 않은 Idempotency-Key (userId={})", userId);
+            throw new OrderException(OrderErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String redisKey = "idempotency:order:" + userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(cartId, req);
+        String pendingValue = PENDING_PREFIX + fingerprint + "|" + UUID.randomUUID();
+        long deadline = System.nanoTime() + Duration.ofMillis(waitMs).toNanos();
+
+        while (true) {
+            Boolean acquired;
+            String value;
+            try {
+                acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, pendingValue, Duration.ofSeconds(lockTtlSeconds));
+                value = Boolean.TRUE.equals(acquired) ? null : redisTemplate.opsForValue().get(redisKey);
+            } catch (Exception e) {
+                // Redis 를 못 쓰면 멱등 처리 없이 주문을 만든다, 주문 자체를 막지는 않는다.
+                log.warn("Idempotency-Key 확인 실패, 멱등 처리 없이 진행 (userId={}, error={})", userId, e.getMessage());
+                return createOrder.get();
+            }
+
+            if (Boolean.TRUE.equals(acquired)) {
+                return createAndStore(redisKey, pendingValue, fingerprint, createOrder);
+            }
+            if (value == null) {
+                // 앞선 요청이 실패해 표시를 지웠다, 다시 잡아서 처리한다.
+                continue;
+            }
+
+            if (value.startsWith(PENDING_PREFIX)) {
+                if (!value.startsWith(PENDING_PREFIX + fingerprint + "|")) {
+                    throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                if (System.nanoTime() >= deadline) {
+                    log.info("같은 Idempotency-Key 주문 처리 중 (userId={}, key={})", userId, idempotencyKey);
+                    throw new OrderException(OrderErrorCode.IDEMPOTENCY_IN_PROGRESS);
+                }
+                sleep();
+                continue;
+            }
+
+            StoredResponse stored = read(value);
+            if (!stored.fingerprint().equals(fingerprint)) {
+                throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            log.info("Idempotency-Key 재요청, 저장된 주문 응답 반환 (userId={}, orderId={})", userId, stored.orderId());
+            return toResponse(stored);
+        }
+    }
+
+    private OrderResponseDTO.OrderCreateResponseDTO createAndStore(
+            String redisKey,
+            String pendingValue,
+            String fingerprint,
+            Supplier<OrderResponseDTO.OrderCreateResponseDTO> createOrder
+    ) {
+        OrderResponseDTO.OrderCreateResponseDTO response;
+        try {
+            response = createOrder.get();
+        } catch (RuntimeException e) {
+            // 주문이 롤백되었으므로 같은 키로 다시 시도할 수 있게 표시를 푼다.
+            release(redisKey, pendingValue);
+            throw e;
+        }
+
+        OrderCommonResponseDTO order = response.getOrderCommonResponseDTO();
+        StoredResponse stored = new StoredResponse(fingerprint, order.getOrderId(), order.getOrderStatus(),
+                order.getTotalPrice(), order.getCreatedAt());
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(stored), Duration.ofHours(resultTtlHours));
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 응답 저장 실패 (orderId={}, error={})", order.getOrderId(), e.getMessage());
+        }
+        return response;
+    }
+
+    private void release(String redisKey, String pendingValue) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), pendingValue);
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 처리 중 표시 해제 실패 (key={}, error={})", redisKey, e.getMessage());
+        }
+    }
+
+    private StoredResponse read(String value) {
+        try {
+            return objectMapper.readValue(value, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("저장된 Idempotency-Key 응답을 읽을 수 없음: {}", e.getMessage());
+            throw new OrderException(OrderErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private OrderResponseDTO.OrderCreateResponseDTO toResponse(StoredResponse stored) {
+        return OrderResponseDTO.OrderCreateResponseDTO.builder()
+                .orderCommonResponseDTO(OrderCommonResponseDTO.builder()
+                        .orderId(stored.orderId())
+                        .orderStatus(stored.orderStatus())
+                        .totalPrice(stored.totalPrice())
+                        .createdAt(stored.createdAt())
+                        .build())
+                .build();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderException(OrderErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        }
+    }
+
+    // 같은 키로 다른 장바구니나 다른 주문 내용을 보내면 저장된 응답을 돌려주지 않고 거절한다.
+    private static String fingerprint(UUID cartId, OrderRequestDTO.OrderCreateRequestDTO req) {
+        String source = cartId + "|" + req.getOrderType() + "|" + req.getOrderStatus() + "|"
+                + req.getReceiptType() + "|" + (req.getRequest() == null ? "" : req.getRequest());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.example.cloudfour.cartservice.domain.order.service.query;
 import com.example.cloudfour.cartservice.client.StoreClient;
 import com.example.cloudfour.cartservice.client.UserClient;
 import com.example.cloudfour.cartservice.commondto.StoreResponseDTO;
-import com.example.cloudfour.cartservice.commondto.UserResponseDTO;
+import com.example.cloudfour.cartservice.commondto.UserProfileResponseDTO;
 import com.example.cloudfour.cartservice.domain.order.converter.OrderConverter;
 import com.example.cloudfour.cartservice.domain.order.converter.OrderItemConverter;
 import com.example.cloudfour.cartservice.domain.order.dto.OrderItemResponseDTO;
@@ -17,17 +17,19 @@ import com.example.cloudfour.cartservice.domain.order.exception.OrderItemExcepti
 import com.example.cloudfour.cartservice.domain.order.repository.OrderItemRepository;
 import com.example.cloudfour.cartservice.domain.order.repository.OrderRepository;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
+import com.example.cloudfour.modulecommon.pagination.KeysetPages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -40,8 +42,6 @@ public class OrderQueryService {
     private final StoreClient storeClient;
     private final UserClient userClient;
 
-    private static final LocalDateTime FIRST_CURSOR = LocalDateTime.now().plusDays(1);
-
     public OrderResponseDTO.OrderDetailResponseDTO getOrderById(UUID orderId, CurrentUser user) {
         validateUser(user);
         validateOrderId(orderId);
@@ -58,6 +58,19 @@ public class OrderQueryService {
         return OrderConverter.toOrderDetailResponseDTO(order, orderItemDtos, store.getName());
     }
 
+    // 비동기 접수 모드에서 클라이언트가 접수 결과를 폴링하는 조회, 주문 상태만 읽는다.
+    public OrderResponseDTO.OrderStatusResponseDTO getOrderStatus(UUID orderId, CurrentUser user) {
+        validateUser(user);
+        validateOrderId(orderId);
+        validateOrderOwnership(orderId, user.id());
+
+        Order order = findOrderById(orderId);
+        return OrderResponseDTO.OrderStatusResponseDTO.builder()
+                .orderStatus(order.getStatus())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+
     public OrderItemResponseDTO.OrderItemListResponseDTO getOrderItemById(UUID orderItemId, CurrentUser user){
         OrderItem orderItem = orderItemRepository.findById(orderItemId).orElseThrow(()->{
             log.warn("존재하지 않는 주문 아이템");
@@ -72,58 +85,59 @@ public class OrderQueryService {
         return OrderItemConverter.toOrderItemClassListDTO(orderItem);
     }
 
-    public OrderResponseDTO.OrderUserListResponseDTO getOrderListByUser(CurrentUser user, LocalDateTime cursor, Integer size) {
+    public OrderResponseDTO.OrderUserListResponseDTO getOrderListByUser(CurrentUser user, String cursor, Integer size) {
         if(user == null){
             log.warn("사용자 주문 목록 조회 권한 없음");
             throw new OrderException(OrderErrorCode.UNAUTHORIZED_ACCESS);
         }
         log.info("사용자 주문 목록 조회 권한 확인 성공");
-        if(cursor == null) {
-            cursor = FIRST_CURSOR;
-        }
-        Pageable pageable = PageRequest.of(0, size);
-        Slice<Order> orders = orderRepository.findAllByUserId(user.id(), cursor, pageable);
+        KeysetCursor keysetCursor = KeysetCursor.decodeOrFirst(cursor);
+        Pageable pageable = KeysetPages.pageable(size);
+        Slice<Order> orders = orderRepository.findAllByUserId(user.id(), keysetCursor.createdAt(), keysetCursor.id(), pageable);
         if(orders.isEmpty()) {
             log.warn("존재하지 않는 주문");
             throw new OrderException(OrderErrorCode.NOT_FOUND);
         }
         List<Order> orderList = orders.toList();
+        // 페이지 안의 가게 ID 를 모아 한 번에 조회하고, 같은 가게는 이 요청 안에서 재사용한다.
+        Map<UUID, StoreResponseDTO> storesById = storeClient.storesByIds(
+                orderList.stream().map(Order::getStore).collect(Collectors.toSet()));
         List<OrderResponseDTO.OrderUserResponseDTO> orderUserResponseDTOS = orderList.stream().map(order->{
-            StoreResponseDTO store = storeClient.storeById(order.getStore());
-            return OrderConverter.toOrderUserResponseDTO(order, store.getName());
+            StoreResponseDTO store = storesById.get(order.getStore());
+            if (store == null) {
+                log.warn("주문의 가게 정보 없음 (orderId={}, storeId={})", order.getId(), order.getStore());
+            }
+            return OrderConverter.toOrderUserResponseDTO(order, store != null ? store.getName() : null);
         }).toList();
-        LocalDateTime next_cursor = null;
-        if(!orderList.isEmpty() && orders.hasNext()) {
-            next_cursor = orderList.getLast().getCreatedAt();
-        }
+        String next_cursor = KeysetPages.nextCursor(orders, Order::getCreatedAt, Order::getId);
         log.info("사용자 주문 목록 조회 완료");
         return OrderConverter.toOrderUserListResponseDTO(orderUserResponseDTOS,orders.hasNext(),next_cursor);
     }
 
-    public OrderResponseDTO.OrderStoreListResponseDTO getOrderListByStore(UUID storeId, LocalDateTime cursor, Integer size, CurrentUser user) {
+    public OrderResponseDTO.OrderStoreListResponseDTO getOrderListByStore(UUID storeId, String cursor, Integer size, CurrentUser user) {
         StoreResponseDTO store = storeClient.storeById(storeId);
         if(user == null || store.getUserId() != user.id()) {
             log.info("가게 주문 목록 조회 권한 없음");
             throw new OrderException(OrderErrorCode.UNAUTHORIZED_ACCESS);
         }
-        if(cursor == null) {
-            cursor = FIRST_CURSOR;
-        }
-        Pageable pageable = PageRequest.of(0, size);
-        Slice<Order> orders = orderRepository.findAllByStoreId(storeId, cursor, pageable);
+        KeysetCursor keysetCursor = KeysetCursor.decodeOrFirst(cursor);
+        Pageable pageable = KeysetPages.pageable(size);
+        Slice<Order> orders = orderRepository.findAllByStoreId(storeId, keysetCursor.createdAt(), keysetCursor.id(), pageable);
         if(orders.isEmpty()) {
             throw new OrderException(OrderErrorCode.NOT_FOUND);
         }
         log.info("가게 주문 목록 조회 권한 확인 성공");
         List<Order> orderList = orders.toList();
+        Map<UUID, UserProfileResponseDTO> usersById = userClient.usersByIds(
+                orderList.stream().map(Order::getUser).collect(Collectors.toSet()));
         List<OrderResponseDTO.OrderStoreResponseDTO> orderStoreResponseDTOS = orderList.stream().map(order->{
-            UserResponseDTO findUser = userClient.userById(order.getUser());
-            return OrderConverter.toOrderStoreResponseDTO(order,findUser.getNickname());
+            UserProfileResponseDTO findUser = usersById.get(order.getUser());
+            if (findUser == null) {
+                log.warn("주문의 사용자 정보 없음 (orderId={}, userId={})", order.getId(), order.getUser());
+            }
+            return OrderConverter.toOrderStoreResponseDTO(order, findUser != null ? findUser.getNickname() : null);
                 }).toList();
-        LocalDateTime next_cursor = null;
-        if(!orderList.isEmpty() && orders.hasNext()) {
-            next_cursor = orderList.getLast().getCreatedAt();
-        }
+        String next_cursor = KeysetPages.nextCursor(orders, Order::getCreatedAt, Order::getId);
         log.info("가게 주문 목록 조회 완료");
         return OrderConverter.toOrderStoreListResponseDTO(orderStoreResponseDTOS, orders.hasNext(), next_cursor);
     }
@@ -0,0 +1,77 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.controller;
+
+import com.example.cloudfour.cartservice.domain.waitingroom.dto.WaitingRoomRequestDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.dto.WaitingRoomResponseDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.service.WaitingRoomService;
+import com.example.cloudfour.modulecommon.apiPayLoad.CustomResponse;
+import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/waiting-room")
+@Tag(name = "WaitingRoom", description = "주문 대기열 API")
+public class WaitingRoomController {
+    private final WaitingRoomService waitingRoomService;
+
+    @PutMapping("/stores/{storeId}")
+    @PreAuthorize("hasRole('ROLE_OWNER') or hasRole('ROLE_MASTER')")
+    @Operation(summary = "대기열 열기", description = "가게의 주문 대기열을 열거나 입장 속도를 변경합니다. 프로모션 시작 시 사용되는 API입니다.")
+    public CustomResponse<WaitingRoomResponseDTO.WaitingRoomOpenResponseDTO> openWaitingRoom(
+            @PathVariable("storeId") UUID storeId,
+            @Valid @RequestBody WaitingRoomRequestDTO.WaitingRoomOpenRequestDTO waitingRoomOpenRequestDTO,
+            @AuthenticationPrincipal CurrentUser user
+    ){
+        WaitingRoomResponseDTO.WaitingRoomOpenResponseDTO room = waitingRoomService.open(storeId,waitingRoomOpenRequestDTO,user);
+        return CustomResponse.onSuccess(HttpStatus.OK, room);
+    }
+
+    @DeleteMapping("/stores/{storeId}")
+    @PreAuthorize("hasRole('ROLE_OWNER') or hasRole('ROLE_MASTER')")
+    @Operation(summary = "대기열 닫기", description = "가게의 주문 대기열을 닫습니다. 대기 중인 대기표는 모두 사라집니다.")
+    public CustomResponse<String> closeWaitingRoom(
+            @PathVariable("storeId") UUID storeId,
+            @AuthenticationPrincipal CurrentUser user
+    ){
+        waitingRoomService.close(storeId,user);
+        return CustomResponse.onSuccess(HttpStatus.OK, "대기열 닫기 완료.");
+    }
+
+    @PostMapping("/stores/{storeId}/tickets")
+    @PreAuthorize("hasRole('ROLE_USER') and authentication.principal.id == #user.id()")
+    @Operation(summary = "대기표 발급", description = "가게 대기열에 줄을 섭니다. 이미 대기 중이면 기존 대기표를 돌려줍니다.")
+    public CustomResponse<WaitingRoomResponseDTO.TicketResponseDTO> enterWaitingRoom(
+            @PathVariable("storeId") UUID storeId,
+            @AuthenticationPrincipal CurrentUser user
+    ){
+        WaitingRoomResponseDTO.TicketResponseDTO ticket = waitingRoomService.enter(storeId,user);
+        return CustomResponse.onSuccess(HttpStatus.CREATED, ticket);
+    }
+
+    @GetMapping("/stores/{storeId}/tickets/me")
+    @PreAuthorize("hasRole('ROLE_USER') and authentication.principal.id == #user.id()")
+    @Operation(summary = "대기 순서 조회", description = "내 대기 순서와 예상 대기 시간을 조회합니다. 주기적으로 조회해야 대기표가 유지됩니다.")
+    public CustomResponse<WaitingRoomResponseDTO.TicketResponseDTO> getMyTicket(
+            @PathVariable("storeId") UUID storeId,
+            @AuthenticationPrincipal CurrentUser user
+    ){
+        WaitingRoomResponseDTO.TicketResponseDTO ticket = waitingRoomService.getTicket(storeId,user);
+        return CustomResponse.onSuccess(HttpStatus.OK, ticket);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+
+public class WaitingRoomRequestDTO {
+    @Getter
+    @Builder
+    public static class WaitingRoomOpenRequestDTO {
+
+        @NotNull(message = "초당 입장 인원은 필수입니다")
+        @Min(value = 1, message = "초당 입장 인원은 1 이상이어야 합니다")
+        @Max(value = 10000, message = "초당 입장 인원은 10000 이하여야 합니다")
+        private Integer admitPerSecond;
+
+        // 대기열이 비어 있을 때 한 번에 바로 입장시킬 수 있는 최대 인원, 없으면 초당 입장 인원과 같다.
+        @Min(value = 1, message = "최대 동시 입장 인원은 1 이상이어야 합니다")
+        private Integer burst;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.dto;
+
+import com.example.cloudfour.cartservice.domain.waitingroom.enums.TicketStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class WaitingRoomResponseDTO {
+    @Getter
+    @Builder
+    public static class WaitingRoomOpenResponseDTO {
+        UUID storeId;
+        Integer admitPerSecond;
+        Integer burst;
+        LocalDateTime openedAt;
+    }
+
+    // WAITING 이면 position/ticketNumber/etaSeconds 가, ADMITTED 이면 admittedUntil 이 채워진다.
+    @Getter
+    @Builder
+    public static class TicketResponseDTO {
+        UUID storeId;
+        TicketStatus status;
+        Long ticketNumber;
+        Long position;
+        Long etaSeconds;
+        LocalDateTime admittedUntil;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.enums;
+
+public enum TicketStatus {
+    WAITING, ADMITTED
+}
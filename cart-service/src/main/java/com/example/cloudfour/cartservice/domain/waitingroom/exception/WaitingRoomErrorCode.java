@@ -0,0 +1,22 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.exception;
+
+import com.example.cloudfour.modulecommon.apiPayLoad.code.BaseErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@AllArgsConstructor
+@Getter
+public enum WaitingRoomErrorCode implements BaseErrorCode {
+    INVALID_INPUT(HttpStatus.BAD_REQUEST, "WAITING400", "잘못된 입력값입니다."),
+    UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "WAITING401", "대기열에 접근할 수 있는 권한이 없습니다."),
+    NOT_OPENED(HttpStatus.NOT_FOUND, "WAITING404_0", "대기열이 열려 있지 않은 가게입니다."),
+    TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "WAITING404_1", "대기표가 없거나 만료되었습니다."),
+    STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "WAITING404_2", "존재하지 않는 가게입니다."),
+    NOT_ADMITTED(HttpStatus.TOO_MANY_REQUESTS, "WAITING429", "대기열 입장 후 주문할 수 있습니다."),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "WAITING500", "대기열 처리 중 서버 오류가 발생했습니다.");
+
+    private final HttpStatus status;
+    private final String code;
+    private final String message;
+}
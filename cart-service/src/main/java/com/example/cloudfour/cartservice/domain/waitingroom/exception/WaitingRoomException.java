@@ -0,0 +1,10 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.exception;
+
+import com.example.cloudfour.modulecommon.apiPayLoad.code.BaseErrorCode;
+import com.example.cloudfour.modulecommon.apiPayLoad.exception.CustomException;
+
+public class WaitingRoomException extends CustomException {
+    public WaitingRoomException(BaseErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.service;
+
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.commondto.StoreResponseDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.dto.WaitingRoomRequestDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.dto.WaitingRoomResponseDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.enums.TicketStatus;
+import com.example.cloudfour.cartservice.domain.waitingroom.exception.WaitingRoomErrorCode;
+import com.example.cloudfour.cartservice.domain.waitingroom.exception.WaitingRoomException;
+import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 인기 가게 프로모션 때 주문 생성 앞단에서 가게별 입장 인원을 제한하는 대기열.
+// 대기표는 발급 순번을 점수로 하는 Redis sorted set 에 쌓이고, 토큰 버킷(초당 입장 인원, 최대 동시 입장)만큼 앞에서부터 입장시킨다.
+// 입장 처리는 별도 스케줄러 없이 대기표 발급/조회 때마다 Lua 스크립트 안에서 경과 시간만큼 한 번에 하므로 인스턴스 수와 무관하게 속도가 지켜진다.
+// 일정 시간 조회하지 않은 대기표와 사용하지 않은 입장권은 같은 스크립트에서 정리한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    // KEYS: 설정(hash), 대기열(zset, 점수=순번), 마지막 조회(zset, 점수=ms), 입장권(zset, 점수=만료 ms), 순번(string)
+    // ARGV: 사용자, 현재 ms, 대기표 유지 ms, 입장권 유지 ms, 대기표 발급 여부(1/0)
+    // 반환: {-1} 대기열 없음, {0} 대기표 없음, {1, 순서, 순번, 초당 입장 인원} 대기 중, {2, 입장권 만료 ms} 입장
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local rate = tonumber(redis.call('HGET', KEYS[1], 'rate')) " +
+                    "if not rate then return {-1} end " +
+                    "local burst = tonumber(redis.call('HGET', KEYS[1], 'burst')) " +
+                    "local now = tonumber(ARGV[2]) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', now) " +
+                    "local stale = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now - tonumber(ARGV[3]), 'LIMIT', 0, 1000) " +
+                    "if #stale > 0 then " +
+                    "  redis.call('ZREM', KEYS[2], unpack(stale)) " +
+                    "  redis.call('ZREM', KEYS[3], unpack(stale)) " +
+                    "end " +
+                    "if ARGV[5] == '1' and not redis.call('ZSCORE', KEYS[4], ARGV[1]) " +
+                    "    and not redis.call('ZSCORE', KEYS[2], ARGV[1]) then " +
+                    "  redis.call('ZADD', KEYS[2], redis.call('INCR', KEYS[5]), ARGV[1]) " +
+                    "end " +
+                    "if redis.call('ZSCORE', KEYS[2], ARGV[1]) then redis.call('ZADD', KEYS[3], now, ARGV[1]) end " +
+                    "local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens') or '0') " +
+                    "local last = tonumber(redis.call('HGET', KEYS[1], 'last') or ARGV[2]) " +
+                    "tokens = math.min(burst, tokens + math.max(0, now - last) * rate / 1000) " +
+                    "local admit = math.floor(tokens) " +
+                    "if admit > 0 then " +
+                    "  local popped = redis.call('ZPOPMIN', KEYS[2], admit) " +
+                    "  for i = 1, #popped, 2 do " +
+                    "    redis.call('ZADD', KEYS[4], now + tonumber(ARGV[4]), popped[i]) " +
+                    "    redis.call('ZREM', KEYS[3], popped[i]) " +
+                    "  end " +
+                    "  tokens = tokens - #popped / 2 " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'last', ARGV[2]) " +
+                    "local ttl = redis.call('PTTL', KEYS[1]) " +
+                    "if ttl > 0 then for i = 2, 5 do redis.call('PEXPIRE', KEYS[i], ttl) end end " +
+                    "local pass = redis.call('ZSCORE', KEYS[4], ARGV[1]) " +
+                    "if pass then return {2, tonumber(pass)} end " +
+                    "local rank = redis.call('ZRANK', KEYS[2], ARGV[1]) " +
+                    "if not rank then return {0} end " +
+                    "return {1, rank + 1, tonumber(redis.call('ZSCORE', KEYS[2], ARGV[1])), rate}",
+            List.class);
+
+    private static final long CLOSED = -1;
+    private static final long NO_TICKET = 0;
+    private static final long WAITING = 1;
+    private static final long ADMITTED = 2;
+
+    private static final String ROLE_MASTER = "ROLE_MASTER";
+
+    private final StringRedisTemplate redisTemplate;
+    private final StoreClient storeClient;
+
+    // 클라이언트 조회 주기보다 길어야 한다, 이 시간 동안 조회가 없으면 자리를 비운 것으로 보고 대기표를 지운다.
+    @Value("${waiting-room.ticket-ttl-seconds:30}")
+    private long ticketTtlSeconds = 30;
+
+    // 입장 후 이 시간 안에 주문하지 않으면 입장권이 사라지고 다시 줄을 서야 한다.
+    @Value("${waiting-room.pass-ttl-seconds:300}")
+    private long passTtlSeconds = 300;
+
+    // 닫지 않은 대기열이 남지 않도록 연 시점부터 이 시간이 지나면 모든 키가 만료된다.
+    @Value("${waiting-room.room-ttl-hours:24}")
+    private long roomTtlHours = 24;
+
+    public WaitingRoomResponseDTO.WaitingRoomOpenResponseDTO open(
+            UUID storeId,
+            WaitingRoomRequestDTO.WaitingRoomOpenRequestDTO req,
+            CurrentUser user
+    ) {
+        validateUser(user);
+        validateStoreId(storeId);
+        validateStoreManager(findStore(storeId), user);
+
+        int admitPerSecond = req.getAdmitPerSecond();
+        int burst = req.getBurst() != null ? req.getBurst() : admitPerSecond;
+        String stateKey = stateKey(storeId);
+
+        // 이미 열려 있으면 입장 속도만 바꾸고 대기열과 쌓인 토큰은 그대로 둔다.
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(stateKey))) {
+            redisTemplate.opsForHash().putAll(stateKey, Map.of(
+                    "tokens", "0",
+                    "last", String.valueOf(System.currentTimeMillis())));
+        }
+        redisTemplate.opsForHash().putAll(stateKey, Map.of(
+                "rate", String.valueOf(admitPerSecond),
+                "burst", String.valueOf(burst)));
+        redisTemplate.expire(stateKey, Duration.ofHours(roomTtlHours));
+
+        log.info("대기열 열림 (storeId={}, admitPerSecond={}, burst={}, userId={})", storeId, admitPerSecond, burst, user.id());
+        return WaitingRoomResponseDTO.WaitingRoomOpenResponseDTO.builder()
+                .storeId(storeId)
+                .admitPerSecond(admitPerSecond)
+                .burst(burst)
+                .openedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void close(UUID storeId, CurrentUser user) {
+        validateUser(user);
+        validateStoreId(storeId);
+        // 관리자는 삭제된 가게에 남은 대기열도 닫을 수 있도록 가게 조회 없이 통과시킨다.
+        if (!isMaster(user)) {
+            validateStoreManager(findStore(storeId), user);
+        }
+
+        redisTemplate.delete(List.of(stateKey(storeId), queueKey(storeId), heartbeatKey(storeId),
+                admittedKey(storeId), sequenceKey(storeId)));
+        log.info("대기열 닫힘 (storeId={}, userId={})", storeId, user.id());
+    }
+
+    // 이미 줄을 서 있거나 입장한 사용자는 새 대기표를 받지 않고 기존 자리를 그대로 돌려받는다.
+    public WaitingRoomResponseDTO.TicketResponseDTO enter(UUID storeId, CurrentUser user) {
+        validateUser(user);
+        validateStoreId(storeId);
+
+        List<Long> result = poll(storeId, user.id(), true);
+        if (status(result) == CLOSED) {
+            throw new WaitingRoomException(WaitingRoomErrorCode.NOT_OPENED);
+        }
+        return toTicketResponse(storeId, result);
+    }
+
+    // 대기 순서와 예상 대기 시간을 돌려준다, 이 조회가 대기표를 살아 있게 유지한다.
+    public WaitingRoomResponseDTO.TicketResponseDTO getTicket(UUID storeId, CurrentUser user) {
+        validateUser(user);
+        validateStoreId(storeId);
+
+        List<Long> result = poll(storeId, user.id(), false);
+        if (status(result) == CLOSED) {
+            throw new WaitingRoomException(WaitingRoomErrorCode.NOT_OPENED);
+        }
+        if (status(result) == NO_TICKET) {
+            throw new WaitingRoomException(WaitingRoomErrorCode.TICKET_NOT_FOUND);
+        }
+        return toTicketResponse(storeId, result);
+    }
+
+    // 주문 생성 전에 호출한다, 대기열이 열린 가게에서는 입장권이 있어야 한다.
+    public void requireAdmission(UUID storeId, UUID userId) {
+        if (storeId == null || userId == null) {
+            return;
+        }
+
+        List<Long> result;
+        try {
+            result = poll(storeId, userId, false);
+        } catch (Exception e) {
+            // 대기열 장애로 모든 주문을 막지 않도록 통과시킨다.
+            log.warn("대기열 확인 실패, 입장 확인 없이 진행 (storeId={}, userId={}, error={})", storeId, userId, e.getMessage());
+            return;
+        }
+
+        long status = status(result);
+        if (status == WAITING || status == NO_TICKET) {
+            log.info("대기열 미입장 주문 거절 (storeId={}, userId={}, status={})", storeId, userId, status);
+            throw new WaitingRoomException(WaitingRoomErrorCode.NOT_ADMITTED);
+        }
+    }
+
+    // 주문이 커밋된 뒤 입장권을 회수한다, 같은 입장권으로 여러 번 주문하지 못하게 한다.
+    public void completeAdmission(UUID storeId, UUID userId) {
+        try {
+            redisTemplate.opsForZSet().remove(admittedKey(storeId), userId.toString());
+        } catch (Exception e) {
+            log.warn("대기열 입장권 회수 실패 (storeId={}, userId={}, error={})", storeId, userId, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> poll(UUID storeId, UUID userId, boolean enter) {
+        return redisTemplate.execute(POLL_SCRIPT,
+                List.of(stateKey(storeId), queueKey(storeId), heartbeatKey(storeId), admittedKey(storeId), sequenceKey(storeId)),
+                userId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(Duration.ofSeconds(ticketTtlSeconds).toMillis()),
+                String.valueOf(Duration.ofSeconds(passTtlSeconds).toMillis()),
+                enter ? "1" : "0");
+    }
+
+    private long status(List<Long> result) {
+        if (result == null || result.isEmpty()) {
+            throw new WaitingRoomException(WaitingRoomErrorCode.INTERNAL_ERROR);
+        }
+        return result.get(0);
+    }
+
+    private WaitingRoomResponseDTO.TicketResponseDTO toTicketResponse(UUID storeId, List<Long> result) {
+        if (status(result) == ADMITTED) {
+            return WaitingRoomResponseDTO.TicketResponseDTO.builder()
+                    .storeId(storeId)
+                    .status(TicketStatus.ADMITTED)
+                    .admittedUntil(LocalDateTime.ofInstant(Instant.ofEpochMilli(result.get(1)), ZoneId.systemDefault()))
+                    .build();
+        }
+
+        long position = result.get(1);
+        long admitPerSecond = Math.max(1, result.get(3));
+        return WaitingRoomResponseDTO.TicketResponseDTO.builder()
+                .storeId(storeId)
+                .status(TicketStatus.WAITING)
+                .ticketNumber(result.get(2))
+                .position(position)
+                .etaSeconds((position + admitPerSecond - 1) / admitPerSecond)
+                .build();
+    }
+
+    private void validateUser(CurrentUser user) {
+        if (user == null || user.id() == null) {
+            log.warn("유효하지 않은 사용자");
+            throw new WaitingRoomException(WaitingRoomErrorCode.UNAUTHORIZED_ACCESS);
+        }
+    }
+
+    private StoreResponseDTO findStore(UUID storeId) {
+        StoreResponseDTO store;
+        try {
+            store = storeClient.storeById(storeId);
+        } catch (HttpClientErrorException.NotFound e) {
+            store = null;
+        }
+        if (store == null) {
+            log.warn("존재하지 않는 가게의 대기열 요청 (storeId={})", storeId);
+            throw new WaitingRoomException(WaitingRoomErrorCode.STORE_NOT_FOUND);
+        }
+        return store;
+    }
+
+    // 가게 주인만 자기 가게의 대기열을 열고 닫을 수 있다, 관리자는 예외.
+    private void validateStoreManager(StoreResponseDTO store, CurrentUser user) {
+        if (isMaster(user)) {
+            return;
+        }
+        if (!user.id().equals(store.getUserId())) {
+            log.warn("가게 대기열 관리 권한 없음 (storeId={}, userId={})", store.getStoreId(), user.id());
+            throw new WaitingRoomException(WaitingRoomErrorCode.UNAUTHORIZED_ACCESS);
+        }
+    }
+
+    private boolean isMaster(CurrentUser user) {
+        return ROLE_MASTER.equals(user.role());
+    }
+
+    private void validateStoreId(UUID storeId) {
+        if (storeId == null) {
+            log.warn("Store ID가 null입니다");
+            throw new WaitingRoomException(WaitingRoomErrorCode.INVALID_INPUT);
+        }
+    }
+
+    // 한 가게의 키는 같은 해시 태그를 써서 클러스터에서도 한 슬롯에 모이게 한다.
+    private static String stateKey(UUID storeId) {
+        return "waiting-room:{" + storeId + "}:state";
+    }
+
+    private static String queueKey(UUID storeId) {
+        return "waiting-room:{" + storeId + "}:queue";
+    }
+
+    private static String heartbeatKey(UUID storeId) {
+        return "waiting-room:{" + storeId + "}:heartbeat";
+    }
+
+    private static String admittedKey(UUID storeId) {
+        return "waiting-room:{" + storeId + "}:admitted";
+    }
+
+    private static String sequenceKey(UUID storeId) {
+        return "waiting-room:{" + storeId + "}:seq";
+    }
+}
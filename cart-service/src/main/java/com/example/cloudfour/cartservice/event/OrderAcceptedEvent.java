@@ -0,0 +1,43 @@
+package com.example.cloudfour.cartservice.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 비동기 주문 접수 모드에서 주문대기 상태로 저장된 주문을 재고 예약 단계로 넘기는 이벤트
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAcceptedEvent {
+
+    private String eventId;
+    private String eventType;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private LocalDateTime eventTime;
+
+    private UUID orderId;
+    private UUID userId;
+    private UUID storeId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private LocalDateTime createdAt;
+
+    public static OrderAcceptedEvent create(UUID orderId, UUID userId, UUID storeId) {
+        return OrderAcceptedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("ORDER_ACCEPTED")
+                .eventTime(LocalDateTime.now())
+                .orderId(orderId)
+                .userId(userId)
+                .storeId(storeId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
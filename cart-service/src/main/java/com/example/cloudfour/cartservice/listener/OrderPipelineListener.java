@@ -0,0 +1,62 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.cartservice.event.OrderAcceptedEvent;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+// 비동기 접수 모드의 재고 예약 단계, 예약이 끝난 주문은 아웃박스를 통해 order-events 로 넘어가 결제 단계가 이어받는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.async.enabled", havingValue = "true")
+public class OrderPipelineListener {
+
+    private final OrderCommandService orderCommandService;
+    private final ProcessedEventFilter processedEventFilter;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${kafka.topic.order-pipeline}", groupId = "${kafka.consumer.group-id}")
+    public void handleOrderAcceptedEvent(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        OrderAcceptedEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), OrderAcceptedEvent.class);
+        } catch (JsonProcessingException e) {
+            // 다시 받아도 읽을 수 없는 레코드이므로 건너뛴다.
+            log.error("OrderAccepted 이벤트 역직렬화 실패: partition={}, offset={}, error={}",
+                record.partition(), record.offset(), e.getMessage());
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        log.info("OrderAccepted 이벤트 수신: eventId={}, orderId={}, partition={}, offset={}",
+            event.getEventId(), event.getOrderId(), record.partition(), record.offset());
+
+        if (processedEventFilter.isDuplicate(event.getEventId())) {
+            log.info("이미 처리된 OrderAccepted 이벤트 무시: eventId={}, orderId={}", event.getEventId(), event.getOrderId());
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        try {
+            orderCommandService.reserveAcceptedOrder(event.getOrderId());
+            processedEventFilter.markProcessed(event.getEventId());
+        } catch (Exception e) {
+            log.error("OrderAccepted 이벤트 처리 실패: eventId={}, orderId={}, error={}",
+                event.getEventId(), event.getOrderId(), e.getMessage(), e);
+
+            throw e;
+        }
+
+        acknowledgment.acknowledge();
+        log.info("OrderAccepted 이벤트 커밋: partition={}, offset={}", record.partition(), record.offset());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.cartservice.event.PaymentApprovedEvent;
+import com.example.cloudfour.cartservice.event.PaymentFailedEvent;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// kafka.consumer.mode=batch 일 때 PaymentEventListener 대신 동작한다.
+// 재고 확정/복구는 레코드마다 호출하고, 주문 상태는 배치 끝에 상태별 UPDATE ... WHERE id IN (...) 로 한 번에 반영한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "batch")
+public class PaymentEventBatchListener {
+
+    private final OrderCommandService orderCommandService;
+    private final PaymentEventReader paymentEventReader;
+    private final ProcessedEventFilter processedEventFilter;
+
+    @KafkaListener(topics = "${kafka.topic.payment-events}", groupId = "${kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentEvents(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        log.info("결제 이벤트 배치 수신: {}건", records.size());
+
+        // 같은 주문의 이벤트가 여러 번 오면 마지막 이벤트의 상태를 따른다.
+        Map<UUID, OrderStatus> statusByOrderId = new LinkedHashMap<>();
+        // 상태 반영이 끝난 뒤에 처리 완료로 기록한다, 같은 배치 안의 중복도 여기서 거른다.
+        Set<String> processedEventIds = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                handleRecord(record, statusByOrderId, processedEventIds);
+            } catch (Exception e) {
+                // 앞선 레코드의 상태는 반영하고, 실패한 레코드 앞까지만 커밋한 뒤 그 레코드부터 다시 받는다.
+                log.error("결제 이벤트 처리 실패: partition={}, offset={}, error={}",
+                    record.partition(), record.offset(), e.getMessage(), e);
+                applyStatuses(statusByOrderId, processedEventIds);
+                throw new BatchListenerFailedException("결제 이벤트 처리 실패", e, i);
+            }
+        }
+
+        applyStatuses(statusByOrderId, processedEventIds);
+        acknowledgment.acknowledge();
+        log.info("결제 이벤트 배치 처리 완료 및 커밋: {}건", records.size());
+    }
+
+    private void handleRecord(ConsumerRecord<String, String> record, Map<UUID, OrderStatus> statusByOrderId,
+                              Set<String> processedEventIds) {
+        Object event;
+        try {
+            event = paymentEventReader.read(record);
+        } catch (JsonProcessingException e) {
+            // 다시 받아도 읽을 수 없는 레코드이므로 건너뛴다.
+            log.error("결제 이벤트 역직렬화 실패: partition={}, offset={}, error={}",
+                record.partition(), record.offset(), e.getMessage());
+            return;
+        }
+
+        if (event instanceof PaymentApprovedEvent approved) {
+            if (isDuplicate(approved.getEventId(), processedEventIds)) {
+                return;
+            }
+            statusByOrderId.put(approved.getOrderId(), confirmStock(approved.getOrderId()) ? OrderStatus.주문완료 : OrderStatus.주문취소);
+            processedEventIds.add(approved.getEventId());
+        } else if (event instanceof PaymentFailedEvent failed) {
+            if (isDuplicate(failed.getEventId(), processedEventIds)) {
+                return;
+            }
+            log.info("결제 실패로 인한 재고 복구 시작: orderId={}, failureReason={}",
+                failed.getOrderId(), failed.getFailureReason());
+            orderCommandService.restoreStock(failed.getOrderId());
+            statusByOrderId.put(failed.getOrderId(), OrderStatus.주문취소);
+            processedEventIds.add(failed.getEventId());
+        } else {
+            // 알 수 없는 이벤트는 재시도해도 처리할 수 없으므로 건너뛴다.
+            log.warn("알 수 없는 결제 이벤트 타입: partition={}, offset={}", record.partition(), record.offset());
+        }
+    }
+
+    // 예약을 확정하지 못한 주문은 결제가 이미 환불되었으므로 false 를 돌려 취소로 마무리하게 한다.
+    private boolean confirmStock(UUID orderId) {
+        try {
+            orderCommandService.confirmStock(orderId);
+            return true;
+        } catch (OrderException e) {
+            if (e.getCode() != OrderErrorCode.STOCK_CONFIRM_FAILED) {
+                throw e;
+            }
+            log.warn("재고 예약 확정 실패로 주문 취소: orderId={}", orderId);
+            return false;
+        }
+    }
+
+    private boolean isDuplicate(String eventId, Set<String> processedEventIds) {
+        if (eventId != null && (processedEventIds.contains(eventId) || processedEventFilter.isDuplicate(eventId))) {
+            log.info("이미 처리된 결제 이벤트 무시: eventId={}", eventId);
+            return true;
+        }
+        return false;
+    }
+
+    private void applyStatuses(Map<UUID, OrderStatus> statusByOrderId, Set<String> processedEventIds) {
+        Map<OrderStatus, List<UUID>> orderIdsByStatus = new EnumMap<>(OrderStatus.class);
+        statusByOrderId.forEach((orderId, status) ->
+            orderIdsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(orderId));
+
+        orderIdsByStatus.forEach(orderCommandService::bulkUpdateOrderStatusByPaymentEvents);
+        processedEventIds.forEach(processedEventFilter::markProcessed);
+    }
+}
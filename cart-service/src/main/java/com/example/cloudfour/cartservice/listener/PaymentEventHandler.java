@@ -0,0 +1,121 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.cartservice.event.PaymentApprovedEvent;
+import com.example.cloudfour.cartservice.event.PaymentFailedEvent;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 결제 이벤트 한 건의 처리, 커밋은 이 핸들러를 부르는 리스너가 모드에 맞게 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentEventHandler {
+
+    private final OrderCommandService orderCommandService;
+    private final ProcessedEventFilter processedEventFilter;
+    private final PaymentEventReader paymentEventReader;
+
+    // 레코드마다 한 번만 역직렬화해 승인/실패 처리로 나눈다.
+    public void handle(ConsumerRecord<String, String> record) {
+        Object event;
+        try {
+            event = paymentEventReader.read(record);
+        } catch (JsonProcessingException e) {
+            // 다시 받아도 읽을 수 없는 레코드이므로 건너뛴다.
+            log.error("결제 이벤트 역직렬화 실패: topic={}, partition={}, offset={}, error={}",
+                record.topic(), record.partition(), record.offset(), e.getMessage());
+            return;
+        }
+
+        if (event instanceof PaymentApprovedEvent approved) {
+            handlePaymentApprovedEvent(approved, record.topic(), record.partition(), record.offset());
+        } else if (event instanceof PaymentFailedEvent failed) {
+            handlePaymentFailedEvent(failed, record.topic(), record.partition(), record.offset());
+        } else {
+            log.warn("알 수 없는 결제 이벤트 타입: topic={}, partition={}, offset={}",
+                record.topic(), record.partition(), record.offset());
+        }
+    }
+
+    private void handlePaymentApprovedEvent(PaymentApprovedEvent event, String topic, int partition, long offset) {
+
+        log.info("PaymentApproved 이벤트 수신: eventId={}, orderId={}, paymentKey={}, topic={}, partition={}, offset={}",
+            event.getEventId(), event.getOrderId(), event.getPaymentKey(), topic, partition, offset);
+
+        if (processedEventFilter.isDuplicate(event.getEventId())) {
+            log.info("이미 처리된 PaymentApproved 이벤트 무시: eventId={}, orderId={}", event.getEventId(), event.getOrderId());
+            return;
+        }
+
+        try {
+            String newStatus = confirmStock(event.getOrderId()) ? "주문완료" : "주문취소";
+            orderCommandService.updateOrderStatusByPaymentEvent(event.getOrderId(), newStatus);
+            log.info("주문 상태 업데이트 완료: orderId={}, newStatus={}", event.getOrderId(), newStatus);
+
+            processedEventFilter.markProcessed(event.getEventId());
+            log.info("PaymentApproved 이벤트 처리 완료: eventId={}, orderId={}",
+                event.getEventId(), event.getOrderId());
+
+        } catch (Exception e) {
+            log.error("PaymentApproved 이벤트 처리 실패: eventId={}, orderId={}, error={}",
+                event.getEventId(), event.getOrderId(), e.getMessage(), e);
+
+            throw e;
+        }
+    }
+
+    private void handlePaymentFailedEvent(PaymentFailedEvent event, String topic, int partition, long offset) {
+
+        log.info("PaymentFailed 이벤트 수신: eventId={}, orderId={}, failureReason={}, topic={}, partition={}, offset={}",
+            event.getEventId(), event.getOrderId(), event.getFailureReason(), topic, partition, offset);
+
+        // 재전송된 실패 이벤트로 재고 복구 원격 호출이 다시 나가지 않도록 먼저 거른다.
+        if (processedEventFilter.isDuplicate(event.getEventId())) {
+            log.info("이미 처리된 PaymentFailed 이벤트 무시: eventId={}, orderId={}", event.getEventId(), event.getOrderId());
+            return;
+        }
+
+        try {
+            log.info("결제 실패로 인한 재고 복구 시작: orderId={}, failureReason={}",
+                event.getOrderId(), event.getFailureReason());
+
+            orderCommandService.restoreStock(event.getOrderId());
+            orderCommandService.updateOrderStatusByPaymentEvent(event.getOrderId(), "주문취소");
+
+            log.info("결제 실패 처리 완료: orderId={}", event.getOrderId());
+
+            processedEventFilter.markProcessed(event.getEventId());
+            log.info("PaymentFailed 이벤트 처리 완료: eventId={}, orderId={}",
+                event.getEventId(), event.getOrderId());
+
+        } catch (Exception e) {
+            log.error("PaymentFailed 이벤트 처리 실패: eventId={}, orderId={}, error={}",
+                event.getEventId(), event.getOrderId(), e.getMessage(), e);
+
+            throw e;
+        }
+    }
+
+    // 예약을 확정하지 못한 주문은 결제가 이미 환불되었으므로 false 를 돌려 취소로 마무리하게 한다.
+    private boolean confirmStock(UUID orderId) {
+        try {
+            orderCommandService.confirmStock(orderId);
+            return true;
+        } catch (OrderException e) {
+            if (e.getCode() != OrderErrorCode.STOCK_CONFIRM_FAILED) {
+                throw e;
+            }
+            log.warn("재고 예약 확정 실패로 주문 취소: orderId={}", orderId);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.modulecommon.kafka.KeyOrderedProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// kafka.consumer.mode=parallel 일 때 PaymentEventListener 대신 동작한다.
+// 한 파티션에서 받은 레코드를 주문(orderId 키)별로 동시에 처리하고, 같은 주문의 이벤트는 순서대로 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "parallel")
+public class PaymentEventParallelListener {
+
+    private final PaymentEventHandler paymentEventHandler;
+    private final KeyOrderedProcessor keyOrderedProcessor;
+
+    @KafkaListener(topics = "${kafka.topic.payment-events}", groupId = "${kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentEvents(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        keyOrderedProcessor.process(records, paymentEventHandler::handle);
+
+        acknowledgment.acknowledge();
+        log.info("결제 이벤트 병렬 처리 완료 및 커밋: {}건", records.size());
+    }
+}
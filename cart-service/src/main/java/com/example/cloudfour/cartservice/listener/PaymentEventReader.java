@@ -0,0 +1,47 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.event.PaymentApprovedEvent;
+import com.example.cloudfour.cartservice.event.PaymentFailedEvent;
+import com.example.cloudfour.modulecommon.kafka.EventHeaders;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// payment-events 레코드를 eventType 헤더에 맞는 클래스로 한 번만 역직렬화한다.
+@Component
+@RequiredArgsConstructor
+public class PaymentEventReader {
+
+    public static final String PAYMENT_APPROVED = "PAYMENT_APPROVED";
+    public static final String PAYMENT_FAILED = "PAYMENT_FAILED";
+
+    private final ObjectMapper objectMapper;
+
+    // 알 수 없는 eventType 이면 null 을 돌려준다.
+    public Object read(ConsumerRecord<String, String> record) throws JsonProcessingException {
+        Header header = record.headers().lastHeader(EventHeaders.EVENT_TYPE);
+        if (header != null) {
+            Class<?> type = typeOf(new String(header.value(), StandardCharsets.UTF_8));
+            return type == null ? null : objectMapper.readValue(record.value(), type);
+        }
+
+        // 헤더 없이 발행된 이전 레코드는 본문의 eventType 을 보고 같은 트리에서 변환한다.
+        JsonNode payload = objectMapper.readTree(record.value());
+        Class<?> type = typeOf(payload.path("eventType").asText());
+        return type == null ? null : objectMapper.treeToValue(payload, type);
+    }
+
+    private static Class<?> typeOf(String eventType) {
+        return switch (eventType) {
+            case PAYMENT_APPROVED -> PaymentApprovedEvent.class;
+            case PAYMENT_FAILED -> PaymentFailedEvent.class;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.cloudfour.cartservice.scheduler;
+
+import com.example.cloudfour.cartservice.domain.order.repository.OrderPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderPartitionScheduler {
+    private final OrderPartitionRepository orderPartitionRepository;
+
+    @Value("${order.partition.premake-days:7}")
+    private int premakeDays = 7;
+
+    // 일별 파티션이므로 생성 후 retention-days 가 지난 날의 파티션이 다음 자정에 통째로 빠진다.
+    @Value("${order.partition.retention-days:3}")
+    private int retentionDays = 3;
+
+    // true 면 만료 파티션을 떼어내기만 하고(보관/아카이브용) 지우지 않는다.
+    @Value("${order.partition.detach-only:false}")
+    private boolean detachOnly;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        createPartitions();
+    }
+
+    // 매일 자정 앞으로 쓸 일 파티션을 미리 만들고, 보관 기간이 통째로 지난 파티션을 떼어내거나 지운다.
+    @Scheduled(cron = "0 0 0 * * *")
+    public void managePartitions() {
+        createPartitions();
+        expirePartitions(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    private void createPartitions() {
+        LocalDate today = LocalDate.now();
+        for (String table : OrderPartitionRepository.TABLES) {
+            if (!orderPartitionRepository.isPartitioned(table)) {
+                continue;
+            }
+            try {
+                orderPartitionRepository.createDefaultPartition(table);
+                List<String> partitions = orderPartitionRepository.findPartitions(table);
+                for (int i = 0; i <= premakeDays; i++) {
+                    LocalDate day = today.plusDays(i);
+                    // 예전 월 파티션이 이미 덮고 있는 날은 범위가 겹치므로 만들지 않는다, 월 파티션이 만료되면 일 파티션으로 넘어간다.
+                    if (partitions.contains(OrderPartitionRepository.partitionName(table, YearMonth.from(day)))) {
+                        continue;
+                    }
+                    orderPartitionRepository.createDayPartition(table, day);
+                }
+            } catch (Exception e) {
+                // DEFAULT 파티션에 해당 날짜 행이 이미 들어가 있으면 생성이 거절된다, 다음 주기에 다시 시도한다.
+                log.error("주문 파티션 생성 실패: table={}", table, e);
+            }
+        }
+    }
+
+    private void expirePartitions(LocalDateTime cutoff) {
+        for (String table : OrderPartitionRepository.TABLES) {
+            if (!orderPartitionRepository.isPartitioned(table)) {
+                continue;
+            }
+            for (String partition : orderPartitionRepository.findPartitions(table)) {
+                OrderPartitionRepository.upperBoundOf(partition)
+                        .filter(upperBound -> !upperBound.atStartOfDay().isAfter(cutoff))
+                        .ifPresent(upperBound -> expire(table, partition));
+            }
+        }
+
+        // 파티셔닝 전에 만들어진 p_order 는 집합 단위 삭제로 대신한다.
+        if (!orderPartitionRepository.isPartitioned("p_order")) {
+            int deleted = orderPartitionRepository.deleteCreatedBefore(cutoff);
+            log.info("비파티션 주문 테이블 정리: {}건 삭제 (기준={})", deleted, cutoff);
+        }
+    }
+
+    private void expire(String table, String partition) {
+        try {
+            orderPartitionRepository.detachPartition(table, partition);
+            if (!detachOnly) {
+                orderPartitionRepository.dropPartition(partition);
+            }
+            log.info("만료 주문 파티션 {}: {}", detachOnly ? "분리" : "삭제", partition);
+        } catch (Exception e) {
+            log.error("만료 주문 파티션 처리 실패: {}", partition, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.cloudfour.cartservice.scheduler;
+
+import com.example.cloudfour.modulecommon.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+    private final OutboxRelay outboxRelay;
+
+    @Value("${outbox.relay.max-rounds:20}")
+    private int maxRounds = 20;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours = 24;
+
+    // 꽉 찬 배치가 나오는 동안은 바로 다음 배치를 보내 밀린 이벤트를 따라잡는다.
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        try {
+            for (int round = 0; round < maxRounds; round++) {
+                if (outboxRelay.relay() < outboxRelay.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void purge() {
+        int deleted = outboxRelay.purgeSent(Duration.ofHours(retentionHours), 5000);
+        log.info("발행 완료 아웃박스 정리: {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cloudfour.cartservice.scheduler;
+
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.client.StoreIdFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StoreIdFilterScheduler {
+    private final StoreClient storeClient;
+    private final StoreIdFilter storeIdFilter;
+
+    // 기동 직후 한 번, 이후 주기적으로 store-service 스냅샷으로 필터를 다시 만든다.
+    @Scheduled(fixedDelayString = "${store.id-filter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            storeIdFilter.rebuildStores(storeClient::liveStoreIds);
+            storeIdFilter.rebuildMenus(storeClient::liveMenuIds);
+        } catch (Exception e) {
+            // 실패하면 기존 필터를 그대로 사용한다.
+            log.warn("ID 필터 재구성 실패: {}", e.getMessage());
+        }
+    }
+}
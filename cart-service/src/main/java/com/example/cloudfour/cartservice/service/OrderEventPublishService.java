@@ -1,27 +1,29 @@
 package com.example.cloudfour.cartservice.service;
 
+import com.example.cloudfour.cartservice.event.OrderAcceptedEvent;
 import com.example.cloudfour.cartservice.event.OrderCreatedEvent;
+import com.example.cloudfour.modulecommon.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderEventPublishService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
 
     @Value("${kafka.topic.order-events}")
     private String orderEventsTopic;
 
+    @Value("${kafka.topic.order-pipeline}")
+    private String orderPipelineTopic;
+
     public void publishOrderCreatedEvent(
             UUID orderId,
             UUID userId,
@@ -37,33 +39,21 @@ public class OrderEventPublishService {
         publishOrderCreatedEvent(event);
     }
 
+    // 호출한 주문 트랜잭션 안에서 아웃박스에 쓰고, 실제 발행은 OutboxRelay 가 커밋 후에 한다.
     public void publishOrderCreatedEvent(OrderCreatedEvent event) {
-        try {
-            log.info("OrderCreated 이벤트 발행 시작: eventId={}, orderId={}, userId={}",
-                event.getEventId(), event.getOrderId(), event.getUserId());
-
-            String eventKey = event.getOrderId().toString();
+        String eventKey = event.getOrderId().toString();
+        outboxWriter.append(orderEventsTopic, eventKey, event.getEventType(), event);
 
-            CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(orderEventsTopic, eventKey, event);
+        log.info("OrderCreated 이벤트 아웃박스 기록: eventId={}, orderId={}, userId={}",
+            event.getEventId(), event.getOrderId(), event.getUserId());
+    }
 
-            future.whenComplete((result, throwable) -> {
-                if (throwable == null) {
-                    log.info("OrderCreated 이벤트 발행 성공: eventId={}, orderId={}, partition={}, offset={}",
-                        event.getEventId(),
-                        event.getOrderId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-                } else {
-                    log.error("OrderCreated 이벤트 발행 실패: eventId={}, orderId={}, error={}",
-                        event.getEventId(), event.getOrderId(), throwable.getMessage(), throwable);
-                }
-            });
+    // 접수된 주문을 재고 예약 단계로 넘긴다, 같은 주문의 단계 이벤트가 순서대로 처리되도록 주문 ID 를 키로 쓴다.
+    public void publishOrderAcceptedEvent(UUID orderId, UUID userId, UUID storeId) {
+        OrderAcceptedEvent event = OrderAcceptedEvent.create(orderId, userId, storeId);
+        outboxWriter.append(orderPipelineTopic, orderId.toString(), event.getEventType(), event);
 
-        } catch (Exception e) {
-            log.error("OrderCreated 이벤트 발행 중 예외 발생: eventId={}, orderId={}, error={}",
-                event.getEventId(), event.getOrderId(), e.getMessage(), e);
-            log.warn("이벤트 발행 실패했지만 주문 생성은 계속 진행: orderId={}", event.getOrderId());
-        }
+        log.info("OrderAccepted 이벤트 아웃박스 기록: eventId={}, orderId={}, userId={}",
+            event.getEventId(), event.getOrderId(), event.getUserId());
     }
 }
@@ -0,0 +1,53 @@
+-- 주문과 하위 테이블을 생성일 기준으로 range 파티셔닝한다.
+-- 새 DB 에서만 만들어지며(IF NOT EXISTS), 기존 비파티션 테이블은 그대로 두고 OrderPartitionScheduler 가 행 단위 삭제로 대체한다.
+-- 파티션 키가 기본 키에 포함되어야 하므로 (id, 생성 시각) 을 기본 키로 쓰고, 하위 테이블은 주문 생성 시각을 복사해 둔다.
+-- 일별 파티션과 DEFAULT 파티션은 OrderPartitionScheduler 가 만든다.
+
+CREATE TABLE IF NOT EXISTS p_order (
+    id              uuid         NOT NULL,
+    created_by      bigint,
+    updated_by      bigint,
+    created_at      timestamp(6) NOT NULL,
+    updated_at      timestamp(6),
+    is_deleted      boolean      NOT NULL,
+    deleted_at      timestamp(6),
+    order_type      varchar(255) NOT NULL,
+    receipt_type    varchar(255) NOT NULL,
+    address         varchar(255) NOT NULL,
+    request         varchar(500),
+    total_price     integer      NOT NULL,
+    status          varchar(255) NOT NULL,
+    user_is_deleted boolean      NOT NULL,
+    user_id         uuid         NOT NULL,
+    store_id        uuid         NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS p_order_item (
+    id               uuid         NOT NULL,
+    quantity         integer,
+    price            integer,
+    order_id         uuid         NOT NULL,
+    menu_id          uuid         NOT NULL,
+    menu_option_id   uuid,
+    order_created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id, order_created_at)
+) PARTITION BY RANGE (order_created_at);
+
+CREATE TABLE IF NOT EXISTS p_orderitem_option (
+    id               uuid         NOT NULL,
+    orderitem_id     uuid         NOT NULL,
+    menuoption_id    uuid         NOT NULL,
+    additional_price integer      NOT NULL,
+    option_name      varchar(100) NOT NULL,
+    order_created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id, order_created_at)
+) PARTITION BY RANGE (order_created_at);
+
+-- 주문 목록은 (created_at, id) 키셋 커서로 읽으므로 정렬 순서와 같은 복합 인덱스를 둔다.
+DROP INDEX IF EXISTS idx_order_user_created;
+DROP INDEX IF EXISTS idx_order_store_created;
+CREATE INDEX IF NOT EXISTS idx_order_user_created_id ON p_order (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_order_store_created_id ON p_order (store_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_order_item_order ON p_order_item (order_id);
+CREATE INDEX IF NOT EXISTS idx_orderitem_option_item ON p_orderitem_option (orderitem_id);
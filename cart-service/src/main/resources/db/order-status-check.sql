@@ -0,0 +1,5 @@
+-- 주문대기 상태 추가에 따른 마이그레이션.
+-- Hibernate(ddl-auto) 가 예전에 만든 비파티션 p_order 에는 enum 값 목록으로 된 status CHECK 제약이 있고,
+-- ddl-auto: update 는 이 제약을 고치지 않으므로 새 상태(주문대기) 저장이 실패한다.
+-- 상태 값은 애플리케이션의 OrderStatus enum 이 검증하므로 낡은 제약은 지운다. 제약이 없으면 아무 일도 하지 않는다.
+ALTER TABLE IF EXISTS p_order DROP CONSTRAINT IF EXISTS p_order_status_check;
@@ -0,0 +1,107 @@
+package com.example.cloudfour.cartservice.client;
+
+import com.example.cloudfour.cartservice.commondto.MenuOptionResponseDTO;
+import com.example.cloudfour.cartservice.config.RedisConfig;
+import com.example.cloudfour.cartservice.config.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DisplayName("CacheBatchReader Redis 연동 테스트")
+class CacheBatchReaderTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final String CACHE_NAME = "menuOptions";
+
+    private LettuceConnectionFactory connectionFactory;
+    private TwoLevelCacheManager cacheManager;
+    private CacheBatchReader cacheBatchReader;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushDb();
+
+        // 운영과 같은 직렬화 설정을 쓰기 위해 RedisConfig 가 만든 캐시 매니저와 템플릿을 그대로 사용한다.
+        ObjectMapper bootMapper = Jackson2ObjectMapperBuilder.json().build();
+        RedisConfig redisConfig = new RedisConfig();
+        cacheManager = redisConfig.cacheManager(connectionFactory, bootMapper, 100, 30, 30);
+        RedisTemplate<String, Object> cacheRedisTemplate = redisConfig.cacheRedisTemplate(connectionFactory, bootMapper);
+        cacheRedisTemplate.afterPropertiesSet();
+
+        cacheBatchReader = new CacheBatchReader(cacheManager, cacheRedisTemplate, bootMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private MenuOptionResponseDTO option(UUID menuOptionId) {
+        return MenuOptionResponseDTO.builder()
+                .menuOptionId(menuOptionId)
+                .menuId(UUID.randomUUID())
+                .menuName("아메리카노")
+                .optionName("샷 추가")
+                .additionalPrice(500)
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시 매니저가 쓴 항목을 MGET 으로 읽어 대상 타입으로 돌려준다")
+    void readAll_WrittenByCacheManager_ReturnsTypedValues() {
+        // Given
+        UUID cachedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        cacheManager.getCache(CACHE_NAME).put(cachedId, option(cachedId));
+
+        // When
+        Map<UUID, MenuOptionResponseDTO> hits =
+                cacheBatchReader.readAll(CACHE_NAME, List.of(cachedId, missingId), MenuOptionResponseDTO.class);
+
+        // Then
+        assertThat(hits).containsOnlyKeys(cachedId);
+        MenuOptionResponseDTO hit = hits.get(cachedId);
+        assertThat(hit.getMenuOptionId()).isEqualTo(cachedId);
+        assertThat(hit.getOptionName()).isEqualTo("샷 추가");
+        assertThat(hit.getAdditionalPrice()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("putAll 로 넣은 항목도 다음 일괄 조회에서 적중한다")
+    void readAll_AfterPutAll_Hits() {
+        // Given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        cacheBatchReader.putAll(CACHE_NAME, Map.of(firstId, option(firstId), secondId, option(secondId)));
+
+        // When
+        Map<UUID, MenuOptionResponseDTO> hits =
+                cacheBatchReader.readAll(CACHE_NAME, List.of(firstId, secondId), MenuOptionResponseDTO.class);
+
+        // Then
+        assertThat(hits).containsOnlyKeys(firstId, secondId);
+        assertThat(hits.get(secondId).getMenuOptionId()).isEqualTo(secondId);
+    }
+}
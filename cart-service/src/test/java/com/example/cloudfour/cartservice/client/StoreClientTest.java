@@ -0,0 +1,222 @@
+package com.example.cloudfour.cartservice.client;
+
+import com.example.cloudfour.cartservice.commondto.MenuSnapshotResponseDTO;
+import com.example.cloudfour.cartservice.commondto.StoreResponseDTO;
+import com.example.cloudfour.cartservice.config.RedisConfig;
+import com.example.cloudfour.cartservice.config.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("StoreClient 캐시 테스트")
+class StoreClientTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private TwoLevelCacheManager cacheManager;
+    private RestTemplate rt;
+    private StoreIdFilter storeIdFilter;
+    private StoreClient storeClient;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushDb();
+
+        ObjectMapper bootMapper = Jackson2ObjectMapperBuilder.json().build();
+        RedisConfig redisConfig = new RedisConfig();
+        cacheManager = redisConfig.cacheManager(connectionFactory, bootMapper, 100, 30, 30);
+        RedisTemplate<String, Object> cacheRedisTemplate = redisConfig.cacheRedisTemplate(connectionFactory, bootMapper);
+        cacheRedisTemplate.afterPropertiesSet();
+
+        rt = mock(RestTemplate.class);
+        storeIdFilter = mock(StoreIdFilter.class);
+        storeClient = new StoreClient(rt, cacheManager,
+                new CacheBatchReader(cacheManager, cacheRedisTemplate, bootMapper), storeIdFilter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private StoreResponseDTO store(UUID storeId) {
+        return StoreResponseDTO.builder().storeId(storeId).userId(UUID.randomUUID()).name("가게-" + storeId).build();
+    }
+
+    @Test
+    @DisplayName("모든 가게가 캐시에 있으면 원격 호출을 하지 않는다")
+    void storesByIds_AllCached_SkipsRemoteCall() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        cacheManager.getCache("stores").put(storeId, store(storeId));
+
+        // When
+        Map<UUID, StoreResponseDTO> stores = storeClient.storesByIds(List.of(storeId, storeId));
+
+        // Then
+        assertThat(stores).containsOnlyKeys(storeId);
+        assertThat(stores.get(storeId).getName()).isEqualTo("가게-" + storeId);
+        verifyNoInteractions(rt);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 가게만 원격으로 조회하고 결과를 캐시에 넣는다")
+    void storesByIds_PartiallyCached_FetchesMissingOnly() {
+        // Given
+        UUID cachedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        cacheManager.getCache("stores").put(cachedId, store(cachedId));
+        when(rt.getForObject(anyString(), eq(StoreResponseDTO[].class), any(Object[].class)))
+                .thenReturn(new StoreResponseDTO[]{store(missingId)});
+
+        // When
+        Map<UUID, StoreResponseDTO> stores = storeClient.storesByIds(List.of(cachedId, missingId));
+
+        // Then
+        assertThat(stores).containsOnlyKeys(cachedId, missingId);
+        verify(rt).getForObject(anyString(), eq(StoreResponseDTO[].class), eq(missingId.toString()));
+
+        Map<UUID, StoreResponseDTO> again = storeClient.storesByIds(List.of(cachedId, missingId));
+        assertThat(again).containsOnlyKeys(cachedId, missingId);
+        verify(rt).getForObject(anyString(), eq(StoreResponseDTO[].class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("ID 필터에 있는 가게는 캐시된 존재 확인을 쓰고 원격 호출은 한 번만 한다")
+    void existStore_FilterHit_UsesCachedCheck() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        when(storeIdFilter.mightContainStore(storeId)).thenReturn(true);
+
+        // When
+        Boolean first = storeClient.existStore(storeId);
+        Boolean second = storeClient.existStore(storeId);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(rt, times(1)).headForHeaders(anyString());
+        verify(storeIdFilter, never()).tryAcquireMissCheck();
+    }
+
+    @Test
+    @DisplayName("ID 필터에 없는 가게는 재확인 한도를 넘으면 원격 호출과 캐시 기록 없이 거절한다")
+    void existStore_FilterMissOverBudget_RejectsWithoutCall() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        when(storeIdFilter.mightContainStore(storeId)).thenReturn(false);
+        when(storeIdFilter.tryAcquireMissCheck()).thenReturn(false);
+
+        // When
+        Boolean exists = storeClient.existStore(storeId);
+
+        // Then
+        assertThat(exists).isFalse();
+        verifyNoInteractions(rt);
+        assertThat(cacheManager.getCache(StoreClient.STORE_EXISTS_CACHE).get(storeId)).isNull();
+    }
+
+    @Test
+    @DisplayName("재확인 한도 안에서 실제로 있는 가게는 필터에 추가한다")
+    void existStore_FilterMissWithinBudget_AddsToFilter() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        when(storeIdFilter.mightContainStore(storeId)).thenReturn(false);
+        when(storeIdFilter.tryAcquireMissCheck()).thenReturn(true);
+
+        // When
+        Boolean exists = storeClient.existStore(storeId);
+
+        // Then
+        assertThat(exists).isTrue();
+        verify(rt).headForHeaders(anyString());
+        verify(storeIdFilter).addStore(storeId);
+    }
+
+    @Test
+    @DisplayName("재확인 한도 안에서 없는 가게로 확인되면 부재 결과를 캐시에 남기지 않는다")
+    void existStore_FilterMissAndNotFound_DoesNotCacheAbsence() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        when(storeIdFilter.mightContainStore(storeId)).thenReturn(false);
+        when(storeIdFilter.tryAcquireMissCheck()).thenReturn(true);
+        when(rt.headForHeaders(anyString()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // When
+        Boolean exists = storeClient.existStore(storeId);
+
+        // Then
+        assertThat(exists).isFalse();
+        assertThat(cacheManager.getCache(StoreClient.STORE_EXISTS_CACHE).get(storeId)).isNull();
+        verify(storeIdFilter, never()).addStore(any());
+    }
+
+    @Test
+    @DisplayName("ID 필터에 없는 메뉴라도 재확인에서 있으면 필터에 추가하고 스냅샷을 조회한다")
+    void menuSnapshot_FilterMissButExists_FetchesSnapshot() {
+        // Given
+        UUID menuId = UUID.randomUUID();
+        MenuSnapshotResponseDTO snapshot = MenuSnapshotResponseDTO.builder().build();
+        when(storeIdFilter.mightContainMenu(menuId)).thenReturn(false);
+        when(storeIdFilter.tryAcquireMissCheck()).thenReturn(true);
+        when(rt.getForObject(anyString(), eq(MenuSnapshotResponseDTO.class), any(Object[].class))).thenReturn(snapshot);
+
+        // When
+        MenuSnapshotResponseDTO result = storeClient.menuSnapshot(menuId);
+
+        // Then
+        assertThat(result).isSameAs(snapshot);
+        verify(storeIdFilter).addMenu(menuId);
+    }
+
+    @Test
+    @DisplayName("ID 필터에 없는 메뉴는 재확인 한도를 넘으면 원격 호출 없이 null 을 돌려준다")
+    void menuSnapshot_FilterMissOverBudget_ReturnsNullWithoutCall() {
+        // Given
+        UUID menuId = UUID.randomUUID();
+        when(storeIdFilter.mightContainMenu(menuId)).thenReturn(false);
+        when(storeIdFilter.tryAcquireMissCheck()).thenReturn(false);
+
+        // When
+        MenuSnapshotResponseDTO result = storeClient.menuSnapshot(menuId);
+
+        // Then
+        assertThat(result).isNull();
+        verifyNoInteractions(rt);
+    }
+}
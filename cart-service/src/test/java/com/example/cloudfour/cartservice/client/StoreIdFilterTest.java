@@ -0,0 +1,112 @@
+package com.example.cloudfour.cartservice.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StoreIdFilter 단위테스트")
+class StoreIdFilterTest {
+
+    private StoreIdFilter storeIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        storeIdFilter = new StoreIdFilter(1000, 0.001, 2);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 받기 전에는 모든 ID 를 통과시킨다")
+    void mightContain_BeforeSnapshot_AllowsAll() {
+        assertThat(storeIdFilter.mightContainStore(UUID.randomUUID())).isTrue();
+        assertThat(storeIdFilter.mightContainMenu(UUID.randomUUID())).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 뒤에는 스냅샷에 있는 ID 만 통과시키고 이후 delta 도 반영한다")
+    void rebuild_ThenDelta_ContainsBoth() {
+        // Given
+        UUID snapshotId = UUID.randomUUID();
+        UUID deltaId = UUID.randomUUID();
+
+        // When
+        storeIdFilter.rebuildStores(() -> List.of(snapshotId));
+        storeIdFilter.addStore(deltaId);
+
+        // Then
+        assertThat(storeIdFilter.mightContainStore(snapshotId)).isTrue();
+        assertThat(storeIdFilter.mightContainStore(deltaId)).isTrue();
+        assertThat(storeIdFilter.mightContainStore(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 조회하는 동안 들어온 ID 는 새 필터에도 들어간다")
+    void rebuild_DeltaDuringFetch_KeptInNewFilter() {
+        // Given
+        UUID oldId = UUID.randomUUID();
+        UUID arrivedId = UUID.randomUUID();
+        storeIdFilter.rebuildStores(() -> List.of(oldId));
+
+        // When
+        storeIdFilter.rebuildStores(() -> {
+            // 조회 도중 생성 이벤트가 들어왔고, 스냅샷에는 아직 없다.
+            storeIdFilter.addStore(arrivedId);
+            assertThat(storeIdFilter.mightContainStore(arrivedId)).isTrue();
+            return List.of(oldId);
+        });
+
+        // Then
+        assertThat(storeIdFilter.mightContainStore(arrivedId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성이 실패하면 기존 필터를 그대로 쓰고 이후 delta 도 받는다")
+    void rebuild_Failure_KeepsCurrentFilter() {
+        // Given
+        UUID menuId = UUID.randomUUID();
+        UUID laterId = UUID.randomUUID();
+        storeIdFilter.rebuildMenus(() -> List.of(menuId));
+
+        // When
+        assertThatThrownBy(() -> storeIdFilter.rebuildMenus(() -> {
+            throw new IllegalStateException("store-service 응답 없음");
+        })).isInstanceOf(IllegalStateException.class);
+        storeIdFilter.addMenu(laterId);
+
+        // Then
+        assertThat(storeIdFilter.mightContainMenu(menuId)).isTrue();
+        assertThat(storeIdFilter.mightContainMenu(laterId)).isTrue();
+        assertThat(storeIdFilter.mightContainMenu(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 뒤 스냅샷에서 빠진 ID 는 더 이상 통과시키지 않는다")
+    void rebuild_RemovedId_Dropped() {
+        // Given
+        UUID removedId = UUID.randomUUID();
+        storeIdFilter.rebuildStores(() -> List.of(removedId));
+
+        // When
+        storeIdFilter.rebuildStores(List::of);
+
+        // Then
+        assertThat(storeIdFilter.mightContainStore(removedId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 ID 의 재확인은 초당 정해진 횟수만 허용한다")
+    void tryAcquireMissCheck_LimitedPerSecond() {
+        // When
+        long allowed = IntStream.range(0, 1000).filter(i -> storeIdFilter.tryAcquireMissCheck()).count();
+
+        // Then
+        // 루프가 초 경계를 한 번 넘을 수 있으므로 두 창까지 허용한다.
+        assertThat(allowed).isBetween(2L, 4L);
+    }
+}
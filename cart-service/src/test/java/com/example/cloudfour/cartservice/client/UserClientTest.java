@@ -0,0 +1,103 @@
+package com.example.cloudfour.cartservice.client;
+
+import com.example.cloudfour.cartservice.commondto.UserProfileResponseDTO;
+import com.example.cloudfour.cartservice.config.RedisConfig;
+import com.example.cloudfour.cartservice.config.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.RestTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("UserClient 배치 조회 캐시 테스트")
+class UserClientTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private TwoLevelCacheManager cacheManager;
+    private RestTemplate rt;
+    private UserClient userClient;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushDb();
+
+        ObjectMapper bootMapper = Jackson2ObjectMapperBuilder.json().build();
+        RedisConfig redisConfig = new RedisConfig();
+        cacheManager = redisConfig.cacheManager(connectionFactory, bootMapper, 100, 30, 30);
+        RedisTemplate<String, Object> cacheRedisTemplate = redisConfig.cacheRedisTemplate(connectionFactory, bootMapper);
+        cacheRedisTemplate.afterPropertiesSet();
+
+        rt = mock(RestTemplate.class);
+        userClient = new UserClient(rt, new CacheBatchReader(cacheManager, cacheRedisTemplate, bootMapper));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private UserProfileResponseDTO profile(UUID userId) {
+        return UserProfileResponseDTO.builder().userId(userId).nickname("닉네임-" + userId).build();
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 사용자 요약은 원격 호출 없이 돌려준다")
+    void usersByIds_AllCached_SkipsRemoteCall() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        cacheManager.getCache(UserClient.USER_PROFILE_CACHE).put(userId, profile(userId));
+
+        // When
+        Map<UUID, UserProfileResponseDTO> users = userClient.usersByIds(List.of(userId));
+
+        // Then
+        assertThat(users.get(userId).getNickname()).isEqualTo("닉네임-" + userId);
+        verifyNoInteractions(rt);
+    }
+
+    @Test
+    @DisplayName("원격으로 가져온 요약을 캐시에 넣어 다음 조회는 원격 호출을 하지 않는다")
+    void usersByIds_Fetched_CachedForNextCall() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(rt.getForObject(anyString(), eq(UserProfileResponseDTO[].class), any(Object[].class)))
+                .thenReturn(new UserProfileResponseDTO[]{profile(userId)});
+
+        // When
+        userClient.usersByIds(List.of(userId));
+        Map<UUID, UserProfileResponseDTO> again = userClient.usersByIds(List.of(userId));
+
+        // Then
+        assertThat(again).containsOnlyKeys(userId);
+        verify(rt).getForObject(anyString(), eq(UserProfileResponseDTO[].class), any(Object[].class));
+    }
+}
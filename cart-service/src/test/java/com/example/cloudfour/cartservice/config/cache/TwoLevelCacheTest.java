@@ -0,0 +1,190 @@
+package com.example.cloudfour.cartservice.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TwoLevelCache 단위테스트")
+class TwoLevelCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("stores");
+
+    private TwoLevelCache cache(long freshMillis) {
+        return new TwoLevelCache("stores", Caffeine.newBuilder().<Object, TwoLevelCache.LocalEntry>build(),
+                remote, freshMillis);
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class GetTests {
+
+        @Test
+        @DisplayName("fresh 기간 안의 L1 값은 L2 를 보지 않고 돌려준다")
+        void get_FreshLocal_SkipsRemote() {
+            // Given
+            TwoLevelCache cache = cache(60_000);
+            cache.put("store-1", "가게");
+            remote.clear();
+
+            // When
+            Cache.ValueWrapper wrapper = cache.get("store-1");
+
+            // Then
+            assertThat(wrapper).isNotNull();
+            assertThat(wrapper.get()).isEqualTo("가게");
+        }
+
+        @Test
+        @DisplayName("fresh 기간이 지난 L1 값은 L2 를 다시 확인한다")
+        void get_StaleLocal_ChecksRemote() {
+            // Given
+            TwoLevelCache cache = cache(0);
+            cache.put("store-1", "가게");
+            remote.put("store-1", "바뀐 가게");
+
+            // When
+            Cache.ValueWrapper wrapper = cache.get("store-1");
+
+            // Then
+            assertThat(wrapper.get()).isEqualTo("바뀐 가게");
+        }
+    }
+
+    @Nested
+    @DisplayName("get(key, loader) 메서드는")
+    class LoaderTests {
+
+        @Test
+        @DisplayName("fresh 한 값이 있으면 원본을 부르지 않는다")
+        void get_FreshHit_SkipsLoader() {
+            // Given
+            TwoLevelCache cache = cache(60_000);
+            cache.put("store-1", "가게");
+
+            // When
+            String value = cache.get("store-1", () -> {
+                throw new IllegalStateException("호출되면 안 된다");
+            });
+
+            // Then
+            assertThat(value).isEqualTo("가게");
+        }
+
+        @Test
+        @DisplayName("원본 조회가 실패하면 L1 의 stale 값을 돌려준다")
+        void get_LoaderFails_ReturnsStale() {
+            // Given
+            TwoLevelCache cache = cache(0);
+            cache.put("store-1", "가게");
+            remote.evict("store-1");
+
+            // When
+            String value = cache.get("store-1", () -> {
+                throw new IllegalStateException("store-service 응답 없음");
+            });
+
+            // Then
+            assertThat(value).isEqualTo("가게");
+        }
+
+        @Test
+        @DisplayName("원본 조회가 실패하고 stale 값도 없으면 ValueRetrievalException 을 던진다")
+        void get_LoaderFailsWithoutStale_Throws() {
+            // Given
+            TwoLevelCache cache = cache(0);
+
+            // When & Then
+            assertThatThrownBy(() -> cache.get("store-1", () -> {
+                throw new IllegalStateException("store-service 응답 없음");
+            }))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("같은 키를 동시에 조회하면 원본은 한 번만 부르고 모두 같은 값을 받는다")
+        void get_ConcurrentMiss_LoadsOnce() throws Exception {
+            // Given
+            TwoLevelCache cache = cache(60_000);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            try {
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> cache.get("store-1", () -> {
+                        calls.incrementAndGet();
+                        release.await(5, TimeUnit.SECONDS);
+                        return "가게";
+                    })));
+                }
+                // 첫 조회가 원본을 붙잡고 있는 동안 나머지 호출이 모두 들어오게 한다.
+                Thread.sleep(200);
+                release.countDown();
+
+                // Then
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("가게");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(calls).hasValue(1);
+            assertThat(remote.get("store-1").get()).isEqualTo("가게");
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화는")
+    class EvictTests {
+
+        @Test
+        @DisplayName("evict 하면 L1 과 L2 에서 모두 지워 다음 조회에 원본을 다시 부른다")
+        void evict_RemovesBothLevels() {
+            // Given
+            TwoLevelCache cache = cache(60_000);
+            cache.put("store-1", "가게");
+
+            // When
+            cache.evict("store-1");
+
+            // Then
+            assertThat(cache.get("store-1")).isNull();
+            assertThat(remote.get("store-1")).isNull();
+            assertThat(cache.get("store-1", () -> "새 가게")).isEqualTo("새 가게");
+        }
+
+        @Test
+        @DisplayName("evictLocal 하면 fresh 한 L1 값도 버리고 L2 값을 다시 읽는다")
+        void evictLocal_DropsLocalOnly() {
+            // Given
+            TwoLevelCache cache = cache(60_000);
+            cache.put("store-1", "가게");
+            remote.put("store-1", "다른 인스턴스가 바꾼 가게");
+
+            // When
+            cache.evictLocal("store-1");
+
+            // Then
+            assertThat(cache.get("store-1").get()).isEqualTo("다른 인스턴스가 바꾼 가게");
+        }
+    }
+}
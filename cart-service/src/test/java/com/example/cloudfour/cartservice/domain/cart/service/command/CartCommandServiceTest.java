@@ -8,7 +8,7 @@ import com.example.cloudfour.cartservice.domain.cart.dto.CartResponseDTO;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.controller.CartItemCommonResponseDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.converter.CartItemConverter;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemRequestDTO;
@@ -41,7 +41,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class CartCommandServiceTest {
 
     @Mock
-    private CartRepository cartRepository;
+    private CartStore cartStore;
 
     @Mock
     private CartItemCommandService cartItemCommandService;
@@ -119,8 +119,8 @@ class CartCommandServiceTest {
         void createCart_ValidRequest_ReturnsCartCreateResponse() {
             // Given
             when(storeClient.existStore(storeId)).thenReturn(true);
-            when(cartRepository.existsByUserAndStore(userId, storeId)).thenReturn(false);
-            when(cartRepository.save(any(Cart.class))).thenReturn(cart);
+            when(cartStore.existsCart(userId, storeId)).thenReturn(false);
+            when(cartStore.createCart(userId, storeId)).thenReturn(cart);
             when(storeClient.menuById(menuId)).thenReturn(menu);
             when(cartItemCommandService.CreateCartItem(
                 any(CartItemRequestDTO.CartItemAddRequestDTO.class), 
@@ -143,8 +143,8 @@ class CartCommandServiceTest {
                 // Then
                 assertThat(result).isEqualTo(cartCreateResponseDTO);
                 verify(storeClient).existStore(storeId);
-                verify(cartRepository).existsByUserAndStore(userId, storeId);
-                verify(cartRepository).save(any(Cart.class));
+                verify(cartStore).existsCart(userId, storeId);
+                verify(cartStore).createCart(userId, storeId);
                 verify(storeClient).menuById(menuId);
                 verify(cartItemCommandService).CreateCartItem(
                     any(CartItemRequestDTO.CartItemAddRequestDTO.class), 
@@ -164,7 +164,7 @@ class CartCommandServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(storeClient, cartRepository, cartItemCommandService);
+            verifyNoInteractions(storeClient, cartStore, cartItemCommandService);
         }
 
         @Test
@@ -178,7 +178,7 @@ class CartCommandServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(storeClient, cartRepository, cartItemCommandService);
+            verifyNoInteractions(storeClient, cartStore, cartItemCommandService);
         }
 
         @Test
@@ -195,7 +195,7 @@ class CartCommandServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.STORE_NOT_FOUND);
 
-            verifyNoInteractions(storeClient, cartRepository, cartItemCommandService);
+            verifyNoInteractions(storeClient, cartStore, cartItemCommandService);
         }
 
         @Test
@@ -210,7 +210,7 @@ class CartCommandServiceTest {
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.STORE_NOT_FOUND);
 
             verify(storeClient).existStore(storeId);
-            verifyNoInteractions(cartRepository, cartItemCommandService);
+            verifyNoInteractions(cartStore, cartItemCommandService);
         }
 
         @Test
@@ -218,7 +218,7 @@ class CartCommandServiceTest {
         void createCart_DuplicateCart_ThrowsException() {
             // Given
             when(storeClient.existStore(storeId)).thenReturn(true);
-            when(cartRepository.existsByUserAndStore(userId, storeId)).thenReturn(true);
+            when(cartStore.existsCart(userId, storeId)).thenReturn(true);
 
             // When & Then
             assertThatThrownBy(() -> cartCommandService.createCart(createRequestDTO, currentUser))
@@ -226,8 +226,8 @@ class CartCommandServiceTest {
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.ALREADY_ADD);
 
             verify(storeClient).existStore(storeId);
-            verify(cartRepository).existsByUserAndStore(userId, storeId);
-            verify(cartRepository, never()).save(any());
+            verify(cartStore).existsCart(userId, storeId);
+            verify(cartStore, never()).createCart(any(), any());
             verifyNoInteractions(cartItemCommandService);
         }
     }
@@ -240,14 +240,14 @@ class CartCommandServiceTest {
         @DisplayName("유효한 요청이 주어지면 장바구니를 삭제한다")
         void deleteCart_ValidRequest_DeletesCart() {
             // Given
-            when(cartRepository.findById(cartId)).thenReturn(Optional.of(cart));
+            when(cartStore.findCartById(cartId)).thenReturn(Optional.of(cart));
 
             // When
             cartCommandService.deleteCart(cartId, currentUser);
 
             // Then
-            verify(cartRepository).findById(cartId);
-            verify(cartRepository).delete(cart);
+            verify(cartStore).findCartById(cartId);
+            verify(cartStore).deleteCart(cart);
         }
 
         @Test
@@ -261,7 +261,7 @@ class CartCommandServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
@@ -275,22 +275,22 @@ class CartCommandServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
         @DisplayName("존재하지 않는 장바구니면 예외를 던진다")
         void deleteCart_CartNotFound_ThrowsException() {
             // Given
-            when(cartRepository.findById(cartId)).thenReturn(Optional.empty());
+            when(cartStore.findCartById(cartId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> cartCommandService.deleteCart(cartId, currentUser))
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.NOT_FOUND);
 
-            verify(cartRepository).findById(cartId);
-            verify(cartRepository, never()).delete(any());
+            verify(cartStore).findCartById(cartId);
+            verify(cartStore, never()).deleteCart(any());
         }
 
         @Test
@@ -302,15 +302,15 @@ class CartCommandServiceTest {
             when(otherUserCart.getId()).thenReturn(cartId);
             when(otherUserCart.getUser()).thenReturn(otherUserId);
 
-            when(cartRepository.findById(cartId)).thenReturn(Optional.of(otherUserCart));
+            when(cartStore.findCartById(cartId)).thenReturn(Optional.of(otherUserCart));
 
             // When & Then
             assertThatThrownBy(() -> cartCommandService.deleteCart(cartId, currentUser))
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verify(cartRepository).findById(cartId);
-            verify(cartRepository, never()).delete(any());
+            verify(cartStore).findCartById(cartId);
+            verify(cartStore, never()).deleteCart(any());
         }
     }
 }
\ No newline at end of file
@@ -6,9 +6,8 @@ import com.example.cloudfour.cartservice.domain.cart.dto.CartResponseDTO;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
-import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,10 +33,7 @@ import static org.mockito.Mockito.*;
 class CartQueryServiceTest {
 
     @Mock
-    private CartRepository cartRepository;
-
-    @Mock
-    private CartItemRepository cartItemRepository;
+    private CartStore cartStore;
 
     @InjectMocks
     private CartQueryService cartQueryService;
@@ -91,8 +87,7 @@ class CartQueryServiceTest {
         @DisplayName("유효한 요청이 주어지면 장바구니 상세 정보를 반환한다")
         void getCartListById_ValidRequest_ReturnsCartDetail() {
             // Given
-            when(cartRepository.findByIdAndUserWithCartItems(cartId, userId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.findAllByCartIdWithOptions(cartId)).thenReturn(cartItems);
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
 
             try (MockedStatic<CartConverter> mockedStatic = mockStatic(CartConverter.class)) {
                 mockedStatic.when(() -> CartConverter.toCartDetailResponseDTO(cart))
@@ -103,9 +98,7 @@ class CartQueryServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(cartDetailResponseDTO);
-                verify(cartRepository).findByIdAndUserWithCartItems(cartId, userId);
-                verify(cartItemRepository).findAllByCartIdWithOptions(cartId);
-                verify(cart, times(2)).getCartItems(); // clear() 1번 + addAll() 1번 = 2번
+                verify(cartStore).findCartWithItems(cartId, userId);
                 mockedStatic.verify(() -> CartConverter.toCartDetailResponseDTO(cart));
             }
         }
@@ -121,7 +114,7 @@ class CartQueryServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartRepository, cartItemRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
@@ -135,7 +128,7 @@ class CartQueryServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartRepository, cartItemRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
@@ -149,31 +142,28 @@ class CartQueryServiceTest {
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.NOT_FOUND);
 
-            verifyNoInteractions(cartRepository, cartItemRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
         @DisplayName("존재하지 않는 장바구니이거나 접근 권한이 없으면 예외를 던진다")
         void getCartListById_CartNotFoundOrUnauthorized_ThrowsException() {
             // Given
-            when(cartRepository.findByIdAndUserWithCartItems(cartId, userId)).thenReturn(Optional.empty());
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> cartQueryService.getCartListById(cartId, currentUser))
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.NOT_FOUND);
 
-            verify(cartRepository).findByIdAndUserWithCartItems(cartId, userId);
-            verifyNoInteractions(cartItemRepository);
+            verify(cartStore).findCartWithItems(cartId, userId);
         }
 
         @Test
         @DisplayName("장바구니 아이템이 없어도 정상적으로 처리한다")
         void getCartListById_EmptyCartItems_ReturnsCartDetail() {
             // Given
-            List<CartItem> emptyCartItems = new ArrayList<>();
-            when(cartRepository.findByIdAndUserWithCartItems(cartId, userId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.findAllByCartIdWithOptions(cartId)).thenReturn(emptyCartItems);
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
 
             try (MockedStatic<CartConverter> mockedStatic = mockStatic(CartConverter.class)) {
                 mockedStatic.when(() -> CartConverter.toCartDetailResponseDTO(cart))
@@ -184,19 +174,16 @@ class CartQueryServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(cartDetailResponseDTO);
-                verify(cartRepository).findByIdAndUserWithCartItems(cartId, userId);
-                verify(cartItemRepository).findAllByCartIdWithOptions(cartId);
-                verify(cart).getCartItems();
+                verify(cartStore).findCartWithItems(cartId, userId);
                 mockedStatic.verify(() -> CartConverter.toCartDetailResponseDTO(cart));
             }
         }
 
         @Test
-        @DisplayName("장바구니 아이템을 옵션과 함께 로드한다")
+        @DisplayName("장바구니 아이템을 옵션과 함께 저장소에서 한 번에 로드한다")
         void getCartListById_LoadsCartItemsWithOptions() {
             // Given
-            when(cartRepository.findByIdAndUserWithCartItems(cartId, userId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.findAllByCartIdWithOptions(cartId)).thenReturn(cartItems);
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
 
             try (MockedStatic<CartConverter> mockedStatic = mockStatic(CartConverter.class)) {
                 mockedStatic.when(() -> CartConverter.toCartDetailResponseDTO(cart))
@@ -206,18 +193,16 @@ class CartQueryServiceTest {
                 cartQueryService.getCartListById(cartId, currentUser);
 
                 // Then
-                // findAllByCartIdWithOptions 메서드가 호출되었는지 확인
-                verify(cartItemRepository).findAllByCartIdWithOptions(cartId);
-                // 존재하지 않는 메서드 호출 확인 제거
+                verify(cartStore).findCartWithItems(cartId, userId);
+                verifyNoMoreInteractions(cartStore);
             }
         }
 
         @Test
-        @DisplayName("장바구니 아이템을 교체한다")
-        void getCartListById_ReplacesCartItems() {
+        @DisplayName("저장소가 채운 장바구니 아이템을 그대로 사용한다")
+        void getCartListById_UsesCartItemsFromStore() {
             // Given
-            when(cartRepository.findByIdAndUserWithCartItems(cartId, userId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.findAllByCartIdWithOptions(cartId)).thenReturn(cartItems);
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
 
             try (MockedStatic<CartConverter> mockedStatic = mockStatic(CartConverter.class)) {
                 mockedStatic.when(() -> CartConverter.toCartDetailResponseDTO(cart))
@@ -227,8 +212,7 @@ class CartQueryServiceTest {
                 cartQueryService.getCartListById(cartId, currentUser);
 
                 // Then
-                // cart.getCartItems().clear()와 addAll이 호출되었는지 확인
-                verify(cart, times(2)).getCartItems(); // clear() 호출 시 1번, addAll() 호출 시 1번
+                verify(cart, never()).getCartItems();
             }
         }
 
@@ -236,8 +220,7 @@ class CartQueryServiceTest {
         @DisplayName("CartConverter가 null을 반환해도 정상적으로 처리한다")
         void getCartListById_ConverterReturnsNull_ReturnsNull() {
             // Given
-            when(cartRepository.findByIdAndUserWithCartItems(cartId, userId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.findAllByCartIdWithOptions(cartId)).thenReturn(cartItems);
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
 
             try (MockedStatic<CartConverter> mockedStatic = mockStatic(CartConverter.class)) {
                 mockedStatic.when(() -> CartConverter.toCartDetailResponseDTO(cart))
@@ -248,8 +231,7 @@ class CartQueryServiceTest {
 
                 // Then
                 assertThat(result).isNull();
-                verify(cartRepository).findByIdAndUserWithCartItems(cartId, userId);
-                verify(cartItemRepository).findAllByCartIdWithOptions(cartId);
+                verify(cartStore).findCartWithItems(cartId, userId);
                 mockedStatic.verify(() -> CartConverter.toCartDetailResponseDTO(cart));
             }
         }
@@ -0,0 +1,313 @@
+package com.example.cloudfour.cartservice.domain.cart.store;
+
+import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
+import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
+import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItemOption;
+import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
+import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers
+@DisplayName("RedisCartStore Redis 연동 테스트")
+class RedisCartStoreTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final long TTL_MILLIS = Duration.ofHours(24).toMillis();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisCartStore cartStore;
+
+    private UUID userId;
+    private UUID storeId;
+    private UUID menuId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushDb();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        cartStore = new RedisCartStore(redisTemplate, Jackson2ObjectMapperBuilder.json().build());
+
+        userId = UUID.randomUUID();
+        storeId = UUID.randomUUID();
+        menuId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private CartItemOption option(String name) {
+        return CartItemOption.builder().menuOptionId(UUID.randomUUID()).additionalPrice(500).optionName(name).build();
+    }
+
+    private CartItemUpsertResult add(Cart cart, String optionHash, int quantity, List<CartItemOption> options) {
+        return cartStore.addItem(UUID.randomUUID(), cart.getId(), menuId, optionHash, quantity, 1000, options);
+    }
+
+    private CartItem item(UUID cartItemId) {
+        return cartStore.findItem(cartItemId).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("addItem 메서드는")
+    class AddItemTests {
+
+        @Test
+        @DisplayName("같은 메뉴와 옵션 조합이면 기존 줄에 수량을 더하고 아이템 색인은 새로 만들지 않는다")
+        void addItem_SameLine_MergesQuantity() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            CartItemUpsertResult first = add(cart, "hash-a", 2, List.of(option("곱빼기")));
+
+            // When
+            UUID secondItemId = UUID.randomUUID();
+            CartItemUpsertResult second = cartStore.addItem(secondItemId, cart.getId(), menuId, "hash-a", 3, 1000, List.of());
+
+            // Then
+            assertThat(second.getId()).isEqualTo(first.getId());
+            assertThat(second.getQuantity()).isEqualTo(5);
+            assertThat(second.getPrice()).isEqualTo(5000);
+            assertThat(redisTemplate.hasKey("cart:item:" + secondItemId)).isFalse();
+
+            Cart loaded = cartStore.findCartWithItems(cart.getId(), userId).orElseThrow();
+            assertThat(loaded.getCartItems()).hasSize(1);
+            assertThat(loaded.getCartItems().get(0).getOptions())
+                    .extracting(CartItemOption::getOptionName).containsExactly("곱빼기");
+        }
+
+        @Test
+        @DisplayName("옵션 조합이 다르면 새 줄과 아이템 색인을 만든다")
+        void addItem_DifferentLine_CreatesNewItem() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            CartItemUpsertResult first = add(cart, "hash-a", 1, List.of());
+
+            // When
+            CartItemUpsertResult second = add(cart, "hash-b", 1, List.of(option("맵게")));
+
+            // Then
+            assertThat(second.getId()).isNotEqualTo(first.getId());
+            assertThat(cartStore.findCartWithItems(cart.getId(), userId).orElseThrow().getCartItems()).hasSize(2);
+            assertThat(item(second.getId()).getCart().getId()).isEqualTo(cart.getId());
+        }
+
+        @Test
+        @DisplayName("장바구니가 없으면 NOT_FOUND 예외를 던진다")
+        void addItem_MissingCart_ThrowsNotFound() {
+            assertThatThrownBy(() -> cartStore.addItem(UUID.randomUUID(), UUID.randomUUID(), menuId, "hash-a", 1, 1000, List.of()))
+                    .isInstanceOf(CartException.class)
+                    .hasFieldOrPropertyWithValue("code", CartErrorCode.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveItem 메서드는")
+    class SaveItemTests {
+
+        @Test
+        @DisplayName("수량, 가격, 옵션 조합을 바꾸면 줄 색인도 새 조합으로 옮긴다")
+        void saveItem_ChangedLine_MovesLineIndex() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            UUID itemId = add(cart, "hash-a", 1, List.of()).getId();
+            CartItem cartItem = item(itemId);
+
+            // When
+            cartItem.update(4, 4000);
+            cartItem.updateOptionHash("hash-b");
+            cartItem.addOption(option("곱빼기"));
+            cartStore.saveItem(cartItem);
+
+            // Then
+            CartItem saved = item(itemId);
+            assertThat(saved.getQuantity()).isEqualTo(4);
+            assertThat(saved.getPrice()).isEqualTo(4000);
+            assertThat(saved.getOptions()).extracting(CartItemOption::getOptionName).containsExactly("곱빼기");
+            assertThat(cartStore.existsOtherLine(cart.getId(), menuId, "hash-b", UUID.randomUUID())).isTrue();
+            assertThat(cartStore.existsOtherLine(cart.getId(), menuId, "hash-a", UUID.randomUUID())).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 줄이 이미 쓰는 옵션 조합으로 바꾸면 ALREADY_ADD 예외를 던진다")
+        void saveItem_ConflictingLine_ThrowsAlreadyAdd() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            add(cart, "hash-a", 1, List.of());
+            CartItem other = item(add(cart, "hash-b", 1, List.of()).getId());
+
+            // When
+            other.updateOptionHash("hash-a");
+
+            // Then
+            assertThatThrownBy(() -> cartStore.saveItem(other))
+                    .isInstanceOf(CartItemException.class)
+                    .hasFieldOrPropertyWithValue("code", CartItemErrorCode.ALREADY_ADD);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteItem 메서드는")
+    class DeleteItemTests {
+
+        @Test
+        @DisplayName("아이템을 지우면 아이템 색인과 줄 색인도 지우고 장바구니는 남긴다")
+        void deleteItem_NotLast_RemovesIndexes() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            UUID removedId = add(cart, "hash-a", 1, List.of()).getId();
+            UUID keptId = add(cart, "hash-b", 1, List.of()).getId();
+
+            // When
+            cartStore.deleteItem(item(removedId));
+
+            // Then
+            assertThat(redisTemplate.hasKey("cart:item:" + removedId)).isFalse();
+            assertThat(cartStore.findItem(removedId)).isEmpty();
+            assertThat(cartStore.isItemOwner(removedId, userId)).isFalse();
+            assertThat(cartStore.existsOtherLine(cart.getId(), menuId, "hash-a", UUID.randomUUID())).isFalse();
+            assertThat(cartStore.findCartWithItems(cart.getId(), userId).orElseThrow().getCartItems())
+                    .extracting(CartItem::getId).containsExactly(keptId);
+        }
+
+        @Test
+        @DisplayName("마지막 아이템을 지우면 장바구니와 소유자 색인까지 지운다")
+        void deleteItem_Last_RemovesCart() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            UUID itemId = add(cart, "hash-a", 1, List.of()).getId();
+
+            // When
+            cartStore.deleteItem(item(itemId));
+
+            // Then
+            assertThat(redisTemplate.hasKey("cart:item:" + itemId)).isFalse();
+            assertThat(cartStore.findCartById(cart.getId())).isEmpty();
+            assertThat(cartStore.existsCart(userId, storeId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("이미 지워진 아이템이면 NOT_FOUND 예외를 던진다")
+        void deleteItem_Missing_ThrowsNotFound() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            add(cart, "hash-a", 1, List.of());
+            CartItem cartItem = item(add(cart, "hash-b", 1, List.of()).getId());
+            cartStore.deleteItem(cartItem);
+
+            // When & Then
+            assertThatThrownBy(() -> cartStore.deleteItem(cartItem))
+                    .isInstanceOf(CartItemException.class)
+                    .hasFieldOrPropertyWithValue("code", CartItemErrorCode.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("isItemOwner 메서드는")
+    class IsItemOwnerTests {
+
+        @Test
+        @DisplayName("아이템 색인이 가리키는 장바구니의 소유자만 true 를 돌려준다")
+        void isItemOwner_ChecksCartOwner() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            UUID itemId = add(cart, "hash-a", 1, List.of()).getId();
+
+            // When & Then
+            assertThat(cartStore.isItemOwner(itemId, userId)).isTrue();
+            assertThat(cartStore.isItemOwner(itemId, UUID.randomUUID())).isFalse();
+            assertThat(cartStore.isItemOwner(UUID.randomUUID(), userId)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("TTL 은")
+    class TtlTests {
+
+        private void assertFullTtl(String key) {
+            Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            assertThat(ttl).as(key).isGreaterThan(TTL_MILLIS - 60_000).isLessThanOrEqualTo(TTL_MILLIS);
+        }
+
+        @Test
+        @DisplayName("장바구니, 소유자 색인, 아이템 색인에 모두 걸린다")
+        void ttl_SetOnAllKeys() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+
+            // When
+            UUID itemId = add(cart, "hash-a", 1, List.of()).getId();
+
+            // Then
+            assertFullTtl("cart:" + cart.getId());
+            assertFullTtl("cart:owner:" + userId + ":" + storeId);
+            assertFullTtl("cart:item:" + itemId);
+        }
+
+        @Test
+        @DisplayName("쓰기가 일어나면 모든 키의 TTL 을 다시 연장한다")
+        void ttl_RefreshedOnWrite() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            UUID firstId = add(cart, "hash-a", 1, List.of()).getId();
+            UUID secondId = add(cart, "hash-b", 1, List.of()).getId();
+            List<String> keys = List.of("cart:" + cart.getId(), "cart:owner:" + userId + ":" + storeId,
+                    "cart:item:" + firstId, "cart:item:" + secondId);
+            keys.forEach(key -> redisTemplate.expire(key, Duration.ofSeconds(5)));
+
+            // When
+            CartItem cartItem = item(firstId);
+            cartItem.update(2, 2000);
+            cartStore.saveItem(cartItem);
+
+            // Then
+            keys.forEach(this::assertFullTtl);
+        }
+
+        @Test
+        @DisplayName("아이템을 추가하면 기존 아이템 색인의 TTL 도 함께 연장한다")
+        void ttl_RefreshedOnAdd() {
+            // Given
+            Cart cart = cartStore.createCart(userId, storeId);
+            UUID firstId = add(cart, "hash-a", 1, List.of()).getId();
+            List<String> keys = List.of("cart:" + cart.getId(), "cart:owner:" + userId + ":" + storeId, "cart:item:" + firstId);
+            keys.forEach(key -> redisTemplate.expire(key, Duration.ofSeconds(5)));
+
+            // When
+            add(cart, "hash-b", 1, List.of());
+
+            // Then
+            keys.forEach(this::assertFullTtl);
+        }
+    }
+}
@@ -4,17 +4,18 @@ import com.example.cloudfour.cartservice.client.StoreClient;
 import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartException;
 import com.example.cloudfour.cartservice.domain.cart.exception.CartErrorCode;
-import com.example.cloudfour.cartservice.domain.cart.repository.CartRepository;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemRequestDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemResponseDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
-import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
+import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemUpsertResult;
 import com.example.cloudfour.cartservice.domain.cartitem.converter.CartItemConverter;
 
 import com.example.cloudfour.cartservice.commondto.MenuResponseDTO;
 import com.example.cloudfour.cartservice.commondto.MenuOptionResponseDTO;
+import com.example.cloudfour.cartservice.commondto.MenuSnapshotResponseDTO;
 
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,10 +44,7 @@ import static org.mockito.Mockito.*;
 class CartItemCommandServiceTest {
 
     @Mock
-    private CartItemRepository cartItemRepository;
-
-    @Mock
-    private CartRepository cartRepository;
+    private CartStore cartStore;
 
     @Mock
     private StoreClient storeClient;
@@ -60,6 +60,7 @@ class CartItemCommandServiceTest {
     private Cart cart;
     private CartItem cartItem;
     private MenuResponseDTO menu;
+    private MenuSnapshotResponseDTO menuSnapshot;
     private CartItemRequestDTO.CartItemAddRequestDTO addRequestDTO;
     private CartItemRequestDTO.CartItemUpdateRequestDTO updateRequestDTO;
     private CartItemResponseDTO.CartItemAddResponseDTO addResponseDTO;
@@ -84,12 +85,20 @@ class CartItemCommandServiceTest {
         lenient().when(cartItem.getQuantity()).thenReturn(1);
         lenient().when(cartItem.getPrice()).thenReturn(10000);
         lenient().when(cartItem.getMenu()).thenReturn(menuId);
+        lenient().when(cartItem.getCart()).thenReturn(cart);
 
         // Mock Menu
         menu = mock(MenuResponseDTO.class);
         lenient().when(menu.getMenuId()).thenReturn(menuId);
         lenient().when(menu.getPrice()).thenReturn(10000);
 
+        menuSnapshot = MenuSnapshotResponseDTO.builder()
+                .menuId(menuId)
+                .price(10000)
+                .soldOut(false)
+                .options(new ArrayList<>())
+                .build();
+
         // Mock DTOs
         addRequestDTO = CartItemRequestDTO.CartItemAddRequestDTO.builder()
                 .menuId(menuId)
@@ -110,27 +119,18 @@ class CartItemCommandServiceTest {
     class AddCartItemTests {
 
         @Test
-        @DisplayName("유효한 요청이 주어지면 장바구니 아이템을 추가한다")
+        @DisplayName("유효한 요청이 주어지면 upsert 한 번으로 장바구니 아이템을 추가한다")
         void addCartItem_ValidRequest_ReturnsCartItemAddResponse() {
             // Given
-            when(cartRepository.findByIdAndUser(cartId, userId)).thenReturn(Optional.of(cart));
-            when(storeClient.menuById(menuId)).thenReturn(menu);
-            when(cartItemRepository.findByCartIdAndMenuId(cartId, menuId)).thenReturn(new ArrayList<>());
-            
-            // Answer를 사용하여 save될 때 ID를 설정
-            when(cartItemRepository.save(any(CartItem.class))).thenAnswer(invocation -> {
-                CartItem item = invocation.getArgument(0);
-                // 리플렉션을 사용하여 private ID 필드 설정
-                java.lang.reflect.Field idField = CartItem.class.getDeclaredField("id");
-                idField.setAccessible(true);
-                idField.set(item, cartItemId);
-                return item;
-            });
-            
-            when(cartItemRepository.findByIdWithOptions(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.findCart(cartId, userId)).thenReturn(Optional.of(cart));
+            when(storeClient.menuSnapshot(menuId)).thenReturn(menuSnapshot);
+            String optionHash = CartItem.optionHashOf(List.of());
+            when(cartStore.addItem(any(UUID.class), eq(cartId), eq(menuId), eq(optionHash), eq(1), eq(10000), anyList()))
+                    .thenAnswer(invocation -> upsertResult(invocation.getArgument(0), 1, 10000));
 
             try (MockedStatic<CartItemConverter> mockedStatic = mockStatic(CartItemConverter.class)) {
-                mockedStatic.when(() -> CartItemConverter.toCartItemAddResponseDTO(any(CartItem.class)))
+                mockedStatic.when(() -> CartItemConverter.toCartItemAddResponseDTO(
+                                any(CartItemUpsertResult.class), eq(cartId), eq(menuId), anyList()))
                         .thenReturn(addResponseDTO);
 
                 // When
@@ -138,14 +138,53 @@ class CartItemCommandServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(addResponseDTO);
-                verify(cartRepository).findByIdAndUser(cartId, userId);
-                verify(storeClient).menuById(menuId);
-                verify(cartItemRepository).findByCartIdAndMenuId(cartId, menuId);
-                verify(cartItemRepository).save(any(CartItem.class));
-                verify(cartItemRepository).findByIdWithOptions(cartItemId);
+                verify(cartStore).findCart(cartId, userId);
+                verify(storeClient).menuSnapshot(menuId);
+                verify(storeClient, never()).existMenu(any());
+                verify(storeClient, never()).menuById(any());
+                verify(storeClient, never()).menuOptionsByIds(any());
+                verify(cartStore, never()).saveItem(any());
             }
         }
 
+        @Test
+        @DisplayName("같은 옵션 조합의 줄이 이미 있으면 병합된 수량으로 응답한다")
+        void addCartItem_ExistingLine_MergesWithoutOptionInsert() {
+            // Given
+            UUID optionId = UUID.randomUUID();
+            MenuOptionResponseDTO option = MenuOptionResponseDTO.builder()
+                    .menuOptionId(optionId).menuId(menuId).optionName("치즈 추가").additionalPrice(500).build();
+            MenuSnapshotResponseDTO snapshot = MenuSnapshotResponseDTO.builder()
+                    .menuId(menuId).price(10000).soldOut(false).options(List.of(option)).build();
+            CartItemRequestDTO.CartItemAddRequestDTO request = CartItemRequestDTO.CartItemAddRequestDTO.builder()
+                    .menuId(menuId)
+                    .menuOptionIds(List.of(optionId, optionId))
+                    .build();
+            when(cartStore.findCart(cartId, userId)).thenReturn(Optional.of(cart));
+            when(storeClient.menuSnapshot(menuId)).thenReturn(snapshot);
+            when(cartStore.addItem(any(UUID.class), eq(cartId), eq(menuId),
+                    eq(CartItem.optionHashOf(List.of(optionId))), eq(1), eq(10500), argThat(options -> options.size() == 1)))
+                    .thenReturn(upsertResult(cartItemId, 2, 21000));
+
+            // When
+            CartItemResponseDTO.CartItemAddResponseDTO result = cartItemCommandService.AddCartItem(request, cartId, currentUser);
+
+            // Then
+            assertThat(result.getCartItemCommonResponseDTO().getCartItemId()).isEqualTo(cartItemId);
+            assertThat(result.getCartItemCommonResponseDTO().getQuantity()).isEqualTo(2);
+            assertThat(result.getCartItemCommonResponseDTO().getMenuOptions()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("옵션 해시는 순서와 중복에 관계없이 같다")
+        void optionHash_IsCanonical() {
+            UUID a = UUID.randomUUID();
+            UUID b = UUID.randomUUID();
+
+            assertThat(CartItem.optionHashOf(List.of(a, b))).isEqualTo(CartItem.optionHashOf(List.of(b, a, b)));
+            assertThat(CartItem.optionHashOf(List.of(a))).isNotEqualTo(CartItem.optionHashOf(List.of(a, b)));
+        }
+
         @Test
         @DisplayName("사용자가 null이면 예외를 던진다")
         void addCartItem_NullUser_ThrowsException() {
@@ -157,37 +196,75 @@ class CartItemCommandServiceTest {
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartRepository, storeClient, cartItemRepository);
+            verifyNoInteractions(cartStore, storeClient);
         }
 
         @Test
         @DisplayName("존재하지 않는 장바구니면 예외를 던진다")
         void addCartItem_CartNotFound_ThrowsException() {
             // Given
-            when(cartRepository.findByIdAndUser(cartId, userId)).thenReturn(Optional.empty());
+            when(cartStore.findCart(cartId, userId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> cartItemCommandService.AddCartItem(addRequestDTO, cartId, currentUser))
                     .isInstanceOf(CartException.class)
                     .hasFieldOrPropertyWithValue("code", CartErrorCode.NOT_FOUND);
 
-            verify(cartRepository).findByIdAndUser(cartId, userId);
-            verifyNoInteractions(storeClient, cartItemRepository);
+            verify(cartStore).findCart(cartId, userId);
+            verifyNoInteractions(storeClient);
+            verify(cartStore, never()).addItem(any(), any(), any(), any(), anyInt(), anyInt(), anyList());
         }
 
         @Test
         @DisplayName("존재하지 않는 메뉴면 예외를 던진다")
         void addCartItem_MenuNotFound_ThrowsException() {
             // Given
-            when(cartRepository.findByIdAndUser(cartId, userId)).thenReturn(Optional.of(cart));
-            when(storeClient.menuById(menuId)).thenThrow(new RuntimeException("Menu not found"));
+            when(cartStore.findCart(cartId, userId)).thenReturn(Optional.of(cart));
+            when(storeClient.menuSnapshot(menuId)).thenReturn(null);
 
             // When & Then
             assertThatThrownBy(() -> cartItemCommandService.AddCartItem(addRequestDTO, cartId, currentUser))
-                    .isInstanceOf(RuntimeException.class);
+                    .isInstanceOf(CartException.class)
+                    .hasFieldOrPropertyWithValue("code", CartErrorCode.MENU_NOT_FOUND);
 
-            verify(cartRepository).findByIdAndUser(cartId, userId);
-            verify(storeClient).menuById(menuId);
+            verify(cartStore).findCart(cartId, userId);
+            verify(storeClient).menuSnapshot(menuId);
+            verify(cartStore, never()).addItem(any(), any(), any(), any(), anyInt(), anyInt(), anyList());
+        }
+
+        @Test
+        @DisplayName("품절된 메뉴면 예외를 던진다")
+        void addCartItem_SoldOutMenu_ThrowsException() {
+            // Given
+            when(cartStore.findCart(cartId, userId)).thenReturn(Optional.of(cart));
+            when(storeClient.menuSnapshot(menuId)).thenReturn(MenuSnapshotResponseDTO.builder()
+                    .menuId(menuId).price(10000).soldOut(true).options(new ArrayList<>()).build());
+
+            // When & Then
+            assertThatThrownBy(() -> cartItemCommandService.AddCartItem(addRequestDTO, cartId, currentUser))
+                    .isInstanceOf(CartItemException.class)
+                    .hasFieldOrPropertyWithValue("code", CartItemErrorCode.MENU_SOLD_OUT);
+
+            verify(cartStore, never()).addItem(any(), any(), any(), any(), anyInt(), anyInt(), anyList());
+        }
+
+        @Test
+        @DisplayName("메뉴에 없는 옵션이 포함되면 예외를 던진다")
+        void addCartItem_OptionNotInSnapshot_ThrowsException() {
+            // Given
+            when(cartStore.findCart(cartId, userId)).thenReturn(Optional.of(cart));
+            when(storeClient.menuSnapshot(menuId)).thenReturn(menuSnapshot);
+            CartItemRequestDTO.CartItemAddRequestDTO request = CartItemRequestDTO.CartItemAddRequestDTO.builder()
+                    .menuId(menuId)
+                    .menuOptionIds(List.of(UUID.randomUUID()))
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> cartItemCommandService.AddCartItem(request, cartId, currentUser))
+                    .isInstanceOf(CartItemException.class)
+                    .hasFieldOrPropertyWithValue("code", CartItemErrorCode.INVALID_OPTION);
+
+            verify(cartStore, never()).addItem(any(), any(), any(), any(), anyInt(), anyInt(), anyList());
         }
     }
 
@@ -199,12 +276,11 @@ class CartItemCommandServiceTest {
         @DisplayName("유효한 요청이 주어지면 장바구니 아이템을 수정한다")
         void updateCartItem_ValidRequest_ReturnsCartItemUpdateResponse() {
             // Given
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.of(cartItem));
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(true);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(true);
             when(storeClient.menuById(menuId)).thenReturn(menu);
             when(cartItem.getOptions()).thenReturn(new ArrayList<>());
-            when(cartItemRepository.save(any(CartItem.class))).thenReturn(cartItem);
-            when(cartItemRepository.findByIdWithOptions(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.saveItem(cartItem)).thenReturn(cartItem);
 
             try (MockedStatic<CartItemConverter> mockedStatic = mockStatic(CartItemConverter.class)) {
                 mockedStatic.when(() -> CartItemConverter.toCartItemUpdateResponseDTO(any(CartItem.class)))
@@ -215,11 +291,10 @@ class CartItemCommandServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(updateResponseDTO);
-                verify(cartItemRepository).findById(cartItemId);
-                verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
+                verify(cartStore).findItem(cartItemId);
+                verify(cartStore).isItemOwner(cartItemId, userId);
                 verify(storeClient).menuById(menuId);
-                verify(cartItemRepository).save(any(CartItem.class));
-                verify(cartItemRepository).findByIdWithOptions(cartItemId);
+                verify(cartStore).saveItem(cartItem);
             }
         }
 
@@ -227,14 +302,14 @@ class CartItemCommandServiceTest {
         @DisplayName("존재하지 않는 장바구니 아이템이면 예외를 던진다")
         void updateCartItem_CartItemNotFound_ThrowsException() {
             // Given
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.empty());
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> cartItemCommandService.updateCartItem(updateRequestDTO, cartItemId, currentUser))
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.NOT_FOUND);
 
-            verify(cartItemRepository).findById(cartItemId);
+            verify(cartStore).findItem(cartItemId);
             verifyNoInteractions(storeClient);
         }
 
@@ -242,16 +317,16 @@ class CartItemCommandServiceTest {
         @DisplayName("권한이 없으면 예외를 던진다")
         void updateCartItem_UnauthorizedAccess_ThrowsException() {
             // Given
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.of(cartItem));
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(false);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> cartItemCommandService.updateCartItem(updateRequestDTO, cartItemId, currentUser))
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.UNAUTHORIZED_ACCESS);
 
-            verify(cartItemRepository).findById(cartItemId);
-            verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
+            verify(cartStore).findItem(cartItemId);
+            verify(cartStore).isItemOwner(cartItemId, userId);
             verifyNoInteractions(storeClient);
         }
 
@@ -264,8 +339,8 @@ class CartItemCommandServiceTest {
                     .quantity(0)
                     .build();
 
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.of(cartItem));
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(true);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(true);
             when(storeClient.menuById(menuId)).thenReturn(menu);
 
             // When & Then
@@ -283,54 +358,56 @@ class CartItemCommandServiceTest {
         @DisplayName("유효한 요청이 주어지면 장바구니 아이템을 삭제한다")
         void deleteCartItem_ValidRequest_DeletesCartItem() {
             // Given
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.of(cartItem));
-            when(cartRepository.findById(cartId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(true);
-            when(cartItem.getCart()).thenReturn(cart);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(true);
 
             // When
             cartItemCommandService.deleteCartItem(cartItemId, currentUser);
 
             // Then
-            verify(cartItemRepository).findById(cartItemId);
-            verify(cartRepository).findById(cartId);
-            verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
-            verify(cartItemRepository).delete(cartItem);
+            verify(cartStore).findItem(cartItemId);
+            verify(cartStore).isItemOwner(cartItemId, userId);
+            verify(cartStore).deleteItem(cartItem);
         }
 
         @Test
         @DisplayName("존재하지 않는 장바구니 아이템이면 예외를 던진다")
         void deleteCartItem_CartItemNotFound_ThrowsException() {
             // Given
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.empty());
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> cartItemCommandService.deleteCartItem(cartItemId, currentUser))
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.NOT_FOUND);
 
-            verify(cartItemRepository).findById(cartItemId);
-            verify(cartItemRepository, never()).delete(any());
+            verify(cartStore).findItem(cartItemId);
+            verify(cartStore, never()).deleteItem(any());
         }
 
         @Test
         @DisplayName("권한이 없으면 예외를 던진다")
         void deleteCartItem_UnauthorizedAccess_ThrowsException() {
             // Given
-            when(cartItemRepository.findById(cartItemId)).thenReturn(Optional.of(cartItem));
-            when(cartRepository.findById(cartId)).thenReturn(Optional.of(cart));
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(false);
-            when(cartItem.getCart()).thenReturn(cart);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> cartItemCommandService.deleteCartItem(cartItemId, currentUser))
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.UNAUTHORIZED_ACCESS);
 
-            verify(cartItemRepository).findById(cartItemId);
-            verify(cartRepository).findById(cartId);
-            verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
-            verify(cartItemRepository, never()).delete(any());
+            verify(cartStore).findItem(cartItemId);
+            verify(cartStore).isItemOwner(cartItemId, userId);
+            verify(cartStore, never()).deleteItem(any());
         }
     }
-}
\ No newline at end of file
+
+    private static CartItemUpsertResult upsertResult(UUID id, int quantity, int price) {
+        return new CartItemUpsertResult() {
+            public UUID getId() { return id; }
+            public Integer getQuantity() { return quantity; }
+            public Integer getPrice() { return price; }
+        };
+    }
+}
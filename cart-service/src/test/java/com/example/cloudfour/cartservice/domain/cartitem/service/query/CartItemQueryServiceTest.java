@@ -1,10 +1,10 @@
 package com.example.cloudfour.cartservice.domain.cartitem.service.query;
 
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
 import com.example.cloudfour.cartservice.domain.cartitem.dto.CartItemResponseDTO;
 import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemException;
 import com.example.cloudfour.cartservice.domain.cartitem.exception.CartItemErrorCode;
-import com.example.cloudfour.cartservice.domain.cartitem.repository.CartItemRepository;
 import com.example.cloudfour.cartservice.domain.cartitem.converter.CartItemConverter;
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +29,7 @@ import static org.mockito.Mockito.*;
 class CartItemQueryServiceTest {
 
     @Mock
-    private CartItemRepository cartItemRepository;
+    private CartStore cartStore;
 
     @InjectMocks
     private CartItemQueryService cartItemQueryService;
@@ -64,8 +64,8 @@ class CartItemQueryServiceTest {
         @DisplayName("유효한 요청이 주어지면 장바구니 아이템을 반환한다")
         void getCartItemById_ValidRequest_ReturnsCartItem() {
             // Given
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(true);
-            when(cartItemRepository.findByIdWithOptions(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(true);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
 
             try (MockedStatic<CartItemConverter> mockedStatic = mockStatic(CartItemConverter.class)) {
                 mockedStatic.when(() -> CartItemConverter.toCartItemListResponseDTO(cartItem))
@@ -76,8 +76,8 @@ class CartItemQueryServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(cartItemListResponseDTO);
-                verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
-                verify(cartItemRepository).findByIdWithOptions(cartItemId);
+                verify(cartStore).isItemOwner(cartItemId, userId);
+                verify(cartStore).findItem(cartItemId);
                 mockedStatic.verify(() -> CartItemConverter.toCartItemListResponseDTO(cartItem));
             }
         }
@@ -93,7 +93,7 @@ class CartItemQueryServiceTest {
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartItemRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
@@ -107,7 +107,7 @@ class CartItemQueryServiceTest {
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.UNAUTHORIZED_ACCESS);
 
-            verifyNoInteractions(cartItemRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
@@ -121,46 +121,46 @@ class CartItemQueryServiceTest {
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.NOT_FOUND);
 
-            verifyNoInteractions(cartItemRepository);
+            verifyNoInteractions(cartStore);
         }
 
         @Test
         @DisplayName("장바구니 아이템 소유권이 없으면 예외를 던진다")
         void getCartItemById_UnauthorizedAccess_ThrowsException() {
             // Given
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(false);
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> cartItemQueryService.getCartItemById(cartItemId, currentUser))
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.UNAUTHORIZED_ACCESS);
 
-            verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
-            verify(cartItemRepository, never()).findByIdWithOptions(any());
+            verify(cartStore).isItemOwner(cartItemId, userId);
+            verify(cartStore, never()).findItem(any());
         }
 
         @Test
         @DisplayName("존재하지 않는 장바구니 아이템이면 예외를 던진다")
         void getCartItemById_CartItemNotFound_ThrowsException() {
             // Given
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(true);
-            when(cartItemRepository.findByIdWithOptions(cartItemId)).thenReturn(Optional.empty());
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(true);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> cartItemQueryService.getCartItemById(cartItemId, currentUser))
                     .isInstanceOf(CartItemException.class)
                     .hasFieldOrPropertyWithValue("code", CartItemErrorCode.NOT_FOUND);
 
-            verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
-            verify(cartItemRepository).findByIdWithOptions(cartItemId);
+            verify(cartStore).isItemOwner(cartItemId, userId);
+            verify(cartStore).findItem(cartItemId);
         }
 
         @Test
         @DisplayName("CartItemConverter가 null을 반환해도 정상적으로 처리한다")
         void getCartItemById_ConverterReturnsNull_ReturnsNull() {
             // Given
-            when(cartItemRepository.existsByCartItemAndUser(cartItemId, userId)).thenReturn(true);
-            when(cartItemRepository.findByIdWithOptions(cartItemId)).thenReturn(Optional.of(cartItem));
+            when(cartStore.isItemOwner(cartItemId, userId)).thenReturn(true);
+            when(cartStore.findItem(cartItemId)).thenReturn(Optional.of(cartItem));
 
             try (MockedStatic<CartItemConverter> mockedStatic = mockStatic(CartItemConverter.class)) {
                 mockedStatic.when(() -> CartItemConverter.toCartItemListResponseDTO(cartItem))
@@ -171,8 +171,8 @@ class CartItemQueryServiceTest {
 
                 // Then
                 assertThat(result).isNull();
-                verify(cartItemRepository).existsByCartItemAndUser(cartItemId, userId);
-                verify(cartItemRepository).findByIdWithOptions(cartItemId);
+                verify(cartStore).isItemOwner(cartItemId, userId);
+                verify(cartStore).findItem(cartItemId);
                 mockedStatic.verify(() -> CartItemConverter.toCartItemListResponseDTO(cartItem));
             }
         }
@@ -0,0 +1,130 @@
+package com.example.cloudfour.cartservice.domain.order.repository;
+
+import com.example.cloudfour.cartservice.domain.order.entity.Order;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderType;
+import com.example.cloudfour.cartservice.domain.order.enums.ReceiptType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 파티션 스키마 SQL 은 끄고 Hibernate 가 만든 p_order 로 쿼리 자체만 확인한다.
+@Testcontainers
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("OrderRepository Postgres 연동 테스트")
+class OrderRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Order order(OrderStatus status) {
+        return orderRepository.saveAndFlush(Order.builder()
+                .orderType(OrderType.ONLINE)
+                .receiptType(ReceiptType.DELIVERY)
+                .address("서울시 강남구")
+                .totalPrice(10000)
+                .status(status)
+                .user(UUID.randomUUID())
+                .store(UUID.randomUUID())
+                .build());
+    }
+
+    // OrderRepository.findById 는 삭제된 주문을 거르므로 엔티티 매니저로 직접 읽는다.
+    private Order reload(Order order) {
+        return entityManager.find(Order.class, order.getId());
+    }
+
+    @Nested
+    @DisplayName("bulkUpdateStatus 메서드는")
+    class BulkUpdateStatusTests {
+
+        @Test
+        @DisplayName("대상 주문 중 상태가 다른 주문만 바꾸고 바꾼 건수를 돌려준다")
+        void bulkUpdateStatus_ChangesOnlyDifferentStatus() {
+            // Given
+            Order pending = order(OrderStatus.결제전);
+            Order waiting = order(OrderStatus.주문대기);
+            Order completed = order(OrderStatus.주문완료);
+            LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+
+            // When
+            int updated = orderRepository.bulkUpdateStatus(
+                    List.of(pending.getId(), waiting.getId(), completed.getId()), OrderStatus.주문완료, now);
+
+            // Then
+            assertThat(updated).isEqualTo(2);
+            assertThat(reload(pending).getStatus()).isEqualTo(OrderStatus.주문완료);
+            assertThat(reload(waiting).getStatus()).isEqualTo(OrderStatus.주문완료);
+            // 이미 같은 상태였던 주문은 updated_at 도 건드리지 않는다.
+            assertThat(reload(pending).getUpdatedAt()).isCloseTo(now, within(1, ChronoUnit.MILLIS));
+            assertThat(reload(completed).getUpdatedAt()).isBefore(now);
+        }
+
+        @Test
+        @DisplayName("같은 이벤트가 다시 와도 두 번째 반영은 아무 행도 바꾸지 않는다")
+        void bulkUpdateStatus_Replay_IsNoOp() {
+            // Given
+            Order pending = order(OrderStatus.결제전);
+            List<UUID> orderIds = List.of(pending.getId());
+            orderRepository.bulkUpdateStatus(orderIds, OrderStatus.주문취소, LocalDateTime.now());
+
+            // When
+            int updated = orderRepository.bulkUpdateStatus(orderIds, OrderStatus.주문취소, LocalDateTime.now());
+
+            // Then
+            assertThat(updated).isZero();
+            assertThat(reload(pending).getStatus()).isEqualTo(OrderStatus.주문취소);
+        }
+
+        @Test
+        @DisplayName("삭제된 주문은 바꾸지 않는다")
+        void bulkUpdateStatus_SkipsDeleted() {
+            // Given
+            Order deleted = order(OrderStatus.결제전);
+            deleted.softDelete();
+            orderRepository.saveAndFlush(deleted);
+
+            // When
+            int updated = orderRepository.bulkUpdateStatus(List.of(deleted.getId()), OrderStatus.주문완료, LocalDateTime.now());
+
+            // Then
+            assertThat(updated).isZero();
+            assertThat(reload(deleted).getStatus()).isEqualTo(OrderStatus.결제전);
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package com.example.cloudfour.cartservice.domain.order.service.command;
+
+import com.example.cloudfour.cartservice.client.PaymentClient;
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.client.UserClient;
+import com.example.cloudfour.cartservice.commondto.MenuQuantityResponseDTO;
+import com.example.cloudfour.cartservice.commondto.UserAddressResponseDTO;
+import com.example.cloudfour.cartservice.domain.cart.entity.Cart;
+import com.example.cloudfour.cartservice.domain.cart.store.CartStore;
+import com.example.cloudfour.cartservice.domain.cartitem.entity.CartItem;
+import com.example.cloudfour.cartservice.domain.order.dto.OrderRequestDTO;
+import com.example.cloudfour.cartservice.domain.order.entity.Order;
+import com.example.cloudfour.cartservice.domain.order.entity.OrderItem;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderType;
+import com.example.cloudfour.cartservice.domain.order.enums.ReceiptType;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.example.cloudfour.cartservice.domain.order.exception.StockErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.StockException;
+import com.example.cloudfour.cartservice.domain.order.repository.OrderItemOptionRepository;
+import com.example.cloudfour.cartservice.domain.order.repository.OrderItemRepository;
+import com.example.cloudfour.cartservice.domain.order.repository.OrderRepository;
+import com.example.cloudfour.cartservice.domain.waitingroom.service.WaitingRoomService;
+import com.example.cloudfour.cartservice.service.OrderEventPublishService;
+import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderCommandService 단위테스트")
+class OrderCommandServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderItemOptionRepository orderItemOptionRepository;
+
+    @Mock
+    private CartStore cartStore;
+
+    @Mock
+    private StoreClient storeClient;
+
+    @Mock
+    private PaymentClient paymentClient;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private OrderEventPublishService orderEventPublishService;
+
+    @Mock
+    private WaitingRoomService waitingRoomService;
+
+    @InjectMocks
+    private OrderCommandService orderCommandService;
+
+    private UUID orderId;
+    private UUID userId;
+    private UUID storeId;
+    private UUID cartId;
+    private UUID menuId;
+    private CurrentUser user;
+
+    @BeforeEach
+    void setUp() {
+        orderId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        storeId = UUID.randomUUID();
+        cartId = UUID.randomUUID();
+        menuId = UUID.randomUUID();
+        user = new CurrentUser(userId, "ROLE_CUSTOMER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private OrderRequestDTO.OrderCreateRequestDTO createRequest() {
+        return OrderRequestDTO.OrderCreateRequestDTO.builder()
+                .orderType(OrderType.ONLINE)
+                .orderStatus(OrderStatus.결제전)
+                .receiptType(ReceiptType.DELIVERY)
+                .build();
+    }
+
+    // 같은 메뉴 두 줄(2개 + 1개)이 담긴 장바구니
+    private void givenCart() {
+        Cart cart = Cart.restore(cartId, userId, storeId, LocalDateTime.now(), LocalDateTime.now());
+        CartItem.restore(UUID.randomUUID(), menuId, "hash-a", 2, 5000).setCart(cart);
+        CartItem.restore(UUID.randomUUID(), menuId, "hash-b", 1, 3000).setCart(cart);
+        when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
+        when(userClient.addressById(userId)).thenReturn(UserAddressResponseDTO.builder().address("서울").build());
+    }
+
+    // 저장 시점에 ID 를 채워 실제 영속화처럼 보이게 한다.
+    private void givenSavedOrderGetsId() {
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            ReflectionTestUtils.setField(order, "id", orderId);
+            return order;
+        });
+    }
+
+    private Order acceptedOrder() {
+        Order order = Order.builder()
+                .orderType(OrderType.ONLINE)
+                .receiptType(ReceiptType.DELIVERY)
+                .address("서울")
+                .totalPrice(13000)
+                .status(OrderStatus.주문대기)
+                .user(userId)
+                .store(storeId)
+                .build();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        return order;
+    }
+
+    private void givenAcceptedOrder(Order order) {
+        OrderItem item = OrderItem.builder().quantity(3).price(13000).build();
+        item.setMenu(menuId);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(item));
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Nested
+    @DisplayName("createOrder 메서드는")
+    class CreateOrderTests {
+
+        @Test
+        @DisplayName("재고를 예약한 뒤 트랜잭션이 롤백되면 예약을 반납한다")
+        void createOrder_RolledBackAfterReserve_ReleasesHold() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            givenCart();
+            givenSavedOrderGetsId();
+            when(storeClient.existStore(storeId)).thenReturn(true);
+            when(orderItemRepository.saveAll(any())).thenThrow(new IllegalStateException("DB 오류"));
+
+            // When
+            assertThatThrownBy(() -> orderCommandService.createOrder(createRequest(), cartId, user))
+                    .isInstanceOf(IllegalStateException.class);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            verify(storeClient).reserveStocks(Map.of(menuId, 3L), orderId);
+            verify(storeClient).releaseStockHold(orderId);
+        }
+
+        @Test
+        @DisplayName("예약 응답이 실패로 끝나 롤백돼도 혹시 잡힌 예약을 반납한다")
+        void createOrder_ReserveFailed_ReleasesHoldOnRollback() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            givenCart();
+            givenSavedOrderGetsId();
+            when(storeClient.existStore(storeId)).thenReturn(true);
+            when(storeClient.reserveStocks(any(), any())).thenThrow(new IllegalStateException("타임아웃"));
+
+            // When
+            assertThatThrownBy(() -> orderCommandService.createOrder(createRequest(), cartId, user))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.STOCK_UPDATE_FAILED);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            verify(storeClient).releaseStockHold(orderId);
+        }
+
+        @Test
+        @DisplayName("커밋되면 예약을 그대로 둔다")
+        void createOrder_Committed_KeepsHold() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            givenCart();
+            givenSavedOrderGetsId();
+            when(storeClient.existStore(storeId)).thenReturn(true);
+
+            // When
+            orderCommandService.createOrder(createRequest(), cartId, user);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            // Then
+            verify(storeClient, never()).releaseStockHold(any());
+            verify(orderEventPublishService).publishOrderCreatedEvent(
+                    any(), any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("acceptOrder 메서드는")
+    class AcceptOrderTests {
+
+        @Test
+        @DisplayName("재고 예약 없이 주문대기로 저장하고 접수 이벤트를 남긴다")
+        void acceptOrder_SavesPendingOrderWithoutReserving() {
+            // Given
+            givenCart();
+            givenSavedOrderGetsId();
+
+            // When
+            orderCommandService.acceptOrder(createRequest(), cartId, user);
+
+            // Then
+            ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+            verify(orderRepository).save(captor.capture());
+            assertThat(captor.getValue().getStatus()).isEqualTo(OrderStatus.주문대기);
+            assertThat(captor.getValue().getTotalPrice()).isEqualTo(8000);
+            verify(orderItemRepository).saveAll(any());
+            verify(cartStore).deleteCart(any());
+            verify(orderEventPublishService).publishOrderAcceptedEvent(orderId, userId, storeId);
+            verify(storeClient, never()).reserveStocks(any(), any());
+            verify(orderEventPublishService, never()).publishOrderCreatedEvent(
+                    any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("대기열에 입장하지 않은 사용자는 접수하지 않는다")
+        void acceptOrder_NotAdmitted_Throws() {
+            // Given
+            Cart cart = Cart.restore(cartId, userId, storeId, LocalDateTime.now(), LocalDateTime.now());
+            CartItem.restore(UUID.randomUUID(), menuId, "hash-a", 1, 5000).setCart(cart);
+            when(cartStore.findCartWithItems(cartId, userId)).thenReturn(Optional.of(cart));
+            doThrow(new IllegalStateException("대기 중")).when(waitingRoomService).requireAdmission(storeId, userId);
+
+            // When & Then
+            assertThatThrownBy(() -> orderCommandService.acceptOrder(createRequest(), cartId, user))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(orderRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("reserveAcceptedOrder 메서드는")
+    class ReserveAcceptedOrderTests {
+
+        @Test
+        @DisplayName("주문대기 주문의 재고를 예약하고 결제전으로 넘긴다")
+        void reserveAcceptedOrder_Pending_ReservesAndHandsOff() {
+            // Given
+            Order order = acceptedOrder();
+            givenAcceptedOrder(order);
+            when(storeClient.existStore(storeId)).thenReturn(true);
+
+            // When
+            orderCommandService.reserveAcceptedOrder(orderId);
+
+            // Then
+            verify(storeClient).reserveStocks(Map.of(menuId, 3L), orderId);
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.결제전);
+            verify(orderEventPublishService).publishOrderCreatedEvent(
+                    orderId, userId, storeId, BigDecimal.valueOf(13000), "결제전", "서울");
+        }
+
+        @Test
+        @DisplayName("이미 처리된 주문은 다시 예약하지 않는다")
+        void reserveAcceptedOrder_AlreadyProcessed_Skips() {
+            // Given
+            Order order = acceptedOrder();
+            order.updateOrderStatus(OrderStatus.결제전);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+            // When
+            orderCommandService.reserveAcceptedOrder(orderId);
+
+            // Then
+            verifyNoInteractions(storeClient, orderEventPublishService);
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 재시도 없이 주문을 취소한다")
+        void reserveAcceptedOrder_InsufficientStock_Cancels() {
+            // Given
+            Order order = acceptedOrder();
+            givenAcceptedOrder(order);
+            when(storeClient.existStore(storeId)).thenReturn(true);
+            when(storeClient.reserveStocks(any(), any())).thenThrow(
+                    HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+            // When
+            orderCommandService.reserveAcceptedOrder(orderId);
+
+            // Then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.주문취소);
+            verifyNoInteractions(orderEventPublishService);
+        }
+
+        @Test
+        @DisplayName("가게가 없으면 재시도 없이 주문을 취소한다")
+        void reserveAcceptedOrder_StoreNotFound_Cancels() {
+            // Given
+            Order order = acceptedOrder();
+            givenAcceptedOrder(order);
+            when(storeClient.existStore(storeId)).thenReturn(false);
+
+            // When
+            orderCommandService.reserveAcceptedOrder(orderId);
+
+            // Then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.주문취소);
+            verify(storeClient, never()).reserveStocks(any(), any());
+        }
+
+        @Test
+        @DisplayName("일시적 실패는 다시 받도록 던지고 롤백 시 예약을 반납한다")
+        void reserveAcceptedOrder_TransientFailure_RethrowsAndReleases() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            Order order = acceptedOrder();
+            givenAcceptedOrder(order);
+            when(storeClient.existStore(storeId)).thenReturn(true);
+            when(storeClient.reserveStocks(any(), any())).thenThrow(new IllegalStateException("타임아웃"));
+
+            // When
+            assertThatThrownBy(() -> orderCommandService.reserveAcceptedOrder(orderId))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.STOCK_UPDATE_FAILED);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            verify(storeClient).releaseStockHold(orderId);
+        }
+    }
+
+    @Nested
+    @DisplayName("confirmStock 메서드는")
+    class ConfirmStockTests {
+
+        @Test
+        @DisplayName("예약 확정에 성공하면 환불하지 않는다")
+        void confirmStock_Confirmed_NoRefund() {
+            // Given
+            when(storeClient.confirmStockHold(orderId)).thenReturn(true);
+
+            // When
+            orderCommandService.confirmStock(orderId);
+
+            // Then
+            verify(storeClient).confirmStockHold(orderId);
+            verifyNoInteractions(paymentClient);
+        }
+
+        @Test
+        @DisplayName("확정할 예약이 없으면 반납이나 환불 없이 주문을 그대로 둔다")
+        void confirmStock_NoHold_LeavesOrderAlone() {
+            // Given
+            when(storeClient.confirmStockHold(orderId)).thenReturn(false);
+
+            // When
+            orderCommandService.confirmStock(orderId);
+
+            // Then
+            verify(storeClient, never()).releaseStockHold(any());
+            verifyNoInteractions(paymentClient);
+        }
+
+        @Test
+        @DisplayName("반납된 예약의 확정이 거절되면 환불한 뒤 실패를 알린다")
+        void confirmStock_ReleasedHoldRejected_RefundsAndThrows() {
+            // Given
+            doThrow(HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null, null, null))
+                    .when(storeClient).confirmStockHold(orderId);
+
+            // When & Then
+            assertThatThrownBy(() -> orderCommandService.confirmStock(orderId))
+                    .isInstanceOf(OrderException.class)
+                    .hasFieldOrPropertyWithValue("code", OrderErrorCode.STOCK_CONFIRM_FAILED);
+
+            verify(paymentClient).refundPayment(orderId, "재고 예약 확정 실패");
+        }
+
+        @Test
+        @DisplayName("만료된 예약의 재차감이 거절되면 예약을 반납하고 환불한 뒤 실패를 알린다")
+        void confirmStock_ExpiredHoldRetakeRejected_RefundsAndThrows() {
+            // Given
+            doThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null))
+                    .when(storeClient).confirmStockHold(orderId);
+
+            // When & Then
+            assertThatThrownBy(() -> orderCommandService.confirmStock(orderId))
+                    .isInstanceOf(OrderException.class)
+                    .hasFieldOrPropertyWithValue("code", OrderErrorCode.STOCK_CONFIRM_FAILED);
+
+            InOrder inOrder = inOrder(storeClient, paymentClient);
+            inOrder.verify(storeClient).releaseStockHold(orderId);
+            inOrder.verify(paymentClient).refundPayment(orderId, "재고 예약 확정 실패");
+        }
+
+        @Test
+        @DisplayName("환불 호출이 실패하면 그 예외를 그대로 올려 이벤트를 다시 받게 한다")
+        void confirmStock_RefundFails_PropagatesForRetry() {
+            // Given
+            doThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null))
+                    .when(storeClient).confirmStockHold(orderId);
+            doThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null))
+                    .when(paymentClient).refundPayment(any(), any());
+
+            // When & Then
+            assertThatThrownBy(() -> orderCommandService.confirmStock(orderId))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        @Test
+        @DisplayName("서버 오류는 환불하지 않고 그대로 올린다")
+        void confirmStock_ServerError_PropagatesWithoutRefund() {
+            // Given
+            doThrow(HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Error", null, null, null))
+                    .when(storeClient).confirmStockHold(orderId);
+
+            // When & Then
+            assertThatThrownBy(() -> orderCommandService.confirmStock(orderId))
+                    .isInstanceOf(HttpServerErrorException.class);
+
+            verifyNoInteractions(paymentClient);
+        }
+    }
+
+    @Nested
+    @DisplayName("restoreStock 메서드는")
+    class RestoreStockTests {
+
+        private Order orderWithItem(OrderStatus status) {
+            Order order = acceptedOrder();
+            order.updateOrderStatus(status);
+            OrderItem item = OrderItem.builder().quantity(3).price(13000).build();
+            item.setMenu(menuId);
+            order.addOrderItem(item);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            return order;
+        }
+
+        @Test
+        @DisplayName("예약 전인 주문대기 주문은 반납도 개별 복구도 하지 않는다")
+        void restoreStock_Pending_SkipsRestore() {
+            // Given
+            orderWithItem(OrderStatus.주문대기);
+
+            // When
+            orderCommandService.restoreStock(orderId);
+
+            // Then
+            verifyNoInteractions(storeClient);
+        }
+
+        @Test
+        @DisplayName("예약이 있으면 반납만 하고 개별 복구는 하지 않는다")
+        void restoreStock_HoldReleased_NoIncrease() {
+            // Given
+            orderWithItem(OrderStatus.결제전);
+            when(storeClient.releaseStockHold(orderId)).thenReturn(true);
+
+            // When
+            orderCommandService.restoreStock(orderId);
+
+            // Then
+            verify(storeClient, never()).increaseStock(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("예약 없이 재고를 차감한 이전 주문은 항목별로 재고를 늘린다")
+        void restoreStock_NoHold_IncreasesPerItem() {
+            // Given
+            UUID stockId = UUID.randomUUID();
+            orderWithItem(OrderStatus.주문완료);
+            when(storeClient.releaseStockHold(orderId)).thenReturn(false);
+            when(storeClient.getMenuStock(menuId)).thenReturn(MenuQuantityResponseDTO.builder().stockId(stockId).build());
+            when(storeClient.increaseStock(stockId, 3L, orderId)).thenReturn(true);
+
+            // When
+            orderCommandService.restoreStock(orderId);
+
+            // Then
+            verify(storeClient).increaseStock(stockId, 3L, orderId);
+        }
+
+        @Test
+        @DisplayName("주문대기 주문을 취소하면 재고를 건드리지 않고 취소만 한다")
+        void updateOrder_CancelPending_SkipsRestore() {
+            // Given
+            Order order = orderWithItem(OrderStatus.주문대기);
+            when(orderRepository.existsByOrderIdAndUserId(orderId, userId)).thenReturn(true);
+            OrderRequestDTO.OrderUpdateRequestDTO req = OrderRequestDTO.OrderUpdateRequestDTO.builder()
+                    .newStatus(OrderStatus.주문취소)
+                    .build();
+
+            // When
+            orderCommandService.updateOrder(req, orderId, user);
+
+            // Then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.주문취소);
+            verifyNoInteractions(storeClient);
+        }
+    }
+}
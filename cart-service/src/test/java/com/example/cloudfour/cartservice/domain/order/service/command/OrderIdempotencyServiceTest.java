@@ -0,0 +1,271 @@
+package com.example.cloudfour.cartservice.domain.order.service.command;
+
+import com.example.cloudfour.cartservice.domain.order.controller.OrderCommonResponseDTO;
+import com.example.cloudfour.cartservice.domain.order.dto.OrderRequestDTO;
+import com.example.cloudfour.cartservice.domain.order.dto.OrderResponseDTO;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderType;
+import com.example.cloudfour.cartservice.domain.order.enums.ReceiptType;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers
+@DisplayName("OrderIdempotencyService Redis 연동 테스트")
+class OrderIdempotencyServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final String KEY = "order-key-1";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private OrderIdempotencyService idempotencyService;
+
+    private UUID userId;
+    private UUID cartId;
+    private String redisKey;
+    private final AtomicInteger created = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushDb();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        idempotencyService = new OrderIdempotencyService(redisTemplate, Jackson2ObjectMapperBuilder.json().build());
+        ReflectionTestUtils.setField(idempotencyService, "waitMs", 300L);
+        ReflectionTestUtils.setField(idempotencyService, "pollIntervalMs", 20L);
+
+        userId = UUID.randomUUID();
+        cartId = UUID.randomUUID();
+        redisKey = "idempotency:order:" + userId + ":" + KEY;
+        created.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private OrderRequestDTO.OrderCreateRequestDTO request(String memo) {
+        return OrderRequestDTO.OrderCreateRequestDTO.builder()
+                .orderType(OrderType.ONLINE)
+                .orderStatus(OrderStatus.주문대기)
+                .receiptType(ReceiptType.DELIVERY)
+                .request(memo)
+                .build();
+    }
+
+    // 부를 때마다 새 주문을 만든 것처럼 응답한다.
+    private OrderResponseDTO.OrderCreateResponseDTO createOrder() {
+        created.incrementAndGet();
+        return OrderResponseDTO.OrderCreateResponseDTO.builder()
+                .orderCommonResponseDTO(OrderCommonResponseDTO.builder()
+                        .orderId(UUID.randomUUID())
+                        .orderStatus(OrderStatus.주문대기)
+                        .totalPrice(15000)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .build();
+    }
+
+    private OrderResponseDTO.OrderCreateResponseDTO execute(String memo,
+                                                           Supplier<OrderResponseDTO.OrderCreateResponseDTO> createOrder) {
+        return idempotencyService.execute(userId, KEY, cartId, request(memo), createOrder);
+    }
+
+    private UUID orderIdOf(OrderResponseDTO.OrderCreateResponseDTO response) {
+        return response.getOrderCommonResponseDTO().getOrderId();
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 키는 INVALID_IDEMPOTENCY_KEY 예외를 던진다")
+    void execute_InvalidKey_ThrowsInvalid() {
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute(userId, "잘못된 키", cartId, request("문 앞"),
+                OrderIdempotencyServiceTest.this::createOrder))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("code", OrderErrorCode.INVALID_IDEMPOTENCY_KEY);
+        assertThat(created).hasValue(0);
+    }
+
+    @Nested
+    @DisplayName("처리가 끝난 키로 다시 요청하면")
+    class CompletedTests {
+
+        @Test
+        @DisplayName("주문을 다시 만들지 않고 저장된 응답을 돌려준다")
+        void execute_Replay_ReturnsStoredResponse() {
+            // Given
+            OrderResponseDTO.OrderCreateResponseDTO first = execute("문 앞", OrderIdempotencyServiceTest.this::createOrder);
+
+            // When
+            OrderResponseDTO.OrderCreateResponseDTO replay = execute("문 앞", OrderIdempotencyServiceTest.this::createOrder);
+
+            // Then
+            assertThat(created).hasValue(1);
+            assertThat(orderIdOf(replay)).isEqualTo(orderIdOf(first));
+            assertThat(replay.getOrderCommonResponseDTO().getTotalPrice()).isEqualTo(15000);
+            assertThat(redisTemplate.getExpire(redisKey, TimeUnit.HOURS)).isGreaterThanOrEqualTo(23L);
+        }
+
+        @Test
+        @DisplayName("주문 내용이 다르면 IDEMPOTENCY_KEY_REUSED 예외를 던진다")
+        void execute_DifferentFingerprint_ThrowsReused() {
+            // Given
+            execute("문 앞", OrderIdempotencyServiceTest.this::createOrder);
+
+            // When & Then
+            assertThatThrownBy(() -> execute("경비실", OrderIdempotencyServiceTest.this::createOrder))
+                    .isInstanceOf(OrderException.class)
+                    .hasFieldOrPropertyWithValue("code", OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+            assertThat(created).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("같은 키가 처리 중이면")
+    class InFlightTests {
+
+        @Test
+        @DisplayName("주문 내용이 다른 요청은 기다리지 않고 IDEMPOTENCY_KEY_REUSED 예외를 던진다")
+        void execute_PendingWithDifferentFingerprint_ThrowsReused() {
+            // Given
+            redisTemplate.opsForValue().set(redisKey, "PENDING|other-fingerprint|" + UUID.randomUUID(), Duration.ofSeconds(30));
+
+            // When & Then
+            assertThatThrownBy(() -> execute("문 앞", OrderIdempotencyServiceTest.this::createOrder))
+                    .isInstanceOf(OrderException.class)
+                    .hasFieldOrPropertyWithValue("code", OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+            assertThat(created).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 끝나지 않으면 IDEMPOTENCY_IN_PROGRESS 예외를 던진다")
+        void execute_StillInFlight_ThrowsInProgress() throws Exception {
+            // Given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<OrderResponseDTO.OrderCreateResponseDTO> first = CompletableFuture.supplyAsync(() ->
+                    execute("문 앞", () -> {
+                        started.countDown();
+                        await(release);
+                        return createOrder();
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            try {
+                assertThatThrownBy(() -> execute("문 앞", OrderIdempotencyServiceTest.this::createOrder))
+                        .isInstanceOf(OrderException.class)
+                        .hasFieldOrPropertyWithValue("code", OrderErrorCode.IDEMPOTENCY_IN_PROGRESS);
+            } finally {
+                release.countDown();
+            }
+            first.get(5, TimeUnit.SECONDS);
+            assertThat(created).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("기다리는 동안 앞선 요청이 끝나면 그 응답을 받는다")
+        void execute_FinishesWhileWaiting_ReturnsSameOrder() throws Exception {
+            // Given
+            ReflectionTestUtils.setField(idempotencyService, "waitMs", 5000L);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<OrderResponseDTO.OrderCreateResponseDTO> first = CompletableFuture.supplyAsync(() ->
+                    execute("문 앞", () -> {
+                        started.countDown();
+                        await(release);
+                        return createOrder();
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            CompletableFuture<OrderResponseDTO.OrderCreateResponseDTO> duplicate = CompletableFuture.supplyAsync(() ->
+                    execute("문 앞", OrderIdempotencyServiceTest.this::createOrder));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(orderIdOf(duplicate.get(5, TimeUnit.SECONDS))).isEqualTo(orderIdOf(first.get(5, TimeUnit.SECONDS)));
+            assertThat(created).hasValue(1);
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 생성이 실패하면")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("처리 중 표시를 풀어 같은 키로 다시 시도할 수 있다")
+        void execute_CreateFails_ReleasesMarker() {
+            // Given
+            assertThatThrownBy(() -> execute("문 앞", () -> {
+                throw new OrderException(OrderErrorCode.INTERNAL_ERROR);
+            })).isInstanceOf(OrderException.class);
+            assertThat(redisTemplate.hasKey(redisKey)).isFalse();
+
+            // When
+            OrderResponseDTO.OrderCreateResponseDTO retried = execute("문 앞", OrderIdempotencyServiceTest.this::createOrder);
+
+            // Then
+            assertThat(retried).isNotNull();
+            assertThat(created).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("표시가 만료되어 다른 요청이 잡은 뒤라면 그 표시는 지우지 않는다")
+        void execute_MarkerTakenOver_KeepsOthersMarker() {
+            // Given
+            String othersMarker = "PENDING|other-request|" + UUID.randomUUID();
+
+            // When
+            assertThatThrownBy(() -> execute("문 앞", () -> {
+                // 처리 중 표시가 만료되어 다른 요청이 같은 키를 잡은 상황
+                redisTemplate.opsForValue().set(redisKey, othersMarker, Duration.ofSeconds(30));
+                throw new OrderException(OrderErrorCode.INTERNAL_ERROR);
+            })).isInstanceOf(OrderException.class);
+
+            // Then
+            assertThat(redisTemplate.opsForValue().get(redisKey)).isEqualTo(othersMarker);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.cloudfour.cartservice.domain.order.service.query;
+
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.client.UserClient;
+import com.example.cloudfour.cartservice.domain.order.dto.OrderResponseDTO;
+import com.example.cloudfour.cartservice.domain.order.entity.Order;
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.example.cloudfour.cartservice.domain.order.repository.OrderItemRepository;
+import com.example.cloudfour.cartservice.domain.order.repository.OrderRepository;
+import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderQueryService 단위테스트")
+class OrderQueryServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private StoreClient storeClient;
+
+    @Mock
+    private UserClient userClient;
+
+    @InjectMocks
+    private OrderQueryService orderQueryService;
+
+    private UUID orderId;
+    private CurrentUser user;
+
+    @BeforeEach
+    void setUp() {
+        orderId = UUID.randomUUID();
+        user = new CurrentUser(UUID.randomUUID(), "ROLE_CUSTOMER");
+    }
+
+    @Nested
+    @DisplayName("getOrderStatus 메서드는")
+    class GetOrderStatusTests {
+
+        @Test
+        @DisplayName("비동기 접수된 주문의 현재 상태를 돌려준다")
+        void getOrderStatus_Owner_ReturnsCurrentStatus() {
+            // Given
+            LocalDateTime updatedAt = LocalDateTime.now();
+            Order order = mock(Order.class);
+            when(order.getStatus()).thenReturn(OrderStatus.주문대기);
+            when(order.getUpdatedAt()).thenReturn(updatedAt);
+            when(orderRepository.existsByOrderIdAndUserId(orderId, user.id())).thenReturn(true);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+            // When
+            OrderResponseDTO.OrderStatusResponseDTO status = orderQueryService.getOrderStatus(orderId, user);
+
+            // Then
+            assertThat(status.getOrderStatus()).isEqualTo(OrderStatus.주문대기);
+            assertThat(status.getUpdatedAt()).isEqualTo(updatedAt);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 주문 상태는 조회할 수 없다")
+        void getOrderStatus_NotOwner_Throws() {
+            // Given
+            when(orderRepository.existsByOrderIdAndUserId(orderId, user.id())).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> orderQueryService.getOrderStatus(orderId, user))
+                    .isInstanceOf(OrderException.class)
+                    .hasFieldOrPropertyWithValue("code", OrderErrorCode.UNAUTHORIZED_ACCESS);
+            verify(orderRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("로그인하지 않은 요청은 거절한다")
+        void getOrderStatus_NullUser_Throws() {
+            // When & Then
+            assertThatThrownBy(() -> orderQueryService.getOrderStatus(orderId, null))
+                    .isInstanceOf(OrderException.class)
+                    .hasFieldOrPropertyWithValue("code", OrderErrorCode.UNAUTHORIZED_ACCESS);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.cloudfour.cartservice.domain.waitingroom.service;
+
+import com.example.cloudfour.cartservice.client.StoreClient;
+import com.example.cloudfour.cartservice.commondto.StoreResponseDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.dto.WaitingRoomRequestDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.dto.WaitingRoomResponseDTO;
+import com.example.cloudfour.cartservice.domain.waitingroom.enums.TicketStatus;
+import com.example.cloudfour.cartservice.domain.waitingroom.exception.WaitingRoomErrorCode;
+import com.example.cloudfour.cartservice.domain.waitingroom.exception.WaitingRoomException;
+import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("WaitingRoomService Redis 연동 테스트")
+class WaitingRoomServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private StoreClient storeClient;
+    private WaitingRoomService waitingRoomService;
+
+    private UUID storeId;
+    private CurrentUser owner;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+
+        storeClient = mock(StoreClient.class);
+        waitingRoomService = new WaitingRoomService(redisTemplate, storeClient);
+
+        storeId = UUID.randomUUID();
+        owner = new CurrentUser(UUID.randomUUID(), "ROLE_OWNER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private void givenStore(UUID ownerId) {
+        when(storeClient.storeById(storeId)).thenReturn(
+                StoreResponseDTO.builder().storeId(storeId).userId(ownerId).name("가게").build());
+    }
+
+    private WaitingRoomRequestDTO.WaitingRoomOpenRequestDTO openRequest(int admitPerSecond, int burst) {
+        return WaitingRoomRequestDTO.WaitingRoomOpenRequestDTO.builder()
+                .admitPerSecond(admitPerSecond)
+                .burst(burst)
+                .build();
+    }
+
+    private CurrentUser customer() {
+        return new CurrentUser(UUID.randomUUID(), "ROLE_CUSTOMER");
+    }
+
+    // 시계를 돌리는 대신 마지막 충전 시각을 과거로 옮겨 그만큼 시간이 흐른 것처럼 만든다.
+    private void elapse(long millis) {
+        String stateKey = "waiting-room:{" + storeId + "}:state";
+        long last = Long.parseLong((String) redisTemplate.opsForHash().get(stateKey, "last"));
+        redisTemplate.opsForHash().put(stateKey, "last", String.valueOf(last - millis));
+    }
+
+    @Nested
+    @DisplayName("토큰 버킷은")
+    class TokenBucketTests {
+
+        @BeforeEach
+        void openRoom() {
+            givenStore(owner.id());
+        }
+
+        @Test
+        @DisplayName("토큰이 쌓인 만큼 앞에서부터 입장시킨다")
+        void enter_TokensAvailable_Admits() {
+            // Given
+            waitingRoomService.open(storeId, openRequest(2, 2), owner);
+            elapse(1000);
+
+            // When
+            WaitingRoomResponseDTO.TicketResponseDTO first = waitingRoomService.enter(storeId, customer());
+            WaitingRoomResponseDTO.TicketResponseDTO second = waitingRoomService.enter(storeId, customer());
+
+            // Then
+            assertThat(first.getStatus()).isEqualTo(TicketStatus.ADMITTED);
+            assertThat(second.getStatus()).isEqualTo(TicketStatus.ADMITTED);
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 입장시키지 않고 대기 순서를 돌려주며 주문을 막는다")
+        void enter_NoTokens_Waits() {
+            // Given
+            waitingRoomService.open(storeId, openRequest(1, 1), owner);
+            CurrentUser first = customer();
+            CurrentUser second = customer();
+
+            // When
+            WaitingRoomResponseDTO.TicketResponseDTO firstTicket = waitingRoomService.enter(storeId, first);
+            WaitingRoomResponseDTO.TicketResponseDTO secondTicket = waitingRoomService.enter(storeId, second);
+
+            // Then
+            assertThat(firstTicket.getStatus()).isEqualTo(TicketStatus.WAITING);
+            assertThat(firstTicket.getPosition()).isEqualTo(1L);
+            assertThat(secondTicket.getStatus()).isEqualTo(TicketStatus.WAITING);
+            assertThat(secondTicket.getPosition()).isEqualTo(2L);
+            assertThatThrownBy(() -> waitingRoomService.requireAdmission(storeId, second.id()))
+                    .isInstanceOf(WaitingRoomException.class)
+                    .hasFieldOrPropertyWithValue("code", WaitingRoomErrorCode.NOT_ADMITTED);
+        }
+
+        @Test
+        @DisplayName("흐른 시간만큼 토큰을 채우되 최대 동시 입장 인원을 넘기지 않는다")
+        void getTicket_AfterElapsed_RefillsUpToBurst() {
+            // Given
+            waitingRoomService.open(storeId, openRequest(1, 1), owner);
+            CurrentUser first = customer();
+            CurrentUser second = customer();
+            waitingRoomService.enter(storeId, first);
+            waitingRoomService.enter(storeId, second);
+
+            // When: 10초가 흘러도 burst 1 이므로 한 명만 입장한다.
+            elapse(10_000);
+            WaitingRoomResponseDTO.TicketResponseDTO firstTicket = waitingRoomService.getTicket(storeId, first);
+            WaitingRoomResponseDTO.TicketResponseDTO secondTicket = waitingRoomService.getTicket(storeId, second);
+
+            // Then
+            assertThat(firstTicket.getStatus()).isEqualTo(TicketStatus.ADMITTED);
+            assertThat(secondTicket.getStatus()).isEqualTo(TicketStatus.WAITING);
+            assertThat(secondTicket.getPosition()).isEqualTo(1L);
+
+            // When: 다시 1초가 흐르면 다음 사람이 입장한다.
+            elapse(1000);
+
+            // Then
+            assertThat(waitingRoomService.getTicket(storeId, second).getStatus()).isEqualTo(TicketStatus.ADMITTED);
+            waitingRoomService.requireAdmission(storeId, second.id());
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 관리 권한은")
+    class AuthorizationTests {
+
+        @Test
+        @DisplayName("다른 사람의 가게 대기열은 열 수 없다")
+        void open_NotOwner_Throws() {
+            // Given
+            givenStore(UUID.randomUUID());
+
+            // When & Then
+            assertThatThrownBy(() -> waitingRoomService.open(storeId, openRequest(1, 1), owner))
+                    .isInstanceOf(WaitingRoomException.class)
+                    .hasFieldOrPropertyWithValue("code", WaitingRoomErrorCode.UNAUTHORIZED_ACCESS);
+            assertThat(redisTemplate.hasKey("waiting-room:{" + storeId + "}:state")).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 사람의 가게 대기열은 닫을 수 없다")
+        void close_NotOwner_Throws() {
+            // Given
+            givenStore(UUID.randomUUID());
+
+            // When & Then
+            assertThatThrownBy(() -> waitingRoomService.close(storeId, owner))
+                    .isInstanceOf(WaitingRoomException.class)
+                    .hasFieldOrPropertyWithValue("code", WaitingRoomErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        @Test
+        @DisplayName("관리자는 남의 가게 대기열도 열 수 있다")
+        void open_Master_Allowed() {
+            // Given
+            givenStore(UUID.randomUUID());
+            CurrentUser master = new CurrentUser(UUID.randomUUID(), "ROLE_MASTER");
+
+            // When
+            waitingRoomService.open(storeId, openRequest(1, 1), master);
+
+            // Then
+            assertThat(redisTemplate.hasKey("waiting-room:{" + storeId + "}:state")).isTrue();
+        }
+
+        @Test
+        @DisplayName("관리자는 가게 조회 없이 대기열을 닫을 수 있다")
+        void close_Master_SkipsStoreLookup() {
+            // When
+            waitingRoomService.close(storeId, new CurrentUser(UUID.randomUUID(), "ROLE_MASTER"));
+
+            // Then
+            verifyNoInteractions(storeClient);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 가게의 대기열은 열 수 없다")
+        void open_StoreNotFound_Throws() {
+            // Given
+            when(storeClient.storeById(storeId)).thenThrow(
+                    HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+            // When & Then
+            assertThatThrownBy(() -> waitingRoomService.open(storeId, openRequest(1, 1), owner))
+                    .isInstanceOf(WaitingRoomException.class)
+                    .hasFieldOrPropertyWithValue("code", WaitingRoomErrorCode.STORE_NOT_FOUND);
+        }
+    }
+}
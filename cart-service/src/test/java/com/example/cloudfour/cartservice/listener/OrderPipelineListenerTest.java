@@ -0,0 +1,104 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.domain.order.exception.StockErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.StockException;
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.cartservice.event.OrderAcceptedEvent;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPipelineListener 단위테스트")
+class OrderPipelineListenerTest {
+
+    @Mock
+    private OrderCommandService orderCommandService;
+
+    @Mock
+    private ProcessedEventFilter processedEventFilter;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OrderPipelineListener orderPipelineListener;
+    private OrderAcceptedEvent event;
+    private ConsumerRecord<String, String> record;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderPipelineListener = new OrderPipelineListener(orderCommandService, processedEventFilter, objectMapper);
+        UUID orderId = UUID.randomUUID();
+        event = OrderAcceptedEvent.create(orderId, UUID.randomUUID(), UUID.randomUUID());
+        record = new ConsumerRecord<>("order-pipeline", 0, 0L, orderId.toString(), objectMapper.writeValueAsString(event));
+    }
+
+    @Test
+    @DisplayName("접수 주문의 재고 예약 단계를 실행하고 처리 완료로 기록한 뒤 커밋한다")
+    void handle_Accepted_ReservesAndAcknowledges() {
+        // When
+        orderPipelineListener.handleOrderAcceptedEvent(record, acknowledgment);
+
+        // Then
+        verify(orderCommandService).reserveAcceptedOrder(event.getOrderId());
+        verify(processedEventFilter).markProcessed(event.getEventId());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("이미 처리된 이벤트는 예약하지 않고 커밋만 한다")
+    void handle_Duplicate_SkipsAndAcknowledges() {
+        // Given
+        when(processedEventFilter.isDuplicate(event.getEventId())).thenReturn(true);
+
+        // When
+        orderPipelineListener.handleOrderAcceptedEvent(record, acknowledgment);
+
+        // Then
+        verifyNoInteractions(orderCommandService);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 레코드는 건너뛰고 커밋한다")
+    void handle_Unreadable_SkipsAndAcknowledges() {
+        // Given
+        ConsumerRecord<String, String> broken = new ConsumerRecord<>("order-pipeline", 0, 1L, "key", "{not-json");
+
+        // When
+        orderPipelineListener.handleOrderAcceptedEvent(broken, acknowledgment);
+
+        // Then
+        verifyNoInteractions(orderCommandService, processedEventFilter);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("일시적 실패는 커밋하지 않고 다시 받도록 예외를 올린다")
+    void handle_TransientFailure_RethrowsWithoutAcknowledge() {
+        // Given
+        doThrow(new StockException(StockErrorCode.STOCK_UPDATE_FAILED))
+                .when(orderCommandService).reserveAcceptedOrder(event.getOrderId());
+
+        // When & Then
+        assertThatThrownBy(() -> orderPipelineListener.handleOrderAcceptedEvent(record, acknowledgment))
+                .isInstanceOf(StockException.class);
+        verify(processedEventFilter, never()).markProcessed(any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.domain.order.enums.OrderStatus;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentEventBatchListener 단위테스트")
+class PaymentEventBatchListenerTest {
+
+    @Mock
+    private OrderCommandService orderCommandService;
+
+    @Mock
+    private ProcessedEventFilter processedEventFilter;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private PaymentEventBatchListener paymentEventBatchListener;
+
+    private final List<ConsumerRecord<String, String>> records = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 헤더 없이 본문의 eventType 으로 이벤트를 고르는 실제 리더를 쓴다.
+        paymentEventBatchListener = new PaymentEventBatchListener(
+                orderCommandService, new PaymentEventReader(new ObjectMapper()), processedEventFilter);
+    }
+
+    private void approved(String eventId, UUID orderId) {
+        record(orderId, """
+                {"eventId":"%s","eventType":"PAYMENT_APPROVED","orderId":"%s"}""".formatted(eventId, orderId));
+    }
+
+    private void failed(String eventId, UUID orderId) {
+        record(orderId, """
+                {"eventId":"%s","eventType":"PAYMENT_FAILED","orderId":"%s","failureReason":"한도 초과"}"""
+                .formatted(eventId, orderId));
+    }
+
+    private void record(UUID orderId, String payload) {
+        records.add(new ConsumerRecord<>("payment-events", 0, records.size(), orderId.toString(), payload));
+    }
+
+    @Nested
+    @DisplayName("handlePaymentEvents 메서드는")
+    class HandleTests {
+
+        @Test
+        @DisplayName("주문 상태를 상태별로 묶어 한 번씩 반영하고, 같은 주문은 마지막 이벤트를 따른다")
+        void handle_GroupsOrdersByStatus() {
+            // Given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID refunded = UUID.randomUUID();
+            UUID failedThenApproved = UUID.randomUUID();
+            approved("event-1", first);
+            approved("event-2", second);
+            approved("event-3", refunded);
+            failed("event-4", failedThenApproved);
+            approved("event-5", failedThenApproved);
+            doThrow(new OrderException(OrderErrorCode.STOCK_CONFIRM_FAILED)).when(orderCommandService).confirmStock(refunded);
+
+            // When
+            paymentEventBatchListener.handlePaymentEvents(records, acknowledgment);
+
+            // Then
+            verify(orderCommandService).bulkUpdateOrderStatusByPaymentEvents(
+                    OrderStatus.주문완료, List.of(first, second, failedThenApproved));
+            verify(orderCommandService).bulkUpdateOrderStatusByPaymentEvents(OrderStatus.주문취소, List.of(refunded));
+            verify(orderCommandService).restoreStock(failedThenApproved);
+            List.of("event-1", "event-2", "event-3", "event-4", "event-5")
+                    .forEach(eventId -> verify(processedEventFilter).markProcessed(eventId));
+            verify(acknowledgment).acknowledge();
+        }
+
+        @Test
+        @DisplayName("이미 처리된 이벤트와 배치 안의 중복 이벤트는 건너뛴다")
+        void handle_SkipsDuplicates() {
+            // Given
+            UUID orderId = UUID.randomUUID();
+            UUID processedOrderId = UUID.randomUUID();
+            approved("event-1", orderId);
+            approved("event-1", orderId);
+            approved("event-0", processedOrderId);
+            when(processedEventFilter.isDuplicate("event-0")).thenReturn(true);
+
+            // When
+            paymentEventBatchListener.handlePaymentEvents(records, acknowledgment);
+
+            // Then
+            verify(orderCommandService, times(1)).confirmStock(orderId);
+            verify(orderCommandService, never()).confirmStock(processedOrderId);
+            verify(orderCommandService).bulkUpdateOrderStatusByPaymentEvents(OrderStatus.주문완료, List.of(orderId));
+            verify(processedEventFilter, never()).markProcessed("event-0");
+        }
+
+        @Test
+        @DisplayName("알 수 없는 이벤트 타입은 건너뛰고 커밋한다")
+        void handle_UnknownType_SkipsAndCommits() {
+            // Given
+            UUID orderId = UUID.randomUUID();
+            record(orderId, """
+                    {"eventId":"event-1","eventType":"PAYMENT_REFUNDED","orderId":"%s"}""".formatted(orderId));
+
+            // When
+            paymentEventBatchListener.handlePaymentEvents(records, acknowledgment);
+
+            // Then
+            verifyNoInteractions(orderCommandService);
+            verify(acknowledgment).acknowledge();
+        }
+
+        @Test
+        @DisplayName("처리에 실패하면 앞선 레코드의 상태만 반영하고 실패 인덱스로 예외를 던진다")
+        void handle_Failure_AppliesPrefixAndRethrows() {
+            // Given
+            UUID done = UUID.randomUUID();
+            UUID broken = UUID.randomUUID();
+            UUID after = UUID.randomUUID();
+            approved("event-1", done);
+            approved("event-2", broken);
+            approved("event-3", after);
+            doThrow(new IllegalStateException("store-service 응답 없음")).when(orderCommandService).confirmStock(broken);
+
+            // When & Then
+            assertThatThrownBy(() -> paymentEventBatchListener.handlePaymentEvents(records, acknowledgment))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .hasFieldOrPropertyWithValue("index", 1);
+
+            verify(orderCommandService).bulkUpdateOrderStatusByPaymentEvents(OrderStatus.주문완료, List.of(done));
+            verify(orderCommandService, never()).confirmStock(after);
+            verify(processedEventFilter).markProcessed("event-1");
+            verify(processedEventFilter, never()).markProcessed("event-2");
+            verify(acknowledgment, never()).acknowledge();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.cloudfour.cartservice.listener;
+
+import com.example.cloudfour.cartservice.domain.order.exception.OrderErrorCode;
+import com.example.cloudfour.cartservice.domain.order.exception.OrderException;
+import com.example.cloudfour.cartservice.domain.order.service.command.OrderCommandService;
+import com.example.cloudfour.cartservice.event.PaymentApprovedEvent;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentEventHandler 단위테스트")
+class PaymentEventHandlerTest {
+
+    @Mock
+    private OrderCommandService orderCommandService;
+
+    @Mock
+    private ProcessedEventFilter processedEventFilter;
+
+    @Mock
+    private PaymentEventReader paymentEventReader;
+
+    @InjectMocks
+    private PaymentEventHandler paymentEventHandler;
+
+    private UUID orderId;
+    private ConsumerRecord<String, String> record;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderId = UUID.randomUUID();
+        record = new ConsumerRecord<>("payment-events", 0, 0L, orderId.toString(), "{}");
+        when(paymentEventReader.read(record)).thenReturn(PaymentApprovedEvent.builder()
+                .eventId("event-1")
+                .orderId(orderId)
+                .build());
+    }
+
+    @Test
+    @DisplayName("결제 승인 후 예약 확정에 성공하면 주문완료로 바꾼다")
+    void approved_Confirmed_CompletesOrder() {
+        // When
+        paymentEventHandler.handle(record);
+
+        // Then
+        verify(orderCommandService).updateOrderStatusByPaymentEvent(orderId, "주문완료");
+        verify(processedEventFilter).markProcessed("event-1");
+    }
+
+    @Test
+    @DisplayName("예약 확정에 실패해 환불된 주문은 주문완료가 아니라 주문취소로 마무리한다")
+    void approved_ConfirmFailed_CancelsOrder() {
+        // Given
+        doThrow(new OrderException(OrderErrorCode.STOCK_CONFIRM_FAILED)).when(orderCommandService).confirmStock(orderId);
+
+        // When
+        paymentEventHandler.handle(record);
+
+        // Then
+        verify(orderCommandService).updateOrderStatusByPaymentEvent(orderId, "주문취소");
+        verify(orderCommandService, never()).updateOrderStatusByPaymentEvent(orderId, "주문완료");
+        verify(processedEventFilter).markProcessed("event-1");
+    }
+
+    @Test
+    @DisplayName("그 밖의 실패는 처리 완료로 기록하지 않고 다시 받도록 예외를 올린다")
+    void approved_OtherFailure_Rethrows() {
+        // Given
+        doThrow(new IllegalStateException("store down")).when(orderCommandService).confirmStock(orderId);
+
+        // When & Then
+        assertThatThrownBy(() -> paymentEventHandler.handle(record))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(orderCommandService, never()).updateOrderStatusByPaymentEvent(any(), any());
+        verify(processedEventFilter, never()).markProcessed(any());
+    }
+}
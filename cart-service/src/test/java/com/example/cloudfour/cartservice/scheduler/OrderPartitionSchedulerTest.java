@@ -0,0 +1,170 @@
+package com.example.cloudfour.cartservice.scheduler;
+
+import com.example.cloudfour.cartservice.domain.order.repository.OrderPartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPartitionScheduler 단위테스트")
+class OrderPartitionSchedulerTest {
+
+    @Mock
+    private OrderPartitionRepository orderPartitionRepository;
+
+    @InjectMocks
+    private OrderPartitionScheduler orderPartitionScheduler;
+
+    private static String day(LocalDate date) {
+        return OrderPartitionRepository.partitionName("p_order", date);
+    }
+
+    @Nested
+    @DisplayName("파티션 생성은")
+    class CreateTests {
+
+        @Test
+        @DisplayName("오늘부터 premake-days 일치 일 파티션과 DEFAULT 파티션을 만든다")
+        void onReady_CreatesDayPartitions() {
+            // Given
+            when(orderPartitionRepository.isPartitioned(anyString())).thenReturn(false);
+            when(orderPartitionRepository.isPartitioned("p_order")).thenReturn(true);
+            when(orderPartitionRepository.findPartitions("p_order")).thenReturn(List.of());
+
+            // When
+            orderPartitionScheduler.onReady();
+
+            // Then
+            verify(orderPartitionRepository).createDefaultPartition("p_order");
+            ArgumentCaptor<LocalDate> days = ArgumentCaptor.forClass(LocalDate.class);
+            verify(orderPartitionRepository, times(8)).createDayPartition(eq("p_order"), days.capture());
+            LocalDate today = LocalDate.now();
+            assertThat(days.getAllValues()).first().isEqualTo(today);
+            assertThat(days.getAllValues()).last().isEqualTo(today.plusDays(7));
+            verify(orderPartitionRepository, never()).createDefaultPartition("p_order_item");
+        }
+
+        @Test
+        @DisplayName("예전 월 파티션이 덮고 있는 날은 일 파티션을 만들지 않는다")
+        void onReady_LegacyMonthPartition_SkipsCoveredDays() {
+            // Given
+            LocalDate today = LocalDate.now();
+            YearMonth month = YearMonth.from(today);
+            when(orderPartitionRepository.isPartitioned(anyString())).thenReturn(false);
+            when(orderPartitionRepository.isPartitioned("p_order")).thenReturn(true);
+            when(orderPartitionRepository.findPartitions("p_order"))
+                    .thenReturn(List.of(OrderPartitionRepository.partitionName("p_order", month)));
+
+            // When
+            orderPartitionScheduler.onReady();
+
+            // Then
+            ArgumentCaptor<LocalDate> days = ArgumentCaptor.forClass(LocalDate.class);
+            verify(orderPartitionRepository, atLeast(0)).createDayPartition(eq("p_order"), days.capture());
+            assertThat(days.getAllValues()).allSatisfy(day -> assertThat(YearMonth.from(day)).isNotEqualTo(month));
+            long uncovered = today.datesUntil(today.plusDays(8)).filter(d -> !YearMonth.from(d).equals(month)).count();
+            assertThat(days.getAllValues()).hasSize((int) uncovered);
+        }
+    }
+
+    @Nested
+    @DisplayName("managePartitions 메서드는")
+    class ExpireTests {
+
+        @Test
+        @DisplayName("보관 기간이 통째로 지난 일 파티션과 예전 월 파티션만 떼어내고 지운다")
+        void managePartitions_ExpiresOldPartitionsOnly() {
+            // Given
+            LocalDate today = LocalDate.now();
+            String expiredDay = day(today.minusDays(4));
+            String keptDay = day(today.minusDays(2));
+            String expiredMonth = OrderPartitionRepository.partitionName("p_order", YearMonth.from(today).minusMonths(2));
+            when(orderPartitionRepository.isPartitioned(anyString())).thenReturn(false);
+            when(orderPartitionRepository.isPartitioned("p_order")).thenReturn(true);
+            when(orderPartitionRepository.findPartitions("p_order"))
+                    .thenReturn(List.of(expiredDay, keptDay, expiredMonth, "p_order_default"));
+
+            // When
+            orderPartitionScheduler.managePartitions();
+
+            // Then
+            verify(orderPartitionRepository).detachPartition("p_order", expiredDay);
+            verify(orderPartitionRepository).dropPartition(expiredDay);
+            verify(orderPartitionRepository).detachPartition("p_order", expiredMonth);
+            verify(orderPartitionRepository).dropPartition(expiredMonth);
+            verify(orderPartitionRepository, never()).detachPartition("p_order", keptDay);
+            verify(orderPartitionRepository, never()).detachPartition("p_order", "p_order_default");
+            verify(orderPartitionRepository, never()).deleteCreatedBefore(any());
+        }
+
+        @Test
+        @DisplayName("detach-only 면 떼어내기만 하고 지우지 않는다")
+        void managePartitions_DetachOnly_KeepsTable() {
+            // Given
+            ReflectionTestUtils.setField(orderPartitionScheduler, "detachOnly", true);
+            String expiredDay = day(LocalDate.now().minusDays(10));
+            when(orderPartitionRepository.isPartitioned(anyString())).thenReturn(false);
+            when(orderPartitionRepository.isPartitioned("p_order")).thenReturn(true);
+            when(orderPartitionRepository.findPartitions("p_order")).thenReturn(List.of(expiredDay));
+
+            // When
+            orderPartitionScheduler.managePartitions();
+
+            // Then
+            verify(orderPartitionRepository).detachPartition("p_order", expiredDay);
+            verify(orderPartitionRepository, never()).dropPartition(anyString());
+        }
+
+        @Test
+        @DisplayName("파티셔닝되지 않은 주문 테이블은 보관 기간 기준으로 행을 지운다")
+        void managePartitions_NotPartitioned_DeletesRows() {
+            // Given
+            when(orderPartitionRepository.isPartitioned(anyString())).thenReturn(false);
+
+            // When
+            orderPartitionScheduler.managePartitions();
+
+            // Then
+            ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(orderPartitionRepository).deleteCreatedBefore(cutoff.capture());
+            assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(3).plusMinutes(1));
+            verify(orderPartitionRepository, never()).createDayPartition(anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("파티션 이름은")
+    class NameTests {
+
+        @Test
+        @DisplayName("일 파티션은 다음 날, 월 파티션은 다음 달 1일을 상한으로 읽고 DEFAULT 는 건너뛴다")
+        void upperBoundOf_ParsesDayAndMonth() {
+            assertThat(OrderPartitionRepository.upperBoundOf("p_order_item_2026_02_28"))
+                    .contains(LocalDate.of(2026, 3, 1));
+            assertThat(OrderPartitionRepository.upperBoundOf("p_order_2026_12"))
+                    .contains(LocalDate.of(2027, 1, 1));
+            assertThat(OrderPartitionRepository.upperBoundOf("p_order_default")).isEmpty();
+        }
+    }
+}
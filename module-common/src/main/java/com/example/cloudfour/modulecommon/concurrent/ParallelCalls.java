@@ -0,0 +1,87 @@
+package com.example.cloudfour.modulecommon.concurrent;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 서로 독립적인 원격 호출을 가상 스레드에서 동시에 실행한다.
+// 하나라도 실패하거나 자신의 제한 시간을 넘기면 나머지 호출을 인터럽트로 취소하고 그 예외를 그대로 던진다.
+public final class ParallelCalls implements AutoCloseable {
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("parallel-call-", 0).factory());
+
+    private final CompletionService<Object> completionService = new ExecutorCompletionService<>(EXECUTOR);
+    private final Map<Future<Object>, Call> pending = new LinkedHashMap<>();
+
+    private record Call(long deadlineNanos, Supplier<? extends RuntimeException> onTimeout) {
+    }
+
+    private ParallelCalls() {
+    }
+
+    public static ParallelCalls open() {
+        return new ParallelCalls();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> fork(Callable<T> task, Duration timeout, Supplier<? extends RuntimeException> onTimeout) {
+        Future<Object> future = completionService.submit(task::call);
+        pending.put(future, new Call(System.nanoTime() + timeout.toNanos(), onTimeout));
+        return (Future<T>) future;
+    }
+
+    public void join() {
+        try {
+            while (!pending.isEmpty()) {
+                Map.Entry<Future<Object>, Call> nearest = pending.entrySet().stream()
+                        .min(Comparator.comparingLong(e -> e.getValue().deadlineNanos()))
+                        .orElseThrow();
+                long waitNanos = nearest.getValue().deadlineNanos() - System.nanoTime();
+                Future<Object> done = completionService.poll(Math.max(waitNanos, 0L), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw nearest.getValue().onTimeout().get();
+                }
+                pending.remove(done);
+                done.get();
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병렬 호출 대기 중 인터럽트 발생", e);
+        } finally {
+            cancelPending();
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelPending();
+    }
+
+    private void cancelPending() {
+        pending.keySet().forEach(future -> future.cancel(true));
+        pending.clear();
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.cloudfour.modulecommon.kafka;
+
+// 서비스 간 Kafka 레코드에 붙이는 헤더 이름, 컨슈머는 본문을 읽기 전에 이 헤더로 역직렬화할 타입을 고른다.
+public final class EventHeaders {
+
+    public static final String EVENT_TYPE = "eventType";
+
+    private EventHeaders() {
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.cloudfour.modulecommon.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+// 배치 리스너가 받은 레코드를 키별 줄로 나눠 가상 스레드에서 동시에 처리한다.
+// 같은 키의 레코드는 한 줄에서 오프셋 순서대로 처리되고, 한 건이 실패하면 그 줄의 뒤 레코드는 처리하지 않는다.
+// 실패가 있으면 가장 앞선 실패 레코드의 인덱스로 BatchListenerFailedException 을 던져,
+// 에러 핸들러가 그 앞(모두 처리 완료된 구간)까지만 커밋하고 실패 레코드부터 다시 받게 한다.
+// 그 뒤에서 이미 처리된 다른 키의 레코드도 다시 오므로 핸들러는 ProcessedEventFilter 등으로 멱등해야 한다.
+@Slf4j
+public class KeyOrderedProcessor {
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("key-ordered-", 0).factory());
+
+    private final Semaphore permits;
+
+    // 키가 없는 레코드는 파티션마다 한 줄로 모아 순서를 지킨다.
+    private record Lane(String topic, int partition, Object key) {
+    }
+
+    public KeyOrderedProcessor(int maxConcurrency) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+
+    public <K, V> void process(List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        Map<Lane, List<Integer>> lanes = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<K, V> record = records.get(i);
+            lanes.computeIfAbsent(new Lane(record.topic(), record.partition(), record.key()), lane -> new ArrayList<>())
+                    .add(i);
+        }
+
+        ConcurrentSkipListMap<Integer, Exception> failures = new ConcurrentSkipListMap<>();
+        List<Future<?>> futures = new ArrayList<>(lanes.size());
+        for (List<Integer> lane : lanes.values()) {
+            futures.add(EXECUTOR.submit(() -> runLane(records, lane, handler, failures)));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            // 어느 레코드까지 끝났는지 알 수 없으므로 배치 처음부터 다시 받는다.
+            throw new BatchListenerFailedException("키 순서 병렬 처리 중단", e, 0);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("키 순서 병렬 처리 실패", e.getCause());
+        }
+
+        if (!failures.isEmpty()) {
+            Map.Entry<Integer, Exception> first = failures.firstEntry();
+            ConsumerRecord<K, V> record = records.get(first.getKey());
+            log.warn("키 순서 병렬 처리 실패: {}건 중 {}개 키 실패, 처음 실패 partition={}, offset={}",
+                    records.size(), failures.size(), record.partition(), record.offset());
+            throw new BatchListenerFailedException("키 순서 병렬 처리 실패", first.getValue(), first.getKey());
+        }
+    }
+
+    private <K, V> void runLane(List<ConsumerRecord<K, V>> records, List<Integer> lane,
+                                Consumer<ConsumerRecord<K, V>> handler, Map<Integer, Exception> failures) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(lane.get(0), e);
+            return;
+        }
+
+        try {
+            for (int index : lane) {
+                try {
+                    handler.accept(records.get(index));
+                } catch (Exception e) {
+                    failures.put(index, e);
+                    return;
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+}
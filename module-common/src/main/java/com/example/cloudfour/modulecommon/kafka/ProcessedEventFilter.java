@@ -0,0 +1,151 @@
+package com.example.cloudfour.modulecommon.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Kafka 컨슈머의 처리 완료 eventId 를 기억해 재전송된 이벤트를 DB 조회나 원격 호출 전에 걸러낸다.
+// 로컬 Bloom filter 에 없으면 바로 새 이벤트로 보고, 있다고 하면 Redis set 으로 오탐인지 확인한다.
+// Redis 에는 TTL 길이의 시간 구간마다 set 을 하나씩 두고 현재/직전 구간만 보므로 eventId 는 TTL~2*TTL 동안 남는다.
+// 파티션을 새로 할당받으면 다른 인스턴스가 처리한 eventId 도 알 수 있도록 Redis 에서 로컬 필터를 다시 채운다.
+// 재구성은 옆에 새 필터를 만들어 다 채운 뒤 바꿔 끼우고, 그동안 들어온 기록은 두 필터에 함께 넣는다.
+@Slf4j
+public class ProcessedEventFilter {
+
+    private static final RedisScript<Long> CONTAINS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return 1 end " +
+                    "return redis.call('SISMEMBER', KEYS[2], ARGV[1])",
+            Long.class);
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SADD', KEYS[1], ARGV[1]) " +
+                    "redis.call('EXPIREAT', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final long ttlSeconds;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    private volatile EventIdBloomFilter filter;
+    // 재구성 중에만 값이 있다, markProcessed 가 여기에도 넣어 채우는 동안 들어온 기록을 잃지 않는다.
+    private volatile EventIdBloomFilter rebuilding;
+
+    public ProcessedEventFilter(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl,
+                                long expectedInsertions, double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttlSeconds = Math.max(1, ttl.toSeconds());
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new EventIdBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isDuplicate(String eventId) {
+        if (eventId == null || !filter.mightContain(eventId)) {
+            return false;
+        }
+
+        try {
+            long bucket = currentBucket();
+            Long found = redisTemplate.execute(CONTAINS_SCRIPT, List.of(key(bucket), key(bucket - 1)), eventId);
+            return found != null && found == 1L;
+        } catch (Exception e) {
+            // Redis 를 못 쓰면 중복으로 단정하지 않고 처리한다, 뒤쪽 멱등 처리가 마지막 방어선이다.
+            log.warn("처리 이벤트 확인 실패, 새 이벤트로 처리: eventId={}, error={}", eventId, e.getMessage());
+            return false;
+        }
+    }
+
+    public void markProcessed(String eventId) {
+        if (eventId == null) {
+            return;
+        }
+
+        try {
+            long bucket = currentBucket();
+            redisTemplate.execute(ADD_SCRIPT, List.of(key(bucket)), eventId,
+                    String.valueOf((bucket + 2) * ttlSeconds));
+        } catch (Exception e) {
+            log.warn("처리 이벤트 기록 실패: eventId={}, error={}", eventId, e.getMessage());
+        }
+
+        // Redis 에 먼저 쓰고 재구성 여부를 본다, 재구성이 이보다 늦게 시작했다면 스캔이 이 기록을 읽는다.
+        // 재구성 필터를 현재 필터보다 먼저 읽어야 바꿔 끼우는 순간에도 둘 중 하나에는 들어간다.
+        EventIdBloomFilter next = rebuilding;
+        EventIdBloomFilter current = filter;
+        current.put(eventId);
+        if (next != null && next != current) {
+            next.put(eventId);
+        }
+
+        if (current.isSaturated()) {
+            reload();
+        }
+    }
+
+    // 채우는 동안에는 기존 필터로 계속 판단하고, 다 채운 뒤에 바꿔 끼운다.
+    // 실패하면 채우다 만 필터는 버리고 기존 필터를 그대로 쓴다.
+    public void reload() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+
+        EventIdBloomFilter fresh = new EventIdBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        long loaded = 0;
+        try {
+            long bucket = currentBucket();
+            for (String key : List.of(key(bucket), key(bucket - 1))) {
+                try (Cursor<String> cursor = redisTemplate.opsForSet().scan(key, ScanOptions.scanOptions().count(1000).build())) {
+                    while (cursor.hasNext()) {
+                        fresh.put(cursor.next());
+                        loaded++;
+                    }
+                }
+            }
+            filter = fresh;
+            log.info("처리 이벤트 필터 재구성 완료: prefix={}, {}건", keyPrefix, loaded);
+        } catch (Exception e) {
+            log.warn("처리 이벤트 필터 재구성 실패, 기존 필터 유지: prefix={}, error={}", keyPrefix, e.getMessage());
+        } finally {
+            rebuilding = null;
+            reloading.set(false);
+        }
+    }
+
+    // 컨테이너 팩토리에 걸어 두면 파티션을 할당받을 때마다 필터를 다시 채운다.
+    public ConsumerAwareRebalanceListener rebalanceListener() {
+        return new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                if (!partitions.isEmpty()) {
+                    reload();
+                }
+            }
+        };
+    }
+
+    private long currentBucket() {
+        return Instant.now().getEpochSecond() / ttlSeconds;
+    }
+
+    private String key(long bucket) {
+        return keyPrefix + ":" + bucket;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cloudfour.modulecommon.metrics;
+
+import com.example.cloudfour.modulecommon.apiPayLoad.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.time.Duration;
+
+// 모든 서비스의 service 메서드와 HTTP 클라이언트(*Client) 메서드 실행 시간을 Micrometer Timer 로 기록한다.
+// SLO 경계로 나눈 히스토그램 버킷이 /actuator/prometheus 로 나가므로 histogram_quantile 로 p99 를 볼 수 있다.
+// 태그: class, method, outcome(SUCCESS/CLIENT_ERROR/SERVER_ERROR), exception
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "metrics.latency.enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyAspect {
+
+    public static final String SERVICE_METRIC = "app.service.latency";
+    public static final String CLIENT_METRIC = "app.client.latency";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${metrics.latency.service-slo:10ms,50ms,100ms,250ms,500ms,1s,2s}")
+    private Duration[] serviceSlo;
+
+    // 외부 호출은 네트워크를 타므로 서비스 메서드보다 경계를 넓게 잡는다.
+    @Value("${metrics.latency.client-slo:50ms,100ms,250ms,500ms,1s,2s,5s}")
+    private Duration[] clientSlo;
+
+    @Around("within(com.example.cloudfour..service..*) && !within(com.example.cloudfour.modulecommon..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(SERVICE_METRIC, serviceSlo, joinPoint);
+    }
+
+    // client 패키지에는 블룸 필터나 캐시 일괄 조회 같은 프로세스 안 도우미도 있으므로 이름이 *Client 인 HTTP 클라이언트만 잰다.
+    @Around("within(com.example.cloudfour..client..*Client) && !within(com.example.cloudfour.modulecommon..*)")
+    public Object timeClient(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(CLIENT_METRIC, clientSlo, joinPoint);
+    }
+
+    private Object record(String metric, Duration[] slo, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(metric)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .serviceLevelObjectives(slo)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 4xx 로 응답할 예외(잘못된 요청, 권한, 재고 부족 등)는 장애와 구분해 CLIENT_ERROR 로 남긴다.
+    private static String outcome(Throwable e) {
+        if (e instanceof CustomException customException
+                && customException.getCode().getStatus().is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (e instanceof HttpStatusCodeException httpException
+                && httpException.getStatusCode().is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        return "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.cloudfour.modulecommon.outbox;
+
+import com.example.cloudfour.modulecommon.kafka.EventHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 아웃박스에 쌓인 이벤트를 모아서 Kafka 로 보낸다.
+// 1) 짧은 트랜잭션에서 보낼 행을 FOR UPDATE SKIP LOCKED 로 골라 claimed_until 을 찍고 바로 커밋한다.
+//    잡힌 행은 기한이 지나기 전까지 다른 인스턴스가 가져가지 않으므로 Kafka 를 기다리는 동안 DB 트랜잭션을 열어 두지 않는다.
+// 2) 트랜잭션 밖에서 보낸다. 같은 키는 앞 이벤트가 성공해야 다음 이벤트를 보내고, 실패하면 그 키의 나머지는 이번 배치에서 멈춘다.
+//    키가 다른 이벤트는 한 차례에 모두 send 한 뒤 함께 기다리므로 linger/압축이 배치 단위로 적용된다.
+// 3) 다시 짧은 트랜잭션에서 성공한 행은 sent_at 을 찍고, 나머지는 잡은 것을 풀어 다음 주기에 다시 보낸다.
+// 재시도나 기한 만료로 같은 이벤트가 다시 나갈 수 있으므로 컨슈머는 eventId 로 중복을 걸러야 한다.
+@Slf4j
+public class OutboxRelay {
+
+    // 같은 키의 앞선 이벤트가 다른 릴레이에 잡혀 있으면 뒤 이벤트는 가져가지 않아 키 순서가 인스턴스 사이에서도 지켜진다.
+    // RETURNING 은 순서를 보장하지 않으므로 created_at 을 함께 읽어 애플리케이션에서 정렬한다.
+    private static final String CLAIM_SQL =
+            "update p_outbox_event set claimed_until = now() + ? * interval '1 millisecond' " +
+                    "where id in (select o.id from p_outbox_event o " +
+                    "where o.sent_at is null and (o.claimed_until is null or o.claimed_until < now()) " +
+                    "and not exists (select 1 from p_outbox_event p where p.message_key = o.message_key " +
+                    "and p.sent_at is null and p.created_at < o.created_at and p.claimed_until >= now()) " +
+                    "order by o.created_at limit ? for update skip locked) " +
+                    "returning id, topic, message_key, event_type, payload, created_at";
+
+    private static final String MARK_SENT_SQL =
+            "update p_outbox_event set sent_at = :sentAt, claimed_until = null where id in (:ids)";
+
+    private static final String RELEASE_SQL =
+            "update p_outbox_event set claimed_until = null where id in (:ids) and sent_at is null";
+
+    private static final String PURGE_SQL =
+            "delete from p_outbox_event where id in (select id from p_outbox_event where sent_at < ? limit ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration claimLease;
+
+    record OutboxMessage(UUID id, String topic, String key, String eventType, String payload,
+                         LocalDateTime createdAt) {
+    }
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       KafkaTemplate<String, String> kafkaTemplate, int batchSize, Duration sendTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        // 보내고 결과를 기록할 때까지 넉넉히 잡아 두고, 그 사이 인스턴스가 죽으면 기한이 지나 다른 인스턴스가 가져간다.
+        this.claimLease = sendTimeout.multipliedBy(3);
+    }
+
+    // 아웃박스 전용 프로듀서, 값은 이미 JSON 문자열이므로 문자열 그대로 보내고 배치 단위로 압축한다.
+    public static ProducerFactory<String, String> producerFactory(String bootstrapServers, int lingerMs,
+                                                                  String compressionType) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 65536);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    // 보낸 건수를 돌려준다, batchSize 와 같으면 아직 남은 행이 있을 수 있다.
+    public int relay() {
+        List<OutboxMessage> messages = transactionTemplate.execute(status -> claimBatch());
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> sentIds = sendInKeyOrder(messages);
+
+        transactionTemplate.executeWithoutResult(status -> complete(messages, sentIds));
+        log.debug("아웃박스 릴레이: 대상={}건, 발행={}건", messages.size(), sentIds.size());
+        return sentIds.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // 보낸 지 retention 이 지난 행을 chunkSize 씩 나눠 지운다.
+    public int purgeSent(Duration retention, int chunkSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, cutoff, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    private List<OutboxMessage> claimBatch() {
+        List<OutboxMessage> messages = new ArrayList<>(jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("topic"),
+                        rs.getString("message_key"),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                claimLease.toMillis(), batchSize));
+        messages.sort(Comparator.comparing(OutboxMessage::createdAt));
+        return messages;
+    }
+
+    // 키마다 대기열을 만들고 각 대기열의 맨 앞 이벤트를 한 차례로 묶어 보낸다.
+    // 성공한 키만 다음 차례에 이어서 보내므로 같은 키 안에서는 앞 이벤트가 확인된 뒤에야 뒤 이벤트가 나간다.
+    private List<UUID> sendInKeyOrder(List<OutboxMessage> messages) {
+        List<Deque<OutboxMessage>> queues = new ArrayList<>();
+        Map<String, Deque<OutboxMessage>> queuesByKey = new HashMap<>();
+        for (OutboxMessage message : messages) {
+            // 키가 없는 이벤트는 순서를 맞출 대상이 없으므로 혼자 대기열을 쓴다.
+            Deque<OutboxMessage> queue = message.key() == null ? null : queuesByKey.get(message.key());
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.add(queue);
+                if (message.key() != null) {
+                    queuesByKey.put(message.key(), queue);
+                }
+            }
+            queue.add(message);
+        }
+
+        List<UUID> sentIds = new ArrayList<>(messages.size());
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        while (!queues.isEmpty() && System.nanoTime() < deadline) {
+            List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(queues.size());
+            for (Deque<OutboxMessage> queue : queues) {
+                futures.add(send(queue.peekFirst()));
+            }
+
+            List<Deque<OutboxMessage>> nextQueues = new ArrayList<>(queues.size());
+            for (int i = 0; i < queues.size(); i++) {
+                Deque<OutboxMessage> queue = queues.get(i);
+                OutboxMessage message = queue.peekFirst();
+                try {
+                    futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    sentIds.add(message.id());
+                    queue.pollFirst();
+                    if (!queue.isEmpty()) {
+                        nextQueues.add(queue);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return sentIds;
+                } catch (Exception e) {
+                    log.warn("아웃박스 이벤트 발행 실패, 같은 키의 뒤 이벤트 {}건과 함께 다음 주기에 재시도: id={}, topic={}, key={}, error={}",
+                            queue.size() - 1, message.id(), message.topic(), message.key(), e.getMessage());
+                }
+            }
+            queues = nextQueues;
+        }
+        return sentIds;
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxMessage message) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(message.topic(), message.key(), message.payload());
+        if (message.eventType() != null) {
+            record.headers().add(EventHeaders.EVENT_TYPE, message.eventType().getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            return kafkaTemplate.send(record);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void complete(List<OutboxMessage> messages, List<UUID> sentIds) {
+        if (!sentIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(MARK_SENT_SQL, new MapSqlParameterSource()
+                    .addValue("sentAt", LocalDateTime.now())
+                    .addValue("ids", sentIds));
+        }
+        if (sentIds.size() < messages.size()) {
+            Set<UUID> sent = new HashSet<>(sentIds);
+            List<UUID> unsentIds = messages.stream()
+                    .map(OutboxMessage::id)
+                    .filter(id -> !sent.contains(id))
+                    .toList();
+            namedParameterJdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource("ids", unsentIds));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.cloudfour.modulecommon.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 이벤트를 Kafka 로 바로 보내지 않고 호출한 쪽의 DB 트랜잭션 안에서 아웃박스 테이블에 쓴다.
+// 비즈니스 데이터와 함께 커밋되거나 함께 롤백되므로 이벤트가 유실되거나 롤백된 데이터의 이벤트가 나가지 않는다.
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "insert into p_outbox_event (id, topic, message_key, event_type, payload, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public UUID append(String topic, String key, String eventType, Object event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("아웃박스 이벤트는 트랜잭션 안에서만 기록할 수 있습니다: topic=" + topic);
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: topic=" + topic, e);
+        }
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, id, topic, key, eventType, payload, LocalDateTime.now());
+        return id;
+    }
+}
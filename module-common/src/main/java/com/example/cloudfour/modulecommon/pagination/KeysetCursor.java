@@ -0,0 +1,45 @@
+package com.example.cloudfour.modulecommon.pagination;
+
+import com.example.cloudfour.modulecommon.apiPayLoad.code.GeneralErrorCode;
+import com.example.cloudfour.modulecommon.apiPayLoad.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// 최신순 목록의 다음 페이지 위치, (생성 시각, id) 로 정렬 순서를 완전히 정하므로 같은 시각의 행도 빠지거나 겹치지 않는다.
+// 클라이언트에는 encode() 한 불투명 토큰으로만 주고받는다.
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    // 첫 페이지, 어떤 행보다도 뒤에 있는 위치이므로 시각을 미리 계산해 둘 필요가 없다.
+    public static final KeysetCursor FIRST =
+            new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), new UUID(-1L, -1L));
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰이 없으면 null, 형식이 틀리면 NOT_VALID_CURSOR 를 던진다.
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(GeneralErrorCode.NOT_VALID_CURSOR);
+        }
+    }
+
+    public static KeysetCursor decodeOrFirst(String token) {
+        KeysetCursor cursor = decode(token);
+        return cursor != null ? cursor : FIRST;
+    }
+}
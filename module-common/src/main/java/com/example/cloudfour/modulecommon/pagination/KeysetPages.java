@@ -0,0 +1,66 @@
+package com.example.cloudfour.modulecommon.pagination;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// KeysetCursor 로 최신순 목록을 읽는 저장소 쪽 도우미.
+// 조건은 "createdAt <= c.createdAt and (createdAt < c.createdAt or id < c.id)" 형태로,
+// (조건 컬럼, createdAt desc, id desc) 복합 인덱스를 커서 위치부터 그대로 읽으므로 몇 번째 페이지든 비용이 같다.
+//
+// JPA(JPQL) 는 같은 조건을 쿼리에 직접 쓰고 커서 파라미터 두 개를 넘긴다.
+//   ... and o.createdAt <= :cursorAt and (o.createdAt < :cursorAt or o.id < :cursorId)
+//   order by o.createdAt desc, o.id desc
+// Querydsl(JPA/Mongo) 은 after()/newestFirst() 를 쓴다.
+public final class KeysetPages {
+
+    private KeysetPages() {
+    }
+
+    public static Pageable pageable(int size) {
+        return PageRequest.of(0, size);
+    }
+
+    // 커서가 없으면 null 을 돌려주므로 Querydsl where 에 그대로 넘기면 조건 없이 첫 페이지를 읽는다.
+    public static BooleanExpression after(KeysetCursor cursor,
+                                          ComparableExpression<LocalDateTime> createdAt,
+                                          ComparableExpression<UUID> id) {
+        if (cursor == null || KeysetCursor.FIRST.equals(cursor)) {
+            return null;
+        }
+        return createdAt.loe(cursor.createdAt())
+                .and(createdAt.lt(cursor.createdAt()).or(id.lt(cursor.id())));
+    }
+
+    public static OrderSpecifier<?>[] newestFirst(ComparableExpression<LocalDateTime> createdAt,
+                                                  ComparableExpression<UUID> id) {
+        return new OrderSpecifier<?>[]{createdAt.desc(), id.desc()};
+    }
+
+    // size + 1 건을 읽은 결과를 Slice 로 바꾼다, 남는 한 건은 다음 페이지가 있는지만 알려 준다.
+    public static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        int size = pageable.getPageSize();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    // 다음 페이지가 없으면 null
+    public static <T> String nextCursor(Slice<T> slice,
+                                        Function<T, LocalDateTime> createdAt,
+                                        Function<T, UUID> id) {
+        if (!slice.hasNext() || slice.isEmpty()) {
+            return null;
+        }
+        T last = slice.getContent().getLast();
+        return new KeysetCursor(createdAt.apply(last), id.apply(last)).encode();
+    }
+}
@@ -0,0 +1,20 @@
+-- 트랜잭셔널 아웃박스, 비즈니스 트랜잭션 안에서 쓰고 OutboxRelay 가 모아서 Kafka 로 보낸다.
+CREATE TABLE IF NOT EXISTS p_outbox_event (
+    id            UUID         NOT NULL PRIMARY KEY,
+    topic         VARCHAR(255) NOT NULL,
+    message_key   VARCHAR(255),
+    event_type    VARCHAR(100),
+    payload       TEXT         NOT NULL,
+    created_at    TIMESTAMP    NOT NULL,
+    sent_at       TIMESTAMP,
+    claimed_until TIMESTAMPTZ
+);
+
+-- 릴레이가 행을 잡아 둔 기한, DB 시각으로 비교하므로 인스턴스 시간대와 무관하게 TIMESTAMPTZ 로 둔다. 기존 테이블에도 컬럼을 붙인다.
+ALTER TABLE p_outbox_event ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMPTZ;
+
+-- 릴레이는 아직 안 보낸 행만 오래된 순으로 읽는다.
+CREATE INDEX IF NOT EXISTS idx_outbox_event_unsent ON p_outbox_event (created_at) WHERE sent_at IS NULL;
+-- 같은 키의 앞선 이벤트가 다른 릴레이에 잡혀 있는지 확인할 때 쓴다.
+CREATE INDEX IF NOT EXISTS idx_outbox_event_unsent_key ON p_outbox_event (message_key, created_at) WHERE sent_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_event_sent_at ON p_outbox_event (sent_at) WHERE sent_at IS NOT NULL;
@@ -0,0 +1,56 @@
+package com.example.cloudfour.modulecommon.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventIdBloomFilter 단위테스트")
+class EventIdBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 eventId 는 항상 있다고 답한다")
+    void mightContain_Inserted_NoFalseNegative() {
+        // Given
+        EventIdBloomFilter filter = new EventIdBloomFilter(10_000, 0.01);
+        var eventIds = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // When
+        eventIds.forEach(filter::put);
+
+        // Then
+        assertThat(eventIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처에 머문다")
+    void mightContain_NotInserted_FalsePositiveRateBounded() {
+        // Given
+        EventIdBloomFilter filter = new EventIdBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣으면 포화로 본다")
+    void isSaturated_AtCapacity() {
+        // Given
+        EventIdBloomFilter filter = new EventIdBloomFilter(2, 0.01);
+
+        // When & Then
+        filter.put("event-1");
+        assertThat(filter.isSaturated()).isFalse();
+        filter.put("event-2");
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.cloudfour.modulecommon.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeyOrderedProcessor 단위테스트")
+class KeyOrderedProcessorTest {
+
+    private final KeyOrderedProcessor processor = new KeyOrderedProcessor(4);
+
+    // 인덱스와 오프셋을 같게 만들어 실패 인덱스를 오프셋으로 바로 확인한다.
+    private List<ConsumerRecord<String, String>> records(String... keys) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            records.add(new ConsumerRecord<>("payment-events", 0, i, keys[i], "event-" + i));
+        }
+        return records;
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("정상 처리 시")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("같은 키의 레코드는 오프셋 순서대로 처리한다")
+        void process_SameKey_KeepsOffsetOrder() {
+            // Given
+            List<ConsumerRecord<String, String>> records =
+                    records("A", "B", "A", "C", "B", "A", "C", "A", "B", "C", "A", "B");
+            Map<String, List<Long>> handled = new ConcurrentHashMap<>();
+
+            // When
+            processor.process(records, record -> {
+                pause();
+                handled.computeIfAbsent(record.key(), key -> new CopyOnWriteArrayList<>()).add(record.offset());
+            });
+
+            // Then
+            assertThat(handled.get("A")).containsExactly(0L, 2L, 5L, 7L, 10L);
+            assertThat(handled.get("B")).containsExactly(1L, 4L, 8L, 11L);
+            assertThat(handled.get("C")).containsExactly(3L, 6L, 9L);
+        }
+
+        @Test
+        @DisplayName("키가 없는 레코드는 파티션 안에서 순서대로 처리한다")
+        void process_NullKeys_KeepPartitionOrder() {
+            // Given
+            List<ConsumerRecord<String, String>> records = records(null, null, null, null);
+            List<Long> handled = new CopyOnWriteArrayList<>();
+
+            // When
+            processor.process(records, record -> {
+                pause();
+                handled.add(record.offset());
+            });
+
+            // Then
+            assertThat(handled).containsExactly(0L, 1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("서로 다른 키는 동시에 처리한다")
+        void process_DifferentKeys_RunConcurrently() {
+            // Given
+            List<ConsumerRecord<String, String>> records = records("A", "B");
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            Set<String> finished = ConcurrentHashMap.newKeySet();
+
+            // When
+            processor.process(records, record -> {
+                bothStarted.countDown();
+                try {
+                    // 다른 키가 함께 돌지 않으면 시간 안에 풀리지 않는다.
+                    if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                        finished.add(record.key());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            // Then
+            assertThat(finished).containsExactlyInAnyOrder("A", "B");
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 시")
+    class FailureTests {
+
+        @Test
+        @DisplayName("실패한 키의 뒤 레코드는 처리하지 않고 다른 키는 끝까지 처리한다")
+        void process_Failure_StopsOnlyThatKey() {
+            // Given
+            List<ConsumerRecord<String, String>> records = records("A", "B", "A", "B", "A");
+            List<Long> handled = new CopyOnWriteArrayList<>();
+
+            // When & Then
+            assertThatThrownBy(() -> processor.process(records, record -> {
+                if (record.offset() == 2L) {
+                    throw new IllegalStateException("처리 실패");
+                }
+                handled.add(record.offset());
+            }))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .hasFieldOrPropertyWithValue("index", 2);
+
+            assertThat(handled).containsExactlyInAnyOrder(0L, 1L, 3L);
+        }
+
+        @Test
+        @DisplayName("여러 키가 실패하면 가장 앞선 실패 인덱스로 예외를 던져 그 앞까지만 커밋되게 한다")
+        void process_MultipleFailures_ReportsLowestIndex() {
+            // Given
+            List<ConsumerRecord<String, String>> records = records("A", "B", "C", "B", "A", "C");
+            Set<Long> failing = Set.of(3L, 4L, 5L);
+
+            // When & Then
+            assertThatThrownBy(() -> processor.process(records, record -> {
+                // 뒤쪽 실패가 먼저 일어나도 결과 인덱스는 가장 앞선 실패다.
+                if (record.offset() == 3L) {
+                    pause();
+                }
+                if (failing.contains(record.offset())) {
+                    throw new IllegalStateException("처리 실패: " + record.offset());
+                }
+            }))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .hasFieldOrPropertyWithValue("index", 3)
+                    .hasRootCauseMessage("처리 실패: 3");
+        }
+    }
+}
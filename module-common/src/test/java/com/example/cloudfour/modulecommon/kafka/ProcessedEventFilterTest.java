@@ -0,0 +1,157 @@
+package com.example.cloudfour.modulecommon.kafka;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProcessedEventFilter 단위테스트")
+class ProcessedEventFilterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private SetOperations<String, String> setOperations;
+    private ProcessedEventFilter processedEventFilter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        // Redis 확인은 항상 "있음"으로 답하게 해서 isDuplicate 결과가 로컬 필터에 달려 있게 한다.
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        processedEventFilter = new ProcessedEventFilter(redisTemplate, "test:processed", Duration.ofMinutes(10), 1000, 0.0001);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursor(List<String> eventIds, Runnable duringScan) {
+        Iterator<String> iterator = eventIds.iterator();
+        AtomicBoolean started = new AtomicBoolean();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> {
+            if (started.compareAndSet(false, true)) {
+                duringScan.run();
+            }
+            return iterator.next();
+        });
+        return cursor;
+    }
+
+    @Nested
+    @DisplayName("reload 메서드는")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("채우는 동안에는 기존 필터로 판단한다")
+        void reload_DuringScan_ServesFromCurrentFilter() {
+            // Given
+            processedEventFilter.markProcessed("event-old");
+            AtomicBoolean seenDuringScan = new AtomicBoolean();
+            when(setOperations.scan(anyString(), any(ScanOptions.class))).thenReturn(
+                    cursor(List.of("event-old"), () -> seenDuringScan.set(processedEventFilter.isDuplicate("event-old"))),
+                    cursor(List.of(), () -> { }));
+
+            // When
+            processedEventFilter.reload();
+
+            // Then
+            assertThat(seenDuringScan).isTrue();
+        }
+
+        @Test
+        @DisplayName("채우는 동안 기록된 eventId 는 바꿔 낀 필터에도 남는다")
+        void reload_MarkedDuringScan_KeptAfterSwap() {
+            // Given: Redis 스캔 결과에는 재구성 중 기록된 eventId 가 없다.
+            when(setOperations.scan(anyString(), any(ScanOptions.class))).thenReturn(
+                    cursor(List.of("event-loaded"), () -> processedEventFilter.markProcessed("event-during")),
+                    cursor(List.of(), () -> { }));
+
+            // When
+            processedEventFilter.reload();
+
+            // Then
+            assertThat(processedEventFilter.isDuplicate("event-during")).isTrue();
+            assertThat(processedEventFilter.isDuplicate("event-loaded")).isTrue();
+        }
+
+        @Test
+        @DisplayName("다 채우면 Redis 에 있는 eventId 만 담은 새 필터로 바꿔 낀다")
+        void reload_Completed_SwapsInRebuiltFilter() {
+            // Given: Redis 에서 이미 만료된 eventId
+            processedEventFilter.markProcessed("event-expired");
+            when(setOperations.scan(anyString(), any(ScanOptions.class))).thenReturn(
+                    cursor(List.of("event-loaded"), () -> { }),
+                    cursor(List.of(), () -> { }));
+
+            // When
+            processedEventFilter.reload();
+
+            // Then
+            assertThat(processedEventFilter.isDuplicate("event-expired")).isFalse();
+            assertThat(processedEventFilter.isDuplicate("event-loaded")).isTrue();
+        }
+
+        @Test
+        @DisplayName("채우다 실패하면 기존 필터를 그대로 쓴다")
+        void reload_Failed_KeepsCurrentFilter() {
+            // Given
+            processedEventFilter.markProcessed("event-old");
+            when(setOperations.scan(anyString(), any(ScanOptions.class))).thenThrow(new IllegalStateException("Redis 장애"));
+
+            // When
+            processedEventFilter.reload();
+
+            // Then
+            assertThat(processedEventFilter.isDuplicate("event-old")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("markProcessed 메서드는")
+    class MarkProcessedTests {
+
+        @Test
+        @DisplayName("기록하지 않은 eventId 는 Redis 확인 없이 새 이벤트로 본다")
+        void isDuplicate_NotMarked_SkipsRedis() {
+            // When & Then
+            assertThat(processedEventFilter.isDuplicate("event-new")).isFalse();
+        }
+
+        @Test
+        @DisplayName("예상 개수를 채우면 필터를 다시 만든다")
+        void markProcessed_Saturated_Reloads() {
+            // Given
+            ProcessedEventFilter small = new ProcessedEventFilter(redisTemplate, "test:small", Duration.ofMinutes(10), 2, 0.01);
+            when(setOperations.scan(anyString(), any(ScanOptions.class))).thenReturn(
+                    cursor(List.of(), () -> { }), cursor(List.of(), () -> { }));
+
+            // When
+            small.markProcessed("event-1");
+            small.markProcessed("event-2");
+
+            // Then
+            verify(setOperations, atLeastOnce()).scan(anyString(), any(ScanOptions.class));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.cloudfour.modulecommon.metrics;
+
+import com.example.cloudfour.modulecommon.apiPayLoad.code.GeneralErrorCode;
+import com.example.cloudfour.modulecommon.apiPayLoad.exception.CustomException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LatencyAspect 단위테스트")
+class LatencyAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LatencyAspect latencyAspect;
+
+    // 태그의 class 값으로 쓰일 대상 클래스
+    private static class OrderCommandService {
+    }
+
+    private static class StoreClient {
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        latencyAspect = new LatencyAspect(meterRegistry);
+        ReflectionTestUtils.setField(latencyAspect, "serviceSlo",
+                new Duration[]{Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(1)});
+        ReflectionTestUtils.setField(latencyAspect, "clientSlo",
+                new Duration[]{Duration.ofMillis(50), Duration.ofMillis(500), Duration.ofSeconds(5)});
+    }
+
+    private void target(Class<?> type, String method) {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(type);
+        when(signature.getName()).thenReturn(method);
+    }
+
+    private Timer timer(String metric, String type, String method, String outcome, String exception) {
+        return meterRegistry.get(metric)
+                .tag("class", type)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    @Nested
+    @DisplayName("service 메서드는")
+    class ServiceTests {
+
+        @Test
+        @DisplayName("성공하면 결과를 그대로 돌려주고 SUCCESS 로 기록한다")
+        void timeService_Success_RecordsSuccess() throws Throwable {
+            // Given
+            target(OrderCommandService.class, "createOrder");
+            when(joinPoint.proceed()).thenReturn("order");
+
+            // When
+            Object result = latencyAspect.timeService(joinPoint);
+
+            // Then
+            assertThat(result).isEqualTo("order");
+            Timer timer = timer(LatencyAspect.SERVICE_METRIC, "OrderCommandService", "createOrder", "SUCCESS", "none");
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(meterRegistry.find(LatencyAspect.CLIENT_METRIC).timers()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("SLO 경계마다 히스토그램 버킷을 만든다")
+        void timeService_Success_PublishesSloBuckets() throws Throwable {
+            // Given
+            target(OrderCommandService.class, "createOrder");
+            when(joinPoint.proceed()).thenReturn("order");
+
+            // When
+            latencyAspect.timeService(joinPoint);
+
+            // Then
+            Timer timer = timer(LatencyAspect.SERVICE_METRIC, "OrderCommandService", "createOrder", "SUCCESS", "none");
+            assertThat(timer.takeSnapshot().histogramCounts()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("4xx 로 응답할 CustomException 은 다시 던지고 CLIENT_ERROR 로 기록한다")
+        void timeService_ClientError_RecordsClientError() throws Throwable {
+            // Given
+            target(OrderCommandService.class, "createOrder");
+            CustomException exception = new CustomException(GeneralErrorCode.NOT_FOUND_404);
+            when(joinPoint.proceed()).thenThrow(exception);
+
+            // When & Then
+            assertThatThrownBy(() -> latencyAspect.timeService(joinPoint)).isSameAs(exception);
+            Timer timer = timer(LatencyAspect.SERVICE_METRIC, "OrderCommandService", "createOrder",
+                    "CLIENT_ERROR", "CustomException");
+            assertThat(timer.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("5xx 로 응답할 CustomException 과 그 밖의 예외는 SERVER_ERROR 로 기록한다")
+        void timeService_ServerError_RecordsServerError() throws Throwable {
+            // Given
+            target(OrderCommandService.class, "createOrder");
+            when(joinPoint.proceed())
+                    .thenThrow(new CustomException(GeneralErrorCode.INTERNAL_SERVER_ERROR_500))
+                    .thenThrow(new IllegalStateException("boom"));
+
+            // When
+            assertThatThrownBy(() -> latencyAspect.timeService(joinPoint)).isInstanceOf(CustomException.class);
+            assertThatThrownBy(() -> latencyAspect.timeService(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+            // Then
+            assertThat(timer(LatencyAspect.SERVICE_METRIC, "OrderCommandService", "createOrder",
+                    "SERVER_ERROR", "CustomException").count()).isEqualTo(1);
+            assertThat(timer(LatencyAspect.SERVICE_METRIC, "OrderCommandService", "createOrder",
+                    "SERVER_ERROR", "IllegalStateException").count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("client 메서드는")
+    class ClientTests {
+
+        @Test
+        @DisplayName("성공하면 client 지표에 SUCCESS 로 기록한다")
+        void timeClient_Success_RecordsClientMetric() throws Throwable {
+            // Given
+            target(StoreClient.class, "existStore");
+            when(joinPoint.proceed()).thenReturn(true);
+
+            // When
+            latencyAspect.timeClient(joinPoint);
+
+            // Then
+            Timer timer = timer(LatencyAspect.CLIENT_METRIC, "StoreClient", "existStore", "SUCCESS", "none");
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(meterRegistry.find(LatencyAspect.SERVICE_METRIC).timers()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("상대 서비스의 4xx 응답은 CLIENT_ERROR, 5xx 응답은 SERVER_ERROR 로 기록한다")
+        void timeClient_HttpError_RecordsByStatus() throws Throwable {
+            // Given
+            target(StoreClient.class, "existStore");
+            when(joinPoint.proceed())
+                    .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+                    .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+            // When
+            assertThatThrownBy(() -> latencyAspect.timeClient(joinPoint)).isInstanceOf(HttpClientErrorException.class);
+            assertThatThrownBy(() -> latencyAspect.timeClient(joinPoint)).isInstanceOf(HttpServerErrorException.class);
+
+            // Then
+            assertThat(timer(LatencyAspect.CLIENT_METRIC, "StoreClient", "existStore",
+                    "CLIENT_ERROR", "HttpClientErrorException").count()).isEqualTo(1);
+            assertThat(timer(LatencyAspect.CLIENT_METRIC, "StoreClient", "existStore",
+                    "SERVER_ERROR", "HttpServerErrorException").count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.cloudfour.modulecommon.outbox;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("OutboxRelay Postgres 연동 테스트")
+class OutboxRelayTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    private JdbcTemplate jdbcTemplate;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private OutboxRelay outboxRelay;
+
+    // 보낸 순서대로 payload 를 남기고, failing 에 든 payload 는 실패로, throwing 에 든 payload 는 send 에서 바로 예외로 돌려준다.
+    private final List<String> sentPayloads = new ArrayList<>();
+    private final Set<String> failing = new HashSet<>();
+    private final Set<String> throwing = new HashSet<>();
+    private LocalDateTime clock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/outbox-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("delete from p_outbox_event");
+
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, String> record = invocation.getArgument(0);
+            if (throwing.contains(record.value())) {
+                throw new IllegalStateException("버퍼 가득 참");
+            }
+            sentPayloads.add(record.value());
+            if (failing.contains(record.value())) {
+                return CompletableFuture.failedFuture(new IllegalStateException("브로커 응답 없음"));
+            }
+            return CompletableFuture.completedFuture(new SendResult<>(record, null));
+        });
+
+        outboxRelay = new OutboxRelay(jdbcTemplate, new DataSourceTransactionManager(dataSource), kafkaTemplate,
+                10, Duration.ofSeconds(2));
+        clock = LocalDateTime.now().minusMinutes(1);
+    }
+
+    private void append(String key, String payload) {
+        clock = clock.plusSeconds(1);
+        jdbcTemplate.update("insert into p_outbox_event (id, topic, message_key, event_type, payload, created_at) "
+                + "values (?, 'order-events', ?, 'OrderEvent', ?, ?)", UUID.randomUUID(), key, payload, clock);
+    }
+
+    private List<String> sentInDb() {
+        return jdbcTemplate.queryForList(
+                "select payload from p_outbox_event where sent_at is not null order by created_at", String.class);
+    }
+
+    private int claimedCount() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from p_outbox_event where claimed_until is not null", Integer.class);
+    }
+
+    @Nested
+    @DisplayName("relay 메서드는")
+    class RelayTests {
+
+        @Test
+        @DisplayName("모두 성공하면 키 안의 순서대로 보내고 발행 완료로 표시한다")
+        void relay_AllSucceed_SendsInKeyOrderAndMarks() {
+            // Given
+            append("order-1", "a1");
+            append("order-2", "b1");
+            append("order-1", "a2");
+            append(null, "n1");
+
+            // When
+            int sent = outboxRelay.relay();
+
+            // Then
+            assertThat(sent).isEqualTo(4);
+            assertThat(sentPayloads).containsExactlyInAnyOrder("a1", "b1", "a2", "n1");
+            assertThat(sentPayloads.indexOf("a1")).isLessThan(sentPayloads.indexOf("a2"));
+            assertThat(sentInDb()).containsExactly("a1", "b1", "a2", "n1");
+            assertThat(claimedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("키의 첫 이벤트가 실패하면 같은 키의 뒤 이벤트는 보내지 않고 다른 키는 계속 보낸다")
+        void relay_FirstOfKeyFails_StopsOnlyThatKey() {
+            // Given
+            append("order-1", "a1");
+            append("order-2", "b1");
+            append("order-1", "a2");
+            append("order-1", "a3");
+            failing.add("a1");
+
+            // When
+            int sent = outboxRelay.relay();
+
+            // Then
+            assertThat(sent).isEqualTo(1);
+            assertThat(sentPayloads).containsExactlyInAnyOrder("a1", "b1");
+            assertThat(sentInDb()).containsExactly("b1");
+            // 보내지 못한 행은 잡은 것을 풀어 다음 주기에 바로 다시 가져갈 수 있다.
+            assertThat(claimedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("키 중간에서 실패하면 앞 이벤트만 발행 완료로 표시하고 다음 주기에 실패한 이벤트부터 다시 보낸다")
+        void relay_MiddleOfKeyFails_ResumesFromFailedEvent() {
+            // Given
+            append("order-1", "a1");
+            append("order-1", "a2");
+            append("order-1", "a3");
+            failing.add("a2");
+
+            // When
+            int firstRound = outboxRelay.relay();
+            failing.clear();
+            sentPayloads.clear();
+            int secondRound = outboxRelay.relay();
+
+            // Then
+            assertThat(firstRound).isEqualTo(1);
+            assertThat(secondRound).isEqualTo(2);
+            assertThat(sentPayloads).containsExactly("a2", "a3");
+            assertThat(sentInDb()).containsExactly("a1", "a2", "a3");
+        }
+
+        @Test
+        @DisplayName("send 가 바로 예외를 던져도 그 키만 멈추고 나머지는 보낸다")
+        void relay_SendThrows_TreatedAsFailure() {
+            // Given
+            append("order-1", "a1");
+            append("order-1", "a2");
+            append("order-2", "b1");
+            throwing.add("a1");
+
+            // When
+            int sent = outboxRelay.relay();
+
+            // Then
+            assertThat(sent).isEqualTo(1);
+            assertThat(sentPayloads).containsExactly("b1");
+            assertThat(sentInDb()).containsExactly("b1");
+        }
+    }
+
+    @Nested
+    @DisplayName("행을 잡을 때")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("다른 릴레이가 잡고 있는 행과 같은 키의 뒤 행은 가져가지 않는다")
+        void claim_KeyHeldByOtherRelay_SkipsWholeKey() {
+            // Given
+            append("order-1", "a1");
+            append("order-1", "a2");
+            append("order-2", "b1");
+            jdbcTemplate.update("update p_outbox_event set claimed_until = now() + interval '1 minute' where payload = 'a1'");
+
+            // When
+            int sent = outboxRelay.relay();
+
+            // Then
+            assertThat(sent).isEqualTo(1);
+            assertThat(sentPayloads).containsExactly("b1");
+        }
+
+        @Test
+        @DisplayName("기한이 지난 행은 다시 가져간다")
+        void claim_ExpiredLease_Reclaims() {
+            // Given
+            append("order-1", "a1");
+            append("order-1", "a2");
+            jdbcTemplate.update("update p_outbox_event set claimed_until = now() - interval '1 second' where payload = 'a1'");
+
+            // When
+            int sent = outboxRelay.relay();
+
+            // Then
+            assertThat(sent).isEqualTo(2);
+            assertThat(sentPayloads).containsExactly("a1", "a2");
+        }
+
+        @Test
+        @DisplayName("보낼 행이 없으면 Kafka 를 호출하지 않는다")
+        void claim_Empty_ReturnsZero() {
+            // When
+            int sent = outboxRelay.relay();
+
+            // Then
+            assertThat(sent).isZero();
+            assertThat(sentPayloads).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.cloudfour.modulecommon.pagination;
+
+import com.example.cloudfour.modulecommon.apiPayLoad.code.GeneralErrorCode;
+import com.example.cloudfour.modulecommon.apiPayLoad.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor 단위테스트")
+class KeysetCursorTest {
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("encode 한 토큰을 decode 하면")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("나노초까지 같은 시각과 id 로 돌아온다")
+        void decode_Encoded_RoundTrips() {
+            // Given
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 21, 32, 37, 123_456_789), UUID.randomUUID());
+
+            // When
+            KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+            // Then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("초가 0 이라 짧게 찍힌 시각도 그대로 돌아온다")
+        void decode_WholeMinute_RoundTrips() {
+            // Given
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 21, 32), UUID.randomUUID());
+
+            // When
+            KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+            // Then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("토큰은 URL 에 그대로 넣을 수 있는 문자만 쓴다")
+        void encode_UrlSafe() {
+            // Given
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+
+            // When & Then
+            assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰이 없으면")
+    class MissingTokenTests {
+
+        @ParameterizedTest
+        @DisplayName("decode 는 null 을, decodeOrFirst 는 첫 페이지를 돌려준다")
+        @ValueSource(strings = {"", " "})
+        void decode_Blank_ReturnsFirstPage(String blank) {
+            // When & Then
+            assertThat(KeysetCursor.decode(blank)).isNull();
+            assertThat(KeysetCursor.decodeOrFirst(blank)).isEqualTo(KeysetCursor.FIRST);
+            assertThat(KeysetCursor.decodeOrFirst(null)).isEqualTo(KeysetCursor.FIRST);
+        }
+    }
+
+    @Nested
+    @DisplayName("잘못된 토큰은")
+    class InvalidTokenTests {
+
+        @ParameterizedTest
+        @DisplayName("base64 가 아니면 NOT_VALID_CURSOR 예외를 던진다")
+        @ValueSource(strings = {"not a cursor!", "2026-10-17T21:32:37", "%%%"})
+        void decode_NotBase64_ThrowsNotValidCursor(String token) {
+            // When & Then
+            assertThatThrownBy(() -> KeysetCursor.decode(token))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("code", GeneralErrorCode.NOT_VALID_CURSOR);
+        }
+
+        @ParameterizedTest
+        @DisplayName("풀어 본 내용이 (시각|id) 형식이 아니면 NOT_VALID_CURSOR 예외를 던진다")
+        @ValueSource(strings = {
+                "2026-10-17T21:32:37",
+                "2026-10-17T21:32:37|",
+                "2026-10-17T21:32:37|not-a-uuid",
+                "yesterday|3f1c2b7e-1a2b-4c3d-8e9f-0a1b2c3d4e5f",
+                "|3f1c2b7e-1a2b-4c3d-8e9f-0a1b2c3d4e5f",
+                "2026-10-17T21:32:37|3f1c2b7e-1a2b-4c3d-8e9f-0a1b2c3d4e5f|extra"
+        })
+        void decode_Tampered_ThrowsNotValidCursor(String raw) {
+            // When & Then
+            assertThatThrownBy(() -> KeysetCursor.decode(token(raw)))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("code", GeneralErrorCode.NOT_VALID_CURSOR);
+        }
+
+        @Test
+        @DisplayName("발급한 토큰을 잘라내면 NOT_VALID_CURSOR 예외를 던진다")
+        void decode_Truncated_ThrowsNotValidCursor() {
+            // Given
+            String encoded = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 21, 32, 37, 123_456_789), UUID.randomUUID()).encode();
+
+            // When & Then
+            assertThatThrownBy(() -> KeysetCursor.decode(encoded.substring(0, encoded.length() / 2)))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("code", GeneralErrorCode.NOT_VALID_CURSOR);
+        }
+    }
+}
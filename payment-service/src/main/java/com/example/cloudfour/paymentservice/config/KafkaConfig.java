@@ -1,5 +1,7 @@
 package com.example.cloudfour.paymentservice.config;
 
+import com.example.cloudfour.modulecommon.kafka.KeyOrderedProcessor;
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -7,6 +9,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -18,6 +21,7 @@ import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +38,18 @@ public class KafkaConfig {
     @Value("${kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${kafka.consumer.dedupe.ttl-hours:24}")
+    private long dedupeTtlHours;
+
+    @Value("${kafka.consumer.dedupe.expected-insertions:1000000}")
+    private long dedupeExpectedInsertions;
+
+    @Value("${kafka.consumer.dedupe.false-positive-rate:0.001}")
+    private double dedupeFalsePositiveRate;
+
+    @Value("${kafka.consumer.parallel.max-concurrency:64}")
+    private int parallelMaxConcurrency;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -74,7 +90,7 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(ProcessedEventFilter processedEventFilter) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
@@ -82,7 +98,36 @@ public class KafkaConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
 
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventFilter.rebalanceListener());
         
         return factory;
     }
+
+    // 병렬 리스너용, poll 단위로 받아 키별로 동시에 처리하고 배치 단위로 커밋한다.
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> parallelKafkaListenerContainerFactory(ProcessedEventFilter processedEventFilter) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // BatchListenerFailedException 이면 처음 실패한 레코드 앞까지만 커밋하고 그 레코드부터 다시 받는다.
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventFilter.rebalanceListener());
+
+        return factory;
+    }
+
+    @Bean
+    public KeyOrderedProcessor keyOrderedProcessor() {
+        return new KeyOrderedProcessor(parallelMaxConcurrency);
+    }
+
+    // 컨슈머 그룹마다 따로 기록해야 같은 이벤트를 다른 서비스가 처리하는 것을 막지 않는다.
+    @Bean
+    public ProcessedEventFilter processedEventFilter(StringRedisTemplate redisTemplate) {
+        return new ProcessedEventFilter(redisTemplate, "kafka:processed:" + groupId,
+            Duration.ofHours(dedupeTtlHours), dedupeExpectedInsertions, dedupeFalsePositiveRate);
+    }
 }
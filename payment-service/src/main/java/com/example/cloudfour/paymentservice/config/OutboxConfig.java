@@ -0,0 +1,48 @@
+package com.example.cloudfour.paymentservice.config;
+
+import com.example.cloudfour.modulecommon.outbox.OutboxRelay;
+import com.example.cloudfour.modulecommon.outbox.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Value("${kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${outbox.relay.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${outbox.relay.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Bean
+    public OutboxWriter outboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new OutboxWriter(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(OutboxRelay.producerFactory(bootstrapServers, lingerMs, compressionType));
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        return new OutboxRelay(jdbcTemplate, transactionManager, outboxKafkaTemplate(), batchSize,
+            Duration.ofMillis(sendTimeoutMs));
+    }
+}
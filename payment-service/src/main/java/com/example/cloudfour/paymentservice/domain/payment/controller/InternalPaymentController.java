@@ -0,0 +1,27 @@
+package com.example.cloudfour.paymentservice.domain.payment.controller;
+
+import com.example.cloudfour.paymentservice.domain.payment.service.command.PaymentCommandService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal")
+public class InternalPaymentController {
+
+    private final PaymentCommandService paymentCommandService;
+
+    @PostMapping("/payments/{orderId}/refund")
+    public void refundPayment(
+            @PathVariable("orderId") UUID orderId,
+            @RequestParam(name = "reason") String reason
+    ){
+        paymentCommandService.refundPayment(orderId, reason);
+    }
+}
@@ -20,6 +20,7 @@ public enum PaymentErrorCode implements BaseErrorCode {
     WEBHOOK_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT500_1", "웹훅 처리에 실패했습니다."),
     UNKNOWN_TOSS_STATUS(HttpStatus.BAD_REQUEST, "PAYMENT400_4", "알 수 없는 토스 상태입니다."),
     TOSS_API_ERROR(HttpStatus.BAD_GATEWAY, "PAYMENT502_1", "토스페이먼츠 API 호출에 실패했습니다."),
+    PRECHECK_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "PAYMENT504_1", "결제 사전 확인이 제한 시간 내에 완료되지 않았습니다."),
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "PAYMENT400_0", "잘못된 입력값입니다."),
     USER_VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "PAYMENT400_5", "사용자 검증에 실패했습니다."),
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "PAYMENT404_3", "가게를 찾을 수 없습니다."),
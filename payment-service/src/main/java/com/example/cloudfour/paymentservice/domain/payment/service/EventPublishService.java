@@ -1,83 +1,43 @@
 package com.example.cloudfour.paymentservice.domain.payment.service;
 
+import com.example.cloudfour.modulecommon.outbox.OutboxWriter;
 import com.example.cloudfour.paymentservice.domain.payment.event.PaymentApprovedEvent;
 import com.example.cloudfour.paymentservice.domain.payment.event.PaymentFailedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
-
+// 결제 이벤트를 아웃박스에 기록한다, 실제 발행(eventType 헤더 포함)은 OutboxRelay 가 커밋 후에 한다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventPublishService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
 
     @Value("${kafka.topic.payment-events}")
     private String paymentEventsTopic;
 
+    // 결제 승인 트랜잭션에 참여해 결제 데이터와 함께 커밋된다.
+    @Transactional
     public void publishPaymentApprovedEvent(PaymentApprovedEvent event) {
-        try {
-            log.info("PaymentApproved 이벤트 발행 시작: eventId={}, orderId={}, paymentKey={}", 
-                event.getEventId(), event.getOrderId(), event.getPaymentKey());
-
-            String eventKey = event.getOrderId().toString();
-
-            CompletableFuture<SendResult<String, Object>> future = 
-                kafkaTemplate.send(paymentEventsTopic, eventKey, event);
-
-            future.whenComplete((result, throwable) -> {
-                if (throwable == null) {
-                    log.info("PaymentApproved 이벤트 발행 성공: eventId={}, orderId={}, partition={}, offset={}", 
-                        event.getEventId(), 
-                        event.getOrderId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-                } else {
-                    log.error("PaymentApproved 이벤트 발행 실패: eventId={}, orderId={}, error={}", 
-                        event.getEventId(), event.getOrderId(), throwable.getMessage(), throwable);
-                }
-            });
+        String eventKey = event.getOrderId().toString();
+        outboxWriter.append(paymentEventsTopic, eventKey, event.getEventType(), event);
 
-        } catch (Exception e) {
-            log.error("PaymentApproved 이벤트 발행 중 예외 발생: eventId={}, orderId={}, error={}", 
-                event.getEventId(), event.getOrderId(), e.getMessage(), e);
-            throw new RuntimeException("PaymentApproved 이벤트 발행 실패", e);
-        }
+        log.info("PaymentApproved 이벤트 아웃박스 기록: eventId={}, orderId={}, paymentKey={}",
+            event.getEventId(), event.getOrderId(), event.getPaymentKey());
     }
 
+    // 승인 실패 후 결제 트랜잭션은 예외로 롤백되므로, 재고 복구 이벤트는 별도 트랜잭션으로 남겨야 한다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void publishPaymentFailedEvent(PaymentFailedEvent event) {
-        try {
-            log.info("PaymentFailed 이벤트 발행 시작: eventId={}, orderId={}, failureReason={}", 
-                event.getEventId(), event.getOrderId(), event.getFailureReason());
-
-            String eventKey = event.getOrderId().toString();
-
-            CompletableFuture<SendResult<String, Object>> future = 
-                kafkaTemplate.send(paymentEventsTopic, eventKey, event);
-
-            future.whenComplete((result, throwable) -> {
-                if (throwable == null) {
-                    log.info("PaymentFailed 이벤트 발행 성공: eventId={}, orderId={}, partition={}, offset={}", 
-                        event.getEventId(), 
-                        event.getOrderId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-                } else {
-                    log.error("PaymentFailed 이벤트 발행 실패: eventId={}, orderId={}, error={}", 
-                        event.getEventId(), event.getOrderId(), throwable.getMessage(), throwable);
-                }
-            });
+        String eventKey = event.getOrderId().toString();
+        outboxWriter.append(paymentEventsTopic, eventKey, event.getEventType(), event);
 
-        } catch (Exception e) {
-            log.error("PaymentFailed 이벤트 발행 중 예외 발생: eventId={}, orderId={}, error={}", 
-                event.getEventId(), event.getOrderId(), e.getMessage(), e);
-            throw new RuntimeException("PaymentFailed 이벤트 발행 실패", e);
-        }
+        log.info("PaymentFailed 이벤트 아웃박스 기록: eventId={}, orderId={}, failureReason={}",
+            event.getEventId(), event.getOrderId(), event.getFailureReason());
     }
 }
@@ -8,5 +8,6 @@ import java.util.UUID;
 public interface PaymentCommandService {
     PaymentResponseDTO.PaymentConfirmResponseDTO confirmPayment(PaymentRequestDTO.PaymentConfirmRequestDTO request, UUID userId);
     PaymentResponseDTO.PaymentCancelResponseDTO cancelPayment(PaymentRequestDTO.PaymentCancelRequestDTO request, UUID orderId, UUID userId);
+    void refundPayment(UUID orderId, String reason);
     void updateStatusFromWebhook(String payload);
 }
@@ -21,15 +21,19 @@ import com.example.cloudfour.paymentservice.domain.payment.apiclient.TossApiClie
 import com.example.cloudfour.paymentservice.domain.payment.apiclient.UserClient;
 import com.example.cloudfour.paymentservice.domain.payment.apiclient.StoreClient;
 import com.example.cloudfour.paymentservice.domain.payment.dto.TossWebhookPayload;
+import com.example.cloudfour.modulecommon.concurrent.ParallelCalls;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 @Slf4j
 @Service
@@ -49,17 +53,31 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
     private final StoreClient storeClient;
     private final EventPublishService eventPublishService;
 
+    @Value("${payment.precheck.user-timeout-ms:3000}")
+    private long userTimeoutMs = 3000;
+
+    @Value("${payment.precheck.order-timeout-ms:3000}")
+    private long orderTimeoutMs = 3000;
+
     @Override
     public PaymentResponseDTO.PaymentConfirmResponseDTO confirmPayment(PaymentRequestDTO.PaymentConfirmRequestDTO request, UUID userId) {
         log.info("결제 승인 시작: paymentKey={}, orderId={}, userId={}", request.getPaymentKey(), request.getOrderId(), userId);
 
-        if (!userClient.existsUser(userId)) {
-            log.error("존재하지 않는 사용자: userId={}", userId);
-            throw new PaymentException(PaymentErrorCode.USER_NOT_FOUND);
+        com.example.cloudfour.paymentservice.commondto.OrderResponseDTO order;
+        try (ParallelCalls calls = ParallelCalls.open()) {
+            calls.fork(() -> {
+                if (!userClient.existsUser(userId)) {
+                    log.error("존재하지 않는 사용자: userId={}", userId);
+                    throw new PaymentException(PaymentErrorCode.USER_NOT_FOUND);
+                }
+                return null;
+            }, Duration.ofMillis(userTimeoutMs), () -> new PaymentException(PaymentErrorCode.PRECHECK_TIMEOUT));
+            Future<com.example.cloudfour.paymentservice.commondto.OrderResponseDTO> orderFuture = calls.fork(
+                    () -> orderClient.getOrderById(request.getOrderId(), userId),
+                    Duration.ofMillis(orderTimeoutMs), () -> new PaymentException(PaymentErrorCode.PRECHECK_TIMEOUT));
+            calls.join();
+            order = orderFuture.resultNow();
         }
-
-        com.example.cloudfour.paymentservice.commondto.OrderResponseDTO order = 
-            orderClient.getOrderById(request.getOrderId(), userId);
         
         if (!storeClient.existsStore(order.getStoreId())) {
             log.error("존재하지 않는 가게: storeId={}", order.getStoreId());
@@ -249,6 +267,39 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
         }
     }
 
+    // 결제 승인 뒤 주문을 이어갈 수 없을 때(재고 예약 확정 실패 등) 주문 서비스가 호출한다.
+    // 주문 상태는 호출한 쪽이 바꾸므로 여기서는 결제만 취소하고, 이미 취소된 결제면 그대로 성공으로 본다.
+    @Override
+    public void refundPayment(UUID orderId, String reason) {
+        Payment payment = paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+        if (payment.getPaymentStatus() == PaymentStatus.CANCELED) {
+            log.info("이미 취소된 결제, 환불 생략: orderId={}, paymentId={}", orderId, payment.getId());
+            return;
+        }
+        if (!payment.canCancel()) {
+            throw new PaymentException(PaymentErrorCode.INVALID_PAYMENT_STATUS);
+        }
+
+        tossApiClient.cancelPayment(payment.getPaymentKey(), reason);
+
+        String rawResponse = "{\"cancelReason\":\"" + reason + "\"}";
+        payment.cancel(reason, LocalDateTime.now(), rawResponse);
+        payment = paymentRepository.save(payment);
+
+        PaymentHistory history = PaymentHistory.builder()
+                .payment(payment)
+                .previousStatus(PaymentStatus.APPROVED)
+                .currentStatus(PaymentStatus.CANCELED)
+                .changeReason(reason)
+                .rawResponse(rawResponse)
+                .build();
+        idempotencyService.setPaymentCancelIdempotency(history);
+        paymentHistoryRepository.save(history);
+        log.info("주문 처리 실패로 결제 환불 완료: orderId={}, paymentId={}, reason={}", orderId, payment.getId(), reason);
+    }
+
     @Override
     public void updateStatusFromWebhook(String payload) {
         log.info("웹훅 수신: payload={}", payload);
@@ -0,0 +1,59 @@
+package com.example.cloudfour.paymentservice.listener;
+
+import com.example.cloudfour.modulecommon.kafka.ProcessedEventFilter;
+import com.example.cloudfour.paymentservice.domain.payment.dto.PaymentRequestDTO;
+import com.example.cloudfour.paymentservice.domain.payment.event.OrderCreatedEvent;
+import com.example.cloudfour.paymentservice.domain.payment.service.command.PaymentCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 주문 생성 이벤트 한 건의 결제 처리, 커밋은 이 핸들러를 부르는 리스너가 모드에 맞게 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventHandler {
+
+    private final PaymentCommandService paymentCommandService;
+    private final ProcessedEventFilter processedEventFilter;
+
+    public void handle(OrderCreatedEvent event, String topic, int partition, long offset) {
+        
+        log.info("OrderCreated 이벤트 수신: eventId={}, orderId={}, userId={}, topic={}, partition={}, offset={}", 
+            event.getEventId(), event.getOrderId(), event.getUserId(), topic, partition, offset);
+
+        if (processedEventFilter.isDuplicate(event.getEventId())) {
+            log.info("이미 처리된 OrderCreated 이벤트 무시: eventId={}, orderId={}", event.getEventId(), event.getOrderId());
+            return;
+        }
+
+        try {
+            PaymentRequestDTO.PaymentConfirmRequestDTO paymentRequest = 
+                PaymentRequestDTO.PaymentConfirmRequestDTO.builder()
+                    .paymentKey(generatePaymentKey(event.getOrderId()))
+                    .orderId(event.getOrderId().toString())
+                    .amount(event.getTotalAmount().intValue())
+                    .build();
+
+            paymentCommandService.confirmPayment(paymentRequest, event.getUserId());
+            
+            log.info("결제 프로세스 완료: orderId={}", event.getOrderId());
+
+            processedEventFilter.markProcessed(event.getEventId());
+            log.info("OrderCreated 이벤트 처리 완료: eventId={}, orderId={}", 
+                event.getEventId(), event.getOrderId());
+
+        } catch (Exception e) {
+            log.error("OrderCreated 이벤트 처리 실패: eventId={}, orderId={}, error={}", 
+                event.getEventId(), event.getOrderId(), e.getMessage(), e);
+            
+            throw e;
+        }
+    }
+
+    private String generatePaymentKey(UUID orderId) {
+        return "payment_" + orderId.toString().replace("-", "").substring(0, 20);
+    }
+}
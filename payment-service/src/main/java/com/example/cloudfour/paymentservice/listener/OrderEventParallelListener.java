@@ -0,0 +1,35 @@
+package com.example.cloudfour.paymentservice.listener;
+
+import com.example.cloudfour.modulecommon.kafka.KeyOrderedProcessor;
+import com.example.cloudfour.paymentservice.domain.payment.event.OrderCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// kafka.consumer.mode=parallel 일 때 OrderEventListener 대신 동작한다.
+// Toss 승인처럼 느린 원격 호출을 주문(orderId 키)별로 동시에 진행하고, 같은 주문의 이벤트는 순서대로 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "parallel")
+public class OrderEventParallelListener {
+
+    private final OrderEventHandler orderEventHandler;
+    private final KeyOrderedProcessor keyOrderedProcessor;
+
+    @KafkaListener(topics = "${kafka.topic.order-events}", groupId = "${kafka.consumer.group-id}",
+            containerFactory = "parallelKafkaListenerContainerFactory")
+    public void handleOrderCreatedEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        keyOrderedProcessor.process(records, record -> orderEventHandler.handle(
+                (OrderCreatedEvent) record.value(), record.topic(), record.partition(), record.offset()));
+
+        acknowledgment.acknowledge();
+        log.info("OrderCreated 이벤트 병렬 처리 완료 및 커밋: {}건", records.size());
+    }
+}
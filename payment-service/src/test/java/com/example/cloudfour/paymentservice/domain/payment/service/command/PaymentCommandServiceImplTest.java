@@ -253,6 +253,20 @@ class PaymentCommandServiceImplTest {
             verify(paymentHistoryRepository, atLeastOnce()).save(any(PaymentHistory.class));
         }
 
+        @Test
+        @DisplayName("존재하지 않는 사용자면 동시에 시작한 다른 사전 확인과 관계없이 예외 발생")
+        void confirmPayment_UserNotFound_ThrowsException() {
+            // Given
+            when(userClient.existsUser(userId)).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> paymentCommandService.confirmPayment(confirmRequest, userId))
+                    .isInstanceOf(PaymentException.class)
+                    .hasFieldOrPropertyWithValue("code", PaymentErrorCode.USER_NOT_FOUND);
+
+            verify(tossApiClient, never()).approvePayment(anyString(), anyString(), anyInt(), anyString());
+        }
+
         @Test
         @DisplayName("잘못된 amount로 요청 시 예외 발생")
         void confirmPayment_InvalidAmount_ThrowsException() {
@@ -419,6 +433,50 @@ class PaymentCommandServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 처리 실패 환불 (refundPayment)")
+    class RefundPaymentTests {
+
+        @Test
+        @DisplayName("승인된 결제를 토스에서 취소하고 취소 이력을 남긴다")
+        void refundPayment_Approved_CancelsPayment() {
+            // Given
+            when(paymentRepository.findByOrderId(UUID.fromString(orderId))).thenReturn(Optional.of(samplePayment));
+            when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            paymentCommandService.refundPayment(UUID.fromString(orderId), "재고 예약 확정 실패");
+
+            // Then
+            verify(tossApiClient).cancelPayment(paymentKey, "재고 예약 확정 실패");
+            assertThat(samplePayment.getPaymentStatus()).isEqualTo(PaymentStatus.CANCELED);
+            verify(paymentHistoryRepository).save(any(PaymentHistory.class));
+        }
+
+        @Test
+        @DisplayName("이미 취소된 결제면 토스를 다시 호출하지 않는다")
+        void refundPayment_AlreadyCanceled_Skips() {
+            // Given
+            Payment canceledPayment = Payment.builder()
+                    .paymentKey(paymentKey)
+                    .orderId(UUID.fromString(orderId))
+                    .userId(userId)
+                    .amount(amount)
+                    .paymentMethod("CARD")
+                    .paymentStatus(PaymentStatus.CANCELED)
+                    .canceledAt(LocalDateTime.now())
+                    .build();
+            when(paymentRepository.findByOrderId(UUID.fromString(orderId))).thenReturn(Optional.of(canceledPayment));
+
+            // When
+            paymentCommandService.refundPayment(UUID.fromString(orderId), "재고 예약 확정 실패");
+
+            // Then
+            verify(tossApiClient, never()).cancelPayment(anyString(), anyString());
+            verify(paymentHistoryRepository, never()).save(any(PaymentHistory.class));
+        }
+    }
+
     @Nested
     @DisplayName("웹훅 처리 (updateStatusFromWebhook)")
     class WebhookTests {
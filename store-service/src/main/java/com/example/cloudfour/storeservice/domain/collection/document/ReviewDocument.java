@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,11 @@ import java.util.UUID;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Document("review-service")
+// 사용자/가게별 최신순 커서 조회용 인덱스, 정렬 키 (createdAt, reviewId) 와 순서를 맞춘다.
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_review_user_created_id", def = "{'userId': 1, 'createdAt': -1, 'reviewId': -1}"),
+        @CompoundIndex(name = "idx_review_store_created_id", def = "{'storeId': 1, 'createdAt': -1, 'reviewId': -1}")
+})
 public class ReviewDocument {
     @Id
     private String id;
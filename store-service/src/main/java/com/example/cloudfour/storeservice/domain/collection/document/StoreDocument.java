@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -18,6 +20,11 @@ import java.util.UUID;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Document("store-service")
+// 카테고리별/전체 최신순 커서 조회용 인덱스, 정렬 키 (createdAt, storeId) 와 순서를 맞춘다.
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_store_category_created_id", def = "{'storeCategory.id': 1, 'createdAt': -1, 'storeId': -1}"),
+        @CompoundIndex(name = "idx_store_created_id", def = "{'createdAt': -1, 'storeId': -1}")
+})
 public class StoreDocument {
     @Id
     private String id;
@@ -1,15 +1,15 @@
 package com.example.cloudfour.storeservice.domain.collection.repository.query;
 
 import com.example.cloudfour.storeservice.domain.collection.document.ReviewDocument;
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
+import com.example.cloudfour.modulecommon.pagination.KeysetPages;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,34 +25,28 @@ public class ReviewSearchRepositoryImpl extends QuerydslRepositorySupport implem
     }
 
     @Override
-    public Slice<ReviewDocument> findAllByUserId(UUID userId, LocalDateTime cursor, Pageable pageable) {
+    public Slice<ReviewDocument> findAllByUserId(UUID userId, KeysetCursor cursor, Pageable pageable) {
         int pageSize = pageable.getPageSize();
 
-        List<ReviewDocument> stores = from(reviewDocument)
+        List<ReviewDocument> reviews = from(reviewDocument)
                 .where(reviewDocument.userId.eq(userId)
-                        , reviewDocument.createdAt.lt(cursor)).orderBy(reviewDocument.createdAt.desc()).limit(pageSize+1)
+                        , KeysetPages.after(cursor, reviewDocument.createdAt, reviewDocument.reviewId))
+                .orderBy(KeysetPages.newestFirst(reviewDocument.createdAt, reviewDocument.reviewId)).limit(pageSize+1)
                 .fetch();
 
-        boolean hasNext = stores.size() > pageSize;
-        if(hasNext){
-            stores.remove(pageSize);
-        }
-        return new SliceImpl<>(stores,pageable,hasNext);
+        return KeysetPages.toSlice(reviews, pageable);
     }
 
     @Override
-    public Slice<ReviewDocument> findAllByStoreId(UUID storeId, LocalDateTime cursor, Pageable pageable) {
+    public Slice<ReviewDocument> findAllByStoreId(UUID storeId, KeysetCursor cursor, Pageable pageable) {
         int pageSize = pageable.getPageSize();
-        List<ReviewDocument> stores = from(reviewDocument)
+        List<ReviewDocument> reviews = from(reviewDocument)
                 .where(reviewDocument.storeId.eq(storeId)
-                        , reviewDocument.createdAt.lt(cursor)).orderBy(reviewDocument.createdAt.desc()).limit(pageSize+1)
+                        , KeysetPages.after(cursor, reviewDocument.createdAt, reviewDocument.reviewId))
+                .orderBy(KeysetPages.newestFirst(reviewDocument.createdAt, reviewDocument.reviewId)).limit(pageSize+1)
                 .fetch();
 
-        boolean hasNext = stores.size() > pageSize;
-        if(hasNext){
-            stores.remove(pageSize);
-        }
-        return new SliceImpl<>(stores,pageable,hasNext);
+        return KeysetPages.toSlice(reviews, pageable);
     }
 
     @Override
@@ -1,10 +1,10 @@
 package com.example.cloudfour.storeservice.domain.collection.repository.query;
 
 import com.example.cloudfour.storeservice.domain.collection.document.StoreDocument;
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,10 +12,11 @@ import java.util.UUID;
 public interface StoreSearchRepository {
     Optional<StoreDocument> findStoreByStoreId(UUID storeId);
 
-    Slice<StoreDocument> findAllStoreByCategoryAndCursor(UUID categoryId, LocalDateTime cursor, Pageable pageable
+    // cursor 가 null 이면 첫 페이지
+    Slice<StoreDocument> findAllStoreByCategoryAndCursor(UUID categoryId, KeysetCursor cursor, Pageable pageable
     , String siDo, String siGunGu, String eupMyeongDong);
 
-    Slice<StoreDocument> findAllStoreByKeyWordAndRegion(String keyword, LocalDateTime cursor, Pageable pageable
+    Slice<StoreDocument> findAllStoreByKeyWordAndRegion(String keyword, KeysetCursor cursor, Pageable pageable
             ,String siDo, String siGunGu, String eupMyeongDong);
 
     List<StoreDocument.Menu> findMenuByStoreId(UUID storeId);
@@ -1,12 +1,13 @@
 package com.example.cloudfour.storeservice.domain.collection.repository.query;
 
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
+import com.example.cloudfour.modulecommon.pagination.KeysetPages;
 import com.example.cloudfour.storeservice.domain.collection.document.StoreDocument;
 import com.example.cloudfour.storeservice.domain.menu.enums.MenuStatus;
 import com.querydsl.core.BooleanBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -14,7 +15,6 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -80,7 +80,7 @@ public class StoreSearchRepositoryImpl extends QuerydslRepositorySupport impleme
     }
 
     @Override
-    public Slice<StoreDocument> findAllStoreByCategoryAndCursor(UUID categoryId, LocalDateTime cursor, Pageable pageable, String siDo, String siGunGu, String eupMyeongDong) {
+    public Slice<StoreDocument> findAllStoreByCategoryAndCursor(UUID categoryId, KeysetCursor cursor, Pageable pageable, String siDo, String siGunGu, String eupMyeongDong) {
         BooleanBuilder regionBuilder = new BooleanBuilder();
         if(siDo!=null){
             regionBuilder.or(storeDocument.siDo.containsIgnoreCase(siDo));
@@ -95,22 +95,19 @@ public class StoreSearchRepositoryImpl extends QuerydslRepositorySupport impleme
         int pageSize = pageable.getPageSize();
         List<StoreDocument> stores = from(storeDocument)
                 .where(storeDocument.storeCategory.id.eq(categoryId), regionBuilder
-                        , storeDocument.createdAt.lt(cursor)).orderBy(storeDocument.createdAt.desc()).limit(pageSize+1)
+                        , KeysetPages.after(cursor, storeDocument.createdAt, storeDocument.storeId))
+                .orderBy(KeysetPages.newestFirst(storeDocument.createdAt, storeDocument.storeId)).limit(pageSize+1)
                 .fetch();
 
-        boolean hasNext = stores.size() > pageSize;
-        if(hasNext){
-            stores.remove(pageSize);
-        }
-        return new SliceImpl<>(stores,pageable,hasNext);
+        return KeysetPages.toSlice(stores, pageable);
     }
 
     @Override
-    public Slice<StoreDocument> findAllStoreByKeyWordAndRegion(String keyword, LocalDateTime cursor, Pageable pageable, String siDo, String siGunGu, String eupMyeongDong) {
+    public Slice<StoreDocument> findAllStoreByKeyWordAndRegion(String keyword, KeysetCursor cursor, Pageable pageable, String siDo, String siGunGu, String eupMyeongDong) {
         int pageSize = pageable.getPageSize();
 
         BooleanBuilder builder = new BooleanBuilder();
-        builder.and(storeDocument.createdAt.lt(cursor));
+        builder.and(KeysetPages.after(cursor, storeDocument.createdAt, storeDocument.storeId));
 
         if(keyword!=null && !keyword.isEmpty()){
             builder.and(storeDocument.name.containsIgnoreCase(keyword)
@@ -130,12 +127,8 @@ public class StoreSearchRepositoryImpl extends QuerydslRepositorySupport impleme
         builder.and(regionBuilder);
 
         List<StoreDocument> stores = from(storeDocument).where(builder)
-                .orderBy(storeDocument.createdAt.desc()).limit(pageSize+1).fetch();
-        boolean hasNext = stores.size() > pageSize;
-        if(hasNext){
-            stores.remove(pageSize);
-        }
-        return new SliceImpl<>(stores,pageable,hasNext);
+                .orderBy(KeysetPages.newestFirst(storeDocument.createdAt, storeDocument.storeId)).limit(pageSize+1).fetch();
+        return KeysetPages.toSlice(stores, pageable);
     }
 
     @Override
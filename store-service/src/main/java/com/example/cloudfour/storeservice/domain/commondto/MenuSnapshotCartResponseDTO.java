@@ -0,0 +1,18 @@
+package com.example.cloudfour.storeservice.domain.commondto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class MenuSnapshotCartResponseDTO {
+    private UUID menuId;
+    private UUID storeId;
+    private String menuName;
+    private Integer price;
+    private boolean soldOut;
+    private List<MenuOptionCartResponseDTO> options;
+}
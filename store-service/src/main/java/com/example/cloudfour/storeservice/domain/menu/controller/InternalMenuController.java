@@ -3,6 +3,7 @@ package com.example.cloudfour.storeservice.domain.menu.controller;
 import com.example.cloudfour.modulecommon.apiPayLoad.CustomResponse;
 import com.example.cloudfour.storeservice.domain.commondto.MenuCartResponseDTO;
 import com.example.cloudfour.storeservice.domain.commondto.MenuOptionCartResponseDTO;
+import com.example.cloudfour.storeservice.domain.commondto.MenuSnapshotCartResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.converter.MenuConverter;
 import com.example.cloudfour.storeservice.domain.menu.converter.MenuOptionConverter;
 import com.example.cloudfour.storeservice.domain.menu.dto.MenuOptionResponseDTO;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -45,16 +47,35 @@ public class InternalMenuController {
         }
     }
 
+    // cart-service 의 ID Bloom 필터 재구성용 스냅샷
+    @GetMapping("/ids")
+    public List<UUID> getLiveMenuIds() {
+        return menuQuery.findAllLiveIds();
+    }
+
     @GetMapping("/{menuId}")
     public MenuCartResponseDTO getMenuDetail(
             @PathVariable("menuId") UUID menuId) {
         return query.findMenu(menuId);
     }
 
+    @GetMapping("/{menuId}/snapshot")
+    public MenuSnapshotCartResponseDTO getMenuSnapshot(
+            @PathVariable("menuId") UUID menuId) {
+        return query.findMenuSnapshot(menuId);
+    }
+
     @GetMapping("/options/{optionId}/detail")
     public MenuOptionCartResponseDTO getMenuOptionDetail(
             @PathVariable("optionId") UUID optionId
     ) {
         return query.findMenuOption(optionId);
     }
+
+    @GetMapping("/options/details")
+    public List<MenuOptionCartResponseDTO> getMenuOptionDetails(
+            @RequestParam("optionIds") List<UUID> optionIds
+    ) {
+        return query.findMenuOptions(optionIds);
+    }
 }
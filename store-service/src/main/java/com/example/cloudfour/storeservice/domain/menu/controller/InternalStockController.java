@@ -1,16 +1,21 @@
 package com.example.cloudfour.storeservice.domain.menu.controller;
 
+import com.example.cloudfour.storeservice.domain.menu.dto.StockRequestDTO;
 import com.example.cloudfour.storeservice.domain.menu.dto.StockResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.service.command.StockCommandService;
 import com.example.cloudfour.storeservice.domain.menu.service.query.StockQueryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -29,16 +34,43 @@ public class InternalStockController {
     @PostMapping("/menus/stock/{stockId}/decrease")
     public void decreaseStock(
             @PathVariable("stockId") UUID stockId,
-            @RequestParam(name = "quantity") Long quantity
+            @RequestParam(name = "quantity") Long quantity,
+            @RequestParam(name = "orderId", required = false) UUID orderId
     ){
-        stockCommandService.decreaseStock(stockId,quantity);
+        stockCommandService.decreaseStock(stockId, quantity, orderId);
+    }
+
+    @PostMapping("/menus/stock/reserve")
+    public List<StockResponseDTO> reserveStocks(
+            @Valid @RequestBody StockRequestDTO.StockReserveRequestDTO request
+    ){
+        return stockCommandService.reserveStocks(request.getItems(), request.getOrderId());
     }
 
     @PostMapping("/menus/stock/{stockId}/increase")
     public void increaseStock(
             @PathVariable("stockId") UUID stockId,
-            @RequestParam(name = "quantity") Long quantity
+            @RequestParam(name = "quantity") Long quantity,
+            @RequestParam(name = "orderId", required = false) UUID orderId
     ){
-        stockCommandService.increaseStock(stockId,quantity);
+        stockCommandService.increaseStock(stockId, quantity, orderId);
+    }
+
+    @PatchMapping("/menus/stock/{stockId}/shards")
+    public StockResponseDTO updateShardCount(
+            @PathVariable("stockId") UUID stockId,
+            @RequestParam(name = "count") Integer count
+    ){
+        return stockCommandService.updateShardCount(stockId, count);
+    }
+
+    @PostMapping("/menus/stock/holds/{orderId}/confirm")
+    public void confirmStockHold(@PathVariable("orderId") UUID orderId){
+        stockCommandService.confirmHold(orderId);
+    }
+
+    @PostMapping("/menus/stock/holds/{orderId}/release")
+    public void releaseStockHold(@PathVariable("orderId") UUID orderId){
+        stockCommandService.releaseHold(orderId);
     }
 }
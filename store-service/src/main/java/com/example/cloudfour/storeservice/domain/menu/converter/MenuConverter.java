@@ -2,6 +2,7 @@ package com.example.cloudfour.storeservice.domain.menu.converter;
 
 import com.example.cloudfour.storeservice.domain.collection.document.StoreDocument;
 import com.example.cloudfour.storeservice.domain.commondto.MenuCartResponseDTO;
+import com.example.cloudfour.storeservice.domain.commondto.MenuSnapshotCartResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.controller.MenuCommonResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.dto.MenuRequestDTO;
 import com.example.cloudfour.storeservice.domain.menu.dto.MenuResponseDTO;
@@ -118,5 +119,19 @@ public class MenuConverter {
                 .build();
     }
 
+    public static MenuSnapshotCartResponseDTO toMenuSnapshotDTO(Menu menu, boolean soldOut){
+        return MenuSnapshotCartResponseDTO.builder()
+                .menuId(menu.getId())
+                .storeId(menu.getStore().getId())
+                .menuName(menu.getName())
+                .price(menu.getPrice())
+                .soldOut(soldOut)
+                .options(menu.getMenuOptions().stream()
+                        .filter(option -> !Boolean.TRUE.equals(option.getIsDeleted()))
+                        .map(MenuOptionConverter::toFindMenuOptionDTO)
+                        .toList())
+                .build();
+    }
+
 
 }
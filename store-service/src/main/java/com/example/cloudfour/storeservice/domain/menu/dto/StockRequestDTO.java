@@ -0,0 +1,39 @@
+package com.example.cloudfour.storeservice.domain.menu.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+public class StockRequestDTO {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StockReserveItemRequestDTO {
+        @NotNull
+        private UUID menuId;
+        @NotNull
+        @Min(value = 1)
+        private Long quantity;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StockReserveRequestDTO {
+        @NotEmpty
+        @Valid
+        private List<StockReserveItemRequestDTO> items;
+        private UUID orderId;
+    }
+}
@@ -39,6 +39,16 @@ public class Stock {
     @Version
     private Long version;
 
+    // 1보다 크면 수량을 p_stock_shard 의 하위 카운터로 나누어 관리하고, quantity 는 집계된 캐시 값이 된다.
+    @Column(name = "shardCount", nullable = false, columnDefinition = "integer default 1")
+    @Builder.Default
+    private Integer shardCount = 1;
+
+    // stock.mode=redis 에서 마지막으로 반영된 Redis 증감분 묶음 번호, 같은 묶음을 두 번 반영하지 않는다.
+    @Column(name = "flushSeq", nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long flushSeq = 0L;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "syncStatus", nullable = false)
     @Builder.Default
@@ -63,17 +73,18 @@ public class Stock {
         this.syncStatus = syncStatus;
     }
 
-    public void decrease(Long quantity){
-        if(quantity<0)quantity = -quantity;
-        if(this.quantity - quantity < 0){
-            throw new StockException(StockErrorCode.MINUS_FAILED);
-        }
-        this.quantity-=quantity;
-        this.syncStatus = SyncStatus.UPDATED_PENDING;
+    public boolean isSharded(){
+        return this.shardCount != null && this.shardCount > 1;
+    }
+
+    public void updateShardCount(Integer shardCount){
+        this.shardCount = shardCount;
     }
 
-    public void increase(Long quantity){
-        this.quantity+=quantity;
-        this.syncStatus = SyncStatus.UPDATED_PENDING;
+    public void refreshQuantity(Long total){
+        if (!total.equals(this.quantity)) {
+            this.quantity = total;
+            this.syncStatus = SyncStatus.UPDATED_PENDING;
+        }
     }
 }
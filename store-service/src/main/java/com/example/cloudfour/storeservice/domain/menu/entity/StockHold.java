@@ -0,0 +1,91 @@
+package com.example.cloudfour.storeservice.domain.menu.entity;
+
+import com.example.cloudfour.storeservice.domain.menu.enums.StockHoldStatus;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "p_stock_hold", indexes = {
+        @Index(name = "idx_stock_hold_order", columnList = "orderId"),
+        @Index(name = "idx_stock_hold_status_expires", columnList = "status, expiresAt")
+})
+@Builder
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockHold {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "orderId", nullable = false, updatable = false)
+    private UUID orderId;
+
+    @Column(name = "stockId", nullable = false, updatable = false)
+    private UUID stockId;
+
+    @Column(name = "quantity", nullable = false, updatable = false)
+    private Long quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private StockHoldStatus status = StockHoldStatus.HELD;
+
+    @Column(name = "expiresAt", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Version
+    private Long version;
+
+    public static class StockHoldBuilder {
+        private StockHoldBuilder id(UUID id) {
+            throw new StockException(StockErrorCode.CREATE_FAILED);
+        }
+    }
+
+    public boolean isHeld(){
+        return this.status == StockHoldStatus.HELD;
+    }
+
+    public boolean isReleased(){
+        return this.status == StockHoldStatus.RELEASED;
+    }
+
+    public boolean isExpired(){
+        return this.status == StockHoldStatus.EXPIRED;
+    }
+
+    public boolean isReturned(){
+        return this.status == StockHoldStatus.RELEASED || this.status == StockHoldStatus.EXPIRED;
+    }
+
+    public void confirm(){
+        this.status = StockHoldStatus.CONFIRMED;
+    }
+
+    public void release(){
+        this.status = StockHoldStatus.RELEASED;
+    }
+
+    public void expire(){
+        this.status = StockHoldStatus.EXPIRED;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.cloudfour.storeservice.domain.menu.entity;
+
+import com.example.cloudfour.storeservice.domain.menu.enums.StockMovementType;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "p_stock_movement", indexes = {
+        @Index(name = "idx_stock_movement_stock_compacted", columnList = "stockId, compacted"),
+        @Index(name = "idx_stock_movement_order", columnList = "orderId")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Builder
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockMovement {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "stockId", nullable = false, updatable = false)
+    private UUID stockId;
+
+    @Column(name = "orderId", updatable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private StockMovementType type;
+
+    // 재고 증감량 (차감은 음수)
+    @Column(name = "quantity", nullable = false, updatable = false)
+    private Long quantity;
+
+    @Column(name = "compacted", nullable = false)
+    @Builder.Default
+    private Boolean compacted = false;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static class StockMovementBuilder {
+        private StockMovementBuilder id(UUID id) {
+            throw new StockException(StockErrorCode.CREATE_FAILED);
+        }
+    }
+}
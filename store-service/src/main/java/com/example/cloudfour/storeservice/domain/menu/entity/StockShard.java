@@ -0,0 +1,62 @@
+package com.example.cloudfour.storeservice.domain.menu.entity;
+
+import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "p_stock_shard", uniqueConstraints = @UniqueConstraint(columnNames = {"stockId", "shardIndex"}))
+@Builder
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockShard {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "shardIndex", nullable = false)
+    private Integer shardIndex;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stockId", nullable = false)
+    private Stock stock;
+
+    public static class StockShardBuilder {
+        private StockShardBuilder id(UUID id) {
+            throw new StockException(StockErrorCode.CREATE_FAILED);
+        }
+    }
+
+    public long take(long requested){
+        long taken = Math.min(this.quantity, requested);
+        this.quantity -= taken;
+        return taken;
+    }
+
+    public void increase(Long quantity){
+        this.quantity += quantity;
+    }
+}
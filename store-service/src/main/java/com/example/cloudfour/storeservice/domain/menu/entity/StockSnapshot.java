@@ -0,0 +1,37 @@
+package com.example.cloudfour.storeservice.domain.menu.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "p_stock_snapshot")
+@Builder
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockSnapshot {
+    @Id
+    @Column(name = "stockId")
+    private UUID stockId;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Column(name = "compactedAt", nullable = false)
+    private LocalDateTime compactedAt;
+
+    public void apply(Long delta, LocalDateTime compactedAt){
+        this.quantity += delta;
+        this.compactedAt = compactedAt;
+    }
+}
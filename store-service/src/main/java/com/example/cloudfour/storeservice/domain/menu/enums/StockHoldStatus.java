@@ -0,0 +1,8 @@
+package com.example.cloudfour.storeservice.domain.menu.enums;
+
+public enum StockHoldStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
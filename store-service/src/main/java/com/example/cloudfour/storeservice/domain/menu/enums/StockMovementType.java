@@ -0,0 +1,8 @@
+package com.example.cloudfour.storeservice.domain.menu.enums;
+
+public enum StockMovementType {
+    RESERVATION,
+    RELEASE,
+    RESTOCK,
+    ADJUSTMENT
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,4 +18,7 @@ public interface MenuOptionRepository extends JpaRepository<MenuOption, UUID> ,
     List<MenuOption> findAllByIsDeleted();
 
     List<MenuOption> findAllBySyncStatus(SyncStatus syncStatus);
+
+    @Query("select mo from MenuOption mo join fetch mo.menu where mo.id in :ids")
+    List<MenuOption> findAllWithMenuByIdIn(Collection<UUID> ids);
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MenuRepository extends JpaRepository<Menu, UUID>, MenuQueryDslRepository {
@@ -17,4 +18,10 @@ public interface MenuRepository extends JpaRepository<Menu, UUID>, MenuQueryDslR
     void deleteAllByDeletedAtBefore(LocalDateTime deletedAtBefore);
 
     List<Menu> findAllBySyncStatus(SyncStatus syncStatus);
+
+    @Query("select distinct m from Menu m left join fetch m.menuOptions where m.id = :menuId")
+    Optional<Menu> findWithOptionsById(UUID menuId);
+
+    @Query("select m.id from Menu m where m.isDeleted = false")
+    List<UUID> findAllLiveIds();
 }
\ No newline at end of file
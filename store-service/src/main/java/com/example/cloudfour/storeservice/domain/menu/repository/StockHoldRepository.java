@@ -0,0 +1,33 @@
+package com.example.cloudfour.storeservice.domain.menu.repository;
+
+import com.example.cloudfour.storeservice.domain.menu.entity.StockHold;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockHoldStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockHoldRepository extends JpaRepository<StockHold, UUID> {
+    List<StockHold> findAllByOrderId(UUID orderId);
+
+    @Query("select h from StockHold h where h.orderId in :orderIds and h.status = :status and h.expiresAt <= :now order by h.stockId")
+    List<StockHold> findExpirableByOrderIds(@Param("orderIds") Collection<UUID> orderIds,
+                                            @Param("status") StockHoldStatus status,
+                                            @Param("now") LocalDateTime now);
+
+    @Query("select distinct h.orderId from StockHold h where h.status = :status and h.expiresAt <= :now")
+    List<UUID> findOrderIdsByStatusAndExpiresAtBefore(@Param("status") StockHoldStatus status,
+                                                      @Param("now") LocalDateTime now,
+                                                      Pageable pageable);
+
+    @Modifying
+    @Query("delete from StockHold h where h.status in :statuses and h.expiresAt < :before")
+    int deleteAllByStatusInAndExpiresAtBefore(@Param("statuses") Collection<StockHoldStatus> statuses,
+                                              @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,41 @@
+package com.example.cloudfour.storeservice.domain.menu.repository;
+
+import com.example.cloudfour.storeservice.domain.menu.entity.StockMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockMovementRepository extends JpaRepository<StockMovement, UUID> {
+    @Query("select m from StockMovement m where m.compacted = false and m.createdAt < :before order by m.createdAt")
+    List<StockMovement> findUncompactedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Query("select m from StockMovement m where m.id in :ids and m.compacted = false")
+    List<StockMovement> findUncompactedByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select coalesce(sum(m.quantity), 0) from StockMovement m where m.stockId = :stockId and m.compacted = false")
+    Long sumUncompactedByStockId(@Param("stockId") UUID stockId);
+
+    @Query("select m.stockId as stockId, sum(m.quantity) as quantity from StockMovement m " +
+            "where m.stockId in :stockIds and m.compacted = false group by m.stockId")
+    List<StockDelta> sumUncompactedByStockIds(@Param("stockIds") Collection<UUID> stockIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update StockMovement m set m.compacted = true where m.id in :ids")
+    int markCompacted(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from StockMovement m where m.compacted = true and m.createdAt < :before")
+    int deleteCompactedBefore(@Param("before") LocalDateTime before);
+
+    interface StockDelta {
+        UUID getStockId();
+        Long getQuantity();
+    }
+}
@@ -5,8 +5,11 @@ import com.example.cloudfour.storeservice.domain.menu.entity.Stock;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,5 +19,44 @@ public interface StockRepository extends JpaRepository<Stock, UUID> {
     @Query("select s from Stock s where s.id = :id")
     Optional<Stock> findByIdWithOptimisticLock(UUID id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Stock s where s.id in :ids order by s.id")
+    List<Stock> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
     List<Stock> findAllBySyncStatus(SyncStatus syncStatus);
+
+    List<Stock> findAllByMenuIdIn(Collection<UUID> menuIds);
+
+    @Query("select s.id from Stock s where s.shardCount > :shardCount")
+    List<UUID> findIdsByShardCountGreaterThan(@Param("shardCount") Integer shardCount);
+
+    @Query("select s.id from Stock s where s.id in :ids and s.shardCount > 1")
+    List<UUID> findShardedIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select s.quantity from Stock s where s.id = :id")
+    Optional<Long> findQuantityById(@Param("id") UUID id);
+
+    // 분할 재고의 집계 값만 갱신한다, @Version 을 올리지 않으므로 같은 재고의 차감과 충돌하지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update Stock s set s.quantity = :quantity, s.syncStatus = :syncStatus where s.id = :id and s.quantity <> :quantity")
+    int refreshQuantity(@Param("id") UUID id, @Param("quantity") Long quantity, @Param("syncStatus") SyncStatus syncStatus);
+
+    // 이미 반영한 묶음(flushSeq)이면 0 건이 갱신되므로 같은 증감분을 다시 보내도 안전하다.
+    @Modifying(clearAutomatically = true)
+    @Query("update Stock s set s.quantity = s.quantity + :delta, s.version = s.version + 1, s.syncStatus = :syncStatus, s.flushSeq = :flushSeq " +
+            "where s.id = :id and s.flushSeq < :flushSeq")
+    int applyQuantityDelta(@Param("id") UUID id, @Param("delta") Long delta, @Param("syncStatus") SyncStatus syncStatus, @Param("flushSeq") Long flushSeq);
+
+    // 영속성 컨텍스트를 거치지 않고 현재 커밋된 수량과 반영 묶음 번호를 함께 읽는다.
+    @Query("select s.id as id, s.quantity as quantity, s.flushSeq as flushSeq from Stock s where s.id in :ids")
+    List<CounterSnapshot> findCounterSnapshots(@Param("ids") Collection<UUID> ids);
+
+    @Query("select coalesce(max(s.flushSeq), 0) from Stock s")
+    Long findMaxFlushSeq();
+
+    interface CounterSnapshot {
+        UUID getId();
+        Long getQuantity();
+        Long getFlushSeq();
+    }
 }
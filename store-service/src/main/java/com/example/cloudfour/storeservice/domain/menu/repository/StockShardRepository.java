@@ -0,0 +1,26 @@
+package com.example.cloudfour.storeservice.domain.menu.repository;
+
+import com.example.cloudfour.storeservice.domain.menu.entity.StockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockShardRepository extends JpaRepository<StockShard, UUID> {
+    @Query("select s from StockShard s where s.stock.id = :stockId order by s.shardIndex")
+    List<StockShard> findAllByStockId(@Param("stockId") UUID stockId);
+
+    @Query("select coalesce(sum(s.quantity), 0) from StockShard s where s.stock.id = :stockId")
+    Long sumQuantityByStockId(@Param("stockId") UUID stockId);
+
+    @Query("select s.stock.id, sum(s.quantity) from StockShard s where s.stock.id in :stockIds group by s.stock.id")
+    List<Object[]> sumQuantityGroupByStockId(@Param("stockIds") Collection<UUID> stockIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from StockShard s where s.stock.id = :stockId")
+    void deleteAllByStockId(@Param("stockId") UUID stockId);
+}
@@ -0,0 +1,22 @@
+package com.example.cloudfour.storeservice.domain.menu.repository;
+
+import com.example.cloudfour.storeservice.domain.menu.entity.StockSnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from StockSnapshot s where s.stockId in :stockIds order by s.stockId")
+    List<StockSnapshot> findAllByIdForUpdate(@Param("stockIds") Collection<UUID> stockIds);
+
+    // 엔티티를 영속성 컨텍스트에 올리지 않도록 ID 만 읽는다.
+    @Query("select s.stockId from StockSnapshot s where s.stockId in :stockIds")
+    List<UUID> findExistingIds(@Param("stockIds") Collection<UUID> stockIds);
+}
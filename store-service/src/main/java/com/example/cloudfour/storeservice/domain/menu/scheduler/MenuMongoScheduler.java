@@ -9,6 +9,7 @@ import com.example.cloudfour.storeservice.domain.menu.entity.Stock;
 import com.example.cloudfour.storeservice.domain.menu.repository.MenuOptionRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.MenuRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockShardRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,7 @@ public class MenuMongoScheduler {
     private final MenuCommandRepository menuCommandRepository;
     private final StockRepository stockRepository;
     private final StockCommandRepository stockCommandRepository;
+    private final StockShardRepository stockShardRepository;
 
     @Scheduled(cron = "0 * * * * *")
     public void syncMenuScheduler(){
@@ -41,6 +43,7 @@ public class MenuMongoScheduler {
         createMenuOption();
         updateMenu();
         updateMenuOption();
+        rollupShardedQuantity();
         refreshQuantity();
         log.info("Menu Mongo 동기화 완료");
     }
@@ -136,6 +139,21 @@ public class MenuMongoScheduler {
         log.info("MongoDB에 메뉴 옵션 삭제 완료");
     }
 
+    private void rollupShardedQuantity(){
+        List<UUID> shardedStockIds = stockRepository.findIdsByShardCountGreaterThan(1);
+        if(shardedStockIds.isEmpty()){
+            return;
+        }
+        Map<UUID, Long> totalByStockId = stockShardRepository.sumQuantityGroupByStockId(shardedStockIds).stream()
+                .collect(Collectors.toMap(row -> (UUID) row[0], row -> ((Number) row[1]).longValue()));
+
+        int refreshed = 0;
+        for(UUID stockId: shardedStockIds){
+            refreshed += stockRepository.refreshQuantity(stockId, totalByStockId.getOrDefault(stockId, 0L), SyncStatus.UPDATED_PENDING);
+        }
+        log.info("분할 재고 수량 집계 완료: {} 건 중 {} 건 변경", shardedStockIds.size(), refreshed);
+    }
+
     private void refreshQuantity(){
         log.info("MongoDB에 수량 최신화 시작");
         List<Stock> pendingStocks = stockRepository.findAllBySyncStatus(SyncStatus.UPDATED_PENDING);
@@ -0,0 +1,69 @@
+package com.example.cloudfour.storeservice.domain.menu.scheduler;
+
+import com.example.cloudfour.storeservice.domain.menu.enums.StockHoldStatus;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockHoldRepository;
+import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
+import com.example.cloudfour.storeservice.domain.menu.service.command.StockCommandService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StockHoldScheduler {
+
+    private final StockCommandService stockCommandService;
+    private final StockRedisService stockRedisService;
+    private final StockHoldRepository stockHoldRepository;
+
+    @Value("${stock.hold.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    @Value("${stock.hold.retention-days:30}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${stock.hold.sweep-interval-ms:5000}")
+    public void sweepExpiredHolds(){
+        List<UUID> orderIds = stockRedisService.findExpiredHolds(sweepBatchSize);
+        while (!orderIds.isEmpty()) {
+            try {
+                stockCommandService.expireHolds(orderIds);
+            } catch (Exception e) {
+                log.error("만료 재고 예약 반납 실패 - {} 개 주문", orderIds.size(), e);
+                return;
+            }
+            stockRedisService.removeHoldExpiry(orderIds);
+            orderIds = stockRedisService.findExpiredHolds(sweepBatchSize);
+        }
+    }
+
+    // 지연 큐가 유실되었을 때를 대비해 DB 기준으로 만료된 예약을 다시 확인한다.
+    @Scheduled(cron = "0 */5 * * * *")
+    public void sweepMissedHolds(){
+        List<UUID> orderIds = stockHoldRepository.findOrderIdsByStatusAndExpiresAtBefore(
+                StockHoldStatus.HELD, LocalDateTime.now(), PageRequest.of(0, sweepBatchSize));
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        int expired = stockCommandService.expireHolds(orderIds);
+        log.info("지연 큐에 없던 만료 재고 예약 반납 - {} 건", expired);
+    }
+
+    @Transactional
+    @Scheduled(cron = "0 0 5 * * *")
+    public void purgeFinishedHolds(){
+        int deleted = stockHoldRepository.deleteAllByStatusInAndExpiresAtBefore(
+                List.of(StockHoldStatus.CONFIRMED, StockHoldStatus.RELEASED, StockHoldStatus.EXPIRED),
+                LocalDateTime.now().minusDays(retentionDays));
+        log.info("종료된 재고 예약 정리 - {} 건 삭제", deleted);
+    }
+}
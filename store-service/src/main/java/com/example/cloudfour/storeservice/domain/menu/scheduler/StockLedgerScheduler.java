@@ -0,0 +1,49 @@
+package com.example.cloudfour.storeservice.domain.menu.scheduler;
+
+import com.example.cloudfour.storeservice.domain.menu.service.StockLedgerService;
+import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StockLedgerScheduler {
+
+    private final StockLedgerService stockLedgerService;
+    private final StockRedisService stockRedisService;
+
+    @Value("${stock.ledger.compact-batch-size:1000}")
+    private int compactBatchSize;
+
+    @Value("${stock.ledger.compact-delay-seconds:60}")
+    private long compactDelaySeconds;
+
+    @Value("${stock.ledger.retention-days:30}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${stock.ledger.compact-interval-ms:60000}")
+    public void compactMovements(){
+        // 진행 중인 트랜잭션의 원장 기록이 압축 대상에서 빠지지 않도록 일정 시간 지난 기록만 압축한다.
+        LocalDateTime before = LocalDateTime.now().minusSeconds(compactDelaySeconds);
+        // Redis 모드에서는 재고 행 수량을 증감분 반영 작업이 맞추므로 원장 압축은 스냅샷만 갱신한다.
+        boolean refreshStock = !stockRedisService.isAuthoritative();
+        Map<UUID, Long> compacted;
+        do {
+            compacted = stockLedgerService.compact(before, compactBatchSize, refreshStock);
+        } while (!compacted.isEmpty());
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeCompactedMovements(){
+        int deleted = stockLedgerService.purgeCompacted(LocalDateTime.now().minusDays(retentionDays));
+        log.info("압축된 재고 원장 정리 - {} 건 삭제", deleted);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cloudfour.storeservice.domain.menu.scheduler;
+
+import com.example.cloudfour.storeservice.domain.menu.entity.Stock;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
+import com.example.cloudfour.storeservice.domain.menu.service.command.StockCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.mode", havingValue = "redis")
+public class StockRedisScheduler {
+
+    private final StockRedisService stockRedisService;
+    private final StockCommandService stockCommandService;
+    private final StockRepository stockRepository;
+
+    @Value("${stock.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Scheduled(fixedDelayString = "${stock.flush-interval-ms:1000}")
+    public void flushPendingDeltas(){
+        StockRedisService.DeltaBatch batch = stockRedisService.claimPendingDeltas(flushBatchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            stockCommandService.applyPendingDeltas(batch.deltas(), batch.seq());
+        } catch (Exception e) {
+            // 묶음은 반영 중으로 남아 다음 주기에 같은 번호로 다시 반영된다.
+            log.error("Redis 재고 증감분 DB 반영 실패 - 다음 주기에 재시도: {} 건", batch.deltas().size(), e);
+            return;
+        }
+        stockRedisService.acknowledgeDeltas(batch);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCounters(){
+        log.info("Redis 재고 카운터 적재 시작");
+        stockRedisService.seedFlushSeq(stockRepository.findMaxFlushSeq());
+        reconcileCounters();
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void reconcileCounters(){
+        List<Stock> stocks = stockRepository.findAll();
+        int loaded = 0;
+        for (Stock stock : stocks) {
+            if (stockRedisService.loadCounterIfAbsent(stock.getId(), stock.getQuantity(), stock.getFlushSeq()) == StockRedisService.LOADED) {
+                loaded++;
+            }
+        }
+        log.info("Redis 재고 카운터 재구성 완료 - 전체 {} 건, 신규 적재 {} 건", stocks.size(), loaded);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.cloudfour.storeservice.domain.menu.service;
+
+import com.example.cloudfour.storeservice.domain.common.enums.SyncStatus;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockMovement;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockSnapshot;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockMovementType;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockMovementRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockShardRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockSnapshotRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 재고 수량의 기준은 스냅샷 + 아직 압축되지 않은 증감 기록이다.
+// 분할 재고가 아니고 Redis 모드도 아니면 원장 자체가 쓰기 경로이며, 재고 행(p_stock)의 수량은 압축할 때 맞추는 읽기용 값이다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockLedgerService {
+
+    private final StockMovementRepository stockMovementRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final StockRepository stockRepository;
+    private final StockShardRepository stockShardRepository;
+
+    public void record(UUID stockId, StockMovementType type, Long quantity, UUID orderId){
+        recordAll(Map.of(stockId, quantity), type, orderId);
+    }
+
+    // 증감 기록만 추가한다. 반납/입고는 잠금 없이 이 기록이 곧 수량 변경이다.
+    public void recordAll(Map<UUID, Long> quantityByStockId, StockMovementType type, UUID orderId){
+        openMissingSnapshots(quantityByStockId.keySet());
+        saveMovements(quantityByStockId, type, orderId);
+    }
+
+    // 차감은 스냅샷 행을 잠근 채 현재 수량을 확인하고 기록을 추가한다.
+    // 같은 재고의 차감끼리는 이 잠금에서 줄을 설 뿐 @Version 충돌로 실패하고 재시도하지 않는다.
+    public Map<UUID, Long> take(Map<UUID, Long> quantityByStockId, StockMovementType type, UUID orderId){
+        Map<UUID, Long> levels = lockLevels(quantityByStockId.keySet());
+        Map<UUID, Long> remaining = new HashMap<>();
+        levels.forEach((stockId, level) -> {
+            long requested = Math.abs(quantityByStockId.get(stockId));
+            if (level < requested) {
+                throw new StockException(StockErrorCode.MINUS_FAILED);
+            }
+            remaining.put(stockId, level - requested);
+        });
+        saveMovements(quantityByStockId, type, orderId);
+        return remaining;
+    }
+
+    // 스냅샷 행을 재고 ID 순서로 잠그고(교착 방지) 현재 수량을 읽는다. 잠금은 호출한 트랜잭션이 끝날 때 풀린다.
+    public Map<UUID, Long> lockLevels(Collection<UUID> stockIds){
+        openMissingSnapshots(stockIds);
+        List<StockSnapshot> snapshots = stockSnapshotRepository.findAllByIdForUpdate(stockIds);
+        if (snapshots.size() != stockIds.size()) {
+            throw new StockException(StockErrorCode.NOT_FOUND);
+        }
+        Map<UUID, Long> uncompacted = sumUncompacted(stockIds);
+        return snapshots.stream()
+                .collect(Collectors.toMap(StockSnapshot::getStockId,
+                        snapshot -> snapshot.getQuantity() + uncompacted.getOrDefault(snapshot.getStockId(), 0L)));
+    }
+
+    public Long currentLevel(UUID stockId){
+        return stockSnapshotRepository.findById(stockId)
+                .map(snapshot -> snapshot.getQuantity() + stockMovementRepository.sumUncompactedByStockId(stockId))
+                .orElse(null);
+    }
+
+    // refreshStock 이면 원장이 쓰기 경로인 재고(분할 재고 제외)의 재고 행 수량을 압축 결과로 맞춘다.
+    // 재고 행은 @Version 을 올리지 않는 일괄 갱신으로만 바꾸므로 주문 처리와 충돌하지 않는다.
+    // 여러 인스턴스가 같은 기록을 두 번 접지 않도록 take() 와 같은 순서로 스냅샷 행을 잠근 뒤,
+    // 잠금을 기다리는 동안 다른 쪽이 이미 압축한 기록을 빼고 남은 기록만 스냅샷에 반영한다.
+    @Transactional
+    public Map<UUID, Long> compact(LocalDateTime before, int batchSize, boolean refreshStock){
+        List<StockMovement> candidates = stockMovementRepository.findUncompactedBefore(before, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<UUID> stockIds = candidates.stream().map(StockMovement::getStockId).collect(Collectors.toCollection(TreeSet::new));
+        openMissingSnapshots(stockIds);
+        List<StockSnapshot> lockedSnapshots = stockSnapshotRepository.findAllByIdForUpdate(stockIds);
+        List<StockMovement> movements = stockMovementRepository.findUncompactedByIds(candidates.stream().map(StockMovement::getId).toList());
+        if (movements.isEmpty()) {
+            log.info("재고 원장 압축 건너뜀 - 다른 인스턴스가 먼저 압축함");
+            return Map.of();
+        }
+
+        Map<UUID, Long> deltaByStockId = movements.stream()
+                .collect(Collectors.groupingBy(StockMovement::getStockId, Collectors.summingLong(StockMovement::getQuantity)));
+        LocalDateTime now = LocalDateTime.now();
+        List<StockSnapshot> snapshots = lockedSnapshots.stream()
+                .filter(snapshot -> deltaByStockId.containsKey(snapshot.getStockId()))
+                .toList();
+        snapshots.forEach(snapshot -> snapshot.apply(deltaByStockId.get(snapshot.getStockId()), now));
+        // 아래 일괄 갱신이 영속성 컨텍스트를 비우므로 스냅샷 변경을 먼저 내보낸다.
+        stockSnapshotRepository.saveAllAndFlush(snapshots);
+        stockMovementRepository.markCompacted(movements.stream().map(StockMovement::getId).toList());
+
+        if (refreshStock) {
+            Set<UUID> ledgerStockIds = new TreeSet<>(deltaByStockId.keySet());
+            stockRepository.findShardedIds(ledgerStockIds).forEach(ledgerStockIds::remove);
+            Map<UUID, Long> uncompacted = sumUncompacted(ledgerStockIds);
+            snapshots.stream()
+                    .filter(snapshot -> ledgerStockIds.contains(snapshot.getStockId()))
+                    .forEach(snapshot -> stockRepository.refreshQuantity(snapshot.getStockId(),
+                            snapshot.getQuantity() + uncompacted.getOrDefault(snapshot.getStockId(), 0L), SyncStatus.UPDATED_PENDING));
+        }
+        log.info("재고 원장 압축 - {} 건, {} 개 재고", movements.size(), deltaByStockId.size());
+        return deltaByStockId;
+    }
+
+    @Transactional
+    public int purgeCompacted(LocalDateTime before){
+        return stockMovementRepository.deleteCompactedBefore(before);
+    }
+
+    // 스냅샷이 없는 재고는 재고 행을 잠근 채 한 번만 만든다. 처음 기록하는 요청이 동시에 오면 재고 행 잠금에서 줄을 선다.
+    private void openMissingSnapshots(Collection<UUID> stockIds){
+        Set<UUID> missing = new TreeSet<>(stockIds);
+        stockSnapshotRepository.findExistingIds(stockIds).forEach(missing::remove);
+        if (missing.isEmpty()) {
+            return;
+        }
+        stockRepository.findAllByIdForUpdate(missing);
+        stockSnapshotRepository.findExistingIds(missing).forEach(missing::remove);
+        LocalDateTime now = LocalDateTime.now();
+        missing.forEach(stockId -> stockSnapshotRepository.saveAndFlush(openSnapshot(stockId, now)));
+    }
+
+    // 원장 도입 이전의 재고는 현재 수량에서 아직 압축되지 않은 증감분을 빼서 기준 스냅샷을 만든다.
+    private StockSnapshot openSnapshot(UUID stockId, LocalDateTime now){
+        long quantity = stockRepository.findShardedIds(List.of(stockId)).isEmpty()
+                ? stockRepository.findQuantityById(stockId).orElse(0L)
+                : stockShardRepository.sumQuantityByStockId(stockId);
+        log.info("재고 원장 기준 스냅샷 생성 - stockId: {}, quantity: {}", stockId, quantity);
+        return StockSnapshot.builder()
+                .stockId(stockId)
+                .quantity(quantity - stockMovementRepository.sumUncompactedByStockId(stockId))
+                .compactedAt(now)
+                .build();
+    }
+
+    private void saveMovements(Map<UUID, Long> quantityByStockId, StockMovementType type, UUID orderId){
+        stockMovementRepository.saveAll(quantityByStockId.entrySet().stream()
+                .map(e -> StockMovement.builder()
+                        .stockId(e.getKey())
+                        .orderId(orderId)
+                        .type(type)
+                        .quantity(signed(type, e.getValue()))
+                        .build())
+                .toList());
+    }
+
+    private Map<UUID, Long> sumUncompacted(Collection<UUID> stockIds){
+        if (stockIds.isEmpty()) {
+            return Map.of();
+        }
+        return stockMovementRepository.sumUncompactedByStockIds(stockIds).stream()
+                .collect(Collectors.toMap(StockMovementRepository.StockDelta::getStockId, StockMovementRepository.StockDelta::getQuantity));
+    }
+
+    // 예약과 수동 조정은 차감, 반납과 입고는 증가로 기록한다.
+    private long signed(StockMovementType type, Long quantity){
+        long amount = Math.abs(quantity);
+        return switch (type) {
+            case RESERVATION, ADJUSTMENT -> -amount;
+            case RELEASE, RESTOCK -> amount;
+        };
+    }
+}
@@ -1,12 +1,23 @@
 package com.example.cloudfour.storeservice.domain.menu.service;
 
+import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
 import com.example.cloudfour.storeservice.util.RedisUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -16,10 +27,137 @@ public class StockRedisService {
 
     private final RedisUtil redisUtil;
     private final ObjectMapper objectMapper;
+    private final StockRepository stockRepository;
 
     private static final String STOCK_PREFIX = "stock:";
     private static final Duration DEFAULT_TTL = Duration.ofHours(1);
 
+    // stock.mode=redis 일 때 사용하는 권한 있는(authoritative) 재고 카운터와 DB 미반영 증감분
+    private static final String COUNTER_PREFIX = "stock:counter:";
+    private static final String PENDING_DELTA_KEY = "stock:pending-delta";
+
+    // DB 에 반영 중인 증감분 묶음과 그 번호, 묶음 번호 발급기, 재고별 마지막으로 반영 완료된 묶음 번호
+    private static final String INFLIGHT_DELTA_KEY = "stock:inflight-delta";
+    private static final String INFLIGHT_SEQ_KEY = "stock:inflight-seq";
+    private static final String FLUSH_SEQ_KEY = "stock:flush-seq";
+    private static final String FLUSHED_SEQ_KEY = "stock:flushed-seq";
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    // 만료 시각(epoch millis)을 score 로 갖는 재고 예약 지연 큐, member = orderId
+    private static final String HOLD_EXPIRY_KEY = "stock:hold-expiry";
+
+    public static final long APPLIED = 0L;
+    public static final long INSUFFICIENT = -1L;
+    public static final long NOT_LOADED = -2L;
+
+    public static final long LOADED = 1L;
+    public static final long ALREADY_LOADED = 0L;
+    public static final long STALE = -3L;
+
+    // KEYS[1] = 증감분 해시, KEYS[2..n+1] = 카운터, ARGV[1..n] = 수량, ARGV[n+1..2n] = stockId
+    // 모든 카운터를 먼저 검사한 뒤 한꺼번에 차감하므로 전부 성공하거나 전부 실패한다.
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+              local current = redis.call('GET', KEYS[i + 1])
+              if not current then return {-2} end
+              if tonumber(current) < tonumber(ARGV[i]) then return {-1} end
+            end
+            local result = {0}
+            for i = 1, n do
+              result[i + 1] = redis.call('DECRBY', KEYS[i + 1], ARGV[i])
+              redis.call('HINCRBY', KEYS[1], ARGV[n + i], -tonumber(ARGV[i]))
+            end
+            return result
+            """, List.class);
+
+    private static final RedisScript<List> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+              if redis.call('EXISTS', KEYS[i + 1]) == 0 then return {-2} end
+            end
+            local result = {0}
+            for i = 1, n do
+              result[i + 1] = redis.call('INCRBY', KEYS[i + 1], ARGV[i])
+              redis.call('HINCRBY', KEYS[1], ARGV[n + i], ARGV[i])
+            end
+            return result
+            """, List.class);
+
+    // KEYS[1] = 카운터, KEYS[2] = 증감분 해시, KEYS[3] = 반영 중 묶음, KEYS[4] = 반영 중 묶음 번호, KEYS[5] = 반영 완료 번호
+    // ARGV[1] = DB 수량, ARGV[2] = stockId, ARGV[3] = DB 에 반영된 묶음 번호
+    // DB 수량에 아직 들어가지 않은 증감분만 더한다. 읽은 뒤에 반영이 끝났으면 DB 값이 낡았으므로 -3 을 돌려 다시 읽게 한다.
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            local dbSeq = tonumber(ARGV[3])
+            if tonumber(redis.call('HGET', KEYS[5], ARGV[2]) or '0') > dbSeq then return -3 end
+            local quantity = tonumber(ARGV[1]) + tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+            if tonumber(redis.call('GET', KEYS[4]) or '0') > dbSeq then
+              quantity = quantity + tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+            end
+            redis.call('SET', KEYS[1], quantity)
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 증감분 해시, KEYS[2] = 반영 중 묶음, KEYS[3] = 반영 중 묶음 번호, KEYS[4] = 묶음 번호 발급기, ARGV[1] = 최대 건수
+    // 읽은 증감분을 같은 단계에서 반영 중 묶음으로 옮기므로 반영과 확인 사이에 증감분이 두 번 세어지지 않는다.
+    // 앞선 묶음이 확인되지 않았으면 같은 번호로 다시 돌려주고, DB 는 묶음 번호로 중복 반영을 거른다.
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+              return {tonumber(redis.call('GET', KEYS[3])), redis.call('HGETALL', KEYS[2])}
+            end
+            local entries = redis.call('HGETALL', KEYS[1])
+            local limit = tonumber(ARGV[1])
+            local claimed = {}
+            for i = 1, #entries, 2 do
+              if #claimed >= limit * 2 then break end
+              redis.call('HDEL', KEYS[1], entries[i])
+              if tonumber(entries[i + 1]) ~= 0 then
+                redis.call('HSET', KEYS[2], entries[i], entries[i + 1])
+                claimed[#claimed + 1] = entries[i]
+                claimed[#claimed + 1] = entries[i + 1]
+              end
+            end
+            if #claimed == 0 then return {0, {}} end
+            local seq = redis.call('INCR', KEYS[4])
+            redis.call('SET', KEYS[3], seq)
+            return {seq, claimed}
+            """, List.class);
+
+    // KEYS[1] = 반영 중 묶음, KEYS[2] = 반영 중 묶음 번호, KEYS[3] = 반영 완료 번호, ARGV[1] = 묶음 번호
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end
+            local stockIds = redis.call('HKEYS', KEYS[1])
+            for i = 1, #stockIds do
+              redis.call('HSET', KEYS[3], stockIds[i], ARGV[1])
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
+    // Redis 가 비워져도 묶음 번호가 DB 에 반영된 번호보다 작아지지 않게 한다.
+    private static final RedisScript<Long> SEED_SEQ_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[1]) or '0') < tonumber(ARGV[1]) then
+              redis.call('SET', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    @Value("${stock.mode:db}")
+    private String stockMode;
+
+    public record CounterResult(long status, Map<UUID, Long> remaining) {
+        public boolean isApplied() {
+            return status == APPLIED;
+        }
+    }
+
+    public record DeltaBatch(long seq, Map<UUID, Long> deltas) {
+        public boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+    }
+
     public void cacheStock(UUID stockId, Long quantity) {
         String key = generateStockKey(stockId);
         try {
@@ -53,7 +191,127 @@ public class StockRedisService {
         }
     }
 
+    public boolean isAuthoritative() {
+        return "redis".equalsIgnoreCase(stockMode);
+    }
+
+    public CounterResult reserveInCounter(Map<UUID, Long> quantityByStockId) {
+        return executeCounterScript(RESERVE_SCRIPT, quantityByStockId);
+    }
+
+    public CounterResult releaseInCounter(Map<UUID, Long> quantityByStockId) {
+        return executeCounterScript(RELEASE_SCRIPT, quantityByStockId);
+    }
+
+    public long loadCounterIfAbsent(UUID stockId, Long dbQuantity, Long dbFlushSeq) {
+        Long result = redisUtil.execute(LOAD_SCRIPT,
+                List.of(generateCounterKey(stockId), PENDING_DELTA_KEY, INFLIGHT_DELTA_KEY, INFLIGHT_SEQ_KEY, FLUSHED_SEQ_KEY),
+                dbQuantity.toString(), stockId.toString(), dbFlushSeq.toString());
+        if (result != null && result == LOADED) {
+            log.debug("Redis 재고 카운터 적재 - stockId: {}, dbQuantity: {}", stockId, dbQuantity);
+        }
+        return result == null ? ALREADY_LOADED : result;
+    }
+
+    // DB 값이 증감분 반영과 엇갈려 낡았으면 다시 읽어 적재한다.
+    public int loadCounters(Collection<UUID> stockIds) {
+        int loaded = 0;
+        Collection<UUID> remaining = stockIds;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS && !remaining.isEmpty(); attempt++) {
+            List<UUID> stale = new ArrayList<>();
+            for (StockRepository.CounterSnapshot snapshot : stockRepository.findCounterSnapshots(remaining)) {
+                long result = loadCounterIfAbsent(snapshot.getId(), snapshot.getQuantity(), snapshot.getFlushSeq());
+                if (result == LOADED) {
+                    loaded++;
+                } else if (result == STALE) {
+                    stale.add(snapshot.getId());
+                }
+            }
+            remaining = stale;
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("Redis 재고 카운터 적재 실패 - 증감분 반영과 계속 겹침: {} 건", remaining.size());
+        }
+        return loaded;
+    }
+
+    public Long getCounter(UUID stockId) {
+        String value = redisUtil.get(generateCounterKey(stockId));
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    public DeltaBatch claimPendingDeltas(int limit) {
+        List<?> raw = redisUtil.execute(CLAIM_SCRIPT,
+                List.of(PENDING_DELTA_KEY, INFLIGHT_DELTA_KEY, INFLIGHT_SEQ_KEY, FLUSH_SEQ_KEY),
+                String.valueOf(limit));
+        long seq = ((Number) raw.get(0)).longValue();
+        List<?> entries = (List<?>) raw.get(1);
+        Map<UUID, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i += 2) {
+            deltas.put(UUID.fromString(entries.get(i).toString()), Long.parseLong(entries.get(i + 1).toString()));
+        }
+        return new DeltaBatch(seq, deltas);
+    }
+
+    public void acknowledgeDeltas(DeltaBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        redisUtil.execute(ACK_SCRIPT, List.of(INFLIGHT_DELTA_KEY, INFLIGHT_SEQ_KEY, FLUSHED_SEQ_KEY),
+                String.valueOf(batch.seq()));
+    }
+
+    public void seedFlushSeq(long appliedSeq) {
+        redisUtil.execute(SEED_SEQ_SCRIPT, List.of(FLUSH_SEQ_KEY), String.valueOf(appliedSeq));
+    }
+
+    public void scheduleHoldExpiry(UUID orderId, LocalDateTime expiresAt) {
+        long score = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        redisUtil.zAdd(HOLD_EXPIRY_KEY, orderId.toString(), score);
+    }
+
+    public List<UUID> findExpiredHolds(int limit) {
+        return redisUtil.zRangeByScore(HOLD_EXPIRY_KEY, 0, System.currentTimeMillis(), limit).stream()
+                .map(UUID::fromString)
+                .toList();
+    }
+
+    public void removeHoldExpiry(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        redisUtil.zRemove(HOLD_EXPIRY_KEY, orderIds.stream().map(UUID::toString).toArray());
+    }
+
+    private CounterResult executeCounterScript(RedisScript<List> script, Map<UUID, Long> quantityByStockId) {
+        List<UUID> stockIds = new ArrayList<>(quantityByStockId.keySet());
+        List<String> keys = new ArrayList<>(stockIds.size() + 1);
+        List<String> args = new ArrayList<>(stockIds.size() * 2);
+        keys.add(PENDING_DELTA_KEY);
+        for (UUID stockId : stockIds) {
+            keys.add(generateCounterKey(stockId));
+            args.add(quantityByStockId.get(stockId).toString());
+        }
+        for (UUID stockId : stockIds) {
+            args.add(stockId.toString());
+        }
+
+        List<?> raw = redisUtil.execute(script, keys, args.toArray());
+        long status = ((Number) raw.get(0)).longValue();
+        Map<UUID, Long> remaining = new LinkedHashMap<>();
+        if (status == APPLIED) {
+            for (int i = 0; i < stockIds.size(); i++) {
+                remaining.put(stockIds.get(i), ((Number) raw.get(i + 1)).longValue());
+            }
+        }
+        return new CounterResult(status, remaining);
+    }
+
     private String generateStockKey(UUID stockId) {
         return STOCK_PREFIX + stockId.toString();
     }
+
+    private String generateCounterKey(UUID stockId) {
+        return COUNTER_PREFIX + stockId.toString();
+    }
 }
@@ -21,6 +21,7 @@ import com.example.cloudfour.storeservice.domain.store.entity.Store;
 import com.example.cloudfour.storeservice.domain.store.exception.StoreErrorCode;
 import com.example.cloudfour.storeservice.domain.store.exception.StoreException;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreRepository;
+import com.example.cloudfour.storeservice.util.CacheInvalidationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -39,6 +40,7 @@ public class MenuCommandService {
     private final MenuCategoryRepository menuCategoryRepository;
     private final MenuOptionRepository menuOptionRepository;
     private final StockCommandService stockCommandService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     public MenuResponseDTO.MenuDetailResponseDTO createMenu(
             MenuRequestDTO.MenuCreateRequestDTO requestDTO,
@@ -75,6 +77,7 @@ public class MenuCommandService {
         stock.setMenu(menu);
 
         Menu savedMenu = menuRepository.save(menu);
+        cacheInvalidationPublisher.publishMenuCreated(menu.getId());
         log.info("메뉴 생성 완료");
         return MenuConverter.toMenuDetail1ResponseDTO(savedMenu);
 
@@ -124,6 +127,7 @@ public class MenuCommandService {
             stockCommandService.decreaseStock(stockId, quantity);
         }
         Menu updatedMenu = menuRepository.save(menu);
+        cacheInvalidationPublisher.publishMenu(menuId);
         log.info("메뉴 수정 성공");
         return MenuConverter.toMenuDetail1ResponseDTO(updatedMenu);
 
@@ -143,6 +147,8 @@ public class MenuCommandService {
         }
         log.info("메뉴 삭제 권한 성공");
         menu.softDelete();
+        cacheInvalidationPublisher.publishMenu(menuId);
+        menu.getMenuOptions().forEach(option -> cacheInvalidationPublisher.publishMenuOption(option.getId()));
         log.info("메뉴 ID: {}가 삭제되었습니다.", menuId);
     }
 
@@ -203,6 +209,7 @@ public class MenuCommandService {
         log.info("메뉴옵션 수정 권한 확인 성공");
         menuOption.updateOptionInfo(requestDTO.getMenuOptionCommonRequestDTO().getOptionName(), requestDTO.getMenuOptionCommonRequestDTO().getAdditionalPrice());
         MenuOption savedOption = menuOptionRepository.save(menuOption);
+        cacheInvalidationPublisher.publishMenuOption(optionId);
         log.info("메뉴옵션 수정 완료");
         return MenuOptionConverter.toMenuOptionSimpleResponseDTO(savedOption);
     }
@@ -221,6 +228,7 @@ public class MenuCommandService {
         }
         log.info("메뉴옵션 삭제 권한 확인 성공");
         menuOption.softDelete();
+        cacheInvalidationPublisher.publishMenuOption(optionId);
         log.info("메뉴 옵션 ID: {}가 삭제되었습니다.", optionId);
     }
 }
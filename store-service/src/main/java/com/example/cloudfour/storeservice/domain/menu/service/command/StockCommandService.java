@@ -1,20 +1,41 @@
 package com.example.cloudfour.storeservice.domain.menu.service.command;
 
+import com.example.cloudfour.storeservice.domain.common.enums.SyncStatus;
+import com.example.cloudfour.storeservice.domain.menu.converter.StockConverter;
+import com.example.cloudfour.storeservice.domain.menu.dto.StockRequestDTO;
+import com.example.cloudfour.storeservice.domain.menu.dto.StockResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.entity.Stock;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockHold;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockShard;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockHoldStatus;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockMovementType;
 import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
 import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockHoldRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockShardRepository;
+import com.example.cloudfour.storeservice.domain.menu.service.StockLedgerService;
 import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Transactional
 @Service
@@ -26,22 +47,334 @@ import java.util.UUID;
         backoff = @Backoff(delay = 100)
 )
 public class StockCommandService {
+    private static final int MAX_SHARD_COUNT = 64;
+
     private final StockRepository stockRepository;
+    private final StockShardRepository stockShardRepository;
     private final StockRedisService stockRedisService;
+    private final StockLedgerService stockLedgerService;
+    private final StockHoldRepository stockHoldRepository;
+
+    @Value("${stock.hold.ttl-seconds:900}")
+    private long holdTtlSeconds;
 
     public void decreaseStock(UUID stockId, Long quantity){
-        Stock stock = stockRepository.findByIdWithOptimisticLock(stockId).orElseThrow(()-> new StockException(StockErrorCode.NOT_FOUND));
-        stock.decrease(quantity);
-        stockRedisService.updateStockInCache(stockId, stock.getQuantity());
-        log.info("재고 감소 - stockId: {}, quantity: {}, remaining: {}", stockId, quantity, stock.getQuantity());
+        decreaseStock(stockId, quantity, null);
+    }
+
+    public void decreaseStock(UUID stockId, Long quantity, UUID orderId){
+        StockMovementType type = orderId != null ? StockMovementType.RESERVATION : StockMovementType.ADJUSTMENT;
+        Long remaining = takeStocks(Map.of(stockId, Math.abs(quantity)), type, orderId).get(stockId);
+        log.info("재고 감소 - stockId: {}, quantity: {}, remaining: {}", stockId, quantity, remaining);
     }
 
     public void increaseStock(UUID stockId, Long quantity){
+        increaseStock(stockId, quantity, null);
+    }
+
+    public void increaseStock(UUID stockId, Long quantity, UUID orderId){
+        Map<UUID, Long> quantityByStockId = Map.of(stockId, quantity);
+        stockLedgerService.recordAll(quantityByStockId, orderId != null ? StockMovementType.RELEASE : StockMovementType.RESTOCK, orderId);
+        Long total = returnStocks(quantityByStockId).get(stockId);
+        log.info("재고 증가 - stockId: {}, quantity: {}, total: {}", stockId, quantity, total);
+    }
+
+    public List<StockResponseDTO> reserveStocks(List<StockRequestDTO.StockReserveItemRequestDTO> items, UUID orderId){
+        Map<UUID, Long> quantityByMenuId = new TreeMap<>();
+        for (StockRequestDTO.StockReserveItemRequestDTO item : items) {
+            quantityByMenuId.merge(item.getMenuId(), item.getQuantity(), Long::sum);
+        }
+
+        List<Stock> stocks = stockRepository.findAllByMenuIdIn(quantityByMenuId.keySet());
+        if (stocks.size() != quantityByMenuId.size()) {
+            log.warn("재고 일괄 차감 실패 - 존재하지 않는 재고 포함: 요청 {} 건, 조회 {} 건", quantityByMenuId.size(), stocks.size());
+            throw new StockException(StockErrorCode.NOT_FOUND);
+        }
+
+        Map<UUID, Long> quantityByStockId = new TreeMap<>();
+        Map<UUID, UUID> menuIdByStockId = new HashMap<>();
+        for (Stock stock : stocks) {
+            UUID menuId = stock.getMenu().getId();
+            quantityByStockId.put(stock.getId(), quantityByMenuId.get(menuId));
+            menuIdByStockId.put(stock.getId(), menuId);
+        }
+
+        Map<UUID, Long> remaining = stockRedisService.isAuthoritative()
+                ? takeStocks(quantityByStockId, StockMovementType.RESERVATION, orderId)
+                : takeInDb(stocks, quantityByStockId, StockMovementType.RESERVATION, orderId);
+        holdStocks(orderId, quantityByStockId);
+        log.info("재고 일괄 차감 - {} 개 메뉴", remaining.size());
+        return remaining.entrySet().stream()
+                .map(e -> StockConverter.CachetoStockResposneDTO(e.getKey(), menuIdByStockId.get(e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    public void confirmHold(UUID orderId){
+        List<StockHold> holds = findHolds(orderId);
+
+        // 주문 취소로 반납된 예약은 되살리지 않는다. 확정을 거절해 주문 쪽에서 결제를 환불하게 한다.
+        if (holds.stream().anyMatch(StockHold::isReleased)) {
+            log.warn("반납된 재고 예약 확정 거절 - orderId: {}", orderId);
+            throw new StockException(StockErrorCode.HOLD_RELEASED);
+        }
+
+        // 결제 승인 전에 만료된 예약만 재고를 다시 차감한 뒤 확정한다.
+        Map<UUID, Long> retake = new TreeMap<>();
+        holds.stream().filter(StockHold::isExpired)
+                .forEach(hold -> retake.merge(hold.getStockId(), hold.getQuantity(), Long::sum));
+        if (!retake.isEmpty()) {
+            log.warn("만료된 재고 예약 재차감 - orderId: {}, {} 개 재고", orderId, retake.size());
+            takeStocks(retake, StockMovementType.RESERVATION, orderId);
+        }
+
+        holds.forEach(StockHold::confirm);
+        stockRedisService.removeHoldExpiry(List.of(orderId));
+        log.info("재고 예약 확정 - orderId: {}", orderId);
+    }
+
+    public void releaseHold(UUID orderId){
+        List<StockHold> holds = findHolds(orderId);
+
+        Map<UUID, Long> quantityByStockId = new TreeMap<>();
+        for (StockHold hold : holds) {
+            if (!hold.isReturned()) {
+                quantityByStockId.merge(hold.getStockId(), hold.getQuantity(), Long::sum);
+                hold.release();
+            }
+        }
+        if (!quantityByStockId.isEmpty()) {
+            stockLedgerService.recordAll(quantityByStockId, StockMovementType.RELEASE, orderId);
+            returnStocks(quantityByStockId);
+        }
+        stockRedisService.removeHoldExpiry(List.of(orderId));
+        log.info("재고 예약 반납 - orderId: {}, {} 개 재고", orderId, quantityByStockId.size());
+    }
+
+    public int expireHolds(Collection<UUID> orderIds){
+        List<StockHold> holds = stockHoldRepository.findExpirableByOrderIds(orderIds, StockHoldStatus.HELD, LocalDateTime.now());
+        if (holds.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Long> quantityByStockId = new TreeMap<>();
+        Map<UUID, Map<UUID, Long>> quantityByOrderId = new HashMap<>();
+        for (StockHold hold : holds) {
+            quantityByStockId.merge(hold.getStockId(), hold.getQuantity(), Long::sum);
+            quantityByOrderId.computeIfAbsent(hold.getOrderId(), id -> new HashMap<>())
+                    .merge(hold.getStockId(), hold.getQuantity(), Long::sum);
+            hold.expire();
+        }
+        quantityByOrderId.forEach((orderId, quantities) ->
+                stockLedgerService.recordAll(quantities, StockMovementType.RELEASE, orderId));
+        returnStocks(quantityByStockId);
+        log.info("만료된 재고 예약 반납 - {} 개 주문, {} 개 재고", quantityByOrderId.size(), quantityByStockId.size());
+        return quantityByOrderId.size();
+    }
+
+    public StockResponseDTO updateShardCount(UUID stockId, Integer shardCount){
+        if (shardCount == null || shardCount < 1 || shardCount > MAX_SHARD_COUNT) {
+            throw new StockException(StockErrorCode.INVALID_SHARD_COUNT);
+        }
         Stock stock = stockRepository.findByIdWithOptimisticLock(stockId).orElseThrow(()-> new StockException(StockErrorCode.NOT_FOUND));
-        stock.increase(quantity);
+
+        if (stock.isSharded()) {
+            stock.refreshQuantity(stockShardRepository.sumQuantityByStockId(stockId));
+            stockShardRepository.deleteAllByStockId(stockId);
+        } else if (!stockRedisService.isAuthoritative()) {
+            // 원장이 쓰기 경로인 재고는 스냅샷을 잠가 차감을 멈춘 뒤 원장 수량으로 하위 카운터를 나눈다.
+            stock.refreshQuantity(stockLedgerService.lockLevels(List.of(stockId)).get(stockId));
+        }
+        stock.updateShardCount(shardCount);
+
+        if (stock.isSharded()) {
+            long total = stock.getQuantity();
+            long base = total / shardCount;
+            long rest = total % shardCount;
+            for (int i = 0; i < shardCount; i++) {
+                stockShardRepository.save(StockShard.builder()
+                        .stock(stock)
+                        .shardIndex(i)
+                        .quantity(base + (i < rest ? 1 : 0))
+                        .build());
+            }
+        }
         stockRedisService.updateStockInCache(stockId, stock.getQuantity());
-        log.info("재고 증가 - stockId: {}, quantity: {}, total: {}", stockId, quantity, stock.getQuantity());
+        log.info("재고 분할 개수 변경 - stockId: {}, shardCount: {}", stockId, shardCount);
+        return StockConverter.toStockResposneDTO(stock);
+    }
+
+    public void applyPendingDeltas(Map<UUID, Long> deltaByStockId, long flushSeq){
+        deltaByStockId.forEach((stockId, delta) -> {
+            if (stockRepository.applyQuantityDelta(stockId, delta, SyncStatus.UPDATED_PENDING, flushSeq) == 0) {
+                log.warn("Redis 재고 증감분 반영 대상 없음(이미 반영된 묶음 포함) - stockId: {}, delta: {}, flushSeq: {}", stockId, delta, flushSeq);
+            }
+        });
+        log.info("Redis 재고 증감분 DB 반영 - {} 건, flushSeq: {}", deltaByStockId.size(), flushSeq);
+    }
+
+    private List<StockHold> findHolds(UUID orderId){
+        List<StockHold> holds = stockHoldRepository.findAllByOrderId(orderId);
+        if (holds.isEmpty()) {
+            throw new StockException(StockErrorCode.HOLD_NOT_FOUND);
+        }
+        return holds;
+    }
+
+    private void holdStocks(UUID orderId, Map<UUID, Long> quantityByStockId){
+        if (orderId == null) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(holdTtlSeconds);
+        stockHoldRepository.saveAll(quantityByStockId.entrySet().stream()
+                .map(e -> StockHold.builder()
+                        .orderId(orderId)
+                        .stockId(e.getKey())
+                        .quantity(e.getValue())
+                        .expiresAt(expiresAt)
+                        .build())
+                .toList());
+        stockRedisService.scheduleHoldExpiry(orderId, expiresAt);
+    }
+
+    // Redis 모드는 카운터에서 차감하고 원장은 이력으로만 남긴다.
+    private Map<UUID, Long> takeStocks(Map<UUID, Long> quantityByStockId, StockMovementType type, UUID orderId){
+        if (stockRedisService.isAuthoritative()) {
+            stockLedgerService.recordAll(quantityByStockId, type, orderId);
+            return reserveInRedis(quantityByStockId);
+        }
+        return takeInDb(findStocks(quantityByStockId.keySet()), quantityByStockId, type, orderId);
+    }
 
+    // 분할 재고는 하위 카운터에서 차감하고, 그 밖의 재고는 원장에 차감을 기록하는 것이 곧 차감이다(재고 행은 수정하지 않는다).
+    private Map<UUID, Long> takeInDb(List<Stock> stocks, Map<UUID, Long> quantityByStockId, StockMovementType type, UUID orderId){
+        Map<UUID, Long> remaining = new HashMap<>();
+        Map<UUID, Long> ledgerQuantities = new TreeMap<>();
+        for (Stock stock : stocks) {
+            Long quantity = quantityByStockId.get(stock.getId());
+            if (stock.isSharded()) {
+                stockLedgerService.record(stock.getId(), type, quantity, orderId);
+                remaining.put(stock.getId(), decreaseInShards(stock, quantity));
+            } else {
+                ledgerQuantities.put(stock.getId(), quantity);
+            }
+        }
+        if (!ledgerQuantities.isEmpty()) {
+            remaining.putAll(stockLedgerService.take(ledgerQuantities, type, orderId));
+            // 스냅샷 잠금을 기다리는 동안 분할 재고로 바뀌었으면 하위 카운터 경로로 다시 처리한다.
+            if (!stockRepository.findShardedIds(ledgerQuantities.keySet()).isEmpty()) {
+                throw new OptimisticLockException("재고 분할 개수 변경과 충돌");
+            }
+        }
+        remaining.forEach(stockRedisService::updateStockInCache);
+        return remaining;
+    }
+
+    // 원장 기록은 호출한 쪽에서 남긴다. 원장이 쓰기 경로인 재고는 기록만으로 반납이 끝나므로 현재 수량만 다시 읽는다.
+    private Map<UUID, Long> returnStocks(Map<UUID, Long> quantityByStockId){
+        if (stockRedisService.isAuthoritative()) {
+            return releaseInRedis(quantityByStockId);
+        }
+        Map<UUID, Long> total = new HashMap<>();
+        for (Stock stock : findStocks(quantityByStockId.keySet())) {
+            total.put(stock.getId(), stock.isSharded()
+                    ? increaseInShards(stock, quantityByStockId.get(stock.getId()))
+                    : stockLedgerService.currentLevel(stock.getId()));
+        }
+        total.forEach(stockRedisService::updateStockInCache);
+        return total;
+    }
+
+    private List<Stock> findStocks(Collection<UUID> stockIds){
+        List<Stock> stocks = stockRepository.findAllById(stockIds);
+        if (stocks.size() != stockIds.size()) {
+            throw new StockException(StockErrorCode.NOT_FOUND);
+        }
+        return stocks;
+    }
+
+    private Long decreaseInShards(Stock stock, Long quantity){
+        List<StockShard> shards = stockShardRepository.findAllByStockId(stock.getId());
+        long requested = Math.abs(quantity);
+        long total = shards.stream().mapToLong(StockShard::getQuantity).sum();
+        if (total < requested) {
+            throw new StockException(StockErrorCode.MINUS_FAILED);
+        }
+
+        int offset = ThreadLocalRandom.current().nextInt(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            StockShard shard = shards.get((offset + i) % shards.size());
+            if (shard.getQuantity() >= requested) {
+                shard.take(requested);
+                return total - requested;
+            }
+        }
+        long left = requested;
+        for (int i = 0; i < shards.size() && left > 0; i++) {
+            left -= shards.get((offset + i) % shards.size()).take(left);
+        }
+        return total - requested;
+    }
+
+    private Long increaseInShards(Stock stock, Long quantity){
+        List<StockShard> shards = stockShardRepository.findAllByStockId(stock.getId());
+        if (shards.isEmpty()) {
+            throw new StockException(StockErrorCode.NOT_FOUND);
+        }
+        shards.get(ThreadLocalRandom.current().nextInt(shards.size())).increase(quantity);
+        return shards.stream().mapToLong(StockShard::getQuantity).sum();
+    }
+
+    private Map<UUID, Long> reserveInRedis(Map<UUID, Long> quantityByStockId){
+        StockRedisService.CounterResult result = stockRedisService.reserveInCounter(quantityByStockId);
+        if (result.status() == StockRedisService.NOT_LOADED) {
+            stockRedisService.loadCounters(quantityByStockId.keySet());
+            result = stockRedisService.reserveInCounter(quantityByStockId);
+        }
+        Map<UUID, Long> remaining = requireApplied(result);
+        releaseInRedisOnRollback(quantityByStockId);
+        return remaining;
+    }
+
+    // Redis 카운터는 DB 트랜잭션과 무관하게 바로 차감되므로, 이어지는 예약/원장 기록이 롤백되면 같은 수량을 카운터에 돌려준다.
+    private void releaseInRedisOnRollback(Map<UUID, Long> quantityByStockId){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Map<UUID, Long> quantities = Map.copyOf(quantityByStockId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    // 그 사이 카운터가 지워졌으면 다음 적재가 DB 수량으로 맞추므로 돌려줄 것이 없다.
+                    StockRedisService.CounterResult result = stockRedisService.releaseInCounter(quantities);
+                    log.info("롤백된 재고 차감의 Redis 카운터 복구 - {} 개 재고, status: {}", quantities.size(), result.status());
+                } catch (Exception e) {
+                    log.error("롤백된 재고 차감의 Redis 카운터 복구 실패 - {}", quantities, e);
+                }
+            }
+        });
+    }
+
+    private Map<UUID, Long> releaseInRedis(Map<UUID, Long> quantityByStockId){
+        StockRedisService.CounterResult result = stockRedisService.releaseInCounter(quantityByStockId);
+        if (result.status() == StockRedisService.NOT_LOADED) {
+            stockRedisService.loadCounters(quantityByStockId.keySet());
+            result = stockRedisService.releaseInCounter(quantityByStockId);
+        }
+        return requireApplied(result);
+    }
+
+    private Map<UUID, Long> requireApplied(StockRedisService.CounterResult result){
+        if (result.status() == StockRedisService.INSUFFICIENT) {
+            throw new StockException(StockErrorCode.MINUS_FAILED);
+        }
+        if (!result.isApplied()) {
+            throw new StockException(StockErrorCode.NOT_FOUND);
+        }
+        return result.remaining();
     }
 
     @Recover
@@ -49,4 +382,34 @@ public class StockCommandService {
         log.error("재고 차감 재시도 중 충돌 무한 반복 - stockId={}, quantity={}", stockId, quantity, e);
         throw e;
     }
+
+    @Recover
+    public void recoverWithOrder(OptimisticLockException e, UUID stockId, Long quantity, UUID orderId) {
+        log.error("재고 변경 재시도 중 충돌 무한 반복 - stockId={}, quantity={}, orderId={}", stockId, quantity, orderId, e);
+        throw e;
+    }
+
+    @Recover
+    public void recoverHold(OptimisticLockException e, UUID orderId) {
+        log.error("재고 예약 처리 재시도 중 충돌 무한 반복 - orderId={}", orderId, e);
+        throw e;
+    }
+
+    @Recover
+    public int recoverExpire(OptimisticLockException e, Collection<UUID> orderIds) {
+        log.error("만료 재고 예약 반납 재시도 중 충돌 무한 반복 - orders={}", orderIds.size(), e);
+        throw e;
+    }
+
+    @Recover
+    public StockResponseDTO recoverShardCount(OptimisticLockException e, UUID stockId, Integer shardCount) {
+        log.error("재고 분할 개수 변경 재시도 중 충돌 무한 반복 - stockId={}, shardCount={}", stockId, shardCount, e);
+        throw e;
+    }
+
+    @Recover
+    public List<StockResponseDTO> recoverReserve(OptimisticLockException e, List<StockRequestDTO.StockReserveItemRequestDTO> items, UUID orderId) {
+        log.error("재고 일괄 차감 재시도 중 충돌 무한 반복 - items={}, orderId={}", items.size(), orderId, e);
+        throw e;
+    }
 }
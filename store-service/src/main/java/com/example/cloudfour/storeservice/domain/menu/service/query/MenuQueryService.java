@@ -5,6 +5,7 @@ import com.example.cloudfour.storeservice.domain.collection.document.StoreDocume
 import com.example.cloudfour.storeservice.domain.collection.repository.query.StoreSearchRepository;
 import com.example.cloudfour.storeservice.domain.commondto.MenuCartResponseDTO;
 import com.example.cloudfour.storeservice.domain.commondto.MenuOptionCartResponseDTO;
+import com.example.cloudfour.storeservice.domain.commondto.MenuSnapshotCartResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.converter.MenuConverter;
 import com.example.cloudfour.storeservice.domain.menu.converter.MenuOptionConverter;
 import com.example.cloudfour.storeservice.domain.menu.dto.MenuResponseDTO;
@@ -12,6 +13,7 @@ import com.example.cloudfour.storeservice.domain.menu.dto.MenuOptionResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.dto.StockResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.entity.Menu;
 import com.example.cloudfour.storeservice.domain.menu.entity.MenuOption;
+import com.example.cloudfour.storeservice.domain.menu.enums.MenuStatus;
 import com.example.cloudfour.storeservice.domain.menu.exception.MenuCategoryErrorCode;
 import com.example.cloudfour.storeservice.domain.menu.exception.MenuCategoryException;
 import com.example.cloudfour.storeservice.domain.menu.exception.MenuException;
@@ -203,10 +205,24 @@ public class MenuQueryService {
         return MenuConverter.toFindMenuDTO(findMenu);
     }
 
+    // 장바구니 담기에 필요한 메뉴, 선택 가능한 옵션, 품절 여부를 한 번에 내려준다.
+    public MenuSnapshotCartResponseDTO findMenuSnapshot(UUID menuId){
+        Menu menu = menuQuery.findWithOptionsById(menuId).orElseThrow(()->new MenuException(MenuErrorCode.NOT_FOUND));
+        Long quantity = stockQueryService.getMenuStock(menuId).getQuantity();
+        boolean soldOut = menu.getStatus() == MenuStatus.메뉴품절 || quantity == null || quantity <= 0;
+        return MenuConverter.toMenuSnapshotDTO(menu, soldOut);
+    }
+
     public MenuOptionCartResponseDTO findMenuOption(UUID optionId){
         MenuOption findMenuOption = menuOptionQuery.findById(optionId).orElseThrow(
                 ()-> new MenuOptionException(MenuOptionErrorCode.NOT_FOUND)
         );
         return MenuOptionConverter.toFindMenuOptionDTO(findMenuOption);
     }
+
+    public List<MenuOptionCartResponseDTO> findMenuOptions(List<UUID> optionIds){
+        return menuOptionQuery.findAllWithMenuByIdIn(optionIds).stream()
+                .map(MenuOptionConverter::toFindMenuOptionDTO)
+                .toList();
+    }
 }
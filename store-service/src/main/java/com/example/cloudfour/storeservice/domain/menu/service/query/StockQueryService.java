@@ -10,12 +10,15 @@ import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
 import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
 import com.example.cloudfour.storeservice.domain.menu.repository.MenuRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockShardRepository;
+import com.example.cloudfour.storeservice.domain.menu.service.StockLedgerService;
 import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -25,11 +28,26 @@ public class StockQueryService {
     private final StockRepository stockRepository;
     private final MenuRepository menuRepository;
     private final StockRedisService stockRedisService;
+    private final StockShardRepository stockShardRepository;
+    private final StockLedgerService stockLedgerService;
 
     @Transactional(readOnly = true)
     public StockResponseDTO getMenuStock(UUID menuId){
         Menu menu = menuRepository.findById(menuId).orElseThrow(()->new MenuException(MenuErrorCode.NOT_FOUND));
         UUID stockId = menu.getStock().getId();
+
+        if (stockRedisService.isAuthoritative()) {
+            Long counter = stockRedisService.getCounter(stockId);
+            if (counter == null) {
+                stockRedisService.loadCounters(List.of(stockId));
+                counter = stockRedisService.getCounter(stockId);
+                if (counter == null) {
+                    throw new StockException(StockErrorCode.NOT_FOUND);
+                }
+            }
+            return StockConverter.CachetoStockResposneDTO(stockId, menuId, counter);
+        }
+
         Long cachedQuantity = stockRedisService.getStockFromCache(stockId);
 
         if (cachedQuantity != null) {
@@ -38,7 +56,20 @@ public class StockQueryService {
         }
 
         Stock stock = stockRepository.findByIdWithOptimisticLock(stockId).orElseThrow(()->new StockException(StockErrorCode.NOT_FOUND));
-        log.info("Redis에서 재고 발견 X, DB에서 찾음 - stockId: {}, quantity: {}", stockId, cachedQuantity);
+        if (stock.isSharded()) {
+            Long quantity = stockShardRepository.sumQuantityByStockId(stockId);
+            log.info("Redis에서 재고 발견 X, 분할 재고 합산 - stockId: {}, quantity: {}", stockId, quantity);
+            stockRedisService.cacheStock(stockId, quantity);
+            return StockConverter.CachetoStockResposneDTO(stockId, menuId, quantity);
+        }
+        // 재고 행 수량은 원장 압축 때만 맞추므로 원장에서 현재 수량을 구한다.
+        Long level = stockLedgerService.currentLevel(stockId);
+        if (level != null) {
+            log.info("Redis에서 재고 발견 X, 재고 원장에서 찾음 - stockId: {}, quantity: {}", stockId, level);
+            stockRedisService.cacheStock(stockId, level);
+            return StockConverter.CachetoStockResposneDTO(stockId, menuId, level);
+        }
+        log.info("Redis에서 재고 발견 X, DB에서 찾음 - stockId: {}, quantity: {}", stockId, stock.getQuantity());
         stockRedisService.cacheStock(stockId, stock.getQuantity());
         return StockConverter.toStockResposneDTO(stock);
     }
@@ -23,7 +23,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -82,11 +81,11 @@ public class ReviewController {
     @GetMapping("")
     @PreAuthorize("(hasRole('ROLE_CUSTOMER') and authentication.principal.id == #user.id())")
     @Operation(summary = "유저 리뷰 조회", description = "사용자가 작성한 리뷰를 조회합니다. 사용자 리뷰 조회에 사용되는 API입니다.")
-    @Parameter(name = "cursor", description = "데이터가 시작하는 부분을 표시합니다")
+    @Parameter(name = "cursor", description = "이전 응답의 cursor 값입니다. 없으면 첫 페이지를 가져옵니다.")
     @Parameter(name = "size", description = "size만큼 데이터를 가져옵니다.")
     public CustomResponse<ReviewResponseDTO.ReviewUserListResponseDTO> getUserReviews(
             @AuthenticationPrincipal CurrentUser user,
-            @RequestParam(name = "cursor", required = false) LocalDateTime cursor,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "size", defaultValue = "10") Integer size
     ){
         ReviewResponseDTO.ReviewUserListResponseDTO review = reviewQueryService.getReviewListByUser(cursor,size,user);
@@ -96,12 +95,12 @@ public class ReviewController {
     @GetMapping("{storeId}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "가게 리뷰 조회", description = "가게에 있는 리뷰를 조회합니다. 가게 리뷰 조회에 사용되는 API입니다.")
-    @Parameter(name = "cursor", description = "데이터가 시작하는 부분을 표시합니다")
+    @Parameter(name = "cursor", description = "이전 응답의 cursor 값입니다. 없으면 첫 페이지를 가져옵니다.")
     @Parameter(name = "size", description = "size만큼 데이터를 가져옵니다.")
     public CustomResponse<ReviewResponseDTO.ReviewStoreListResponseDTO> getStoreReviews(
             @PathVariable("storeId") UUID storeId,
             @AuthenticationPrincipal CurrentUser user,
-            @RequestParam(name = "cursor", required = false) LocalDateTime cursor,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "size", defaultValue = "10") Integer size
     ){
         ReviewResponseDTO.ReviewStoreListResponseDTO review = reviewQueryService.getReviewListByStore(storeId,cursor,size,user);
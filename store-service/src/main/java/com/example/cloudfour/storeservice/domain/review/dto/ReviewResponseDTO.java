@@ -45,7 +45,7 @@ public class ReviewResponseDTO {
     public static class ReviewStoreListResponseDTO{
         List<ReviewStoreResponseDTO> reviews;
         private boolean hasNext;
-        private LocalDateTime cursor;
+        private String cursor;
     }
 
     @Getter
@@ -62,7 +62,7 @@ public class ReviewResponseDTO {
     public static class ReviewUserListResponseDTO{
         List<ReviewUserResponseDTO> reviews;
         private boolean hasNext;
-        private LocalDateTime cursor;
+        private String cursor;
     }
 
     @Getter
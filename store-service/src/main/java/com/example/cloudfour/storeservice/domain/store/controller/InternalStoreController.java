@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -38,6 +39,19 @@ public class InternalStoreController {
         }
     }
 
+    // cart-service 의 ID Bloom 필터 재구성용 스냅샷
+    @GetMapping("/ids")
+    public List<UUID> getLiveStoreIds() {
+        return query.findAllLiveIds();
+    }
+
+    @GetMapping("/summaries")
+    public List<StoreCartResponseDTO> getStoreSummaries(
+            @RequestParam("storeIds") List<UUID> storeIds
+    ) {
+        return queryservice.findStores(storeIds);
+    }
+
     @GetMapping("/{storeId}")
     public StoreCartResponseDTO getStoreDetail(
             @PathVariable UUID storeId
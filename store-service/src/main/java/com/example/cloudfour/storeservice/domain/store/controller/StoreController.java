@@ -11,7 +11,6 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,7 +24,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -50,11 +48,10 @@ public class StoreController {
     @GetMapping("")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "키워드로 가게 목록 조회", description = "키워드에 해당하는 가게 목록을 커서 기반으로 조회합니다.")
-    @Parameter(name = "cursor", description = "데이터가 시작하는 기준 시간입니다.")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor 값입니다. 없으면 첫 페이지를 가져옵니다.")
     @Parameter(name = "size", description = "가져올 데이터 수입니다.")
     public CustomResponse<StoreResponseDTO.StoreCursorListResponseDTO> getStoreList(
-            @RequestParam(name = "cursor", required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursor,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "size", defaultValue = "10") Integer size,
             @RequestParam(name = "keyword", required = false) String keyword,
             @AuthenticationPrincipal CurrentUser user
@@ -97,12 +94,11 @@ public class StoreController {
     @GetMapping("/category/{categoryId}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "카테고리별 가게 목록 조회", description = "카테고리 ID로 해당 카테고리의 가게 목록을 커서 기반으로 조회합니다.")
-    @Parameter(name = "cursor", description = "데이터가 시작하는 기준 시간입니다.")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor 값입니다. 없으면 첫 페이지를 가져옵니다.")
     @Parameter(name = "size", description = "가져올 데이터 수입니다.")
     public CustomResponse<StoreResponseDTO.StoreCursorListResponseDTO> getStoresByCategory(
             @PathVariable UUID categoryId,
-            @RequestParam(name = "cursor", required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursor,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "size", defaultValue = "10") Integer size,
             @AuthenticationPrincipal CurrentUser user
     ) {
@@ -8,7 +8,6 @@ import com.example.cloudfour.storeservice.domain.store.controller.StoreCommonRes
 import com.example.cloudfour.storeservice.domain.store.dto.StoreRequestDTO;
 import com.example.cloudfour.storeservice.domain.store.dto.StoreResponseDTO;
 import com.example.cloudfour.storeservice.domain.store.entity.Store;
-import java.time.LocalDateTime;
 import java.util.List;
 
 public class StoreConverter {
@@ -57,7 +56,7 @@ public class StoreConverter {
 
     public static StoreResponseDTO.StoreCursorListResponseDTO toStoreCursorListResponseDTO(
             List<StoreResponseDTO.StoreListResponseDTO> storeList,
-            LocalDateTime nextCursor
+            String nextCursor
     ) {
         return StoreResponseDTO.StoreCursorListResponseDTO.builder()
                 .storeList(storeList)
@@ -47,9 +47,9 @@ public class StoreResponseDTO {
     @SuperBuilder
     public static class StoreCursorListResponseDTO {
         private List<StoreListResponseDTO> storeList;
-        private LocalDateTime nextCursor;
+        private String nextCursor;
 
-        public static StoreCursorListResponseDTO of(List<StoreListResponseDTO> storeList, LocalDateTime nextCursor) {
+        public static StoreCursorListResponseDTO of(List<StoreListResponseDTO> storeList, String nextCursor) {
             return StoreCursorListResponseDTO.builder()
                     .storeList(storeList)
                     .nextCursor(nextCursor)
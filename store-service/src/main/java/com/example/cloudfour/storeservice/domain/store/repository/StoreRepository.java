@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,4 +24,9 @@ public interface StoreRepository extends JpaRepository<Store, UUID>{
     List<Store> findAllByIsDeletedIsFalse();
 
     boolean existsByIdAndIsDeletedFalse(UUID storeId);
+
+    List<Store> findAllByIdInAndIsDeletedFalse(Collection<UUID> storeIds);
+
+    @Query("select s.id from Store s where s.isDeleted = false")
+    List<UUID> findAllLiveIds();
 }
@@ -16,6 +16,7 @@ import com.example.cloudfour.storeservice.domain.store.exception.StoreErrorCode;
 import com.example.cloudfour.storeservice.domain.store.exception.StoreException;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreCategoryRepository;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreRepository;
+import com.example.cloudfour.storeservice.util.CacheInvalidationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,7 @@ public class StoreCommandService {
     private final RegionRepository regionRepository;
     private final RegionService regionService;
     private final StoreCategoryRepository storeCategoryRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     public StoreResponseDTO.StoreCreateResponseDTO createStore(
             StoreRequestDTO.StoreCreateRequestDTO dto,
@@ -67,6 +69,7 @@ public class StoreCommandService {
         store.setOwnerId(user.id());
 
         storeRepository.save(store);
+        cacheInvalidationPublisher.publishStoreCreated(store.getId());
         log.info("가게 저장 성공");
         return StoreConverter.toStoreCreateResponseDTO(store);
     }
@@ -103,6 +106,7 @@ public class StoreCommandService {
 
         store.update(dto.getStoreCommonRequestDTO().getName(), dto.getStoreCommonRequestDTO().getAddress());
         storeRepository.save(store);
+        cacheInvalidationPublisher.publishStore(storeId);
         log.info("가게 수정 성공");
         return StoreConverter.toStoreUpdateResponseDTO(store);
     }
@@ -122,6 +126,7 @@ public class StoreCommandService {
         log.info("가게 삭제 권한 확인 성공");
         store.softDelete();
         storeRepository.save(store);
+        cacheInvalidationPublisher.publishStore(storeId);
         log.info("가게 삭제 성공");
     }
 }
@@ -1,6 +1,8 @@
 package com.example.cloudfour.storeservice.domain.store.service.query;
 
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
+import com.example.cloudfour.modulecommon.pagination.KeysetPages;
 import com.example.cloudfour.storeservice.domain.collection.document.StoreDocument;
 import com.example.cloudfour.storeservice.domain.collection.repository.query.StoreSearchRepository;
 
@@ -17,13 +19,11 @@ import com.example.cloudfour.storeservice.domain.store.exception.StoreException;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,7 +38,7 @@ public class StoreQueryService {
     private static final String BASE = "http://user-service/internal/regions";
 
     public StoreResponseDTO.StoreCursorListResponseDTO getAllStores(
-            LocalDateTime cursor, int size, String keyword, CurrentUser user
+            String cursor, int size, String keyword, CurrentUser user
     ) {
         if(user==null){
             log.warn("가게 목록 조회 권한 없음");
@@ -50,24 +50,21 @@ public class StoreQueryService {
             throw new RegionException(RegionErrorCode.NOT_FOUND);
         }
         log.info("가게 검색 목록 조회 권한 확인 성공");
-        LocalDateTime baseTime = (cursor != null) ? cursor : LocalDateTime.now();
-        Pageable pageable = PageRequest.of(0, size);
-        Slice<StoreDocument> storeSlice = storeMongoRepository.findAllStoreByKeyWordAndRegion(keyword, baseTime, pageable,
+        Pageable pageable = KeysetPages.pageable(size);
+        Slice<StoreDocument> storeSlice = storeMongoRepository.findAllStoreByKeyWordAndRegion(keyword, KeysetCursor.decode(cursor), pageable,
                 findRegion.getSiDo(), findRegion.getSiGunGu(), findRegion.getEupMyeonDong());
 
         List<StoreResponseDTO.StoreListResponseDTO> storeList = storeSlice.getContent().stream()
                 .map(StoreConverter::toStoreListResponseDTO)
                 .toList();
 
-        LocalDateTime nextCursor = storeSlice.hasNext() && !storeList.isEmpty()
-                ? storeList.get(storeList.size() - 1).getCreatedAt()
-                : null;
+        String nextCursor = KeysetPages.nextCursor(storeSlice, StoreDocument::getCreatedAt, StoreDocument::getStoreId);
         log.info("가게 검색 목록 조회 성공");
         return StoreConverter.toStoreCursorListResponseDTO(storeList, nextCursor);
 
     }
     public StoreResponseDTO.StoreCursorListResponseDTO getStoresByCategory(
-            UUID categoryId, LocalDateTime cursor, int size,CurrentUser user
+            UUID categoryId, String cursor, int size,CurrentUser user
     ) {
         if(user==null){
             log.warn("카테고리 별 가게 목록 조회 권한 없음");
@@ -79,18 +76,15 @@ public class StoreQueryService {
             throw new RegionException(RegionErrorCode.NOT_FOUND);
         }
         log.info("가게 카테고리 별 목록 조회 권한 확인 성공");
-        LocalDateTime baseTime = (cursor != null) ? cursor : LocalDateTime.now();
-        Pageable pageable = PageRequest.of(0, size);
-        Slice<StoreDocument> storeSlice = storeMongoRepository.findAllStoreByCategoryAndCursor(categoryId, baseTime, pageable
+        Pageable pageable = KeysetPages.pageable(size);
+        Slice<StoreDocument> storeSlice = storeMongoRepository.findAllStoreByCategoryAndCursor(categoryId, KeysetCursor.decode(cursor), pageable
         , findRegion.getSiDo(), findRegion.getSiGunGu(), findRegion.getEupMyeonDong());
 
         List<StoreResponseDTO.StoreListResponseDTO> storeList = storeSlice.getContent().stream()
                 .map(StoreConverter::toStoreListResponseDTO)
                 .toList();
 
-        LocalDateTime nextCursor = storeSlice.hasNext() && !storeList.isEmpty()
-                ? storeList.get(storeList.size() - 1).getCreatedAt()
-                : null;
+        String nextCursor = KeysetPages.nextCursor(storeSlice, StoreDocument::getCreatedAt, StoreDocument::getStoreId);
         log.info("가게 카테고리 별 목록 조회 성공");
         return StoreResponseDTO.StoreCursorListResponseDTO.of(storeList, nextCursor);
     }
@@ -116,4 +110,16 @@ public class StoreQueryService {
         return StoreConverter.toFindStoreDTO(findStore);
     }
 
+    // 주문 목록 등에서 여러 가게 요약을 한 번에 조회한다. 없는 가게는 결과에서 빠진다.
+    public List<StoreCartResponseDTO> findStores(List<UUID> storeIds){
+        if (storeIds == null || storeIds.isEmpty()) {
+            return List.of();
+        }
+        List<StoreCartResponseDTO> stores = query.findAllByIdInAndIsDeletedFalse(storeIds).stream()
+                .map(StoreConverter::toFindStoreDTO)
+                .toList();
+        log.info("가게 요약 일괄 조회: {}/{} 건", stores.size(), storeIds.size());
+        return stores;
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.example.cloudfour.storeservice.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+// 가게/메뉴/옵션 변경을 Redis pub/sub 으로 알려 cart-service 의 로컬 캐시를 비우게 한다.
+// 가게/메뉴 생성은 별도 채널로 알려 cart-service 의 ID Bloom 필터에 반영한다.
+// 메시지 형식은 "캐시이름:ID" 이며, 트랜잭션 안에서 호출되면 커밋 이후에 발행한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "store:cache-invalidation";
+    public static final String ID_REGISTRY_CHANNEL = "store:id-registry";
+    public static final String STORE_CACHE = "stores";
+    public static final String MENU_CACHE = "menus";
+    public static final String MENU_OPTION_CACHE = "menuOptions";
+
+    private final RedisUtil redisUtil;
+
+    public void publishStore(UUID storeId) {
+        publish(STORE_CACHE, storeId);
+    }
+
+    public void publishMenu(UUID menuId) {
+        publish(MENU_CACHE, menuId);
+    }
+
+    public void publishMenuOption(UUID optionId) {
+        publish(MENU_OPTION_CACHE, optionId);
+    }
+
+    public void publishStoreCreated(UUID storeId) {
+        publish(ID_REGISTRY_CHANNEL, STORE_CACHE, storeId);
+    }
+
+    public void publishMenuCreated(UUID menuId) {
+        publish(ID_REGISTRY_CHANNEL, MENU_CACHE, menuId);
+    }
+
+    private void publish(String cacheName, UUID id) {
+        publish(CHANNEL, cacheName, id);
+    }
+
+    private void publish(String channel, String cacheName, UUID id) {
+        String message = cacheName + ":" + id;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(channel, message);
+                }
+            });
+            return;
+        }
+        send(channel, message);
+    }
+
+    private void send(String channel, String message) {
+        try {
+            redisUtil.publish(channel, message);
+            log.debug("캐시 무효화 발행: {}", message);
+        } catch (Exception e) {
+            // 발행 실패 시 구독 측 로컬 캐시는 fresh 기간이 지나면 다시 확인한다.
+            log.warn("캐시 무효화 발행 실패: {}, error={}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.cloudfour.storeservice.domain.menu.service;
+
+import com.example.cloudfour.storeservice.domain.common.enums.SyncStatus;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockMovement;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockSnapshot;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockMovementType;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
+import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockMovementRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockShardRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerService 단위테스트")
+class StockLedgerServiceTest {
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private StockShardRepository stockShardRepository;
+
+    @InjectMocks
+    private StockLedgerService stockLedgerService;
+
+    private UUID stockId;
+    private UUID orderId;
+
+    @BeforeEach
+    void setUp() {
+        stockId = UUID.randomUUID();
+        orderId = UUID.randomUUID();
+    }
+
+    private StockSnapshot snapshot(long quantity) {
+        return StockSnapshot.builder().stockId(stockId).quantity(quantity).compactedAt(LocalDateTime.now()).build();
+    }
+
+    private StockMovementRepository.StockDelta delta(long quantity) {
+        return new StockMovementRepository.StockDelta() {
+            @Override
+            public UUID getStockId() {
+                return stockId;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StockMovement> savedMovements() {
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("take 메서드는")
+    class TakeTests {
+
+        @Test
+        @DisplayName("스냅샷과 미압축 증감을 더한 수량에서 차감을 기록하고 남은 수량을 돌려준다")
+        void take_Sufficient_RecordsNegativeMovement() {
+            // Given
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId))).thenReturn(List.of(stockId));
+            when(stockSnapshotRepository.findAllByIdForUpdate(Set.of(stockId))).thenReturn(List.of(snapshot(100L)));
+            when(stockMovementRepository.sumUncompactedByStockIds(Set.of(stockId))).thenReturn(List.of(delta(-30L)));
+
+            // When
+            Map<UUID, Long> remaining = stockLedgerService.take(Map.of(stockId, 5L), StockMovementType.RESERVATION, orderId);
+
+            // Then
+            assertThat(remaining).containsEntry(stockId, 65L);
+            List<StockMovement> movements = savedMovements();
+            assertThat(movements).hasSize(1);
+            assertThat(movements.get(0).getQuantity()).isEqualTo(-5L);
+            assertThat(movements.get(0).getOrderId()).isEqualTo(orderId);
+            verify(stockRepository, never()).findAllByIdForUpdate(any());
+        }
+
+        @Test
+        @DisplayName("수량이 부족하면 기록하지 않고 예외를 던진다")
+        void take_Insufficient_ThrowsWithoutRecord() {
+            // Given
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId))).thenReturn(List.of(stockId));
+            when(stockSnapshotRepository.findAllByIdForUpdate(Set.of(stockId))).thenReturn(List.of(snapshot(10L)));
+            when(stockMovementRepository.sumUncompactedByStockIds(Set.of(stockId))).thenReturn(List.of(delta(-8L)));
+
+            // When & Then
+            assertThatThrownBy(() -> stockLedgerService.take(Map.of(stockId, 3L), StockMovementType.RESERVATION, orderId))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.MINUS_FAILED);
+
+            verify(stockMovementRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 재고 행을 잠그고 기준 스냅샷을 만든 뒤 차감한다")
+        void take_MissingSnapshot_OpensSnapshotUnderStockLock() {
+            // Given
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId))).thenReturn(List.of());
+            when(stockRepository.findShardedIds(List.of(stockId))).thenReturn(List.of());
+            when(stockRepository.findQuantityById(stockId)).thenReturn(Optional.of(50L));
+            when(stockMovementRepository.sumUncompactedByStockId(stockId)).thenReturn(0L);
+            when(stockSnapshotRepository.findAllByIdForUpdate(Set.of(stockId))).thenReturn(List.of(snapshot(50L)));
+            when(stockMovementRepository.sumUncompactedByStockIds(Set.of(stockId))).thenReturn(List.of());
+
+            // When
+            Map<UUID, Long> remaining = stockLedgerService.take(Map.of(stockId, 20L), StockMovementType.ADJUSTMENT, null);
+
+            // Then
+            verify(stockRepository).findAllByIdForUpdate(Set.of(stockId));
+            ArgumentCaptor<StockSnapshot> captor = ArgumentCaptor.forClass(StockSnapshot.class);
+            verify(stockSnapshotRepository).saveAndFlush(captor.capture());
+            assertThat(captor.getValue().getQuantity()).isEqualTo(50L);
+            assertThat(remaining).containsEntry(stockId, 30L);
+            assertThat(savedMovements().get(0).getQuantity()).isEqualTo(-20L);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordAll 메서드는")
+    class RecordAllTests {
+
+        @Test
+        @DisplayName("반납은 잠금 없이 양수 기록만 추가한다")
+        void recordAll_Release_AppendsWithoutLock() {
+            // Given
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId))).thenReturn(List.of(stockId));
+
+            // When
+            stockLedgerService.recordAll(Map.of(stockId, 4L), StockMovementType.RELEASE, orderId);
+
+            // Then
+            assertThat(savedMovements().get(0).getQuantity()).isEqualTo(4L);
+            verify(stockSnapshotRepository, never()).findAllByIdForUpdate(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("compact 메서드는")
+    class CompactTests {
+
+        private StockMovement movement(UUID targetStockId, long quantity) {
+            return StockMovement.builder()
+                    .stockId(targetStockId)
+                    .type(quantity < 0 ? StockMovementType.RESERVATION : StockMovementType.RELEASE)
+                    .quantity(quantity)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("증감을 스냅샷에 접고 원장 재고의 재고 행 수량만 일괄 갱신한다")
+        void compact_RefreshStock_UpdatesLedgerStocksOnly() {
+            // Given
+            UUID shardedStockId = UUID.randomUUID();
+            StockSnapshot snapshot = snapshot(100L);
+            StockSnapshot shardedSnapshot = StockSnapshot.builder()
+                    .stockId(shardedStockId).quantity(40L).compactedAt(LocalDateTime.now()).build();
+            List<StockMovement> movements = List.of(movement(stockId, -3L), movement(stockId, 1L), movement(shardedStockId, -2L));
+            when(stockMovementRepository.findUncompactedBefore(any(), any())).thenReturn(movements);
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId, shardedStockId))).thenReturn(List.of(stockId, shardedStockId));
+            when(stockSnapshotRepository.findAllByIdForUpdate(Set.of(stockId, shardedStockId))).thenReturn(List.of(snapshot, shardedSnapshot));
+            when(stockMovementRepository.findUncompactedByIds(anyCollection())).thenReturn(movements);
+            when(stockRepository.findShardedIds(anyCollection())).thenReturn(List.of(shardedStockId));
+            when(stockMovementRepository.sumUncompactedByStockIds(Set.of(stockId))).thenReturn(List.of(delta(-1L)));
+
+            // When
+            Map<UUID, Long> compacted = stockLedgerService.compact(LocalDateTime.now(), 100, true);
+
+            // Then
+            assertThat(compacted).containsEntry(stockId, -2L).containsEntry(shardedStockId, -2L);
+            assertThat(snapshot.getQuantity()).isEqualTo(98L);
+            assertThat(shardedSnapshot.getQuantity()).isEqualTo(38L);
+            verify(stockSnapshotRepository).saveAllAndFlush(any());
+            verify(stockMovementRepository).markCompacted(any());
+            verify(stockRepository).refreshQuantity(stockId, 97L, SyncStatus.UPDATED_PENDING);
+            verify(stockRepository, never()).refreshQuantity(eq(shardedStockId), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Redis 모드에서는 스냅샷만 갱신하고 재고 행은 건드리지 않는다")
+        void compact_WithoutRefresh_LeavesStockRows() {
+            // Given
+            List<StockMovement> movements = List.of(movement(stockId, -3L));
+            when(stockMovementRepository.findUncompactedBefore(any(), any())).thenReturn(movements);
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId))).thenReturn(List.of(stockId));
+            when(stockSnapshotRepository.findAllByIdForUpdate(Set.of(stockId))).thenReturn(List.of(snapshot(100L)));
+            when(stockMovementRepository.findUncompactedByIds(anyCollection())).thenReturn(movements);
+
+            // When
+            stockLedgerService.compact(LocalDateTime.now(), 100, false);
+
+            // Then
+            verify(stockRepository, never()).refreshQuantity(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("스냅샷 잠금을 기다리는 동안 다른 인스턴스가 압축한 기록은 다시 반영하지 않는다")
+        void compact_AlreadyCompactedWhileWaiting_SkipsSnapshots() {
+            // Given
+            StockSnapshot snapshot = snapshot(100L);
+            when(stockMovementRepository.findUncompactedBefore(any(), any())).thenReturn(List.of(movement(stockId, -3L)));
+            when(stockSnapshotRepository.findExistingIds(Set.of(stockId))).thenReturn(List.of(stockId));
+            when(stockSnapshotRepository.findAllByIdForUpdate(Set.of(stockId))).thenReturn(List.of(snapshot));
+            when(stockMovementRepository.findUncompactedByIds(anyCollection())).thenReturn(List.of());
+
+            // When
+            Map<UUID, Long> compacted = stockLedgerService.compact(LocalDateTime.now(), 100, true);
+
+            // Then
+            assertThat(compacted).isEmpty();
+            assertThat(snapshot.getQuantity()).isEqualTo(100L);
+            verify(stockSnapshotRepository, never()).saveAllAndFlush(any());
+            verify(stockMovementRepository, never()).markCompacted(any());
+        }
+    }
+}
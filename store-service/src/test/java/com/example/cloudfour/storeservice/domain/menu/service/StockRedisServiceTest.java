@@ -0,0 +1,149 @@
+package com.example.cloudfour.storeservice.domain.menu.service;
+
+import com.example.cloudfour.storeservice.config.RedisConfig;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.properties.RedisProperties;
+import com.example.cloudfour.storeservice.util.RedisUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("StockRedisService Redis 연동 테스트")
+class StockRedisServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisUtil redisUtil;
+    private StockRedisService stockRedisService;
+
+    private UUID stockId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisProperties redisProperties = mock(RedisProperties.class);
+        when(redisProperties.getHost()).thenReturn(REDIS.getHost());
+        when(redisProperties.getPort()).thenReturn(REDIS.getMappedPort(6379));
+
+        // 운영과 같은 직렬화 설정을 쓰기 위해 RedisConfig 가 만든 템플릿을 그대로 사용한다.
+        redisTemplate = (RedisTemplate<String, String>) new RedisConfig(redisProperties).redisTemplate();
+        connectionFactory = (LettuceConnectionFactory) redisTemplate.getConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+
+        redisUtil = new RedisUtil(redisTemplate);
+        stockRedisService = new StockRedisService(redisUtil, new ObjectMapper(), mock(StockRepository.class));
+        stockId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Lua 가 쓴 증감분 해시를 문자열로 읽는다")
+    void pendingDelta_WrittenByLua_ReadAsString() {
+        stockRedisService.loadCounterIfAbsent(stockId, 100L, 0L);
+        stockRedisService.reserveInCounter(Map.of(stockId, 3L));
+
+        Map<Object, Object> pending = redisUtil.hGetAll("stock:pending-delta");
+
+        assertThat(pending).containsEntry(stockId.toString(), "-3");
+    }
+
+    @Test
+    @DisplayName("차감으로 쌓인 증감분을 묶음으로 가져오고 확인하면 비워진다")
+    void pendingDelta_ClaimAndAcknowledge_RoundTrip() {
+        assertThat(stockRedisService.loadCounterIfAbsent(stockId, 100L, 0L)).isEqualTo(StockRedisService.LOADED);
+        assertThat(stockRedisService.reserveInCounter(Map.of(stockId, 3L)).remaining()).containsEntry(stockId, 97L);
+        stockRedisService.releaseInCounter(Map.of(stockId, 1L));
+
+        StockRedisService.DeltaBatch batch = stockRedisService.claimPendingDeltas(10);
+        assertThat(batch.seq()).isPositive();
+        assertThat(batch.deltas()).containsExactly(Map.entry(stockId, -2L));
+
+        stockRedisService.acknowledgeDeltas(batch);
+
+        assertThat(stockRedisService.claimPendingDeltas(10).isEmpty()).isTrue();
+        assertThat(stockRedisService.getCounter(stockId)).isEqualTo(98L);
+    }
+
+    @Test
+    @DisplayName("확인되지 않은 묶음은 같은 번호로 다시 돌려주고 새 증감분은 다음 묶음으로 넘긴다")
+    void claim_Unacknowledged_ReturnsSameBatch() {
+        stockRedisService.loadCounterIfAbsent(stockId, 100L, 0L);
+        stockRedisService.reserveInCounter(Map.of(stockId, 3L));
+        StockRedisService.DeltaBatch first = stockRedisService.claimPendingDeltas(10);
+
+        stockRedisService.reserveInCounter(Map.of(stockId, 5L));
+        StockRedisService.DeltaBatch retried = stockRedisService.claimPendingDeltas(10);
+
+        assertThat(retried).isEqualTo(first);
+
+        stockRedisService.acknowledgeDeltas(retried);
+        StockRedisService.DeltaBatch next = stockRedisService.claimPendingDeltas(10);
+        assertThat(next.seq()).isGreaterThan(first.seq());
+        assertThat(next.deltas()).containsExactly(Map.entry(stockId, -5L));
+    }
+
+    @Test
+    @DisplayName("반영과 확인 사이에 카운터를 다시 적재해도 증감분을 두 번 세지 않는다")
+    void load_DuringFlush_CountsDeltaOnce() {
+        stockRedisService.loadCounterIfAbsent(stockId, 100L, 0L);
+        stockRedisService.reserveInCounter(Map.of(stockId, 3L));
+        StockRedisService.DeltaBatch batch = stockRedisService.claimPendingDeltas(10);
+
+        // DB 반영 전에 읽은 값: 반영 중 증감분을 더한다.
+        redisTemplate.delete("stock:counter:" + stockId);
+        assertThat(stockRedisService.loadCounterIfAbsent(stockId, 100L, 0L)).isEqualTo(StockRedisService.LOADED);
+        assertThat(stockRedisService.getCounter(stockId)).isEqualTo(97L);
+
+        // DB 반영 후, 확인 전에 읽은 값: 이미 DB 에 들어간 증감분은 더하지 않는다.
+        redisTemplate.delete("stock:counter:" + stockId);
+        stockRedisService.loadCounterIfAbsent(stockId, 97L, batch.seq());
+        assertThat(stockRedisService.getCounter(stockId)).isEqualTo(97L);
+
+        stockRedisService.acknowledgeDeltas(batch);
+
+        // 확인 전에 읽은 낡은 DB 값은 거절한다.
+        redisTemplate.delete("stock:counter:" + stockId);
+        assertThat(stockRedisService.loadCounterIfAbsent(stockId, 100L, 0L)).isEqualTo(StockRedisService.STALE);
+        assertThat(stockRedisService.getCounter(stockId)).isNull();
+
+        assertThat(stockRedisService.loadCounterIfAbsent(stockId, 97L, batch.seq())).isEqualTo(StockRedisService.LOADED);
+        assertThat(stockRedisService.getCounter(stockId)).isEqualTo(97L);
+    }
+
+    @Test
+    @DisplayName("묶음 번호는 DB 에 반영된 번호보다 작게 발급되지 않는다")
+    void seedFlushSeq_StartsAfterAppliedSeq() {
+        stockRedisService.seedFlushSeq(41L);
+        stockRedisService.loadCounterIfAbsent(stockId, 100L, 41L);
+        stockRedisService.reserveInCounter(Map.of(stockId, 1L));
+
+        assertThat(stockRedisService.claimPendingDeltas(10).seq()).isEqualTo(42L);
+    }
+}
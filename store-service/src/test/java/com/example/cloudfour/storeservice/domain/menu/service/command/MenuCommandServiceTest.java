@@ -23,6 +23,7 @@ import com.example.cloudfour.storeservice.domain.store.entity.Store;
 import com.example.cloudfour.storeservice.domain.store.exception.StoreErrorCode;
 import com.example.cloudfour.storeservice.domain.store.exception.StoreException;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreRepository;
+import com.example.cloudfour.storeservice.util.CacheInvalidationPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -57,6 +58,9 @@ class MenuCommandServiceTest {
     @Mock
     private MenuOptionRepository menuOptionRepository;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private MenuCommandService menuCommandService;
 
@@ -328,6 +332,7 @@ class MenuCommandServiceTest {
             // Then
             verify(menuRepository).findById(menuId);
             verify(menu).softDelete();
+            verify(cacheInvalidationPublisher).publishMenu(menuId);
         }
 
         @Test
@@ -540,6 +545,7 @@ class MenuCommandServiceTest {
             // Then
             verify(menuOptionRepository).findByIdWithMenu(optionId);
             verify(menuOption).softDelete();
+            verify(cacheInvalidationPublisher).publishMenuOption(optionId);
         }
 
         @Test
@@ -1,10 +1,22 @@
 package com.example.cloudfour.storeservice.domain.menu.service.command;
 
+import com.example.cloudfour.storeservice.domain.menu.dto.StockRequestDTO;
+import com.example.cloudfour.storeservice.domain.menu.dto.StockResponseDTO;
+import com.example.cloudfour.storeservice.domain.menu.entity.Menu;
 import com.example.cloudfour.storeservice.domain.menu.entity.Stock;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockHold;
+import com.example.cloudfour.storeservice.domain.menu.entity.StockShard;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockHoldStatus;
 import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
 import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockHoldRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.repository.StockShardRepository;
+import com.example.cloudfour.storeservice.domain.menu.enums.StockMovementType;
+import com.example.cloudfour.storeservice.domain.menu.service.StockLedgerService;
+import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
 import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,15 +26,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,6 +49,18 @@ class StockCommandServiceTest {
     @Mock
     private StockRepository stockRepository;
 
+    @Mock
+    private StockRedisService stockRedisService;
+
+    @Mock
+    private StockShardRepository stockShardRepository;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private StockHoldRepository stockHoldRepository;
+
     @InjectMocks
     private StockCommandService stockCommandService;
 
@@ -53,59 +76,96 @@ class StockCommandServiceTest {
         lenient().when(stock.getVersion()).thenReturn(1L);
     }
 
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
     @Nested
     @DisplayName("decreaseStock 메서드는")
     class DecreaseStockTests {
 
         @Test
-        @DisplayName("유효한 요청이 주어지면 재고를 차감한다")
-        void decreaseStock_ValidRequest_DecreasesStock() {
+        @DisplayName("재고 행을 수정하지 않고 원장에 차감을 기록한다")
+        void decreaseStock_ValidRequest_TakesFromLedger() {
             // Given
-            Long decreaseQuantity = 10L;
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 10L), StockMovementType.ADJUSTMENT, null)).thenReturn(Map.of(stockId, 90L));
 
             // When
-            stockCommandService.decreaseStock(stockId, decreaseQuantity);
+            stockCommandService.decreaseStock(stockId, 10L);
 
             // Then
-            verify(stockRepository).findByIdWithOptimisticLock(stockId);
-            verify(stock).decrease(decreaseQuantity);
+            verify(stockLedgerService).take(Map.of(stockId, 10L), StockMovementType.ADJUSTMENT, null);
+            verify(stockRedisService).updateStockInCache(stockId, 90L);
+            verify(stock, never()).refreshQuantity(any());
         }
 
         @Test
-        @DisplayName("존재하지 않는 재고면 예외를 던진다")
+        @DisplayName("주문 ID가 주어지면 예약 이동으로 원장에 기록한다")
+        void decreaseStock_WithOrderId_RecordsReservation() {
+            // Given
+            UUID orderId = UUID.randomUUID();
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 10L), StockMovementType.RESERVATION, orderId)).thenReturn(Map.of(stockId, 90L));
+
+            // When
+            stockCommandService.decreaseStock(stockId, 10L, orderId);
+
+            // Then
+            verify(stockLedgerService).take(Map.of(stockId, 10L), StockMovementType.RESERVATION, orderId);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 재고면 원장에 기록하지 않고 예외를 던진다")
         void decreaseStock_StockNotFound_ThrowsException() {
             // Given
-            Long decreaseQuantity = 10L;
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.empty());
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of());
 
             // When & Then
-            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, decreaseQuantity))
+            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, 10L))
                     .isInstanceOf(StockException.class)
                     .hasFieldOrPropertyWithValue("code", StockErrorCode.NOT_FOUND);
 
-            verify(stockRepository).findByIdWithOptimisticLock(stockId);
-            verifyNoInteractions(stock);
+            verifyNoInteractions(stockLedgerService);
         }
 
         @Test
-        @DisplayName("낙관적 락 충돌이 발생하면 재시도 후 예외를 던진다")
-        void decreaseStock_OptimisticLockException_RetriesAndThrows() throws Exception {
+        @DisplayName("원장 수량이 부족하면 캐시를 갱신하지 않고 예외를 던진다")
+        void decreaseStock_Insufficient_ThrowsWithoutCacheUpdate() {
             // Given
-            Long decreaseQuantity = 10L;
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 1000L), StockMovementType.ADJUSTMENT, null))
+                    .thenThrow(new StockException(StockErrorCode.MINUS_FAILED));
+
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, 1000L))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.MINUS_FAILED);
 
-            // OptimisticLockException 항상 발생하도록 설정
-            doThrow(new OptimisticLockException("Optimistic lock failed"))
-                    .when(stock).decrease(decreaseQuantity);
+            verify(stockRedisService, never()).updateStockInCache(any(), any());
+        }
+
+        @Test
+        @DisplayName("스냅샷 잠금을 기다리는 동안 분할 재고로 바뀌었으면 충돌로 보고 다시 시도하게 한다")
+        void decreaseStock_ShardedWhileWaiting_ThrowsOptimisticLock() {
+            // Given
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 10L), StockMovementType.ADJUSTMENT, null)).thenReturn(Map.of(stockId, 90L));
+            when(stockRepository.findShardedIds(Set.of(stockId))).thenReturn(List.of(stockId));
 
             // When & Then
-            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, decreaseQuantity))
-                    .isInstanceOf(OptimisticLockException.class)
-                    .hasMessageContaining("Optimistic lock failed");
+            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, 10L))
+                    .isInstanceOf(OptimisticLockException.class);
 
-            // 재시도 로직으로 인해 최소 1번 이상 호출되었는지 확인
-            verify(stock, atLeast(1)).decrease(decreaseQuantity);
+            verify(stockRedisService, never()).updateStockInCache(any(), any());
         }
     }
 
@@ -114,267 +174,389 @@ class StockCommandServiceTest {
     class IncreaseStockTests {
 
         @Test
-        @DisplayName("유효한 요청이 주어지면 재고를 증가시킨다")
-        void increaseStock_ValidRequest_IncreasesStock() {
+        @DisplayName("원장에 입고를 기록하고 원장 수량으로 캐시를 갱신한다")
+        void increaseStock_ValidRequest_RecordsRestock() {
             // Given
-            Long increaseQuantity = 20L;
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockLedgerService.currentLevel(stockId)).thenReturn(120L);
 
             // When
-            stockCommandService.increaseStock(stockId, increaseQuantity);
+            stockCommandService.increaseStock(stockId, 20L);
 
             // Then
-            verify(stockRepository).findByIdWithOptimisticLock(stockId);
-            verify(stock).increase(increaseQuantity);
+            verify(stockLedgerService).recordAll(Map.of(stockId, 20L), StockMovementType.RESTOCK, null);
+            verify(stockLedgerService, never()).take(any(), any(), any());
+            verify(stockRedisService).updateStockInCache(stockId, 120L);
         }
 
         @Test
         @DisplayName("존재하지 않는 재고면 예외를 던진다")
         void increaseStock_StockNotFound_ThrowsException() {
             // Given
-            Long increaseQuantity = 20L;
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.empty());
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of());
 
             // When & Then
-            assertThatThrownBy(() -> stockCommandService.increaseStock(stockId, increaseQuantity))
+            assertThatThrownBy(() -> stockCommandService.increaseStock(stockId, 20L))
                     .isInstanceOf(StockException.class)
                     .hasFieldOrPropertyWithValue("code", StockErrorCode.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("reserveStocks 메서드는")
+    class ReserveStocksTests {
+
+        private UUID menuId;
+        private UUID orderId;
+
+        @BeforeEach
+        void setUpMenu() {
+            menuId = UUID.randomUUID();
+            orderId = UUID.randomUUID();
+            Menu menu = mock(Menu.class);
+            lenient().when(menu.getId()).thenReturn(menuId);
+            lenient().when(stock.getMenu()).thenReturn(menu);
+        }
+
+        @Test
+        @DisplayName("같은 메뉴의 수량을 합산하여 원장에서 한 번에 차감한다")
+        void reserveStocks_DuplicateMenus_MergesQuantities() {
+            // Given
+            List<StockRequestDTO.StockReserveItemRequestDTO> items = List.of(
+                    new StockRequestDTO.StockReserveItemRequestDTO(menuId, 2L),
+                    new StockRequestDTO.StockReserveItemRequestDTO(menuId, 3L)
+            );
+            when(stockRepository.findAllByMenuIdIn(any())).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 5L), StockMovementType.RESERVATION, orderId)).thenReturn(Map.of(stockId, 95L));
+
+            // When
+            List<StockResponseDTO> result = stockCommandService.reserveStocks(items, orderId);
 
-            verify(stockRepository).findByIdWithOptimisticLock(stockId);
-            verifyNoInteractions(stock);
+            // Then
+            verify(stockRedisService).updateStockInCache(stockId, 95L);
+            verify(stockHoldRepository).saveAll(any());
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getMenuId()).isEqualTo(menuId);
+            assertThat(result.get(0).getQuantity()).isEqualTo(95L);
         }
 
         @Test
-        @DisplayName("낙관적 락 충돌이 발생하면 재시도 후 예외를 던진다")
-        void increaseStock_OptimisticLockException_RetriesAndThrows() {
+        @DisplayName("존재하지 않는 메뉴가 포함되면 아무것도 차감하지 않고 예외를 던진다")
+        void reserveStocks_MissingStock_ThrowsWithoutDecrease() {
             // Given
-            Long increaseQuantity = 20L;
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
+            List<StockRequestDTO.StockReserveItemRequestDTO> items = List.of(
+                    new StockRequestDTO.StockReserveItemRequestDTO(menuId, 1L),
+                    new StockRequestDTO.StockReserveItemRequestDTO(UUID.randomUUID(), 1L)
+            );
+            when(stockRepository.findAllByMenuIdIn(any())).thenReturn(List.of(stock));
+
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.reserveStocks(items, orderId))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.NOT_FOUND);
+
+            verifyNoInteractions(stockLedgerService);
+            verify(stockRedisService, never()).updateStockInCache(any(), any());
+        }
 
-            // OptimisticLockException 항상 발생하도록 설정
-            doThrow(new OptimisticLockException("Optimistic lock failed"))
-                    .when(stock).increase(increaseQuantity);
+        @Test
+        @DisplayName("재고가 부족한 메뉴가 있으면 캐시와 예약을 남기지 않고 예외를 던진다")
+        void reserveStocks_InsufficientStock_ThrowsWithoutCacheUpdate() {
+            // Given
+            List<StockRequestDTO.StockReserveItemRequestDTO> items = List.of(
+                    new StockRequestDTO.StockReserveItemRequestDTO(menuId, 1000L)
+            );
+            when(stockRepository.findAllByMenuIdIn(any())).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 1000L), StockMovementType.RESERVATION, orderId))
+                    .thenThrow(new StockException(StockErrorCode.MINUS_FAILED));
 
             // When & Then
-            assertThatThrownBy(() -> stockCommandService.increaseStock(stockId, increaseQuantity))
-                    .isInstanceOf(OptimisticLockException.class)
-                    .hasMessageContaining("Optimistic lock failed");
+            assertThatThrownBy(() -> stockCommandService.reserveStocks(items, orderId))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.MINUS_FAILED);
 
-            // 재시도 로직으로 인해 최소 1번 이상 호출되었는지 확인
-            verify(stock, atLeast(1)).increase(increaseQuantity);
+            verify(stockRedisService, never()).updateStockInCache(any(), any());
+            verifyNoInteractions(stockHoldRepository);
         }
     }
 
     @Nested
-    @DisplayName("recover 메서드는")
-    class RecoverTests {
+    @DisplayName("재고 예약은")
+    class StockHoldTests {
+
+        private UUID orderId;
+
+        @BeforeEach
+        void setUpOrder() {
+            orderId = UUID.randomUUID();
+        }
+
+        private StockHold hold(UUID targetOrderId) {
+            return StockHold.builder()
+                    .orderId(targetOrderId)
+                    .stockId(stockId)
+                    .quantity(3L)
+                    .expiresAt(LocalDateTime.now().minusMinutes(1))
+                    .build();
+        }
 
         @Test
-        @DisplayName("OptimisticLockException을 받으면 로그를 남기고 예외를 다시 던진다")
-        void recover_OptimisticLockException_LogsAndRethrows() {
+        @DisplayName("반납 시 예약 수량만큼 재고를 되돌리고 다시 반납해도 중복 복구하지 않는다")
+        void releaseHold_Twice_RestoresOnce() {
             // Given
-            OptimisticLockException exception = new OptimisticLockException("Lock conflict");
-            Long quantity = 10L;
+            StockHold hold = hold(orderId);
+            when(stockHoldRepository.findAllByOrderId(orderId)).thenReturn(List.of(hold));
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+
+            // When
+            stockCommandService.releaseHold(orderId);
+            stockCommandService.releaseHold(orderId);
+
+            // Then
+            verify(stockLedgerService, times(1)).recordAll(Map.of(stockId, 3L), StockMovementType.RELEASE, orderId);
+            assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.RELEASED);
+        }
+
+        @Test
+        @DisplayName("만료된 예약을 여러 주문 단위로 한 번에 반납한다")
+        void expireHolds_MultipleOrders_ReleasesInBulk() {
+            // Given
+            UUID otherOrderId = UUID.randomUUID();
+            List<StockHold> holds = List.of(hold(orderId), hold(otherOrderId));
+            when(stockHoldRepository.findExpirableByOrderIds(eq(List.of(orderId, otherOrderId)), eq(StockHoldStatus.HELD), any()))
+                    .thenReturn(holds);
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+
+            // When
+            int expired = stockCommandService.expireHolds(List.of(orderId, otherOrderId));
+
+            // Then
+            assertThat(expired).isEqualTo(2);
+            verify(stockLedgerService).recordAll(Map.of(stockId, 3L), StockMovementType.RELEASE, orderId);
+            verify(stockLedgerService).recordAll(Map.of(stockId, 3L), StockMovementType.RELEASE, otherOrderId);
+            verify(stockRepository, times(1)).findAllById(Set.of(stockId));
+            assertThat(holds).allMatch(h -> h.getStatus() == StockHoldStatus.EXPIRED);
+        }
+
+        @Test
+        @DisplayName("만료된 예약은 재고를 다시 차감한 뒤 확정한다")
+        void confirmHold_Expired_RetakesAndConfirms() {
+            // Given
+            StockHold hold = hold(orderId);
+            hold.expire();
+            when(stockHoldRepository.findAllByOrderId(orderId)).thenReturn(List.of(hold));
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockLedgerService.take(Map.of(stockId, 3L), StockMovementType.RESERVATION, orderId)).thenReturn(Map.of(stockId, 97L));
+
+            // When
+            stockCommandService.confirmHold(orderId);
+
+            // Then
+            verify(stockLedgerService).take(Map.of(stockId, 3L), StockMovementType.RESERVATION, orderId);
+            assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.CONFIRMED);
+        }
+
+        @Test
+        @DisplayName("반납된 예약은 재고를 다시 차감하지 않고 확정을 거절한다")
+        void confirmHold_Released_Throws() {
+            // Given
+            StockHold hold = hold(orderId);
+            hold.release();
+            when(stockHoldRepository.findAllByOrderId(orderId)).thenReturn(List.of(hold));
 
             // When & Then
-            assertThatThrownBy(() -> stockCommandService.recover(exception, stockId, quantity))
-                    .isInstanceOf(OptimisticLockException.class)
-                    .hasMessageContaining("Lock conflict");
+            assertThatThrownBy(() -> stockCommandService.confirmHold(orderId))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.HOLD_RELEASED);
+
+            verifyNoInteractions(stockLedgerService);
+            assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.RELEASED);
+        }
+
+        @Test
+        @DisplayName("예약이 없으면 예외를 던진다")
+        void confirmHold_NotFound_Throws() {
+            // Given
+            when(stockHoldRepository.findAllByOrderId(orderId)).thenReturn(List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.confirmHold(orderId))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.HOLD_NOT_FOUND);
         }
     }
 
     @Nested
-    @DisplayName("동시성 테스트 - 낙관적 락")
-    class ConcurrencyTests {
+    @DisplayName("분할 재고에서")
+    class ShardedStockTests {
+
+        @BeforeEach
+        void enableSharding() {
+            lenient().when(stock.isSharded()).thenReturn(true);
+        }
 
         @Test
-        @DisplayName("동시에 여러 스레드가 재고 차감을 시도할 때 낙관적 락이 작동한다")
-        void decreaseStock_ConcurrentAccess_OptimisticLockWorks() throws InterruptedException {
+        @DisplayName("재고 행은 수정하지 않고 하위 카운터에서 차감한다")
+        void decreaseStock_Sharded_TakesFromShard() {
             // Given
-            int threadCount = 10;
-            Long decreaseQuantity = 5L;
-            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
-            CountDownLatch latch = new CountDownLatch(threadCount);
-
-            AtomicInteger successCount = new AtomicInteger(0);
-            AtomicInteger failureCount = new AtomicInteger(0);
-            AtomicReference<Exception> capturedException = new AtomicReference<>();
-
-            // Mock 설정: 첫 번째 호출은 성공, 나머지는 OptimisticLockException
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
-            doAnswer(invocation -> {
-                // 첫 번째 성공 후 나머지는 OptimisticLockException 발생
-                if (successCount.get() == 0) {
-                    successCount.incrementAndGet();
-                    return null; // 정상 처리
-                } else {
-                    throw new OptimisticLockException("Concurrent modification detected");
-                }
-            }).when(stock).decrease(decreaseQuantity);
+            List<StockShard> shards = List.of(
+                    StockShard.builder().shardIndex(0).quantity(50L).build(),
+                    StockShard.builder().shardIndex(1).quantity(50L).build()
+            );
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockShardRepository.findAllByStockId(stockId)).thenReturn(shards);
 
             // When
-            for (int i = 0; i < threadCount; i++) {
-                executor.submit(() -> {
-                    try {
-                        stockCommandService.decreaseStock(stockId, decreaseQuantity);
-                    } catch (Exception e) {
-                        failureCount.incrementAndGet();
-                        if (capturedException.get() == null) {
-                            capturedException.set(e);
-                        }
-                    } finally {
-                        latch.countDown();
-                    }
-                });
-            }
+            stockCommandService.decreaseStock(stockId, 10L);
 
             // Then
-            latch.await();
-            executor.shutdown();
-
-            // 하나는 성공, 나머지는 실패해야 함
-            assertThat(successCount.get()).isEqualTo(1);
-            assertThat(failureCount.get()).isEqualTo(threadCount - 1);
-
-            // 실패한 경우 OptimisticLockException이어야 함
-            if (capturedException.get() != null) {
-                assertThat(capturedException.get()).isInstanceOf(OptimisticLockException.class);
-            }
+            verify(stockLedgerService, never()).take(any(), any(), any());
+            verify(stockLedgerService).record(stockId, StockMovementType.ADJUSTMENT, 10L, null);
+            assertThat(shards.stream().mapToLong(StockShard::getQuantity).sum()).isEqualTo(90L);
+            verify(stockRedisService).updateStockInCache(stockId, 90L);
         }
 
         @Test
-        @DisplayName("재고 증가와 감소가 동시에 발생할 때 충돌을 처리한다")
-        void mixedOperations_ConcurrentAccess_HandlesConflicts() throws InterruptedException {
+        @DisplayName("한 카운터로 부족하면 여러 카운터에 나누어 차감한다")
+        void decreaseStock_Sharded_SpansShards() {
             // Given
-            int operationCount = 20;
-            ExecutorService executor = Executors.newFixedThreadPool(operationCount);
-            CountDownLatch latch = new CountDownLatch(operationCount);
-
-            AtomicInteger successCount = new AtomicInteger(0);
-            AtomicInteger conflictCount = new AtomicInteger(0);
-
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
-
-            // 랜덤하게 성공/실패를 시뮬레이션
-            doAnswer(invocation -> {
-                if (Math.random() < 0.3) { // 30% 확률로 충돌 발생
-                    throw new OptimisticLockException("Version conflict");
-                }
-                successCount.incrementAndGet();
-                return null;
-            }).when(stock).decrease(any(Long.class));
-
-            doAnswer(invocation -> {
-                if (Math.random() < 0.3) { // 30% 확률로 충돌 발생
-                    throw new OptimisticLockException("Version conflict");
-                }
-                successCount.incrementAndGet();
-                return null;
-            }).when(stock).increase(any(Long.class));
+            List<StockShard> shards = List.of(
+                    StockShard.builder().shardIndex(0).quantity(3L).build(),
+                    StockShard.builder().shardIndex(1).quantity(4L).build()
+            );
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockShardRepository.findAllByStockId(stockId)).thenReturn(shards);
 
             // When
-            for (int i = 0; i < operationCount; i++) {
-                final int index = i;
-                executor.submit(() -> {
-                    try {
-                        if (index % 2 == 0) {
-                            stockCommandService.decreaseStock(stockId, 1L);
-                        } else {
-                            stockCommandService.increaseStock(stockId, 1L);
-                        }
-                    } catch (OptimisticLockException e) {
-                        conflictCount.incrementAndGet();
-                    } finally {
-                        latch.countDown();
-                    }
-                });
-            }
+            stockCommandService.decreaseStock(stockId, 6L);
 
             // Then
-            latch.await();
-            executor.shutdown();
+            assertThat(shards.stream().mapToLong(StockShard::getQuantity).sum()).isEqualTo(1L);
+            verify(stockRedisService).updateStockInCache(stockId, 1L);
+        }
 
-            // 성공 + 충돌 횟수가 전체 작업 횟수와 같아야 함
-            assertThat(successCount.get() + conflictCount.get()).isGreaterThanOrEqualTo(operationCount);
+        @Test
+        @DisplayName("카운터 합계가 부족하면 예외를 던진다")
+        void decreaseStock_Sharded_Insufficient_Throws() {
+            // Given
+            List<StockShard> shards = List.of(
+                    StockShard.builder().shardIndex(0).quantity(1L).build(),
+                    StockShard.builder().shardIndex(1).quantity(1L).build()
+            );
+            when(stockRepository.findAllById(Set.of(stockId))).thenReturn(List.of(stock));
+            when(stockShardRepository.findAllByStockId(stockId)).thenReturn(shards);
+
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, 3L))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.MINUS_FAILED);
 
-            // 최소한 몇 개의 성공과 충돌이 발생해야 함 (확률적)
-            assertThat(successCount.get()).isGreaterThan(0);
+            assertThat(shards).allMatch(shard -> shard.getQuantity() == 1L);
+        }
+
+        @Test
+        @DisplayName("허용 범위를 벗어난 분할 개수는 거부한다")
+        void updateShardCount_OutOfRange_Throws() {
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.updateShardCount(stockId, 0))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.INVALID_SHARD_COUNT);
+
+            verifyNoInteractions(stockShardRepository);
         }
-        
     }
 
     @Nested
-    @DisplayName("성능 테스트")
-    class PerformanceTests {
+    @DisplayName("Redis 재고 모드에서")
+    class RedisModeTests {
+
+        @BeforeEach
+        void enableRedisMode() {
+            lenient().when(stockRedisService.isAuthoritative()).thenReturn(true);
+        }
 
         @Test
-        @DisplayName("대량의 동시 요청을 처리할 수 있다")
-        void handleHighConcurrencyRequests() throws InterruptedException {
+        @DisplayName("재고가 부족하면 DB를 건드리지 않고 예외를 던진다")
+        void decreaseStock_Insufficient_ThrowsWithoutDb() {
             // Given
-            int threadCount = 100;
-            int requestsPerThread = 10;
-            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
-            CountDownLatch startLatch = new CountDownLatch(1);
-            CountDownLatch completeLatch = new CountDownLatch(threadCount);
-
-            AtomicInteger totalOperations = new AtomicInteger(0);
-            AtomicInteger successfulOperations = new AtomicInteger(0);
-
-            when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
-            doAnswer(invocation -> {
-                totalOperations.incrementAndGet();
-                // 90% 확률로 성공
-                if (Math.random() < 0.9) {
-                    successfulOperations.incrementAndGet();
-                    return null;
-                } else {
-                    throw new OptimisticLockException("Random conflict");
-                }
-            }).when(stock).decrease(any(Long.class));
+            when(stockRedisService.reserveInCounter(Map.of(stockId, 10L)))
+                    .thenReturn(new StockRedisService.CounterResult(StockRedisService.INSUFFICIENT, Map.of()));
+
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.decreaseStock(stockId, 10L))
+                    .isInstanceOf(StockException.class)
+                    .hasFieldOrPropertyWithValue("code", StockErrorCode.MINUS_FAILED);
+
+            verifyNoInteractions(stockRepository);
+        }
+
+        @Test
+        @DisplayName("카운터가 적재되지 않았으면 DB 수량으로 적재한 뒤 다시 차감한다")
+        void decreaseStock_NotLoaded_LoadsAndRetries() {
+            // Given
+            when(stockRedisService.reserveInCounter(Map.of(stockId, 10L)))
+                    .thenReturn(new StockRedisService.CounterResult(StockRedisService.NOT_LOADED, Map.of()))
+                    .thenReturn(new StockRedisService.CounterResult(StockRedisService.APPLIED, Map.of(stockId, 90L)));
+
+            // When
+            stockCommandService.decreaseStock(stockId, 10L);
+
+            // Then
+            verify(stockRedisService).loadCounters(Set.of(stockId));
+            verify(stockRedisService, times(2)).reserveInCounter(Map.of(stockId, 10L));
+            verify(stockRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("차감 뒤 트랜잭션이 롤백되면 차감한 수량을 카운터에 돌려준다")
+        void decreaseStock_RolledBack_ReleasesCounter() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            when(stockRedisService.reserveInCounter(Map.of(stockId, 10L)))
+                    .thenReturn(new StockRedisService.CounterResult(StockRedisService.APPLIED, Map.of(stockId, 90L)));
+            when(stockRedisService.releaseInCounter(Map.of(stockId, 10L)))
+                    .thenReturn(new StockRedisService.CounterResult(StockRedisService.APPLIED, Map.of(stockId, 100L)));
+
+            // When
+            stockCommandService.decreaseStock(stockId, 10L);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            verify(stockRedisService).releaseInCounter(Map.of(stockId, 10L));
+        }
+
+        @Test
+        @DisplayName("트랜잭션이 커밋되면 카운터를 돌려주지 않는다")
+        void decreaseStock_Committed_KeepsCounter() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            when(stockRedisService.reserveInCounter(Map.of(stockId, 10L)))
+                    .thenReturn(new StockRedisService.CounterResult(StockRedisService.APPLIED, Map.of(stockId, 90L)));
 
             // When
-            long startTime = System.currentTimeMillis();
-
-            for (int i = 0; i < threadCount; i++) {
-                executor.submit(() -> {
-                    try {
-                        startLatch.await(); // 모든 스레드가 동시에 시작하도록 대기
-
-                        for (int j = 0; j < requestsPerThread; j++) {
-                            try {
-                                stockCommandService.decreaseStock(stockId, 1L);
-                            } catch (OptimisticLockException ignored) {
-                                // 충돌은 정상적인 상황
-                            }
-                        }
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    } finally {
-                        completeLatch.countDown();
-                    }
-                });
-            }
-
-            startLatch.countDown(); // 모든 스레드 시작
-            completeLatch.await();  // 모든 작업 완료 대기
-
-            long endTime = System.currentTimeMillis();
-            executor.shutdown();
+            stockCommandService.decreaseStock(stockId, 10L);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
 
             // Then
-            long executionTime = endTime - startTime;
-            int expectedTotalAttempts = threadCount * requestsPerThread;
+            verify(stockRedisService, never()).releaseInCounter(any());
+        }
+    }
 
-            System.out.println("총 실행 시간: " + executionTime + "ms");
-            System.out.println("총 시도 횟수: " + totalOperations.get());
-            System.out.println("성공 횟수: " + successfulOperations.get());
-            System.out.println("예상 시도 횟수: " + expectedTotalAttempts);
+    @Nested
+    @DisplayName("recover 메서드는")
+    class RecoverTests {
 
-            // 성능 검증 (5초 이내에 완료되어야 함)
-            assertThat(executionTime).isLessThan(5000);
+        @Test
+        @DisplayName("OptimisticLockException을 받으면 로그를 남기고 예외를 다시 던진다")
+        void recover_OptimisticLockException_LogsAndRethrows() {
+            // Given
+            OptimisticLockException exception = new OptimisticLockException("Lock conflict");
+            Long quantity = 10L;
 
-            // 모든 요청이 처리되었는지 확인 (재시도 포함하여 더 많이 실행될 수 있음)
-            assertThat(totalOperations.get()).isGreaterThanOrEqualTo(expectedTotalAttempts);
+            // When & Then
+            assertThatThrownBy(() -> stockCommandService.recover(exception, stockId, quantity))
+                    .isInstanceOf(OptimisticLockException.class)
+                    .hasMessageContaining("Lock conflict");
         }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,18 @@
 package com.example.cloudfour.storeservice.domain.menu.service.query;
 
 import com.example.cloudfour.storeservice.domain.commondto.MenuCartResponseDTO;
+import com.example.cloudfour.storeservice.domain.commondto.MenuOptionCartResponseDTO;
+import com.example.cloudfour.storeservice.domain.commondto.MenuSnapshotCartResponseDTO;
 import com.example.cloudfour.storeservice.domain.menu.converter.MenuConverter;
 import com.example.cloudfour.storeservice.domain.menu.entity.Menu;
+import com.example.cloudfour.storeservice.domain.menu.dto.StockResponseDTO;
+import com.example.cloudfour.storeservice.domain.menu.entity.MenuOption;
+import com.example.cloudfour.storeservice.domain.menu.enums.MenuStatus;
 import com.example.cloudfour.storeservice.domain.menu.exception.MenuErrorCode;
 import com.example.cloudfour.storeservice.domain.menu.exception.MenuException;
+import com.example.cloudfour.storeservice.domain.menu.repository.MenuOptionRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.MenuRepository;
+import com.example.cloudfour.storeservice.domain.store.entity.Store;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +37,12 @@ class MenuQueryServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private MenuOptionRepository menuOptionRepository;
+
+    @Mock
+    private StockQueryService stockQueryService;
+
     @InjectMocks
     private MenuQueryService menuQueryService;
 
@@ -98,4 +112,58 @@ class MenuQueryServiceTest {
 
         verify(menuRepository).findById(nullMenuId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 메뉴 옵션 ID가 주어지면 한 번의 조회로 옵션 정보를 반환한다")
+    void findMenuOptions_MultipleIds_ReturnsOptionsInOneQuery() {
+        // Given
+        UUID optionId = UUID.randomUUID();
+        MenuOption option = mock(MenuOption.class);
+        when(option.getId()).thenReturn(optionId);
+        when(option.getMenu()).thenReturn(menu);
+        when(option.getOptionName()).thenReturn("치즈 추가");
+        when(option.getAdditionalPrice()).thenReturn(500);
+        List<UUID> optionIds = List.of(optionId, UUID.randomUUID());
+        when(menuOptionRepository.findAllWithMenuByIdIn(optionIds)).thenReturn(List.of(option));
+
+        // When
+        List<MenuOptionCartResponseDTO> result = menuQueryService.findMenuOptions(optionIds);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getMenuOptionId()).isEqualTo(optionId);
+        assertThat(result.get(0).getMenuId()).isEqualTo(menuId);
+        verify(menuOptionRepository).findAllWithMenuByIdIn(optionIds);
+        verify(menuOptionRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 스냅샷은 메뉴, 삭제되지 않은 옵션, 품절 여부를 함께 반환한다")
+    void findMenuSnapshot_ReturnsMenuOptionsAndStockFlag() {
+        // Given
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(UUID.randomUUID());
+        MenuOption option = mock(MenuOption.class);
+        when(option.getIsDeleted()).thenReturn(false);
+        when(option.getId()).thenReturn(UUID.randomUUID());
+        when(option.getMenu()).thenReturn(menu);
+        MenuOption deleted = mock(MenuOption.class);
+        when(deleted.getIsDeleted()).thenReturn(true);
+        when(menu.getStore()).thenReturn(store);
+        when(menu.getStatus()).thenReturn(MenuStatus.판매중);
+        when(menu.getMenuOptions()).thenReturn(List.of(option, deleted));
+        when(menuRepository.findWithOptionsById(menuId)).thenReturn(Optional.of(menu));
+        when(stockQueryService.getMenuStock(menuId))
+                .thenReturn(StockResponseDTO.builder().menuId(menuId).quantity(0L).build());
+
+        // When
+        MenuSnapshotCartResponseDTO result = menuQueryService.findMenuSnapshot(menuId);
+
+        // Then
+        assertThat(result.getMenuId()).isEqualTo(menuId);
+        assertThat(result.getPrice()).isEqualTo(10000);
+        assertThat(result.isSoldOut()).isTrue();
+        assertThat(result.getOptions()).hasSize(1);
+        verify(menuRepository, never()).findById(any());
+    }
+}
@@ -10,6 +10,8 @@ import com.example.cloudfour.storeservice.domain.menu.exception.StockErrorCode;
 import com.example.cloudfour.storeservice.domain.menu.exception.StockException;
 import com.example.cloudfour.storeservice.domain.menu.repository.MenuRepository;
 import com.example.cloudfour.storeservice.domain.menu.repository.StockRepository;
+import com.example.cloudfour.storeservice.domain.menu.service.StockLedgerService;
+import com.example.cloudfour.storeservice.domain.menu.service.StockRedisService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +38,12 @@ class StockQueryServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private StockRedisService stockRedisService;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
     @InjectMocks
     private StockQueryService stockQueryService;
 
@@ -184,4 +192,21 @@ class StockQueryServiceTest {
             verify(stockRepository, never()).findById(any(UUID.class)); // 일반 findById는 호출되지 않음
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("재고 원장이 있으면 재고 행 대신 원장 수량을 반환하고 캐시에 담는다")
+    void getMenuStock_LedgerLevel_PreferredOverStockRow() {
+        // Given
+        when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
+        when(stockRepository.findByIdWithOptimisticLock(stockId)).thenReturn(Optional.of(stock));
+        when(stockLedgerService.currentLevel(stockId)).thenReturn(87L);
+
+        // When
+        StockResponseDTO result = stockQueryService.getMenuStock(menuId);
+
+        // Then
+        assertThat(result.getQuantity()).isEqualTo(87L);
+        assertThat(result.getMenuId()).isEqualTo(menuId);
+        verify(stockRedisService).cacheStock(stockId, 87L);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.cloudfour.storeservice.domain.review.service.query;
 
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
 import com.example.cloudfour.storeservice.domain.collection.document.ReviewDocument;
 import com.example.cloudfour.storeservice.domain.collection.repository.query.ReviewSearchRepository;
 import com.example.cloudfour.storeservice.domain.common.UserResponseDTO;
@@ -186,14 +187,15 @@ class ReviewQueryServiceTest {
         @DisplayName("유효한 요청이 주어지면 가게의 리뷰 목록을 반환한다")
         void getReviewListByStore_ValidRequest_ReturnsReviewList() {
             // Given
-            LocalDateTime cursor = now;
+            KeysetCursor keyset = new KeysetCursor(now, reviewId);
+            String cursor = keyset.encode();
             int size = 10;
             List<ReviewDocument> reviewDocuments = List.of(reviewDocument);
             Slice<ReviewDocument> reviewSlice = new SliceImpl<>(reviewDocuments, Pageable.ofSize(size), false);
             List<ReviewResponseDTO.ReviewStoreResponseDTO> reviewStoreResponseDTOs = List.of(reviewStoreResponseDTO);
             
             when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-            when(reviewRepository.findAllByStoreId(eq(storeId), eq(cursor), any(Pageable.class)))
+            when(reviewRepository.findAllByStoreId(eq(storeId), eq(keyset), any(Pageable.class)))
                     .thenReturn(reviewSlice);
             
             try (MockedStatic<ReviewConverter> mockedStatic = mockStatic(ReviewConverter.class)) {
@@ -209,22 +211,22 @@ class ReviewQueryServiceTest {
                 // Then
                 assertThat(result).isEqualTo(reviewStoreListResponseDTO);
                 verify(storeRepository).findById(storeId);
-                verify(reviewRepository).findAllByStoreId(eq(storeId), eq(cursor), any(Pageable.class));
+                verify(reviewRepository).findAllByStoreId(eq(storeId), eq(keyset), any(Pageable.class));
             }
         }
 
         @Test
-        @DisplayName("cursor가 null이면 기본값을 사용한다")
-        void getReviewListByStore_NullCursor_UsesDefaultCursor() {
+        @DisplayName("cursor가 null이면 첫 페이지를 조회한다")
+        void getReviewListByStore_NullCursor_ReadsFirstPage() {
             // Given
-            LocalDateTime nullCursor = null;
+            String nullCursor = null;
             int size = 10;
             List<ReviewDocument> reviewDocuments = List.of(reviewDocument);
             Slice<ReviewDocument> reviewSlice = new SliceImpl<>(reviewDocuments, Pageable.ofSize(size), false);
             List<ReviewResponseDTO.ReviewStoreResponseDTO> reviewStoreResponseDTOs = List.of(reviewStoreResponseDTO);
             
             when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-            when(reviewRepository.findAllByStoreId(eq(storeId), any(LocalDateTime.class), any(Pageable.class)))
+            when(reviewRepository.findAllByStoreId(eq(storeId), isNull(), any(Pageable.class)))
                     .thenReturn(reviewSlice);
             
             try (MockedStatic<ReviewConverter> mockedStatic = mockStatic(ReviewConverter.class)) {
@@ -240,7 +242,7 @@ class ReviewQueryServiceTest {
                 // Then
                 assertThat(result).isEqualTo(reviewStoreListResponseDTO);
                 verify(storeRepository).findById(storeId);
-                verify(reviewRepository).findAllByStoreId(eq(storeId), any(LocalDateTime.class), any(Pageable.class));
+                verify(reviewRepository).findAllByStoreId(eq(storeId), isNull(), any(Pageable.class));
             }
         }
 
@@ -248,7 +250,7 @@ class ReviewQueryServiceTest {
         @DisplayName("가게를 찾을 수 없으면 예외를 던진다")
         void getReviewListByStore_StoreNotFound_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, reviewId).encode();
             int size = 10;
             
             when(storeRepository.findById(storeId)).thenReturn(Optional.empty());
@@ -266,7 +268,7 @@ class ReviewQueryServiceTest {
         @DisplayName("사용자가 null이면 예외를 던진다")
         void getReviewListByStore_NullUser_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, reviewId).encode();
             int size = 10;
             CurrentUser nullUser = null;
             
@@ -286,12 +288,13 @@ class ReviewQueryServiceTest {
         @DisplayName("리뷰가 없으면 예외를 던진다")
         void getReviewListByStore_NoReviews_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            KeysetCursor keyset = new KeysetCursor(now, reviewId);
+            String cursor = keyset.encode();
             int size = 10;
             Slice<ReviewDocument> emptySlice = new SliceImpl<>(new ArrayList<>(), Pageable.ofSize(size), false);
             
             when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-            when(reviewRepository.findAllByStoreId(eq(storeId), eq(cursor), any(Pageable.class)))
+            when(reviewRepository.findAllByStoreId(eq(storeId), eq(keyset), any(Pageable.class)))
                     .thenReturn(emptySlice);
 
             // When & Then
@@ -300,7 +303,7 @@ class ReviewQueryServiceTest {
                     .hasFieldOrPropertyWithValue("code", ReviewErrorCode.NOT_FOUND);
             
             verify(storeRepository).findById(storeId);
-            verify(reviewRepository).findAllByStoreId(eq(storeId), eq(cursor), any(Pageable.class));
+            verify(reviewRepository).findAllByStoreId(eq(storeId), eq(keyset), any(Pageable.class));
         }
     }
 
@@ -312,13 +315,14 @@ class ReviewQueryServiceTest {
         @DisplayName("유효한 요청이 주어지면 사용자의 리뷰 목록을 반환한다")
         void getReviewListByUser_ValidRequest_ReturnsReviewList() {
             // Given
-            LocalDateTime cursor = now;
+            KeysetCursor keyset = new KeysetCursor(now, reviewId);
+            String cursor = keyset.encode();
             int size = 10;
             List<ReviewDocument> reviewDocuments = List.of(reviewDocument);
             Slice<ReviewDocument> reviewSlice = new SliceImpl<>(reviewDocuments, Pageable.ofSize(size), false);
             List<ReviewResponseDTO.ReviewUserResponseDTO> reviewUserResponseDTOs = List.of(reviewUserResponseDTO);
             
-            when(reviewRepository.findAllByUserId(eq(userId), eq(cursor), any(Pageable.class)))
+            when(reviewRepository.findAllByUserId(eq(userId), eq(keyset), any(Pageable.class)))
                     .thenReturn(reviewSlice);
             
             try (MockedStatic<ReviewConverter> mockedStatic = mockStatic(ReviewConverter.class)) {
@@ -333,21 +337,21 @@ class ReviewQueryServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(reviewUserListResponseDTO);
-                verify(reviewRepository).findAllByUserId(eq(userId), eq(cursor), any(Pageable.class));
+                verify(reviewRepository).findAllByUserId(eq(userId), eq(keyset), any(Pageable.class));
             }
         }
 
         @Test
-        @DisplayName("cursor가 null이면 기본값을 사용한다")
-        void getReviewListByUser_NullCursor_UsesDefaultCursor() {
+        @DisplayName("cursor가 null이면 첫 페이지를 조회한다")
+        void getReviewListByUser_NullCursor_ReadsFirstPage() {
             // Given
-            LocalDateTime nullCursor = null;
+            String nullCursor = null;
             int size = 10;
             List<ReviewDocument> reviewDocuments = List.of(reviewDocument);
             Slice<ReviewDocument> reviewSlice = new SliceImpl<>(reviewDocuments, Pageable.ofSize(size), false);
             List<ReviewResponseDTO.ReviewUserResponseDTO> reviewUserResponseDTOs = List.of(reviewUserResponseDTO);
             
-            when(reviewRepository.findAllByUserId(eq(userId), any(LocalDateTime.class), any(Pageable.class)))
+            when(reviewRepository.findAllByUserId(eq(userId), isNull(), any(Pageable.class)))
                     .thenReturn(reviewSlice);
             
             try (MockedStatic<ReviewConverter> mockedStatic = mockStatic(ReviewConverter.class)) {
@@ -362,7 +366,7 @@ class ReviewQueryServiceTest {
 
                 // Then
                 assertThat(result).isEqualTo(reviewUserListResponseDTO);
-                verify(reviewRepository).findAllByUserId(eq(userId), any(LocalDateTime.class), any(Pageable.class));
+                verify(reviewRepository).findAllByUserId(eq(userId), isNull(), any(Pageable.class));
             }
         }
 
@@ -370,7 +374,7 @@ class ReviewQueryServiceTest {
         @DisplayName("사용자가 null이면 예외를 던진다")
         void getReviewListByUser_NullUser_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, reviewId).encode();
             int size = 10;
             CurrentUser nullUser = null;
 
@@ -386,11 +390,12 @@ class ReviewQueryServiceTest {
         @DisplayName("리뷰가 없으면 예외를 던진다")
         void getReviewListByUser_NoReviews_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            KeysetCursor keyset = new KeysetCursor(now, reviewId);
+            String cursor = keyset.encode();
             int size = 10;
             Slice<ReviewDocument> emptySlice = new SliceImpl<>(new ArrayList<>(), Pageable.ofSize(size), false);
             
-            when(reviewRepository.findAllByUserId(eq(userId), eq(cursor), any(Pageable.class)))
+            when(reviewRepository.findAllByUserId(eq(userId), eq(keyset), any(Pageable.class)))
                     .thenReturn(emptySlice);
 
             // When & Then
@@ -398,7 +403,7 @@ class ReviewQueryServiceTest {
                     .isInstanceOf(ReviewException.class)
                     .hasFieldOrPropertyWithValue("code", ReviewErrorCode.NOT_FOUND);
             
-            verify(reviewRepository).findAllByUserId(eq(userId), eq(cursor), any(Pageable.class));
+            verify(reviewRepository).findAllByUserId(eq(userId), eq(keyset), any(Pageable.class));
         }
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import com.example.cloudfour.storeservice.domain.store.exception.StoreErrorCode;
 import com.example.cloudfour.storeservice.domain.store.exception.StoreException;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreCategoryRepository;
 import com.example.cloudfour.storeservice.domain.store.repository.StoreRepository;
+import com.example.cloudfour.storeservice.util.CacheInvalidationPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -53,6 +54,9 @@ class StoreCommandServiceTest {
     @Mock
     private StoreCategoryRepository storeCategoryRepository;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private StoreCommandService storeCommandService;
 
@@ -330,6 +334,7 @@ class StoreCommandServiceTest {
             verify(storeRepository).findById(storeId);
             verify(store).softDelete();
             verify(storeRepository).save(store);
+            verify(cacheInvalidationPublisher).publishStore(storeId);
         }
 
         @Test
@@ -1,6 +1,7 @@
 package com.example.cloudfour.storeservice.domain.store.service.query;
 
 import com.example.cloudfour.modulecommon.dto.CurrentUser;
+import com.example.cloudfour.modulecommon.pagination.KeysetCursor;
 import com.example.cloudfour.storeservice.domain.collection.document.StoreDocument;
 import com.example.cloudfour.storeservice.domain.collection.repository.query.StoreSearchRepository;
 import com.example.cloudfour.storeservice.domain.common.RegionResponseDTO;
@@ -111,7 +112,7 @@ class StoreQueryServiceTest {
         // Mock response DTOs - 실제 인스턴스 생성하거나 적절한 mock 설정
         storeCursorListResponseDTO = mock(StoreResponseDTO.StoreCursorListResponseDTO.class);
         lenient().when(storeCursorListResponseDTO.getStoreList()).thenReturn(new ArrayList<>());
-        lenient().when(storeCursorListResponseDTO.getNextCursor()).thenReturn(now);
+        lenient().when(storeCursorListResponseDTO.getNextCursor()).thenReturn(null);
         
         storeDetailResponseDTO = mock(StoreResponseDTO.StoreDetailResponseDTO.class);
         
@@ -142,7 +143,8 @@ class StoreQueryServiceTest {
         @DisplayName("유효한 요청이 주어지면 가게 목록을 반환한다")
         void getAllStores_ValidRequest_ReturnsStores() {
             // Given
-            LocalDateTime cursor = now;
+            KeysetCursor keyset = new KeysetCursor(now, storeId);
+            String cursor = keyset.encode();
             int size = 10;
             String keyword = "Test";
 
@@ -152,7 +154,7 @@ class StoreQueryServiceTest {
             
             // Repository mock 설정 - 모든 매개변수를 matcher로 통일
             when(storeSearchRepository.findAllStoreByKeyWordAndRegion(
-                    eq(keyword), eq(cursor), any(Pageable.class),
+                    eq(keyword), eq(keyset), any(Pageable.class),
                     anyString(), anyString(), anyString()))
                     .thenReturn(storeDocumentSlice);
 
@@ -173,7 +175,7 @@ class StoreQueryServiceTest {
                 // Verification - 모든 매개변수를 matcher로 통일
                 verify(restTemplate).getForObject(anyString(), eq(RegionResponseDTO.class), any(Object[].class));
                 verify(storeSearchRepository).findAllStoreByKeyWordAndRegion(
-                        eq(keyword), eq(cursor), any(Pageable.class),
+                        eq(keyword), eq(keyset), any(Pageable.class),
                         anyString(), anyString(), anyString());
                 
                 // Static method 호출 검증
@@ -186,7 +188,7 @@ class StoreQueryServiceTest {
         @DisplayName("사용자가 null이면 예외를 던진다")
         void getAllStores_NullUser_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, storeId).encode();
             int size = 10;
             String keyword = "Test";
             CurrentUser nullUser = null;
@@ -207,7 +209,7 @@ class StoreQueryServiceTest {
         @DisplayName("지역이 존재하지 않으면 예외를 던진다")
         void getAllStores_RegionNotFound_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, storeId).encode();
             int size = 10;
             String keyword = "Test";
 
@@ -225,17 +227,17 @@ class StoreQueryServiceTest {
         }
 
         @Test
-        @DisplayName("커서가 null이면 현재 시간을 사용한다")
-        void getAllStores_NullCursor_UsesCurrentTime() {
+        @DisplayName("커서가 null이면 첫 페이지를 조회한다")
+        void getAllStores_NullCursor_ReadsFirstPage() {
             // Given
-            LocalDateTime cursor = null;
+            String cursor = null;
             int size = 10;
             String keyword = "Test";
 
             when(restTemplate.getForObject(anyString(), eq(RegionResponseDTO.class), any(Object[].class)))
                     .thenReturn(regionResponseDTO);
             when(storeSearchRepository.findAllStoreByKeyWordAndRegion(
-                    eq(keyword), any(LocalDateTime.class), any(Pageable.class),
+                    eq(keyword), isNull(), any(Pageable.class),
                     anyString(), anyString(), anyString()))
                     .thenReturn(storeDocumentSlice);
 
@@ -253,7 +255,7 @@ class StoreQueryServiceTest {
                 assertThat(result).isEqualTo(storeCursorListResponseDTO);
                 verify(restTemplate).getForObject(anyString(), eq(RegionResponseDTO.class), any(Object[].class));
                 verify(storeSearchRepository).findAllStoreByKeyWordAndRegion(
-                        eq(keyword), any(LocalDateTime.class), any(Pageable.class),
+                        eq(keyword), isNull(), any(Pageable.class),
                         anyString(), anyString(), anyString());
             }
         }
@@ -267,14 +269,15 @@ class StoreQueryServiceTest {
         @DisplayName("유효한 요청이 주어지면 카테고리별 가게 목록을 반환한다")
         void getStoresByCategory_ValidRequest_ReturnsStores() {
             // Given
-            LocalDateTime cursor = now;
+            KeysetCursor keyset = new KeysetCursor(now, storeId);
+            String cursor = keyset.encode();
             int size = 10;
 
             when(restTemplate.getForObject(anyString(), eq(RegionResponseDTO.class), any(Object[].class)))
                     .thenReturn(regionResponseDTO);
 
             when(storeSearchRepository.findAllStoreByCategoryAndCursor(
-                    eq(categoryId), eq(cursor), any(Pageable.class),
+                    eq(categoryId), eq(keyset), any(Pageable.class),
                     anyString(), anyString(), anyString()))
                     .thenReturn(storeDocumentSlice);
 
@@ -299,7 +302,7 @@ class StoreQueryServiceTest {
                 assertThat(result).isEqualTo(storeCursorListResponseDTO);
                 verify(restTemplate).getForObject(anyString(), eq(RegionResponseDTO.class), any(Object[].class));
                 verify(storeSearchRepository).findAllStoreByCategoryAndCursor(
-                        eq(categoryId), eq(cursor), any(Pageable.class),
+                        eq(categoryId), eq(keyset), any(Pageable.class),
                         anyString(), anyString(), anyString());
         
                 // ✅ Static method verify
@@ -312,7 +315,7 @@ class StoreQueryServiceTest {
         @DisplayName("사용자가 null이면 예외를 던진다")
         void getStoresByCategory_NullUser_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, storeId).encode();
             int size = 10;
             CurrentUser nullUser = null;
 
@@ -331,7 +334,7 @@ class StoreQueryServiceTest {
         @DisplayName("지역이 존재하지 않으면 예외를 던진다")
         void getStoresByCategory_RegionNotFound_ThrowsException() {
             // Given
-            LocalDateTime cursor = now;
+            String cursor = new KeysetCursor(now, storeId).encode();
             int size = 10;
 
             when(restTemplate.getForObject(anyString(), eq(RegionResponseDTO.class), any(Object[].class)))
@@ -444,4 +447,42 @@ class StoreQueryServiceTest {
             verify(storeRepository).findByIdAndIsDeletedFalse(eq(storeId));
         }
     }
+
+    @Nested
+    @DisplayName("findStores 메소드는")
+    class FindStoresTests {
+
+        @Test
+        @DisplayName("여러 가게 ID 를 한 번의 쿼리로 조회한다")
+        void findStores_ValidRequest_ReturnsStoresInOneQuery() {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<UUID> storeIds = List.of(storeId, missingId);
+            when(storeRepository.findAllByIdInAndIsDeletedFalse(storeIds)).thenReturn(List.of(store));
+
+            try (MockedStatic<StoreConverter> mockedStatic = mockStatic(StoreConverter.class)) {
+                mockedStatic.when(() -> StoreConverter.toFindStoreDTO(any(Store.class)))
+                        .thenReturn(storeCartResponseDTO);
+
+                // When
+                List<StoreCartResponseDTO> result = storeQueryService.findStores(storeIds);
+
+                // Then
+                assertThat(result).containsExactly(storeCartResponseDTO);
+                verify(storeRepository).findAllByIdInAndIsDeletedFalse(storeIds);
+                verify(storeRepository, never()).findByIdAndIsDeletedFalse(any());
+            }
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 조회하지 않는다")
+        void findStores_EmptyIds_ReturnsEmpty() {
+            // When
+            List<StoreCartResponseDTO> result = storeQueryService.findStores(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(storeRepository);
+        }
+    }
 }
\ No newline at end of file
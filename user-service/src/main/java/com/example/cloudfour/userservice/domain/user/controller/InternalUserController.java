@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -44,6 +45,11 @@ public class InternalUserController {
         return query.byEmail(email);
     }
 
+    @GetMapping("/profiles")
+    public List<AuthResponseDTO.UserProfileBriefResponseDTO> profiles(@RequestParam List<UUID> ids) {
+        return query.profilesByIds(ids);
+    }
+
     @GetMapping("/{id}")
     public AuthResponseDTO.UserBriefResponseDTO byId(@PathVariable UUID id) {
         return query.byId(id);
@@ -11,6 +11,13 @@ public class AuthResponseDTO {
             boolean emailVerified
     ) {}
 
+    // 내부 서비스의 사용자 목록 표시용 요약, cart-service 의 UserResponseDTO 와 필드명을 맞춘다.
+    // 주문 목록 화면에 필요한 닉네임만 내보낸다, 이메일/전화번호는 배치 응답과 캐시에 싣지 않는다.
+    public record UserProfileBriefResponseDTO(
+            UUID userId,
+            String nickname
+    ) {}
+
     public record PasswordVerifyResponseDTO(boolean match) {}
 
     public record ExistsByEmailResponseDTO(boolean exists) {}
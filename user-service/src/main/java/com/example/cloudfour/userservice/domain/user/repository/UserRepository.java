@@ -3,6 +3,8 @@ package com.example.cloudfour.userservice.domain.user.repository;
 import com.example.cloudfour.userservice.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +16,6 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByIdAndIsDeletedFalse(UUID id);
 
+    List<User> findAllByIdInAndIsDeletedFalse(Collection<UUID> ids);
+
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -38,6 +39,15 @@ public class UserQueryService {
         return toBrief(u);
     }
 
+    public List<AuthResponseDTO.UserProfileBriefResponseDTO> profilesByIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findAllByIdInAndIsDeletedFalse(ids).stream()
+                .map(u -> new AuthResponseDTO.UserProfileBriefResponseDTO(u.getId(), u.getNickname()))
+                .toList();
+    }
+
     public AuthResponseDTO.PasswordVerifyResponseDTO verifyPassword(UUID id, AuthRequestDTO.PasswordVerifyRequestDTO req) {
         var u = userRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
@@ -12,11 +12,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,6 +70,23 @@ class UserQueryServiceTest {
         assertThat(brief.name()).isEqualTo("닉네임");
     }
 
+    @Test
+    @DisplayName("profilesByIds: 한 번의 조회로 요약 목록 반환")
+    void profilesByIds_returnsBriefsInOneQuery() {
+        var entity = mock(User.class);
+        when(entity.getId()).thenReturn(uid);
+        when(entity.getNickname()).thenReturn("닉네임");
+        UUID missing = UUID.randomUUID();
+
+        when(userRepository.findAllByIdInAndIsDeletedFalse(List.of(uid, missing))).thenReturn(List.of(entity));
+
+        var out = sut.profilesByIds(List.of(uid, missing));
+        assertThat(out).hasSize(1);
+        assertThat(out.getFirst().userId()).isEqualTo(uid);
+        assertThat(out.getFirst().nickname()).isEqualTo("닉네임");
+        verify(userRepository, never()).findByIdAndIsDeletedFalse(any());
+    }
+
     @Test
     @DisplayName("byEmail: 미존재 시 UserException(USER_NOT_FOUND)")
     void byEmail_notFound_throws() {